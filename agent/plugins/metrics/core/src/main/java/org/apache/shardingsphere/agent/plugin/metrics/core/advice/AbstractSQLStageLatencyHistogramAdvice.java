@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.enums.SQLStatementType;
+import org.apache.shardingsphere.agent.plugin.core.util.SQLStatementUtils;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.recorder.SampledTimeRecorder;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Abstract SQL stage latency histogram advice.
+ */
+public abstract class AbstractSQLStageLatencyHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private static final MetricConfiguration CONFIG = new MetricConfiguration("sql_stage_latency_millis",
+            MetricCollectorType.HISTOGRAM, "SQL stage latency millis histogram of parse, bind, route, rewrite, execute and merge", Arrays.asList("stage", "type"),
+            Collections.singletonMap("buckets", getBuckets()));
+    
+    private final SampledTimeRecorder timeRecorder = new SampledTimeRecorder();
+    
+    private final Map<SQLStatementType, String[]> labels = new EnumMap<>(SQLStatementType.class);
+    
+    protected AbstractSQLStageLatencyHistogramAdvice() {
+        for (SQLStatementType each : SQLStatementType.values()) {
+            labels.put(each, new String[]{getStage(), each.name()});
+        }
+    }
+    
+    private static Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 0.01D);
+        result.put("factor", 2);
+        result.put("count", 20);
+        return result;
+    }
+    
+    @Override
+    public final void beforeMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final String pluginType) {
+        timeRecorder.recordNow();
+    }
+    
+    @Override
+    public final void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        double elapsedMillis = timeRecorder.getElapsedMillisAndClean();
+        if (elapsedMillis >= 0D) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(CONFIG, pluginType).observe(elapsedMillis, labels.get(SQLStatementUtils.getType(getSQLStatement(args, result))));
+        }
+    }
+    
+    protected abstract String getStage();
+    
+    protected abstract SQLStatement getSQLStatement(Object[] args, Object result);
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.recorder.SampledTimeRecorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Abstract storage unit latency histogram advice.
+ */
+public abstract class AbstractStorageUnitLatencyHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final SampledTimeRecorder timeRecorder = new SampledTimeRecorder();
+    
+    private final Map<String, String[]> labels = new ConcurrentHashMap<>();
+    
+    @Override
+    public final void beforeMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final String pluginType) {
+        timeRecorder.recordNow();
+    }
+    
+    @Override
+    public final void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        double elapsedMillis = timeRecorder.getElapsedMillisAndClean();
+        if (elapsedMillis >= 0D) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(getMetricConfiguration(), pluginType).observe(elapsedMillis, getLabels(getStorageUnitName(args)));
+        }
+    }
+    
+    private String[] getLabels(final String storageUnitName) {
+        String[] result = labels.get(storageUnitName);
+        return null == result ? labels.computeIfAbsent(storageUnitName, key -> new String[]{key}) : result;
+    }
+    
+    protected abstract MetricConfiguration getMetricConfiguration();
+    
+    protected abstract String getStorageUnitName(Object[] args);
+}
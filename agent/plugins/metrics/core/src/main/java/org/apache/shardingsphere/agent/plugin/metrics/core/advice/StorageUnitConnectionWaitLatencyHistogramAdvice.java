@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import lombok.Getter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Storage unit connection wait latency histogram advice.
+ */
+public final class StorageUnitConnectionWaitLatencyHistogramAdvice extends AbstractStorageUnitLatencyHistogramAdvice {
+    
+    @Getter
+    private final MetricConfiguration metricConfiguration = new MetricConfiguration("storage_unit_connection_wait_latency_millis",
+            MetricCollectorType.HISTOGRAM, "Connection wait latency millis histogram of storage unit", Collections.singletonList("storage_unit"), Collections.singletonMap("buckets", getBuckets()));
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 0.01D);
+        result.put("factor", 2);
+        result.put("count", 20);
+        return result;
+    }
+    
+    @Override
+    protected String getStorageUnitName(final Object[] args) {
+        return (String) args[1];
+    }
+}
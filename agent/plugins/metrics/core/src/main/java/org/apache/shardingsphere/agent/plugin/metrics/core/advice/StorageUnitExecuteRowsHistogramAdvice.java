@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.recorder.MetricsSampler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Storage unit execute rows histogram advice.
+ *
+ * <p>
+ * Rows of stream query result are fetched after execution, so only rows of memory query result and update count are observed.
+ * </p>
+ */
+public final class StorageUnitExecuteRowsHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final MetricConfiguration config = new MetricConfiguration("storage_unit_execute_rows",
+            MetricCollectorType.HISTOGRAM, "Returned or affected rows histogram of storage unit", Collections.singletonList("storage_unit"), Collections.singletonMap("buckets", getBuckets()));
+    
+    private final Map<String, String[]> labels = new ConcurrentHashMap<>();
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 1);
+        result.put("factor", 4);
+        result.put("count", 10);
+        return result;
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        long rows = getRows(result);
+        if (rows >= 0L && MetricsSampler.isSampled()) {
+            String storageUnitName = ((JDBCExecutionUnit) args[0]).getExecutionUnit().getDataSourceName();
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).observe(rows, getLabels(storageUnitName));
+        }
+    }
+    
+    private String[] getLabels(final String storageUnitName) {
+        String[] result = labels.get(storageUnitName);
+        return null == result ? labels.computeIfAbsent(storageUnitName, key -> new String[]{key}) : result;
+    }
+    
+    private long getRows(final Object result) {
+        if (result instanceof AbstractMemoryQueryResult) {
+            return ((AbstractMemoryQueryResult) result).getRowCount();
+        }
+        if (result instanceof UpdateResult) {
+            return ((UpdateResult) result).getUpdateCount();
+        }
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+        return -1L;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.recorder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Metrics sampler.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MetricsSampler {
+    
+    private static volatile double sampleRate = 1D;
+    
+    /**
+     * Set sample rate.
+     *
+     * @param sampleRate sample rate between 0 and 1, rate out of range will be limited into the range
+     */
+    public static void setSampleRate(final double sampleRate) {
+        MetricsSampler.sampleRate = Math.max(0D, Math.min(1D, sampleRate));
+    }
+    
+    /**
+     * Judge whether current invocation is sampled.
+     *
+     * @return is sampled or not
+     */
+    public static boolean isSampled() {
+        double currentSampleRate = sampleRate;
+        return currentSampleRate >= 1D || currentSampleRate > 0D && ThreadLocalRandom.current().nextDouble() < currentSampleRate;
+    }
+}
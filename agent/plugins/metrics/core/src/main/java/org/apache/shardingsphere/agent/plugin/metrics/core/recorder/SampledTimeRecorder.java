@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.recorder;
+
+/**
+ * Sampled time recorder.
+ *
+ * <p>
+ * State of each thread is kept in a reused array, so recording does not allocate objects.
+ * Only the outermost invocation of re-entrant method is recorded, and only if it is sampled by {@link MetricsSampler}.
+ * </p>
+ */
+public final class SampledTimeRecorder {
+    
+    private static final int DEPTH_INDEX = 0;
+    
+    private static final int SAMPLED_INDEX = 1;
+    
+    private static final int START_NANOS_INDEX = 2;
+    
+    private final ThreadLocal<long[]> states = ThreadLocal.withInitial(() -> new long[3]);
+    
+    /**
+     * Record now.
+     */
+    public void recordNow() {
+        long[] state = states.get();
+        if (0L == state[DEPTH_INDEX]++) {
+            state[SAMPLED_INDEX] = MetricsSampler.isSampled() ? 1L : 0L;
+            state[START_NANOS_INDEX] = System.nanoTime();
+        }
+    }
+    
+    /**
+     * Get elapsed millis and clean.
+     *
+     * @return elapsed millis, or negative value if current invocation is not recorded
+     */
+    public double getElapsedMillisAndClean() {
+        long[] state = states.get();
+        if (0L == state[DEPTH_INDEX] || 0L != --state[DEPTH_INDEX] || 0L == state[SAMPLED_INDEX]) {
+            return -1D;
+        }
+        return (System.nanoTime() - state[START_NANOS_INDEX]) / 1000000D;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.binder.context.statement.UnknownSQLStatementContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AbstractSQLStageLatencyHistogramAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_stage_latency_millis", MetricCollectorType.HISTOGRAM, null, Arrays.asList("stage", "type"));
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertParseLatency() {
+        SQLParseLatencyHistogramAdvice advice = new SQLParseLatencyHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        TargetAdviceMethod method = mock(TargetAdviceMethod.class);
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        advice.afterMethod(targetObject, method, new Object[]{}, new MySQLSelectStatement(), "FIXTURE");
+        assertThat(getObservedValue("parse.SELECT="), greaterThanOrEqualTo(50D));
+    }
+    
+    @Test
+    void assertRouteLatency() {
+        SQLRouteLatencyHistogramAdvice advice = new SQLRouteLatencyHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        TargetAdviceMethod method = mock(TargetAdviceMethod.class);
+        QueryContext queryContext = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(queryContext.getSqlStatementContext()).thenReturn(new UnknownSQLStatementContext(new MySQLInsertStatement()));
+        Object[] args = {queryContext, null, null};
+        advice.beforeMethod(targetObject, method, args, "FIXTURE");
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        advice.afterMethod(targetObject, method, args, null, "FIXTURE");
+        assertThat(getObservedValue("route.INSERT="), greaterThanOrEqualTo(50D));
+    }
+    
+    @Test
+    void assertRecordOutermostInvocationOnly() {
+        SQLParseLatencyHistogramAdvice advice = new SQLParseLatencyHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        TargetAdviceMethod method = mock(TargetAdviceMethod.class);
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        advice.afterMethod(targetObject, method, new Object[]{}, new MySQLInsertStatement(), "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("0"));
+        advice.afterMethod(targetObject, method, new Object[]{}, new MySQLSelectStatement(), "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString().startsWith("parse.SELECT="), is(true));
+    }
+    
+    private double getObservedValue(final String prefix) {
+        String actual = MetricsCollectorRegistry.get(config, "FIXTURE").toString();
+        assertThat(actual.startsWith(prefix), is(true));
+        return Double.parseDouble(actual.substring(prefix.length()));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class StorageUnitExecuteRowsHistogramAdviceTest {
+    
+    private final MetricConfiguration config = new MetricConfiguration("storage_unit_execute_rows", MetricCollectorType.HISTOGRAM, null, Collections.singletonList("storage_unit"));
+    
+    private final StorageUnitExecuteRowsHistogramAdvice advice = new StorageUnitExecuteRowsHistogramAdvice();
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertObserveUpdateResult() {
+        advice.afterMethod(new TargetAdviceObjectFixture(), mock(TargetAdviceMethod.class), createArguments(), new UpdateResult(10, 0L), "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("foo_ds=10"));
+    }
+    
+    @Test
+    void assertObserveUpdateCount() {
+        advice.afterMethod(new TargetAdviceObjectFixture(), mock(TargetAdviceMethod.class), createArguments(), 5, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("foo_ds=5"));
+    }
+    
+    @Test
+    void assertNotObserveUnknownResult() {
+        advice.afterMethod(new TargetAdviceObjectFixture(), mock(TargetAdviceMethod.class), createArguments(), true, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(config, "FIXTURE").toString(), is("0"));
+    }
+    
+    private Object[] createArguments() {
+        return new Object[]{new JDBCExecutionUnit(new ExecutionUnit("foo_ds", new SQLUnit("UPDATE t_order SET status = 'OK'", Collections.emptyList())),
+                ConnectionMode.MEMORY_STRICTLY, mock(Statement.class)), false, ""};
+    }
+}
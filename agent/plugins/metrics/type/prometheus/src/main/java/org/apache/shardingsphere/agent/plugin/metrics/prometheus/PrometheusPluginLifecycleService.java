@@ -29,6 +29,7 @@ import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JD
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.recorder.MetricsSampler;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
 import org.apache.shardingsphere.agent.spi.PluginLifecycleService;
 
@@ -43,12 +44,18 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private static final String KEY_JVM_INFORMATION_COLLECTOR_ENABLED = "jvm-information-collector-enabled";
     
+    private static final String KEY_METRICS_SAMPLE_RATE = "metrics-sample-rate";
+    
     private HTTPServer httpServer;
     
     @Override
     public void start(final PluginConfiguration pluginConfig, final boolean isEnhancedForProxy) {
         PluginContext.getInstance().setEnhancedForProxy(isEnhancedForProxy);
         PluginConfigurationValidator.validatePort(getType(), pluginConfig);
+        String sampleRate = pluginConfig.getProps().getProperty(KEY_METRICS_SAMPLE_RATE);
+        if (!isNullOrEmpty(sampleRate)) {
+            MetricsSampler.setSampleRate(Double.parseDouble(sampleRate));
+        }
         startServer(pluginConfig, isEnhancedForProxy);
     }
     
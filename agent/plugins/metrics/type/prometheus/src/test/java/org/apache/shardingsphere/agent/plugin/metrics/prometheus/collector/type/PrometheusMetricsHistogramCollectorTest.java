@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type;
 
+import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.Histogram;
 import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
 import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
 import org.junit.jupiter.api.Test;
 import org.mockito.internal.configuration.plugins.Plugins;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -38,4 +40,14 @@ class PrometheusMetricsHistogramCollectorTest {
         Histogram histogram = (Histogram) Plugins.getMemberAccessor().get(PrometheusMetricsHistogramCollector.class.getDeclaredField("histogram"), collector);
         assertThat(histogram.collect().size(), is(1));
     }
+    
+    @Test
+    void assertObserveWithLabels() {
+        PrometheusMetricsHistogramCollector collector = new PrometheusMetricsHistogramCollector(new MetricConfiguration("foo_labeled_histogram",
+                MetricCollectorType.HISTOGRAM, "foo_help", Arrays.asList("stage", "type"), Collections.emptyMap()));
+        collector.observe(1D, "parse", "SELECT");
+        collector.observe(2D, "parse", "SELECT");
+        assertThat(CollectorRegistry.defaultRegistry.getSampleValue("foo_labeled_histogram_count", new String[]{"stage", "type"}, new String[]{"parse", "SELECT"}), is(2D));
+        assertThat(CollectorRegistry.defaultRegistry.getSampleValue("foo_labeled_histogram_sum", new String[]{"stage", "type"}, new String[]{"parse", "SELECT"}), is(3D));
+    }
 }
@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowBatchPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -87,6 +88,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        if (message instanceof MySQLResultSetRowBatchPacket) {
+            writeRowBatch(context, (MySQLResultSetRowBatchPacket) message);
+            return;
+        }
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
         try {
             message.write(payload);
@@ -104,6 +109,11 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
         }
     }
     
+    private void writeRowBatch(final ChannelHandlerContext context, final MySQLResultSetRowBatchPacket rowBatch) {
+        rowBatch.assignSequenceIds(context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get());
+        context.write(rowBatch.getByteBuf().retain());
+    }
+    
     private ByteBuf prepareMessageHeader(final ByteBuf out) {
         return out.writeInt(0);
     }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.AbstractReferenceCounted;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batch of result set row packets for MySQL.
+ *
+ * <p>
+ * Row packets are framed into one byte buffer when appended, and sequence IDs are assigned when the batch is encoded,
+ * so that the framed bytes can be handed to channel without being copied into another buffer.
+ * </p>
+ */
+public final class MySQLResultSetRowBatchPacket extends AbstractReferenceCounted implements DatabasePacket {
+    
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
+    private static final int PAYLOAD_LENGTH = 3;
+    
+    private static final int SEQUENCE_LENGTH = 1;
+    
+    @Getter
+    private final ByteBuf byteBuf;
+    
+    private final MySQLPacketPayload payload;
+    
+    @Getter
+    private int packetCount;
+    
+    public MySQLResultSetRowBatchPacket(final ByteBuf byteBuf, final Charset charset) {
+        this.byteBuf = byteBuf;
+        payload = new MySQLPacketPayload(byteBuf, charset);
+    }
+    
+    /**
+     * Append row packet.
+     *
+     * @param rowPacket row packet
+     * @return appended or not, row packet which needs to be split into multiple packets can not be appended
+     */
+    public boolean append(final MySQLPacket rowPacket) {
+        int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeMediumLE(0).writeByte(0);
+        rowPacket.write(payload);
+        int payloadLength = byteBuf.writerIndex() - headerIndex - PAYLOAD_LENGTH - SEQUENCE_LENGTH;
+        if (payloadLength >= MAX_PACKET_LENGTH) {
+            byteBuf.writerIndex(headerIndex);
+            return false;
+        }
+        byteBuf.setMediumLE(headerIndex, payloadLength);
+        packetCount++;
+        return true;
+    }
+    
+    /**
+     * Get size of framed row packets in bytes.
+     *
+     * @return size of framed row packets in bytes
+     */
+    public int getSize() {
+        return byteBuf.readableBytes();
+    }
+    
+    /**
+     * Assign sequence IDs to framed row packets.
+     *
+     * @param sequenceId sequence ID of channel
+     */
+    public void assignSequenceIds(final AtomicInteger sequenceId) {
+        int headerIndex = byteBuf.readerIndex();
+        while (headerIndex < byteBuf.writerIndex()) {
+            byteBuf.setByte(headerIndex + PAYLOAD_LENGTH, sequenceId.getAndIncrement());
+            headerIndex += PAYLOAD_LENGTH + SEQUENCE_LENGTH + byteBuf.getUnsignedMediumLE(headerIndex);
+        }
+    }
+    
+    @Override
+    public void write(final PacketPayload payload) {
+        payload.getByteBuf().writeBytes(byteBuf, byteBuf.readerIndex(), byteBuf.readableBytes());
+    }
+    
+    @Override
+    protected void deallocate() {
+        byteBuf.release();
+    }
+    
+    @Override
+    public MySQLResultSetRowBatchPacket touch(final Object hint) {
+        byteBuf.touch(hint);
+        return this;
+    }
+}
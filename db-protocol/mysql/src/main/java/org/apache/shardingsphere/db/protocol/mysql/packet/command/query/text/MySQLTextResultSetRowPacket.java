@@ -61,7 +61,9 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     }
     
     private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
-        if (data instanceof byte[]) {
+        if (data instanceof Long || data instanceof Integer || data instanceof Short || data instanceof Byte) {
+            payload.writeLongStringLenenc(((Number) data).longValue());
+        } else if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
             payload.writeStringLenenc(data.toString().split("\\.")[0]);
@@ -182,12 +182,12 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte((int) value);
             return;
         }
-        if (value < Math.pow(2D, 16D)) {
+        if (value < 0x10000L) {
             byteBuf.writeByte(0xfc);
             byteBuf.writeShortLE((int) value);
             return;
         }
-        if (value < Math.pow(2D, 24D)) {
+        if (value < 0x1000000L) {
             byteBuf.writeByte(0xfd);
             byteBuf.writeMediumLE((int) value);
             return;
@@ -260,6 +260,43 @@ public final class MySQLPacketPayload implements PacketPayload {
         byteBuf.writeBytes(value);
     }
     
+    /**
+     * Write lenenc string of decimal long to byte buffers.
+     *
+     * @param value long value
+     */
+    public void writeLongStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(Long.toString(value));
+            return;
+        }
+        long absValue = Math.abs(value);
+        int digitCount = getDigitCount(absValue);
+        int length = value < 0L ? digitCount + 1 : digitCount;
+        byteBuf.ensureWritable(length + 1);
+        byteBuf.writeByte(length);
+        if (value < 0L) {
+            byteBuf.writeByte('-');
+        }
+        int index = byteBuf.writerIndex() + digitCount;
+        long remaining = absValue;
+        do {
+            byteBuf.setByte(--index, (int) ('0' + remaining % 10L));
+            remaining /= 10L;
+        } while (remaining > 0L);
+        byteBuf.writerIndex(byteBuf.writerIndex() + digitCount);
+    }
+    
+    private int getDigitCount(final long absValue) {
+        int result = 1;
+        long threshold = 10L;
+        while (result < 19 && absValue >= threshold) {
+            result++;
+            threshold *= 10L;
+        }
+        return result;
+    }
+    
     /**
      * Read fixed length string from byte buffers.
      *
@@ -25,6 +25,8 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowBatchPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -52,6 +55,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -167,6 +171,21 @@ class MySQLPacketCodecEngineTest {
         return result.retain();
     }
     
+    @Test
+    void assertEncodeRowBatch() {
+        MySQLResultSetRowBatchPacket rowBatch = new MySQLResultSetRowBatchPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        rowBatch.append(new MySQLTextResultSetRowPacket(Collections.singletonList("foo")));
+        rowBatch.append(new MySQLTextResultSetRowPacket(Collections.singletonList("bar")));
+        context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(2);
+        new MySQLPacketCodecEngine().encode(context, rowBatch, byteBuf);
+        verify(context).write(rowBatch.getByteBuf());
+        verifyNoInteractions(byteBuf);
+        assertThat(rowBatch.getByteBuf().refCnt(), is(2));
+        assertThat(rowBatch.getByteBuf().getUnsignedByte(3), is((short) 2));
+        assertThat(rowBatch.getByteBuf().getUnsignedByte(11), is((short) 3));
+        assertThat(context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().get(), is(4));
+    }
+    
     @Test
     void assertEncodeOccursException() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
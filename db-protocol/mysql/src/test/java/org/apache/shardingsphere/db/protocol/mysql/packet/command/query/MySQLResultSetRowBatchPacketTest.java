@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLResultSetRowBatchPacketTest {
+    
+    @Test
+    void assertAppendAndAssignSequenceIds() {
+        MySQLResultSetRowBatchPacket actual = new MySQLResultSetRowBatchPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertTrue(actual.append(new MySQLTextResultSetRowPacket(Arrays.asList(1L, "foo"))));
+        assertTrue(actual.append(new MySQLTextResultSetRowPacket(Collections.singletonList(null))));
+        assertThat(actual.getPacketCount(), is(2));
+        assertThat(actual.getSize(), is(4 + 6 + 4 + 1));
+        AtomicInteger sequenceId = new AtomicInteger(3);
+        actual.assignSequenceIds(sequenceId);
+        assertThat(sequenceId.get(), is(5));
+        ByteBuf byteBuf = actual.getByteBuf();
+        assertThat(byteBuf.readUnsignedMediumLE(), is(6));
+        assertThat(byteBuf.readUnsignedByte(), is((short) 3));
+        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        assertThat(payload.readStringLenenc(), is("1"));
+        assertThat(payload.readStringLenenc(), is("foo"));
+        assertThat(byteBuf.readUnsignedMediumLE(), is(1));
+        assertThat(byteBuf.readUnsignedByte(), is((short) 4));
+        assertThat(payload.readInt1(), is(0xfb));
+        assertFalse(byteBuf.isReadable());
+        actual.release();
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+    
+    @Test
+    void assertAppendPacketMoreThan16MB() {
+        MySQLResultSetRowBatchPacket actual = new MySQLResultSetRowBatchPacket(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertFalse(actual.append(new MySQLPacket() {
+            
+            @Override
+            protected void write(final MySQLPacketPayload payload) {
+                payload.writeReserved(0xFFFFFF);
+            }
+        }));
+        assertThat(actual.getPacketCount(), is(0));
+        assertThat(actual.getSize(), is(0));
+        actual.release();
+    }
+}
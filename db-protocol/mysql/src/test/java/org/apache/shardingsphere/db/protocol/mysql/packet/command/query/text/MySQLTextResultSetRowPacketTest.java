@@ -64,6 +64,16 @@ class MySQLTextResultSetRowPacketTest {
         verify(payload).writeBytesLenenc(new byte[]{1});
     }
     
+    @Test
+    void assertWriteIntegralNumbers() {
+        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(1, 2L, (short) 3, (byte) 4));
+        actual.write(payload);
+        verify(payload).writeLongStringLenenc(1L);
+        verify(payload).writeLongStringLenenc(2L);
+        verify(payload).writeLongStringLenenc(3L);
+        verify(payload).writeLongStringLenenc(4L);
+    }
+    
     @Test
     void assertTimestampWithoutNanos() {
         long now = System.currentTimeMillis() / 1000L * 1000L;
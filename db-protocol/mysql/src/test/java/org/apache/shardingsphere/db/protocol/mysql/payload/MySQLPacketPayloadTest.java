@@ -18,8 +18,11 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -28,6 +31,7 @@ import java.nio.charset.StandardCharsets;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -214,6 +218,15 @@ class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(longs = {0L, 7L, 10L, 99L, 1000000007L, -1L, -45678L, Long.MAX_VALUE, Long.MIN_VALUE})
+    void assertWriteLongStringLenenc(final long value) {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeLongStringLenenc(value);
+        assertThat(new MySQLPacketPayload(actual, StandardCharsets.UTF_8).readStringLenenc(), is(Long.toString(value)));
+        assertFalse(actual.isReadable());
+    }
+    
     @Test
     void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.algorithm.standard;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithmMetaData;
@@ -31,7 +32,7 @@ import java.util.Properties;
 /**
  * AES encrypt algorithm.
  */
-public final class AESEncryptAlgorithm implements EncryptAlgorithm {
+public final class AESEncryptAlgorithm implements EncryptAlgorithm, AutoCloseable {
     
     private static final String AES_KEY = "aes-key-value";
     
@@ -73,4 +74,12 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     public String getType() {
         return "AES";
     }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        if (cryptographicAlgorithm instanceof AutoCloseable) {
+            ((AutoCloseable) cryptographicAlgorithm).close();
+        }
+    }
 }
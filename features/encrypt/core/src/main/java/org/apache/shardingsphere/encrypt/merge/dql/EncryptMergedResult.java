@@ -33,10 +33,16 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ *
+ * <p>
+ * Decrypt plan of each column is resolved when the column is read for the first time, and reused for all rows of the query.
+ * </p>
  */
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
@@ -49,6 +55,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<ColumnDecryptor>> columnDecryptors = new HashMap<>();
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -56,9 +64,14 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<ColumnDecryptor> columnDecryptor = columnDecryptors.computeIfAbsent(columnIndex, this::findColumnDecryptor);
+        return columnDecryptor.isPresent() ? columnDecryptor.get().decrypt(mergedResult.getValue(columnIndex, Object.class)) : mergedResult.getValue(columnIndex, type);
+    }
+    
+    private Optional<ColumnDecryptor> findColumnDecryptor(final int columnIndex) {
         Optional<ColumnSegmentBoundInfo> columnSegmentBoundInfo = selectStatementContext.findColumnBoundInfo(columnIndex);
         if (!columnSegmentBoundInfo.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnSegmentBoundInfo.get().getOriginalTable().getValue();
         String originalColumnName = columnSegmentBoundInfo.get().getOriginalColumn().getValue();
@@ -67,19 +80,12 @@ public final class EncryptMergedResult implements MergedResult {
                 : this.database;
         Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
         if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
         EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
         String schemaName = selectStatementContext.getTablesContext().getSchemaName()
                 .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
-        }
+        return Optional.of(new ColumnDecryptor(database.getName(), schemaName, originalTableName, originalColumnName, encryptColumn));
     }
     
     @Override
@@ -101,4 +107,33 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnDecryptor {
+        
+        private final String databaseName;
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final String columnName;
+        
+        private final EncryptColumn encryptColumn;
+        
+        private Object decrypt(final Object cipherValue) {
+            try {
+                return encryptColumn.getCipher().decrypt(databaseName, schemaName, tableName, columnName, cipherValue);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(databaseName, tableName, columnName), ex);
+            }
+        }
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.encrypt.rule;
 import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.google.common.base.Preconditions;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.encrypt.config.EncryptRuleConfiguration;
 import org.apache.shardingsphere.encrypt.config.rule.EncryptColumnRuleConfiguration;
 import org.apache.shardingsphere.encrypt.config.rule.EncryptTableRuleConfiguration;
@@ -52,7 +53,7 @@ import java.util.stream.Collectors;
 /**
  * Encrypt rule.
  */
-public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupported<EncryptRuleConfiguration> {
+public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupported<EncryptRuleConfiguration>, AutoCloseable {
     
     private final String databaseName;
     
@@ -200,4 +201,14 @@ public final class EncryptRule implements DatabaseRule, PartialRuleUpdateSupport
     public int getOrder() {
         return EncryptOrder.ORDER;
     }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        for (EncryptAlgorithm each : encryptors.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
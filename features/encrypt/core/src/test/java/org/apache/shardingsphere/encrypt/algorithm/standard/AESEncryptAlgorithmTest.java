@@ -20,16 +20,20 @@ package org.apache.shardingsphere.encrypt.algorithm.standard;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.cryptographic.core.CryptographicAlgorithm;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
 
 class AESEncryptAlgorithmTest {
     
@@ -63,4 +67,12 @@ class AESEncryptAlgorithmTest {
         assertThat(actual.getProps().getProperty("aes-key-value"), is("test"));
         assertThat(actual.getProps().getProperty("digest-algorithm-name"), is("SHA-1"));
     }
+    
+    @Test
+    void assertClose() throws Exception {
+        CryptographicAlgorithm cryptographicAlgorithm = mock(CryptographicAlgorithm.class, withSettings().extraInterfaces(AutoCloseable.class));
+        Plugins.getMemberAccessor().set(AESEncryptAlgorithm.class.getDeclaredField("cryptographicAlgorithm"), encryptAlgorithm, cryptographicAlgorithm);
+        ((AutoCloseable) encryptAlgorithm).close();
+        verify((AutoCloseable) cryptographicAlgorithm).close();
+    }
 }
@@ -57,6 +57,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -118,6 +119,27 @@ class EncryptMergedResultTest {
         assertThat(new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult).getValue(1, String.class), is("foo_decrypted_value"));
     }
     
+    @Test
+    void assertGetValueWithEncryptColumnForMultipleRows() throws SQLException {
+        ColumnSegmentBoundInfo columnSegmentBoundInfo = new ColumnSegmentBoundInfo(
+                new TableSegmentBoundInfo(new IdentifierValue("foo_db"), new IdentifierValue("foo_schema")), new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col"),
+                TableSourceType.PHYSICAL_TABLE);
+        when(selectStatementContext.findColumnBoundInfo(1)).thenReturn(Optional.of(columnSegmentBoundInfo));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        when(encryptAlgorithm.decrypt(eq("foo_value"), deepEq(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col")))).thenReturn("foo_decrypted_value");
+        when(encryptAlgorithm.decrypt(eq("bar_value"), deepEq(new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col")))).thenReturn("bar_decrypted_value");
+        EncryptRule rule = mockRule(encryptAlgorithm);
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(), mock(), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock());
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo_value", "bar_value");
+        EncryptMergedResult actual = new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("foo_decrypted_value"));
+        assertThat(actual.getValue(1, String.class), is("bar_decrypted_value"));
+        verify(selectStatementContext).findColumnBoundInfo(1);
+        verify(rule).getEncryptTable("foo_tbl");
+    }
+    
     @Test
     void assertGetValueFailed() throws SQLException {
         ColumnSegmentBoundInfo columnSegmentBoundInfo = new ColumnSegmentBoundInfo(
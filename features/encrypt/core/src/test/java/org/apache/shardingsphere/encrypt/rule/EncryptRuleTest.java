@@ -23,6 +23,7 @@ import org.apache.shardingsphere.encrypt.config.rule.EncryptColumnRuleConfigurat
 import org.apache.shardingsphere.encrypt.config.rule.EncryptTableRuleConfiguration;
 import org.apache.shardingsphere.encrypt.exception.metadata.EncryptTableNotFoundException;
 import org.apache.shardingsphere.encrypt.exception.metadata.MismatchedEncryptAlgorithmTypeException;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -30,6 +31,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -44,6 +46,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
 
 class EncryptRuleTest {
     
@@ -96,6 +101,16 @@ class EncryptRuleTest {
         assertFalse(new EncryptRule("foo_db", createEncryptRuleConfiguration()).findQueryEncryptor("t_encrypt", "invalid_col").isPresent());
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertClose() throws Exception {
+        EncryptRule encryptRule = new EncryptRule("foo_db", createEncryptRuleConfiguration());
+        EncryptAlgorithm encryptor = mock(EncryptAlgorithm.class, withSettings().extraInterfaces(AutoCloseable.class));
+        ((Map<String, EncryptAlgorithm>) Plugins.getMemberAccessor().get(EncryptRule.class.getDeclaredField("encryptors"), encryptRule)).put("closeable_encryptor", encryptor);
+        encryptRule.close();
+        verify((AutoCloseable) encryptor).close();
+    }
+    
     @SuppressWarnings("unused")
     @ParameterizedTest(name = "Wrong{0}")
     @ArgumentsSource(TestCaseArgumentsProvider.class)
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive.TargetExecutionStatisticsRegistry;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDataSource;
 import org.apache.shardingsphere.infra.rule.attribute.datasource.StaticDataSourceRuleAttribute;
@@ -34,6 +35,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -68,6 +70,17 @@ class ReadwriteSplittingRuleTest {
         assertDataSourceGroupRule(actual.get());
     }
     
+    @Test
+    void assertClose() {
+        ReadwriteSplittingDataSourceGroupRuleConfiguration config =
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "adaptive");
+        ReadwriteSplittingRule rule = new ReadwriteSplittingRule("adaptive_db", new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("adaptive", new AlgorithmConfiguration("ADAPTIVE", new Properties()))), mock(ComputeNodeInstanceContext.class));
+        assertTrue(TargetExecutionStatisticsRegistry.isRegistered("adaptive_db"));
+        rule.close();
+        assertFalse(TargetExecutionStatisticsRegistry.isRegistered("adaptive_db"));
+    }
+    
     private ReadwriteSplittingRule createReadwriteSplittingRule() {
         ReadwriteSplittingDataSourceGroupRuleConfiguration config =
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "random");
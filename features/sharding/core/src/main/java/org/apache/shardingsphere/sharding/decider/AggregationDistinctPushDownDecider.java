@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.decider;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Aggregation distinct push down decider.
+ *
+ * <p>
+ * If rows with same distinct value are always stored in the same data node, distinct values of different shards never overlap.
+ * Then {@code COUNT(DISTINCT)}, {@code SUM(DISTINCT)} and {@code AVG(DISTINCT)} can be pre-aggregated by data sources,
+ * and be merged by accumulating the partial results instead of collecting all distinct values.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AggregationDistinctPushDownDecider {
+    
+    private static final Collection<AggregationType> PUSH_DOWN_AGGREGATION_TYPES = EnumSet.of(AggregationType.COUNT, AggregationType.SUM, AggregationType.AVG);
+    
+    /**
+     * Judge whether aggregation distinct projections can be pushed down to data sources.
+     *
+     * @param selectStatementContext select statement context
+     * @param rule sharding rule
+     * @return can be pushed down or not
+     */
+    public static boolean isPushDown(final SelectStatementContext selectStatementContext, final ShardingRule rule) {
+        Collection<AggregationDistinctProjection> aggregationDistinctProjections = selectStatementContext.getProjectionsContext().getAggregationDistinctProjections();
+        if (aggregationDistinctProjections.isEmpty() || selectStatementContext.isContainsJoinQuery() || selectStatementContext.isContainsSubquery() || selectStatementContext.isContainsCombine()) {
+            return false;
+        }
+        Collection<String> tableNames = selectStatementContext.getTablesContext().getTableNames();
+        if (1 != tableNames.size()) {
+            return false;
+        }
+        String tableName = tableNames.iterator().next();
+        for (AggregationDistinctProjection each : aggregationDistinctProjections) {
+            Optional<String> columnName = findDistinctColumnName(each);
+            if (!PUSH_DOWN_AGGREGATION_TYPES.contains(each.getType()) || !columnName.isPresent() || !rule.isDataNodeDeterminedByColumn(columnName.get(), tableName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static Optional<String> findDistinctColumnName(final AggregationDistinctProjection projection) {
+        Collection<ExpressionSegment> parameters = projection.getAggregationSegment().getParameters();
+        if (1 != parameters.size()) {
+            return Optional.empty();
+        }
+        ExpressionSegment parameter = parameters.iterator().next();
+        return parameter instanceof ColumnSegment ? Optional.of(((ColumnSegment) parameter).getIdentifier().getValue()) : Optional.empty();
+    }
+}
@@ -20,14 +20,17 @@ package org.apache.shardingsphere.sharding.merge;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.impl.TransparentResultMerger;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.decider.AggregationDistinctPushDownDecider;
 import org.apache.shardingsphere.sharding.merge.dal.ShardingDALResultMerger;
 import org.apache.shardingsphere.sharding.merge.ddl.ShardingDDLResultMerger;
 import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationDistinctMergeMode;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.dal.DALStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.ddl.DDLStatement;
@@ -41,7 +44,8 @@ public final class ShardingResultMergerEngine implements ResultMergerEngine<Shar
     public ResultMerger newInstance(final String databaseName, final DatabaseType protocolType, final ShardingRule shardingRule, final ConfigurationProperties props,
                                     final SQLStatementContext sqlStatementContext) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return new ShardingDQLResultMerger(protocolType);
+            return new ShardingDQLResultMerger(protocolType, props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MEMORY_BUDGET),
+                    getDistinctMergeMode((SelectStatementContext) sqlStatementContext, shardingRule, props));
         }
         if (sqlStatementContext.getSqlStatement() instanceof DDLStatement) {
             return new ShardingDDLResultMerger();
@@ -52,6 +56,13 @@ public final class ShardingResultMergerEngine implements ResultMergerEngine<Shar
         return new TransparentResultMerger();
     }
     
+    private AggregationDistinctMergeMode getDistinctMergeMode(final SelectStatementContext selectStatementContext, final ShardingRule shardingRule, final ConfigurationProperties props) {
+        if (AggregationDistinctPushDownDecider.isPushDown(selectStatementContext, shardingRule)) {
+            return AggregationDistinctMergeMode.PRE_AGGREGATED;
+        }
+        return props.<Boolean>getValue(ConfigurationPropertyKey.AGGREGATION_DISTINCT_APPROXIMATE_ENABLED) ? AggregationDistinctMergeMode.APPROXIMATE : AggregationDistinctMergeMode.EXACT;
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
@@ -35,11 +35,15 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillableMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationDistinctMergeMode;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByTopNStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.builder.PaginationDecoratorMergedResultBuilder;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.LimitValueSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
 
 import java.sql.SQLException;
@@ -55,6 +59,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final long groupByMergeMemoryBudget;
+    
+    private final AggregationDistinctMergeMode distinctMergeMode;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, 0L, AggregationDistinctMergeMode.EXACT);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -93,7 +105,9 @@ public final class ShardingDQLResultMerger implements ResultMerger {
             return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap, schema);
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
+            return isNeedProcessTopN(selectStatementContext.getPaginationContext())
+                    ? new OrderByTopNStreamMergedResult(queryResults, selectStatementContext, schema, getTopN(selectStatementContext.getPaginationContext()))
+                    : new OrderByStreamMergedResult(queryResults, selectStatementContext, schema);
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -118,14 +132,32 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
         return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema, distinctMergeMode)
+                : getGroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+    }
+    
+    private MergedResult getGroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                                      final ShardingSphereSchema schema) throws SQLException {
+        return groupByMergeMemoryBudget > 0L
+                ? new GroupBySpillableMergedResult(queryResults, selectStatementContext, schema, groupByMergeMemoryBudget, distinctMergeMode)
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema, distinctMergeMode);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
         return !selectStatementContext.getOrderByContext().getItems().isEmpty();
     }
     
+    private boolean isNeedProcessTopN(final PaginationContext paginationContext) {
+        return paginationContext.getActualRowCount().isPresent() && paginationContext.getRowCountSegment().filter(LimitValueSegment.class::isInstance).isPresent()
+                && paginationContext.getOffsetSegment().map(LimitValueSegment.class::isInstance).orElse(true);
+    }
+    
+    private long getTopN(final PaginationContext paginationContext) {
+        long offset = paginationContext.getActualOffset();
+        long rowCount = paginationContext.getActualRowCount().get();
+        return rowCount > Long.MAX_VALUE - offset ? Long.MAX_VALUE : offset + rowCount;
+    }
+    
     private MergedResult decorate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) throws SQLException {
         PaginationContext paginationContext = selectStatementContext.getPaginationContext();
         if (!paginationContext.isHasPagination() || 1 == queryResults.size()) {
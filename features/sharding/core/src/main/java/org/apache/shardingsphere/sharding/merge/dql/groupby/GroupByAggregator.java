@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationDistinctMergeMode;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Group by aggregator.
+ *
+ * <p>
+ * Aggregation units of all groups are kept in one flat list which is indexed by group ID and aggregation projection,
+ * and the values to be merged are passed through reusable buffers, so that aggregating a row does not allocate per group maps or value lists.
+ * Group keys of single group by item are the group by values themselves instead of {@link GroupByValue}.
+ * </p>
+ */
+final class GroupByAggregator {
+    
+    private static final long GROUP_OVERHEAD_BYTES = 96L;
+    
+    private static final long CELL_BYTES = 24L;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 48L;
+    
+    private static final long COLLECTED_VALUE_BYTES = 64L;
+    
+    private static final Object EMPTY_GROUP_KEY = new GroupByValue(Collections.emptyList());
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final AggregationDistinctMergeMode distinctMergeMode;
+    
+    private final int[] groupByIndexes;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final int[][] aggregationValueIndexes;
+    
+    private final Comparable<?>[][] aggregationValueBuffers;
+    
+    private final List<List<Comparable<?>>> aggregationValues;
+    
+    private final boolean[] collectingValues;
+    
+    private final Map<Object, Integer> groupIds = new HashMap<>(1024, 1F);
+    
+    private final List<MemoryQueryResultRow> rows = new ArrayList<>(1024);
+    
+    private final List<AggregationUnit> aggregationUnits = new ArrayList<>(1024);
+    
+    private long estimatedBytes;
+    
+    GroupByAggregator(final SelectStatementContext selectStatementContext, final AggregationDistinctMergeMode distinctMergeMode) {
+        this.selectStatementContext = selectStatementContext;
+        this.distinctMergeMode = distinctMergeMode;
+        groupByIndexes = selectStatementContext.getGroupByContext().getItems().stream().mapToInt(OrderByItem::getIndex).toArray();
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        aggregationValueIndexes = new int[aggregationProjections.length][];
+        aggregationValueBuffers = new Comparable<?>[aggregationProjections.length][];
+        aggregationValues = new ArrayList<>(aggregationProjections.length);
+        collectingValues = new boolean[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            AggregationProjection each = aggregationProjections[i];
+            aggregationValueIndexes[i] = each.getDerivedAggregationProjections().isEmpty()
+                    ? new int[]{each.getIndex()}
+                    : each.getDerivedAggregationProjections().stream().mapToInt(AggregationProjection::getIndex).toArray();
+            aggregationValueBuffers[i] = new Comparable<?>[aggregationValueIndexes[i].length];
+            aggregationValues.add(Arrays.asList(aggregationValueBuffers[i]));
+            collectingValues[i] = isCollectingValues(each);
+        }
+    }
+    
+    private boolean isCollectingValues(final AggregationProjection projection) {
+        if (AggregationType.GROUP_CONCAT == projection.getType()) {
+            return true;
+        }
+        return projection instanceof AggregationDistinctProjection
+                && (AggregationDistinctMergeMode.EXACT == distinctMergeMode || AggregationDistinctMergeMode.APPROXIMATE == distinctMergeMode && AggregationType.COUNT != projection.getType());
+    }
+    
+    /**
+     * Get group key.
+     *
+     * @param rowReader row reader
+     * @return group key
+     * @throws SQLException SQL exception
+     */
+    Object getGroupKey(final RowReader rowReader) throws SQLException {
+        if (0 == groupByIndexes.length) {
+            return EMPTY_GROUP_KEY;
+        }
+        if (1 == groupByIndexes.length) {
+            return rowReader.getValue(groupByIndexes[0]);
+        }
+        List<Object> result = new ArrayList<>(groupByIndexes.length);
+        for (int each : groupByIndexes) {
+            result.add(rowReader.getValue(each));
+        }
+        return new GroupByValue(result);
+    }
+    
+    /**
+     * Judge whether group exists.
+     *
+     * @param groupKey group key
+     * @return group exists or not
+     */
+    boolean containsGroup(final Object groupKey) {
+        return groupIds.containsKey(groupKey);
+    }
+    
+    /**
+     * Aggregate row into group.
+     *
+     * @param groupKey group key
+     * @param rowReader row reader
+     * @throws SQLException SQL exception
+     */
+    void aggregate(final Object groupKey, final RowReader rowReader) throws SQLException {
+        Integer groupId = groupIds.get(groupKey);
+        if (null == groupId) {
+            groupId = createGroup(groupKey, rowReader);
+        }
+        int unitOffset = groupId * aggregationProjections.length;
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            Comparable<?>[] buffer = aggregationValueBuffers[i];
+            for (int j = 0; j < buffer.length; j++) {
+                buffer[j] = getAggregationValue(rowReader, aggregationValueIndexes[i][j]);
+            }
+            aggregationUnits.get(unitOffset + i).merge(aggregationValues.get(i));
+            if (collectingValues[i]) {
+                estimatedBytes += COLLECTED_VALUE_BYTES;
+            }
+        }
+    }
+    
+    private int createGroup(final Object groupKey, final RowReader rowReader) throws SQLException {
+        int result = rows.size();
+        Object[] data = rowReader.load();
+        rows.add(new MemoryQueryResultRow(data));
+        groupIds.put(groupKey, result);
+        for (AggregationProjection each : aggregationProjections) {
+            aggregationUnits.add(AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection, each.getSeparator().orElse(null), distinctMergeMode));
+        }
+        estimatedBytes += GROUP_OVERHEAD_BYTES + data.length * CELL_BYTES + aggregationProjections.length * AGGREGATION_UNIT_BYTES;
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final RowReader rowReader, final int columnIndex) throws SQLException {
+        Object result = rowReader.getValue(columnIndex);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Judge whether no group has been aggregated.
+     *
+     * @return no group has been aggregated or not
+     */
+    boolean isEmpty() {
+        return rows.isEmpty();
+    }
+    
+    /**
+     * Get estimated bytes of aggregated groups.
+     *
+     * @return estimated bytes
+     */
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+    
+    /**
+     * Get aggregated rows, whose aggregation cells are filled with aggregation results.
+     *
+     * @return aggregated rows
+     */
+    List<MemoryQueryResultRow> getAggregatedRows() {
+        for (int groupId = 0; groupId < rows.size(); groupId++) {
+            int unitOffset = groupId * aggregationProjections.length;
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                rows.get(groupId).setCell(aggregationProjections[i].getIndex(), aggregationUnits.get(unitOffset + i).getResult());
+            }
+        }
+        return rows;
+    }
+    
+    /**
+     * Get result rows for empty query results.
+     *
+     * @return one row with zero counts if there are aggregations without group by, otherwise empty
+     */
+    List<MemoryQueryResultRow> getEmptyResultRows() {
+        if (0 != groupByIndexes.length || 0 == aggregationProjections.length) {
+            return Collections.emptyList();
+        }
+        List<Projection> projections = new ArrayList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] data = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                data[i] = 0;
+            }
+        }
+        return Collections.singletonList(new MemoryQueryResultRow(data));
+    }
+    
+    /**
+     * Row reader.
+     */
+    interface RowReader {
+        
+        /**
+         * Get value.
+         *
+         * @param columnIndex column index, starts from 1
+         * @return value
+         * @throws SQLException SQL exception
+         */
+        Object getValue(int columnIndex) throws SQLException;
+        
+        /**
+         * Load all values of current row.
+         *
+         * @return values of current row
+         * @throws SQLException SQL exception
+         */
+        Object[] load() throws SQLException;
+        
+        /**
+         * Create row reader for query result.
+         *
+         * @param queryResult query result
+         * @return row reader
+         * @throws SQLException SQL exception
+         */
+        static RowReader of(final QueryResult queryResult) throws SQLException {
+            int columnCount = queryResult.getMetaData().getColumnCount();
+            return new RowReader() {
+                
+                @Override
+                public Object getValue(final int columnIndex) throws SQLException {
+                    return queryResult.getValue(columnIndex, Object.class);
+                }
+                
+                @Override
+                public Object[] load() throws SQLException {
+                    Object[] result = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        result[i] = queryResult.getValue(i + 1, Object.class);
+                    }
+                    return result;
+                }
+            };
+        }
+        
+        /**
+         * Create row reader for loaded row.
+         *
+         * @param row loaded row
+         * @return row reader
+         */
+        static RowReader of(final Object[] row) {
+            return new RowReader() {
+                
+                @Override
+                public Object getValue(final int columnIndex) {
+                    return row[columnIndex - 1];
+                }
+                
+                @Override
+                public Object[] load() {
+                    return row;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByAggregator.RowReader;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationDistinctMergeMode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>
+ * Aggregates rows in memory until the estimated bytes of aggregated groups exceed memory budget.
+ * After that, rows of groups already in memory are still aggregated in memory, and rows of new groups are hash partitioned into temporary files.
+ * Every partition is aggregated in the same way later, and re-partitioned with another hash seed if it still exceeds memory budget.
+ * The aggregated rows of every partition are sorted and written as sorted run, and all sorted runs are merged by the order of group by rows.
+ * Rows with column types which can not be serialized are always aggregated in memory.
+ * </p>
+ */
+public final class GroupBySpillableMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final Collection<Integer> UNSPILLABLE_COLUMN_TYPES = new HashSet<>(Arrays.asList(
+            Types.ARRAY, Types.BLOB, Types.CLOB, Types.NCLOB, Types.SQLXML, Types.STRUCT, Types.REF, Types.REF_CURSOR, Types.DATALINK, Types.DISTINCT, Types.JAVA_OBJECT, Types.OTHER));
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_PARTITION_DEPTH = 4;
+    
+    private static final String TEMPORARY_FILE_PREFIX = "shardingsphere-group-by-";
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryBudget;
+    
+    private final AggregationDistinctMergeMode distinctMergeMode;
+    
+    private final PriorityQueue<SortedRun> sortedRuns;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillableMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                        final ShardingSphereSchema schema, final long memoryBudget, final AggregationDistinctMergeMode distinctMergeMode) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryBudget = isSpillable(queryResults) ? memoryBudget : Long.MAX_VALUE;
+        this.distinctMergeMode = distinctMergeMode;
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList()
+                : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        GroupByRowComparator rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        sortedRuns = new PriorityQueue<>(Comparator.comparing(SortedRun::getCurrentRow, rowComparator));
+        try {
+            init(queryResults, rowComparator);
+        } catch (final IOException ex) {
+            closeSortedRuns();
+            throw new GroupByMergeSpillException(ex.getMessage());
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            closeSortedRuns();
+            throw ex;
+        }
+    }
+    
+    private static boolean isSpillable(final List<QueryResult> queryResults) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return true;
+        }
+        QueryResultMetaData metaData = queryResults.iterator().next().getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (UNSPILLABLE_COLUMN_TYPES.contains(metaData.getColumnType(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void init(final List<QueryResult> queryResults, final GroupByRowComparator rowComparator) throws SQLException, IOException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext, distinctMergeMode);
+        SpillPartitions partitions = new SpillPartitions(0);
+        boolean aggregated = false;
+        try {
+            for (QueryResult each : queryResults) {
+                RowReader rowReader = RowReader.of(each);
+                while (each.next()) {
+                    aggregate(aggregator, aggregator.getGroupKey(rowReader), rowReader, partitions);
+                }
+            }
+            aggregated = true;
+        } finally {
+            if (!aggregated) {
+                partitions.discard();
+            }
+        }
+        if (aggregator.isEmpty()) {
+            addSortedRun(new MemorySortedRun(aggregator.getEmptyResultRows()));
+            return;
+        }
+        List<MemoryQueryResultRow> rows = sortAggregatedRows(aggregator, rowComparator);
+        if (partitions.isEmpty()) {
+            addSortedRun(new MemorySortedRun(rows));
+            return;
+        }
+        Collection<Path> partitionFiles = partitions.close();
+        try {
+            addSortedRun(FileSortedRun.write(rows));
+            for (Path each : partitionFiles) {
+                aggregatePartition(each, 1, rowComparator);
+            }
+        } finally {
+            deleteFiles(partitionFiles);
+        }
+    }
+    
+    private void aggregate(final GroupByAggregator aggregator, final Object groupKey, final RowReader rowReader, final SpillPartitions partitions) throws SQLException, IOException {
+        if (partitions.depth >= MAX_PARTITION_DEPTH || aggregator.containsGroup(groupKey) || aggregator.getEstimatedBytes() < memoryBudget) {
+            aggregator.aggregate(groupKey, rowReader);
+        } else {
+            partitions.write(groupKey, rowReader.load());
+        }
+    }
+    
+    private void aggregatePartition(final Path partition, final int depth, final GroupByRowComparator rowComparator) throws SQLException, IOException {
+        GroupByAggregator aggregator = new GroupByAggregator(selectStatementContext, distinctMergeMode);
+        SpillPartitions partitions = new SpillPartitions(depth);
+        boolean aggregated = false;
+        try (ObjectInputStream inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(partition)))) {
+            Object[] row;
+            while (null != (row = readRow(inputStream))) {
+                RowReader rowReader = RowReader.of(row);
+                aggregate(aggregator, aggregator.getGroupKey(rowReader), rowReader, partitions);
+            }
+            aggregated = true;
+        } finally {
+            Files.deleteIfExists(partition);
+            if (!aggregated) {
+                partitions.discard();
+            }
+        }
+        if (aggregator.isEmpty()) {
+            return;
+        }
+        Collection<Path> partitionFiles = partitions.close();
+        try {
+            addSortedRun(FileSortedRun.write(sortAggregatedRows(aggregator, rowComparator)));
+            for (Path each : partitionFiles) {
+                aggregatePartition(each, depth + 1, rowComparator);
+            }
+        } finally {
+            deleteFiles(partitionFiles);
+        }
+    }
+    
+    private static void deleteFiles(final Collection<Path> files) throws IOException {
+        for (Path each : files) {
+            Files.deleteIfExists(each);
+        }
+    }
+    
+    private List<MemoryQueryResultRow> sortAggregatedRows(final GroupByAggregator aggregator, final GroupByRowComparator rowComparator) {
+        List<MemoryQueryResultRow> result = aggregator.getAggregatedRows();
+        result.sort(rowComparator);
+        return result;
+    }
+    
+    private void addSortedRun(final SortedRun sortedRun) throws IOException {
+        if (sortedRun.next()) {
+            sortedRuns.add(sortedRun);
+        } else {
+            sortedRun.close();
+        }
+    }
+    
+    private static Object[] readRow(final ObjectInputStream inputStream) throws IOException {
+        try {
+            return (Object[]) inputStream.readObject();
+        } catch (final EOFException ignored) {
+            return null;
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    private void closeSortedRuns() {
+        sortedRuns.forEach(QuietlyCloser::close);
+        sortedRuns.clear();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != currentRow) {
+            SortedRun previousRun = sortedRuns.poll();
+            try {
+                if (previousRun.next()) {
+                    sortedRuns.add(previousRun);
+                } else {
+                    previousRun.close();
+                }
+            } catch (final IOException ex) {
+                closeSortedRuns();
+                throw new GroupByMergeSpillException(ex.getMessage());
+            }
+        }
+        if (sortedRuns.isEmpty()) {
+            currentRow = null;
+            return false;
+        }
+        currentRow = sortedRuns.peek().getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return null == calendar || !(result instanceof Date) ? result : convertWithCalendar((Date) result, calendar);
+    }
+    
+    private Date convertWithCalendar(final Date value, final Calendar calendar) {
+        Calendar localCalendar = Calendar.getInstance();
+        localCalendar.setTime(value);
+        Calendar targetCalendar = (Calendar) calendar.clone();
+        targetCalendar.clear();
+        targetCalendar.set(localCalendar.get(Calendar.YEAR), localCalendar.get(Calendar.MONTH), localCalendar.get(Calendar.DAY_OF_MONTH),
+                localCalendar.get(Calendar.HOUR_OF_DAY), localCalendar.get(Calendar.MINUTE), localCalendar.get(Calendar.SECOND));
+        targetCalendar.set(Calendar.MILLISECOND, localCalendar.get(Calendar.MILLISECOND));
+        long millis = targetCalendar.getTimeInMillis();
+        if (value instanceof Timestamp) {
+            Timestamp result = new Timestamp(millis);
+            result.setNanos(((Timestamp) value).getNanos());
+            return result;
+        }
+        if (value instanceof Time) {
+            return new Time(millis);
+        }
+        if (value instanceof java.sql.Date) {
+            return new java.sql.Date(millis);
+        }
+        return new Date(millis);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        closeSortedRuns();
+        currentRow = null;
+    }
+    
+    private static final class SpillPartitions {
+        
+        private final int depth;
+        
+        private final Path[] files = new Path[PARTITION_COUNT];
+        
+        private final ObjectOutputStream[] outputStreams = new ObjectOutputStream[PARTITION_COUNT];
+        
+        private boolean empty = true;
+        
+        SpillPartitions(final int depth) {
+            this.depth = depth;
+        }
+        
+        boolean isEmpty() {
+            return empty;
+        }
+        
+        void write(final Object groupKey, final Object[] row) throws IOException {
+            int partition = getPartition(groupKey);
+            if (null == outputStreams[partition]) {
+                files[partition] = Files.createTempFile(TEMPORARY_FILE_PREFIX, ".partition");
+                outputStreams[partition] = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(files[partition])));
+            }
+            outputStreams[partition].writeObject(row);
+            outputStreams[partition].reset();
+            empty = false;
+        }
+        
+        private int getPartition(final Object groupKey) {
+            int hash = (null == groupKey ? 0 : groupKey.hashCode()) ^ depth * 0x9E3779B9;
+            hash ^= hash >>> 16;
+            hash *= 0x85EBCA6B;
+            hash ^= hash >>> 13;
+            hash *= 0xC2B2AE35;
+            hash ^= hash >>> 16;
+            return hash & (PARTITION_COUNT - 1);
+        }
+        
+        Collection<Path> close() throws IOException {
+            Collection<Path> result = new LinkedList<>();
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                if (null != outputStreams[i]) {
+                    outputStreams[i].close();
+                    result.add(files[i]);
+                }
+            }
+            return result;
+        }
+        
+        void discard() {
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                if (null != outputStreams[i]) {
+                    QuietlyCloser.close(outputStreams[i]);
+                    files[i].toFile().delete();
+                }
+            }
+        }
+    }
+    
+    private interface SortedRun extends AutoCloseable {
+        
+        boolean next() throws IOException;
+        
+        MemoryQueryResultRow getCurrentRow();
+        
+        @Override
+        void close() throws IOException;
+    }
+    
+    private static final class MemorySortedRun implements SortedRun {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        MemorySortedRun(final List<MemoryQueryResultRow> rows) {
+            this.rows = rows.iterator();
+        }
+        
+        @Override
+        public boolean next() {
+            if (rows.hasNext()) {
+                currentRow = rows.next();
+                return true;
+            }
+            return false;
+        }
+        
+        @Override
+        public MemoryQueryResultRow getCurrentRow() {
+            return currentRow;
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+    
+    private static final class FileSortedRun implements SortedRun {
+        
+        private final Path file;
+        
+        private final ObjectInputStream inputStream;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        private FileSortedRun(final Path file) throws IOException {
+            this.file = file;
+            inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file.toFile())));
+            // Unlink the opened run, so that it is removed even if the merged result is abandoned before exhausted
+            try {
+                Files.delete(file);
+            } catch (final IOException ignored) {
+                file.toFile().deleteOnExit();
+            }
+        }
+        
+        static FileSortedRun write(final List<MemoryQueryResultRow> rows) throws IOException {
+            Path file = Files.createTempFile(TEMPORARY_FILE_PREFIX, ".run");
+            try {
+                try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                    for (MemoryQueryResultRow each : rows) {
+                        outputStream.writeObject(each.getData());
+                        outputStream.reset();
+                    }
+                }
+                return new FileSortedRun(file);
+            } catch (final IOException ex) {
+                Files.deleteIfExists(file);
+                throw ex;
+            }
+        }
+        
+        @Override
+        public boolean next() throws IOException {
+            Object[] row = readRow(inputStream);
+            currentRow = null == row ? null : new MemoryQueryResultRow(row);
+            return null != row;
+        }
+        
+        @Override
+        public MemoryQueryResultRow getCurrentRow() {
+            return currentRow;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+            Files.deleteIfExists(file);
+        }
+    }
+}
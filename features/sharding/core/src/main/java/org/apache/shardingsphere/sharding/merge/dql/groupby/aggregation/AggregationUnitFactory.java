@@ -38,6 +38,23 @@ public final class AggregationUnitFactory {
      * @throws UnsupportedSQLOperationException unsupported SQL operation exception
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator) {
+        return create(type, isDistinct, separator, AggregationDistinctMergeMode.EXACT);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param separator is separator for group_concat
+     * @param distinctMergeMode merge mode of distinct aggregation
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final String separator, final AggregationDistinctMergeMode distinctMergeMode) {
+        if (isDistinct && AggregationDistinctMergeMode.PRE_AGGREGATED == distinctMergeMode) {
+            return create(type, false, separator, AggregationDistinctMergeMode.EXACT);
+        }
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
@@ -46,7 +63,10 @@ public final class AggregationUnitFactory {
             case SUM:
                 return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                if (isDistinct) {
+                    return AggregationDistinctMergeMode.APPROXIMATE == distinctMergeMode ? new ApproximateDistinctCountAggregationUnit() : new DistinctCountAggregationUnit();
+                }
+                return new AccumulationAggregationUnit();
             case AVG:
                 return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
             case BIT_XOR:
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit.
+ *
+ * <p>
+ * Keeps a bounded size {@link HyperLogLogSketch} instead of all distinct values, so memory of each group does not grow with the cardinality.
+ * Data sources still return every distinct value, the sketch is only built while merging.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ApproximateDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private final HyperLogLogSketch sketch = new HyperLogLogSketch();
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        sketch.add(values.get(0));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return sketch.estimate();
+    }
+}
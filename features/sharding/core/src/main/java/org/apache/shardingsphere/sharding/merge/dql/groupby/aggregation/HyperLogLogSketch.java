@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HyperLogLog sketch.
+ *
+ * <p>
+ * Keeps distinct hashes of values in a small sparse table first, so count of distinct values is exact and memory is small for low cardinality.
+ * Once more than 512 distinct hashes are kept, switches to 2^14 dense registers of one byte, the standard error is about 0.8% whatever the cardinality is.
+ * </p>
+ */
+final class HyperLogLogSketch {
+    
+    private static final int PRECISION = 14;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    
+    private static final int INITIAL_SPARSE_CAPACITY = 16;
+    
+    private static final int MAX_SPARSE_SIZE = REGISTER_COUNT / Long.BYTES / 4;
+    
+    private long[] sparseHashes = new long[INITIAL_SPARSE_CAPACITY];
+    
+    private int sparseSize;
+    
+    private boolean containsZeroHash;
+    
+    private byte[] registers;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        long hash = hash(value);
+        if (null != registers) {
+            addToRegisters(hash);
+            return;
+        }
+        if (0L == hash) {
+            containsZeroHash = true;
+        } else if (addToSparseHashes(hash) && ++sparseSize > MAX_SPARSE_SIZE) {
+            toDense();
+        } else if (sparseSize * 2 > sparseHashes.length) {
+            resizeSparseHashes();
+        }
+    }
+    
+    private boolean addToSparseHashes(final long hash) {
+        int mask = sparseHashes.length - 1;
+        int index = (int) hash & mask;
+        while (0L != sparseHashes[index]) {
+            if (hash == sparseHashes[index]) {
+                return false;
+            }
+            index = index + 1 & mask;
+        }
+        sparseHashes[index] = hash;
+        return true;
+    }
+    
+    private void resizeSparseHashes() {
+        long[] originalHashes = sparseHashes;
+        sparseHashes = new long[originalHashes.length * 2];
+        for (long each : originalHashes) {
+            if (0L != each) {
+                addToSparseHashes(each);
+            }
+        }
+    }
+    
+    private void toDense() {
+        registers = new byte[REGISTER_COUNT];
+        for (long each : sparseHashes) {
+            if (0L != each) {
+                addToRegisters(each);
+            }
+        }
+        if (containsZeroHash) {
+            addToRegisters(0L);
+        }
+        sparseHashes = null;
+    }
+    
+    private void addToRegisters(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    /**
+     * Estimate count of distinct values.
+     *
+     * @return estimated count of distinct values
+     */
+    long estimate() {
+        if (null == registers) {
+            return containsZeroHash ? sparseSize + 1 : sparseSize;
+        }
+        double sum = 0D;
+        int zeroRegisterCount = 0;
+        for (byte each : registers) {
+            sum += Math.scalb(1D, -each);
+            if (0 == each) {
+                zeroRegisterCount++;
+            }
+        }
+        double result = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (result <= 2.5D * REGISTER_COUNT && zeroRegisterCount > 0) {
+            result = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisterCount);
+        }
+        return Math.round(result);
+    }
+    
+    private static long hash(final Comparable<?> value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return mix(((Number) value).longValue());
+        }
+        if (value instanceof BigDecimal && isIntegralLong((BigDecimal) value)) {
+            return mix(((BigDecimal) value).longValueExact());
+        }
+        if (value instanceof BigInteger && ((BigInteger) value).bitLength() < Long.SIZE) {
+            return mix(((BigInteger) value).longValue());
+        }
+        long result = 0xcbf29ce484222325L;
+        for (byte each : value.toString().getBytes(StandardCharsets.UTF_8)) {
+            result = (result ^ (each & 0xff)) * 0x100000001b3L;
+        }
+        return mix(result);
+    }
+    
+    private static boolean isIntegralLong(final BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() <= 0 && stripped.precision() - stripped.scale() < 19;
+    }
+    
+    private static long mix(final long value) {
+        long result = value;
+        result = (result ^ result >>> 33) * 0xff51afd7ed558ccdL;
+        result = (result ^ result >>> 33) * 0xc4ceb9fe1a85ec53L;
+        return result ^ result >>> 33;
+    }
+}
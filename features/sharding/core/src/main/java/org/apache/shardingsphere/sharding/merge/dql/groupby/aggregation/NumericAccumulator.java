@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Numeric accumulator.
+ *
+ * <p>
+ * Integral values are accumulated into a primitive long, and switch to decimal accumulation only when the long sum overflows
+ * or a non-integral value arrives, so that counting and summing integral columns do not allocate for every merged value.
+ * </p>
+ */
+final class NumericAccumulator {
+    
+    private long longSum;
+    
+    private BigDecimal decimalSum;
+    
+    private boolean accumulated;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        accumulated = true;
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            addLong(((Number) value).longValue());
+            return;
+        }
+        BigDecimal decimalValue = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+        decimalSum = null == decimalSum ? decimalValue : decimalSum.add(decimalValue);
+    }
+    
+    private void addLong(final long value) {
+        long result = longSum + value;
+        if (((longSum ^ result) & (value ^ result)) < 0) {
+            decimalSum = (null == decimalSum ? BigDecimal.valueOf(longSum) : decimalSum.add(BigDecimal.valueOf(longSum))).add(BigDecimal.valueOf(value));
+            longSum = 0L;
+            return;
+        }
+        longSum = result;
+    }
+    
+    /**
+     * Get accumulated result.
+     *
+     * @return accumulated result, null if nothing has been accumulated
+     */
+    BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalSum ? BigDecimal.valueOf(longSum) : decimalSum.add(BigDecimal.valueOf(longSum));
+    }
+}
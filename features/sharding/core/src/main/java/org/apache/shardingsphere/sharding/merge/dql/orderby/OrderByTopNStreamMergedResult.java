@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Stream merged result for order by with limit, which only reads the top N rows from shards.
+ *
+ * <p>
+ * Order by keys are resolved once per row and compared by typed comparators instead of {@link org.apache.shardingsphere.sharding.merge.dql.orderby.CompareUtils#compareTo}.
+ * The shard of the current row is kept out of the heap, so that consecutive rows from the same shard cost one comparison each.
+ * No more rows are read from any shard once the top N rows have been returned.
+ * </p>
+ */
+public final class OrderByTopNStreamMergedResult extends StreamMergedResult {
+    
+    private static final Object INTEGRAL_VALUE = new Object();
+    
+    private final OrderByKey[] orderByKeys;
+    
+    private final Queue<ShardCursor> shardCursors;
+    
+    private ShardCursor currentShardCursor;
+    
+    private long remainingRowCount;
+    
+    private boolean isFirstNext;
+    
+    public OrderByTopNStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                         final ShardingSphereSchema schema, final long topN) throws SQLException {
+        orderByKeys = createOrderByKeys(queryResults.get(0), selectStatementContext, schema);
+        shardCursors = new PriorityQueue<>(queryResults.size(), this::compare);
+        for (QueryResult each : queryResults) {
+            ShardCursor shardCursor = new ShardCursor(each, new Object[orderByKeys.length], new long[orderByKeys.length]);
+            if (next(shardCursor)) {
+                shardCursors.offer(shardCursor);
+            }
+        }
+        currentShardCursor = shardCursors.poll();
+        setCurrentQueryResult(null == currentShardCursor ? queryResults.get(0) : currentShardCursor.queryResult);
+        remainingRowCount = topN;
+        isFirstNext = true;
+    }
+    
+    private OrderByKey[] createOrderByKeys(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        Collection<OrderByItem> orderByItems = selectStatementContext.getOrderByContext().getItems();
+        List<Boolean> orderValuesCaseSensitive = OrderByValue.getOrderValuesCaseSensitive(queryResult, orderByItems, selectStatementContext, schema);
+        OrderByKey[] result = new OrderByKey[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            result[i] = new OrderByKey(each.getIndex(), OrderDirection.DESC == each.getSegment().getOrderDirection(),
+                    NullsOrderType.FIRST == each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), !orderValuesCaseSensitive.get(i));
+            i++;
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null == currentShardCursor || remainingRowCount <= 0L) {
+            stop();
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            remainingRowCount--;
+            return true;
+        }
+        if (!next(currentShardCursor)) {
+            currentShardCursor = shardCursors.poll();
+        } else if (!shardCursors.isEmpty() && compare(currentShardCursor, shardCursors.peek()) > 0) {
+            shardCursors.offer(currentShardCursor);
+            currentShardCursor = shardCursors.poll();
+        }
+        if (null == currentShardCursor) {
+            return false;
+        }
+        setCurrentQueryResult(currentShardCursor.queryResult);
+        remainingRowCount--;
+        return true;
+    }
+    
+    private void stop() {
+        currentShardCursor = null;
+        shardCursors.clear();
+    }
+    
+    private boolean next(final ShardCursor shardCursor) throws SQLException {
+        if (!shardCursor.queryResult.next()) {
+            return false;
+        }
+        for (int i = 0; i < orderByKeys.length; i++) {
+            Object value = shardCursor.queryResult.getValue(orderByKeys[i].index, Object.class);
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                shardCursor.integralValues[i] = ((Number) value).longValue();
+                shardCursor.values[i] = INTEGRAL_VALUE;
+                continue;
+            }
+            ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
+            shardCursor.values[i] = orderByKeys[i].caseInsensitive && value instanceof String ? ((String) value).toUpperCase() : value;
+        }
+        return true;
+    }
+    
+    private int compare(final ShardCursor shardCursor1, final ShardCursor shardCursor2) {
+        for (int i = 0; i < orderByKeys.length; i++) {
+            int result = compare(orderByKeys[i], shardCursor1, shardCursor2, i);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compare(final OrderByKey orderByKey, final ShardCursor shardCursor1, final ShardCursor shardCursor2, final int keyIndex) {
+        Object value1 = shardCursor1.values[keyIndex];
+        Object value2 = shardCursor2.values[keyIndex];
+        if (null == value1 || null == value2) {
+            if (value1 == value2) {
+                return 0;
+            }
+            return (null == value1) == orderByKey.nullsFirst ? -1 : 1;
+        }
+        int result = INTEGRAL_VALUE == value1 && INTEGRAL_VALUE == value2
+                ? Long.compare(shardCursor1.integralValues[keyIndex], shardCursor2.integralValues[keyIndex])
+                : ((Comparable) shardCursor1.getComparableValue(keyIndex)).compareTo(shardCursor2.getComparableValue(keyIndex));
+        return orderByKey.descending ? -result : result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class OrderByKey {
+        
+        private final int index;
+        
+        private final boolean descending;
+        
+        private final boolean nullsFirst;
+        
+        private final boolean caseInsensitive;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ShardCursor {
+        
+        private final QueryResult queryResult;
+        
+        private final Object[] values;
+        
+        private final long[] integralValues;
+        
+        private Object getComparableValue(final int keyIndex) {
+            return INTEGRAL_VALUE == values[keyIndex] ? (Object) integralValues[keyIndex] : values[keyIndex];
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.shardingsphere.ShardingSphereTableStatisticsCollector;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.aggregate.AggregatedDataSourceRuleAttribute;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.metadata.data.dialect.DialectShardingStatisticsTableCollector;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding column statistics collector.
+ *
+ * <p>Collects distinct count, min value and max value of sharding columns for every data node.
+ * By default they are estimated from the first rows of each data node, up to {@code sharding-column-statistics-sample-rows} rows,
+ * and the distinct count is scaled up to the row count reported by the database catalog.
+ * Exact {@code COUNT(DISTINCT)}, {@code MIN} and {@code MAX} are queried if the property is 0.</p>
+ */
+@Slf4j
+public final class ShardingColumnStatisticsCollector implements ShardingSphereTableStatisticsCollector {
+    
+    private static final String FETCH_COLUMN_STATISTICS_SQL = "SELECT COUNT(DISTINCT %s), MIN(%s), MAX(%s) FROM %s";
+    
+    private static final String FETCH_COLUMN_SAMPLE_SQL = "SELECT %s FROM %s";
+    
+    private long currentId = 1;
+    
+    @Override
+    public Collection<Map<String, Object>> collect(final String databaseName, final String schemaName, final String tableName, final ShardingSphereMetaData metaData) throws SQLException {
+        Collection<Map<String, Object>> result = new LinkedList<>();
+        DatabaseType protocolType = metaData.getAllDatabases().iterator().next().getProtocolType();
+        int sampleRows = metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.SHARDING_COLUMN_STATISTICS_SAMPLE_ROWS);
+        currentId = 1;
+        if (new DatabaseTypeRegistry(protocolType).getDialectDatabaseMetaData().getDefaultSchema().isPresent()) {
+            collectFromDatabase(metaData.getDatabase(databaseName), sampleRows, result);
+        } else {
+            for (ShardingSphereDatabase each : metaData.getAllDatabases()) {
+                collectFromDatabase(each, sampleRows, result);
+            }
+        }
+        return result;
+    }
+    
+    private void collectFromDatabase(final ShardingSphereDatabase database, final int sampleRows, final Collection<Map<String, Object>> rows) {
+        Optional<ShardingRule> rule = database.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!rule.isPresent()) {
+            return;
+        }
+        for (ShardingTable each : rule.get().getShardingTables().values()) {
+            for (String columnName : getShardingColumnNames(database, rule.get(), each.getLogicTable())) {
+                boolean partitioned = isPartitioned(rule.get(), each, columnName);
+                for (DataNode dataNode : each.getActualDataNodes()) {
+                    Map<String, Object> rowColumnValues = new CaseInsensitiveMap<>();
+                    rowColumnValues.put("id", currentId++);
+                    rowColumnValues.put("logic_database_name", database.getName());
+                    rowColumnValues.put("logic_table_name", each.getLogicTable());
+                    rowColumnValues.put("column_name", columnName);
+                    rowColumnValues.put("actual_database_name", dataNode.getDataSourceName());
+                    rowColumnValues.put("actual_table_name", dataNode.getTableName());
+                    rowColumnValues.put("partitioned", partitioned);
+                    try {
+                        addColumnStatistics(database.getResourceMetaData().getStorageUnits(), dataNode, columnName, sampleRows, rowColumnValues, rule.get());
+                    } catch (final SQLException ex) {
+                        log.warn("Collect statistics of column `{}` on data node `{}` failed, skip it.", columnName, dataNode.format(), ex);
+                    }
+                    rows.add(rowColumnValues);
+                }
+            }
+        }
+    }
+    
+    private Collection<String> getShardingColumnNames(final ShardingSphereDatabase database, final ShardingRule rule, final String logicTableName) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (ShardingSphereSchema schema : database.getAllSchemas()) {
+            if (!schema.containsTable(logicTableName)) {
+                continue;
+            }
+            for (ShardingSphereColumn each : schema.getTable(logicTableName).getAllColumns()) {
+                rule.findShardingColumn(each.getName(), logicTableName).ifPresent(result::add);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isPartitioned(final ShardingRule rule, final ShardingTable shardingTable, final String columnName) {
+        Map<String, List<DataNode>> dataNodeGroups = shardingTable.getDataNodeGroups();
+        if (dataNodeGroups.size() > 1 && !isStandardShardingColumn(rule, rule.getDatabaseShardingStrategyConfiguration(shardingTable), columnName)) {
+            return false;
+        }
+        return dataNodeGroups.values().stream().allMatch(each -> each.size() <= 1) || isStandardShardingColumn(rule, rule.getTableShardingStrategyConfiguration(shardingTable), columnName);
+    }
+    
+    private boolean isStandardShardingColumn(final ShardingRule rule, final ShardingStrategyConfiguration shardingStrategyConfig, final String columnName) {
+        if (!(shardingStrategyConfig instanceof StandardShardingStrategyConfiguration)) {
+            return false;
+        }
+        String shardingColumn = ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+        return columnName.equalsIgnoreCase(null == shardingColumn ? rule.getDefaultShardingColumn() : shardingColumn);
+    }
+    
+    private void addColumnStatistics(final Map<String, StorageUnit> storageUnits, final DataNode dataNode, final String columnName, final int sampleRows,
+                                     final Map<String, Object> rowColumnValues, final ShardingRule rule) throws SQLException {
+        DataSource dataSource;
+        DatabaseType databaseType;
+        StorageUnit storageUnit = storageUnits.get(dataNode.getDataSourceName());
+        if (null != storageUnit) {
+            dataSource = storageUnit.getDataSource();
+            databaseType = storageUnit.getStorageType();
+        } else {
+            Optional<AggregatedDataSourceRuleAttribute> aggregatedDataSourceRuleAttribute = rule.getAttributes().findAttribute(AggregatedDataSourceRuleAttribute.class);
+            dataSource = aggregatedDataSourceRuleAttribute.map(optional -> optional.getAggregatedDataSources().get(dataNode.getDataSourceName())).orElse(null);
+            databaseType = null != dataSource ? DatabaseTypeEngine.getStorageType(dataSource) : null;
+        }
+        if (null == dataSource || null == databaseType) {
+            return;
+        }
+        QuoteCharacter quoteCharacter = new DatabaseTypeRegistry(databaseType).getDialectDatabaseMetaData().getQuoteCharacter();
+        String column = quoteCharacter.wrap(columnName);
+        String table = quoteCharacter.wrap(dataNode.getTableName());
+        try (Connection connection = dataSource.getConnection()) {
+            if (sampleRows > 0) {
+                addSampledColumnStatistics(connection, databaseType, dataNode, String.format(FETCH_COLUMN_SAMPLE_SQL, column, table), sampleRows, rowColumnValues);
+            } else {
+                addExactColumnStatistics(connection, String.format(FETCH_COLUMN_STATISTICS_SQL, column, column, column, table), rowColumnValues);
+            }
+        }
+    }
+    
+    private void addExactColumnStatistics(final Connection connection, final String sql, final Map<String, Object> rowColumnValues) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            if (resultSet.next()) {
+                rowColumnValues.put("distinct_count", resultSet.getBigDecimal(1));
+                rowColumnValues.put("min_value", resultSet.getString(2));
+                rowColumnValues.put("max_value", resultSet.getString(3));
+            }
+        }
+    }
+    
+    private void addSampledColumnStatistics(final Connection connection, final DatabaseType databaseType, final DataNode dataNode, final String sql, final int sampleRows,
+                                            final Map<String, Object> rowColumnValues) throws SQLException {
+        Map<Object, Integer> valueFrequencies = new HashMap<>();
+        Object minValue = null;
+        Object maxValue = null;
+        int sampledRowCount = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.setMaxRows(sampleRows);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                while (resultSet.next()) {
+                    sampledRowCount++;
+                    Object value = resultSet.getObject(1);
+                    if (null == value) {
+                        continue;
+                    }
+                    valueFrequencies.merge(value, 1, Integer::sum);
+                    minValue = null == minValue || compare(value, minValue) < 0 ? value : minValue;
+                    maxValue = null == maxValue || compare(value, maxValue) > 0 ? value : maxValue;
+                }
+            }
+        }
+        long rowCount = sampledRowCount < sampleRows ? sampledRowCount : Math.max(sampledRowCount, loadRowCount(connection, databaseType, dataNode));
+        rowColumnValues.put("distinct_count", BigDecimal.valueOf(estimateDistinctCount(valueFrequencies, sampledRowCount, rowCount)));
+        rowColumnValues.put("min_value", null == minValue ? null : minValue.toString());
+        rowColumnValues.put("max_value", null == maxValue ? null : maxValue.toString());
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private int compare(final Object value1, final Object value2) {
+        if (value1 instanceof Number && value2 instanceof Number) {
+            return Double.compare(((Number) value1).doubleValue(), ((Number) value2).doubleValue());
+        }
+        if (value1 instanceof Comparable && value1.getClass() == value2.getClass()) {
+            return ((Comparable) value1).compareTo(value2);
+        }
+        return value1.toString().compareTo(value2.toString());
+    }
+    
+    private long loadRowCount(final Connection connection, final DatabaseType databaseType, final DataNode dataNode) throws SQLException {
+        Optional<DialectShardingStatisticsTableCollector> dialectCollector = DatabaseTypedSPILoader.findService(DialectShardingStatisticsTableCollector.class, databaseType);
+        Map<String, Object> tableStatistics = new CaseInsensitiveMap<>();
+        if (!dialectCollector.isPresent() || !dialectCollector.get().appendRow(connection, dataNode, tableStatistics)) {
+            return 0L;
+        }
+        Object result = tableStatistics.get("row_count");
+        return result instanceof Number ? ((Number) result).longValue() : 0L;
+    }
+    
+    // Guaranteed-error estimator of Charikar et al., values seen only once in the sample are scaled up by sqrt(rowCount / sampledRowCount)
+    private long estimateDistinctCount(final Map<Object, Integer> valueFrequencies, final int sampledRowCount, final long rowCount) {
+        if (sampledRowCount >= rowCount) {
+            return valueFrequencies.size();
+        }
+        long singletonCount = valueFrequencies.values().stream().filter(each -> 1 == each).count();
+        double result = Math.sqrt((double) rowCount / sampledRowCount) * singletonCount + valueFrequencies.size() - singletonCount;
+        return Math.min(rowCount, Math.round(result));
+    }
+    
+    @Override
+    public String getSchemaName() {
+        return "shardingsphere";
+    }
+    
+    @Override
+    public String getTableName() {
+        return "sharding_column_statistics";
+    }
+    
+    @Override
+    public String getType() {
+        return "shardingsphere.sharding_column_statistics";
+    }
+}
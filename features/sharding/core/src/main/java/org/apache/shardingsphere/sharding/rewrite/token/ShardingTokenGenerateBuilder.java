@@ -62,10 +62,10 @@ public final class ShardingTokenGenerateBuilder implements SQLTokenGeneratorBuil
     public Collection<SQLTokenGenerator> getSQLTokenGenerators() {
         Collection<SQLTokenGenerator> result = new LinkedList<>();
         addSQLTokenGenerator(result, new ShardingTableTokenGenerator(rule));
-        addSQLTokenGenerator(result, new ShardingDistinctProjectionPrefixTokenGenerator());
-        addSQLTokenGenerator(result, new ShardingProjectionsTokenGenerator());
+        addSQLTokenGenerator(result, new ShardingDistinctProjectionPrefixTokenGenerator(rule));
+        addSQLTokenGenerator(result, new ShardingProjectionsTokenGenerator(rule));
         addSQLTokenGenerator(result, new ShardingOrderByTokenGenerator());
-        addSQLTokenGenerator(result, new ShardingAggregationDistinctTokenGenerator());
+        addSQLTokenGenerator(result, new ShardingAggregationDistinctTokenGenerator(rule));
         addSQLTokenGenerator(result, new ShardingIndexTokenGenerator(rule));
         addSQLTokenGenerator(result, new ShardingConstraintTokenGenerator(rule));
         addSQLTokenGenerator(result, new ShardingOffsetTokenGenerator());
@@ -75,7 +75,7 @@ public final class ShardingTokenGenerateBuilder implements SQLTokenGeneratorBuil
         addSQLTokenGenerator(result, new GeneratedKeyAssignmentTokenGenerator());
         addSQLTokenGenerator(result, new ShardingInsertValuesTokenGenerator());
         addSQLTokenGenerator(result, new GeneratedKeyInsertValuesTokenGenerator());
-        addSQLTokenGenerator(result, new ShardingRemoveTokenGenerator());
+        addSQLTokenGenerator(result, new ShardingRemoveTokenGenerator(rule));
         addSQLTokenGenerator(result, new ShardingCursorTokenGenerator(rule));
         addSQLTokenGenerator(result, new ShardingFetchDirectionTokenGenerator());
         return result;
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
 
 import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.DerivedColumn;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
@@ -25,8 +26,10 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.CollectionSQLTokenGenerator;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.sharding.decider.AggregationDistinctPushDownDecider;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.AggregationDistinctToken;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -35,8 +38,11 @@ import java.util.LinkedList;
  * Sharding aggregation distinct token generator.
  */
 @HighFrequencyInvocation
+@RequiredArgsConstructor
 public final class ShardingAggregationDistinctTokenGenerator implements CollectionSQLTokenGenerator<SQLStatementContext>, IgnoreForSingleRoute {
     
+    private final ShardingRule rule;
+    
     @Override
     public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
         return sqlStatementContext instanceof SelectStatementContext && !((SelectStatementContext) sqlStatementContext).getProjectionsContext().getAggregationDistinctProjections().isEmpty();
@@ -45,15 +51,16 @@ public final class ShardingAggregationDistinctTokenGenerator implements Collecti
     @Override
     public Collection<SQLToken> generateSQLTokens(final SQLStatementContext sqlStatementContext) {
         Collection<SQLToken> result = new LinkedList<>();
+        boolean pushDown = AggregationDistinctPushDownDecider.isPushDown((SelectStatementContext) sqlStatementContext, rule);
         for (AggregationDistinctProjection each : ((SelectStatementContext) sqlStatementContext).getProjectionsContext().getAggregationDistinctProjections()) {
-            result.add(generateSQLToken(each));
+            Preconditions.checkArgument(each.getAlias().isPresent());
+            String derivedAlias = DerivedColumn.isDerivedColumnName(each.getAlias().get().getValue()) ? each.getAlias().get().getValue() : null;
+            if (!pushDown) {
+                result.add(new AggregationDistinctToken(each.getStartIndex(), each.getStopIndex(), each.getDistinctInnerExpression(), derivedAlias));
+            } else if (null != derivedAlias) {
+                result.add(new AggregationDistinctToken(each.getStartIndex(), each.getStopIndex(), each.getExpression(), derivedAlias));
+            }
         }
         return result;
     }
-    
-    private AggregationDistinctToken generateSQLToken(final AggregationDistinctProjection projection) {
-        Preconditions.checkArgument(projection.getAlias().isPresent());
-        String derivedAlias = DerivedColumn.isDerivedColumnName(projection.getAlias().get().getValue()) ? projection.getAlias().get().getValue() : null;
-        return new AggregationDistinctToken(projection.getStartIndex(), projection.getStopIndex(), projection.getDistinctInnerExpression(), derivedAlias);
-    }
 }
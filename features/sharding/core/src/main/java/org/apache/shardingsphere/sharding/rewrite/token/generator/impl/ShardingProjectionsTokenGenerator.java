@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
 
 import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
@@ -34,8 +35,10 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.common.generator.aware.
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.decider.AggregationDistinctPushDownDecider;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.ProjectionsToken;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.OwnerSegment;
@@ -53,9 +56,12 @@ import java.util.stream.Collectors;
  * Sharding projections token generator.
  */
 @HighFrequencyInvocation
+@RequiredArgsConstructor
 @Setter
 public final class ShardingProjectionsTokenGenerator implements OptionalSQLTokenGenerator<SelectStatementContext>, IgnoreForSingleRoute, RouteContextAware {
     
+    private final ShardingRule rule;
+    
     private RouteContext routeContext;
     
     @Override
@@ -80,31 +86,35 @@ public final class ShardingProjectionsTokenGenerator implements OptionalSQLToken
     
     private Map<RouteUnit, Collection<String>> getDerivedProjectionTexts(final SelectStatementContext selectStatementContext) {
         Map<RouteUnit, Collection<String>> result = new HashMap<>(routeContext.getRouteUnits().size(), 1F);
+        boolean aggregationDistinctPushDown = AggregationDistinctPushDownDecider.isPushDown(selectStatementContext, rule);
         for (RouteUnit each : routeContext.getRouteUnits()) {
-            result.put(each, getDerivedProjectionTexts(selectStatementContext, each));
+            result.put(each, getDerivedProjectionTexts(selectStatementContext, each, aggregationDistinctPushDown));
         }
         return result;
     }
     
-    private Collection<String> getDerivedProjectionTexts(final SelectStatementContext selectStatementContext, final RouteUnit routeUnit) {
+    private Collection<String> getDerivedProjectionTexts(final SelectStatementContext selectStatementContext, final RouteUnit routeUnit, final boolean aggregationDistinctPushDown) {
         Collection<String> result = new LinkedList<>();
         for (Projection each : selectStatementContext.getProjectionsContext().getProjections()) {
             if (each instanceof AggregationProjection) {
-                result.addAll(((AggregationProjection) each).getDerivedAggregationProjections().stream().map(this::getDerivedProjectionText).collect(Collectors.toList()));
+                result.addAll(((AggregationProjection) each).getDerivedAggregationProjections().stream()
+                        .map(optional -> getDerivedProjectionText(optional, aggregationDistinctPushDown)).collect(Collectors.toList()));
             } else if (each instanceof DerivedProjection && ((DerivedProjection) each).getDerivedProjectionSegment() instanceof ColumnOrderByItemSegment) {
                 TableExtractor tableExtractor = new TableExtractor();
                 tableExtractor.extractTablesFromSelect(selectStatementContext.getSqlStatement());
                 result.add(getDerivedProjectionText((DerivedProjection) each, tableExtractor, routeUnit, selectStatementContext.getDatabaseType()));
             } else if (each instanceof DerivedProjection) {
-                result.add(getDerivedProjectionText(each));
+                result.add(getDerivedProjectionText(each, false));
             }
         }
         return result;
     }
     
-    private String getDerivedProjectionText(final Projection projection) {
+    private String getDerivedProjectionText(final Projection projection, final boolean aggregationDistinctPushDown) {
         Preconditions.checkState(projection.getAlias().isPresent());
-        String projectionExpression = projection instanceof AggregationDistinctProjection ? ((AggregationDistinctProjection) projection).getDistinctInnerExpression() : projection.getExpression();
+        String projectionExpression = projection instanceof AggregationDistinctProjection && !aggregationDistinctPushDown
+                ? ((AggregationDistinctProjection) projection).getDistinctInnerExpression()
+                : projection.getExpression();
         return projectionExpression + " AS " + projection.getAlias().get().getValue() + " ";
     }
     
@@ -35,6 +35,7 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
 import org.apache.shardingsphere.infra.metadata.database.resource.PhysicalDataSourceAggregator;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCacheRuleAttribute;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datasource.aggregate.AggregatedDataSourceRuleAttribute;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
@@ -141,8 +142,11 @@ public final class ShardingRule implements DatabaseRule {
         // TODO check sharding rule configuration according to aggregated data sources
         Map<String, DataSource> aggregatedDataSources = new RuleMetaData(builtRules).findAttribute(AggregatedDataSourceRuleAttribute.class)
                 .map(AggregatedDataSourceRuleAttribute::getAggregatedDataSources).orElseGet(() -> PhysicalDataSourceAggregator.getAggregatedDataSources(dataSources, builtRules));
-        attributes = new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()),
-                new AggregatedDataSourceRuleAttribute(aggregatedDataSources));
+        attributes = null == shardingCache
+                ? new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()),
+                        new AggregatedDataSourceRuleAttribute(aggregatedDataSources))
+                : new RuleAttributes(new ShardingDataNodeRuleAttribute(shardingTables), new ShardingTableNamesRuleAttribute(shardingTables.values()),
+                        new AggregatedDataSourceRuleAttribute(aggregatedDataSources), new SQLRewritePlanCacheRuleAttribute(shardingCache.getRewritePlanCache()));
         shardingRuleChecker.check(ruleConfig);
     }
     
@@ -464,6 +468,40 @@ public final class ShardingRule implements DatabaseRule {
         return Optional.empty();
     }
     
+    /**
+     * Judge whether rows with same value of given column are always stored in the same data node.
+     *
+     * @param columnName column name
+     * @param tableName table name
+     * @return whether rows with same value of given column are always stored in the same data node
+     */
+    public boolean isDataNodeDeterminedByColumn(final String columnName, final String tableName) {
+        ShardingTable shardingTable = shardingTables.get(tableName);
+        if (null == shardingTable) {
+            return false;
+        }
+        ShardingStrategyConfiguration databaseShardingStrategyConfig = getDatabaseShardingStrategyConfiguration(shardingTable);
+        ShardingStrategyConfiguration tableShardingStrategyConfig = getTableShardingStrategyConfiguration(shardingTable);
+        if (isShardingByColumn(databaseShardingStrategyConfig, columnName)) {
+            return isShardingByColumn(tableShardingStrategyConfig, columnName)
+                    || isNoneSharding(tableShardingStrategyConfig) && shardingTable.getActualDataNodes().size() == shardingTable.getActualDataSourceNames().size();
+        }
+        return isShardingByColumn(tableShardingStrategyConfig, columnName) && isNoneSharding(databaseShardingStrategyConfig)
+                && (1 == shardingTable.getActualDataSourceNames().size() || isActualTableNamesUnique(shardingTable.getActualDataNodes()));
+    }
+    
+    private boolean isShardingByColumn(final ShardingStrategyConfiguration shardingStrategyConfig, final String columnName) {
+        return shardingStrategyConfig instanceof StandardShardingStrategyConfiguration && findShardingColumn(shardingStrategyConfig, columnName).isPresent();
+    }
+    
+    private boolean isActualTableNamesUnique(final Collection<DataNode> dataNodes) {
+        return dataNodes.stream().map(DataNode::getTableName).distinct().count() == dataNodes.size();
+    }
+    
+    private boolean isNoneSharding(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig || shardingStrategyConfig instanceof NoneShardingStrategyConfiguration;
+    }
+    
     /**
      * Judge whether given logic table column is key generated column or not.
      *
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.decider;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationDistinctProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AggregationDistinctPushDownDeciderTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Test
+    void assertIsNotPushDownWithoutAggregationDistinctProjection() {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getProjectionsContext().getAggregationDistinctProjections()).thenReturn(Collections.emptyList());
+        assertFalse(AggregationDistinctPushDownDecider.isPushDown(selectStatementContext, mock(ShardingRule.class)));
+    }
+    
+    @Test
+    void assertIsNotPushDownWithJoinQuery() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(createProjection(AggregationType.COUNT, new ColumnSegment(0, 0, new IdentifierValue("order_id"))));
+        when(selectStatementContext.isContainsJoinQuery()).thenReturn(true);
+        assertFalse(AggregationDistinctPushDownDecider.isPushDown(selectStatementContext, createShardingRule()));
+    }
+    
+    @Test
+    void assertIsNotPushDownWithMultipleTables() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(createProjection(AggregationType.COUNT, new ColumnSegment(0, 0, new IdentifierValue("order_id"))));
+        when(selectStatementContext.getTablesContext().getTableNames()).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        assertFalse(AggregationDistinctPushDownDecider.isPushDown(selectStatementContext, createShardingRule()));
+    }
+    
+    @Test
+    void assertIsNotPushDownWithUnsupportedAggregationType() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(createProjection(AggregationType.GROUP_CONCAT, new ColumnSegment(0, 0, new IdentifierValue("order_id"))));
+        assertFalse(AggregationDistinctPushDownDecider.isPushDown(selectStatementContext, createShardingRule()));
+    }
+    
+    @Test
+    void assertIsNotPushDownWithExpressionParameter() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(createProjection(AggregationType.COUNT, new LiteralExpressionSegment(0, 0, 1)));
+        assertFalse(AggregationDistinctPushDownDecider.isPushDown(selectStatementContext, createShardingRule()));
+    }
+    
+    @Test
+    void assertIsNotPushDownWithNonShardingColumn() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(createProjection(AggregationType.COUNT, new ColumnSegment(0, 0, new IdentifierValue("user_id"))));
+        assertFalse(AggregationDistinctPushDownDecider.isPushDown(selectStatementContext, createShardingRule()));
+    }
+    
+    @Test
+    void assertIsPushDown() {
+        SelectStatementContext selectStatementContext = createSelectStatementContext(createProjection(AggregationType.COUNT, new ColumnSegment(0, 0, new IdentifierValue("order_id"))),
+                createProjection(AggregationType.AVG, new ColumnSegment(0, 0, new IdentifierValue("order_id"))));
+        assertTrue(AggregationDistinctPushDownDecider.isPushDown(selectStatementContext, createShardingRule()));
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final AggregationDistinctProjection... projections) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getProjectionsContext().getAggregationDistinctProjections()).thenReturn(Arrays.asList(projections));
+        when(result.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+        return result;
+    }
+    
+    private AggregationDistinctProjection createProjection(final AggregationType type, final ExpressionSegment parameter) {
+        AggregationProjectionSegment segment = new AggregationDistinctProjectionSegment(0, 0, type, "(DISTINCT order_id)", "order_id");
+        segment.getParameters().add(parameter);
+        return new AggregationDistinctProjection(0, 0, type, segment, null, "order_id", databaseType);
+    }
+    
+    private ShardingRule createShardingRule() {
+        ShardingRule result = mock(ShardingRule.class);
+        when(result.isDataNodeDeterminedByColumn("order_id", "t_order")).thenReturn(true);
+        return result;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationDistinctMergeMode;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationDistinctProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillableMergedResultTest {
+    
+    private static final int GROUP_COUNT = 200;
+    
+    private static final List<String> COLUMN_LABELS = Arrays.asList("COUNT(*)", "AVG(num)", "AGGREGATION_DISTINCT_DERIVED_0", "id", "AVG_DERIVED_COUNT_0", "AVG_DERIVED_SUM_0");
+    
+    @Test
+    void assertNextWithSpilledGroups() throws SQLException {
+        List<List<Object>> expected = mergeAll(0L);
+        assertThat(expected.size(), is(GROUP_COUNT));
+        assertThat(expected.get(0).get(3), is(GROUP_COUNT - 1));
+        assertThat(mergeAll(1L), is(expected));
+        assertThat(mergeAll(4096L), is(expected));
+    }
+    
+    @Test
+    void assertNextWithAllGroupsInMemory() throws SQLException {
+        assertThat(mergeAll(Long.MAX_VALUE), is(mergeAll(0L)));
+    }
+    
+    @Test
+    void assertNextWithUnspillableColumnType() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L, AggregationDistinctMergeMode.EXACT);
+        MergedResult mergedResult = resultMerger.merge(createQueryResults(Types.OTHER, UnserializableValue::new), createSelectStatementContext(),
+                mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), mock(ConnectionContext.class));
+        int actualCount = 0;
+        while (mergedResult.next()) {
+            assertThat(mergedResult.getValue(4, Object.class), is(new UnserializableValue(GROUP_COUNT - 1 - actualCount)));
+            actualCount++;
+        }
+        assertThat(actualCount, is(GROUP_COUNT));
+    }
+    
+    @Test
+    void assertCloseBeforeExhausted() throws SQLException, IOException {
+        long originalTemporaryFileCount = countTemporaryFiles();
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L, AggregationDistinctMergeMode.EXACT);
+        MergedResult mergedResult = resultMerger.merge(createQueryResults(), createSelectStatementContext(), mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), mock(ConnectionContext.class));
+        assertTrue(mergedResult.next());
+        mergedResult.close();
+        assertFalse(mergedResult.next());
+        assertThat(countTemporaryFiles(), is(originalTemporaryFileCount));
+    }
+    
+    @Test
+    void assertGetCalendarValue() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L, AggregationDistinctMergeMode.EXACT);
+        Timestamp timestamp = Timestamp.valueOf("2024-01-01 10:00:00.123456789");
+        MergedResult mergedResult = resultMerger.merge(createQueryResults(Types.TIMESTAMP, each -> new Timestamp(timestamp.getTime() + each * 1000L)), createSelectStatementContext(),
+                mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), mock(ConnectionContext.class));
+        assertTrue(mergedResult.next());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        Timestamp actual = (Timestamp) mergedResult.getCalendarValue(4, Timestamp.class, calendar);
+        Timestamp expected = (Timestamp) mergedResult.getValue(4, Timestamp.class);
+        assertThat(actual.toInstant(), is(expected.toLocalDateTime().toInstant(ZoneOffset.UTC)));
+        assertThat(actual.getNanos(), is(expected.getNanos()));
+        assertThat(mergedResult.getCalendarValue(4, Timestamp.class, null), is(expected));
+    }
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L, AggregationDistinctMergeMode.EXACT);
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(Collections.emptyList()), createQueryResult(Collections.emptyList()));
+        MergedResult actual = resultMerger.merge(queryResults, createSelectStatementContext(), mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), mock(ConnectionContext.class));
+        assertFalse(actual.next());
+    }
+    
+    private List<List<Object>> mergeAll(final long memoryBudget) throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), memoryBudget, AggregationDistinctMergeMode.EXACT);
+        MergedResult mergedResult = resultMerger.merge(createQueryResults(), createSelectStatementContext(), mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS), mock(ConnectionContext.class));
+        List<List<Object>> result = new LinkedList<>();
+        while (mergedResult.next()) {
+            List<Object> row = new ArrayList<>(COLUMN_LABELS.size());
+            for (int i = 1; i <= COLUMN_LABELS.size(); i++) {
+                row.add(mergedResult.getValue(i, Object.class));
+            }
+            result.add(row);
+        }
+        return result;
+    }
+    
+    private long countTemporaryFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).count();
+        }
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        return createQueryResults(Types.NUMERIC, each -> each);
+    }
+    
+    private List<QueryResult> createQueryResults(final int idColumnType, final IntFunction<Object> idFactory) {
+        List<QueryResult> result = new ArrayList<>(3);
+        for (int shard = 0; shard < 3; shard++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(GROUP_COUNT * 2);
+            for (int round = 0; round < 2; round++) {
+                for (int id = 0; id < GROUP_COUNT; id++) {
+                    int groupId = (id * 7 + shard) % GROUP_COUNT;
+                    long count = shard + round + 1;
+                    rows.add(new MemoryQueryResultDataRow(
+                            Arrays.asList(count, null, groupId % 5 + round, idFactory.apply(groupId), count, new BigDecimal(groupId).multiply(BigDecimal.valueOf(count)))));
+                }
+            }
+            result.add(createQueryResult(rows, idColumnType));
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final List<MemoryQueryResultDataRow> rows) {
+        return createQueryResult(rows, Types.NUMERIC);
+    }
+    
+    private QueryResult createQueryResult(final List<MemoryQueryResultDataRow> rows, final int idColumnType) {
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(COLUMN_LABELS.size());
+        for (String each : COLUMN_LABELS) {
+            columns.add("id".equals(each)
+                    ? new RawQueryResultColumnMetaData("", each, each, idColumnType, "OTHER", 20, 0)
+                    : new RawQueryResultColumnMetaData("", each, each, Types.NUMERIC, "NUMERIC", 20, 0));
+        }
+        return new RawMemoryQueryResult(new RawQueryResultMetaData(columns), rows);
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        projectionsSegment.getProjections().add(new AggregationDistinctProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(DISTINCT num)", "num"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 4, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 4, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new SelectStatementContext(
+                new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class UnserializableValue implements Comparable<UnserializableValue> {
+        
+        private final int value;
+        
+        @Override
+        public int compareTo(final UnserializableValue other) {
+            return Integer.compare(value, other.value);
+        }
+    }
+}
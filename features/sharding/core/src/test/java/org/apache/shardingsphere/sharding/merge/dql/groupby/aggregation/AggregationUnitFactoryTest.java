@@ -57,6 +57,20 @@ class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, true, null), instanceOf(DistinctAverageAggregationUnit.class));
     }
     
+    @Test
+    void assertCreateApproximateDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, null, AggregationDistinctMergeMode.APPROXIMATE), instanceOf(ApproximateDistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, null, AggregationDistinctMergeMode.APPROXIMATE), instanceOf(DistinctSumAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, null, AggregationDistinctMergeMode.APPROXIMATE), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreatePreAggregatedDistinctAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, null, AggregationDistinctMergeMode.PRE_AGGREGATED), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, null, AggregationDistinctMergeMode.PRE_AGGREGATED), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, true, null, AggregationDistinctMergeMode.PRE_AGGREGATED), instanceOf(AverageAggregationUnit.class));
+    }
+    
     @Test
     void assertCreateBitXorAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.BIT_XOR, false, null), instanceOf(BitXorAggregationUnit.class));
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApproximateDistinctCountAggregationUnitTest {
+    
+    @Test
+    void assertAggregateWithSmallCardinality() {
+        ApproximateDistinctCountAggregationUnit aggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(Collections.singletonList(1));
+        aggregationUnit.merge(Collections.singletonList(1L));
+        aggregationUnit.merge(Collections.singletonList(new BigDecimal("1.00")));
+        aggregationUnit.merge(Collections.singletonList(2));
+        aggregationUnit.merge(Collections.singletonList("foo"));
+        aggregationUnit.merge(Collections.singletonList("foo"));
+        assertThat(aggregationUnit.getResult(), is(3L));
+    }
+    
+    @Test
+    void assertAggregateWithLargeCardinality() {
+        ApproximateDistinctCountAggregationUnit numericAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        ApproximateDistinctCountAggregationUnit textAggregationUnit = new ApproximateDistinctCountAggregationUnit();
+        for (int round = 0; round < 2; round++) {
+            for (long i = 0L; i < 1000000L; i++) {
+                numericAggregationUnit.merge(Collections.singletonList(i));
+                textAggregationUnit.merge(Collections.singletonList("user_" + i));
+            }
+        }
+        assertEstimated((Long) numericAggregationUnit.getResult(), 1000000L);
+        assertEstimated((Long) textAggregationUnit.getResult(), 1000000L);
+    }
+    
+    private void assertEstimated(final long actual, final long expected) {
+        assertTrue(Math.abs(actual - expected) < expected * 0.03D, String.format("Estimated %d, expected %d.", actual, expected));
+    }
+}
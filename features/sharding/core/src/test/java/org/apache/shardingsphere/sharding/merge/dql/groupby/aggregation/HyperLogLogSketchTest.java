@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogSketchTest {
+    
+    @Test
+    void assertEstimateWithoutValue() {
+        assertThat(new HyperLogLogSketch().estimate(), is(0L));
+    }
+    
+    @Test
+    void assertEstimateWhileSparse() throws ReflectiveOperationException {
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 512; i++) {
+                sketch.add("user_" + i);
+            }
+        }
+        assertThat(sketch.estimate(), is(512L));
+        assertThat(Plugins.getMemberAccessor().get(HyperLogLogSketch.class.getDeclaredField("registers"), sketch), nullValue());
+    }
+    
+    @Test
+    void assertEstimateAfterSwitchingToDense() throws ReflectiveOperationException {
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        for (long i = 0L; i < 10000L; i++) {
+            sketch.add(i);
+        }
+        assertThat(Plugins.getMemberAccessor().get(HyperLogLogSketch.class.getDeclaredField("registers"), sketch), notNullValue());
+        long actual = sketch.estimate();
+        assertTrue(Math.abs(actual - 10000L) < 10000L * 0.03D, String.format("Estimated %d, expected 10000.", actual));
+    }
+}
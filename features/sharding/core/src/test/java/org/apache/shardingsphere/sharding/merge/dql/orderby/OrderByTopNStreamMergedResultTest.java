@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderByTopNStreamMergedResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult());
+        MergedResult actual = new ShardingDQLResultMerger(databaseType).merge(
+                queryResults, createSelectStatementContext(OrderDirection.ASC, NullsOrderType.FIRST, 0L, 10L), createDatabase(), mock(ConnectionContext.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithOffsetAndRowCount() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(spy(createQueryResult(1L, 4L, 7L, 10L)), spy(createQueryResult(2, 5, 8)), spy(createQueryResult(3L, 6L, 9L)));
+        MergedResult actual = new ShardingDQLResultMerger(databaseType).merge(
+                queryResults, createSelectStatementContext(OrderDirection.ASC, NullsOrderType.FIRST, 1L, 3L), createDatabase(), mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(LimitDecoratorMergedResult.class));
+        assertThat(((LimitDecoratorMergedResult) actual).getMergedResult(), instanceOf(OrderByTopNStreamMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(((Number) actual.getValue(1, Object.class)).longValue(), is(2L));
+        assertTrue(actual.next());
+        assertThat(((Number) actual.getValue(1, Object.class)).longValue(), is(3L));
+        assertTrue(actual.next());
+        assertThat(((Number) actual.getValue(1, Object.class)).longValue(), is(4L));
+        assertFalse(actual.next());
+        verify(queryResults.get(0), times(2)).next();
+        verify(queryResults.get(1), times(2)).next();
+        verify(queryResults.get(2), times(2)).next();
+    }
+    
+    @Test
+    void assertNextWithTopNBeyondAllRows() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(9L, 5L, 5L), createQueryResult(8L, 6L), createQueryResult(7L, 1L));
+        MergedResult actual = new OrderByTopNStreamMergedResult(
+                queryResults, createSelectStatementContext(OrderDirection.DESC, NullsOrderType.LAST, 0L, 100L), createSchema(), 100L);
+        for (long each : new long[]{9L, 8L, 7L, 6L, 5L, 5L, 1L}) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(each));
+        }
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithNullValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult(3L, null), createQueryResult(1L, null), createQueryResult(2L));
+        MergedResult actual = new OrderByTopNStreamMergedResult(queryResults, createSelectStatementContext(OrderDirection.ASC, NullsOrderType.LAST, 0L, 3L), createSchema(), 3L);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2L));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(3L));
+        assertFalse(actual.next());
+        actual = new OrderByTopNStreamMergedResult(Arrays.asList(createQueryResult(null, 3L), createQueryResult(null, 1L), createQueryResult(2L)),
+                createSelectStatementContext(OrderDirection.ASC, NullsOrderType.FIRST, 0L, 2L), createSchema(), 2L);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), nullValue());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), nullValue());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForCaseInsensitive() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createQueryResult("a", "C"), createQueryResult("B", "d"));
+        MergedResult actual = new OrderByTopNStreamMergedResult(queryResults, createSelectStatementContext(OrderDirection.ASC, NullsOrderType.FIRST, 0L, 10L), createSchema(), 10L);
+        for (String each : new String[]{"a", "B", "C", "d"}) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(each));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private QueryResult createQueryResult(final Object... values) {
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>(values.length);
+        for (Object each : values) {
+            rows.add(new MemoryQueryResultDataRow(Collections.singletonList(each)));
+        }
+        return new RawMemoryQueryResult(new RawQueryResultMetaData(Collections.singletonList(new RawQueryResultColumnMetaData("tbl", "col1", "col1", Types.BIGINT, "BIGINT", 20, 0))), rows);
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final OrderDirection orderDirection, final NullsOrderType nullsOrderType, final long offset, final long rowCount) {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setFrom(new SimpleTableSegment(new TableNameSegment(10, 13, new IdentifierValue("tbl"))));
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, orderDirection, nullsOrderType))));
+        selectStatement.setLimit(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, offset), new NumberLiteralLimitValueSegment(0, 0, rowCount)));
+        SelectStatementContext result = new SelectStatementContext(createShardingSphereMetaData(), Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+        result.getOrderByContext().getItems().iterator().next().setIndex(1);
+        return result;
+    }
+    
+    private ShardingSphereMetaData createShardingSphereMetaData() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new ShardingSphereMetaData(Collections.singleton(database), mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        return new ShardingSphereDatabase("foo_db", databaseType, mock(ResourceMetaData.class), mock(RuleMetaData.class), Collections.singleton(createSchema()));
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        ShardingSphereColumn column = new ShardingSphereColumn("col1", Types.BIGINT, false, false, false, true, false, true);
+        ShardingSphereTable table = new ShardingSphereTable("tbl", Collections.singletonList(column), Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList());
+    }
+}
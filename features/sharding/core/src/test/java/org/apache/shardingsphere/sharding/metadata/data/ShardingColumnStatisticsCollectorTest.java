@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.DialectTableStatisticsCollector;
+import org.apache.shardingsphere.infra.metadata.statistics.collector.shardingsphere.ShardingSphereTableStatisticsCollector;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingColumnStatisticsCollectorTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    private DialectTableStatisticsCollector statisticsCollector;
+    
+    @BeforeEach
+    void setUp() {
+        statisticsCollector = TypedSPILoader.getService(ShardingSphereTableStatisticsCollector.class, "shardingsphere.sharding_column_statistics");
+    }
+    
+    @Test
+    void assertCollectWithoutShardingRule() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        when(database.getProtocolType()).thenReturn(databaseType);
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                Collections.singleton(database), mock(ResourceMetaData.class), mock(RuleMetaData.class), new ConfigurationProperties(new Properties()));
+        assertTrue(statisticsCollector.collect("foo_db", "shardingsphere", "sharding_column_statistics", metaData).isEmpty());
+    }
+    
+    @Test
+    void assertCollectWithShardingRule() throws SQLException {
+        ShardingRule rule = mockShardingRule();
+        ShardingSphereMetaData metaData = createMetaData(rule, mockExactStorageUnit(), PropertiesBuilder.build(new Property("sharding-column-statistics-sample-rows", "0")));
+        Collection<Map<String, Object>> actual = statisticsCollector.collect("foo_db", "shardingsphere", "sharding_column_statistics", metaData);
+        assertThat(actual.size(), is(2));
+        Iterator<Map<String, Object>> iterator = actual.iterator();
+        Map<String, Object> firstRow = iterator.next();
+        assertThat(firstRow.get("id"), is(1L));
+        assertThat(firstRow.get("logic_table_name"), is("foo_tbl"));
+        assertThat(firstRow.get("column_name"), is("user_id"));
+        assertThat(firstRow.get("actual_database_name"), is("ds_0"));
+        assertThat(firstRow.get("partitioned"), is(false));
+        assertThat(firstRow.get("distinct_count"), is(new BigDecimal("10")));
+        assertThat(firstRow.get("min_value"), is("1"));
+        assertThat(firstRow.get("max_value"), is("100"));
+        Map<String, Object> secondRow = iterator.next();
+        assertThat(secondRow.get("actual_database_name"), is("ds_1"));
+        assertThat(secondRow.containsKey("distinct_count"), is(false));
+    }
+    
+    @Test
+    void assertCollectWithSampledRows() throws SQLException {
+        ShardingRule rule = mockShardingRule();
+        when(rule.getDatabaseShardingStrategyConfiguration(any(ShardingTable.class))).thenReturn(new StandardShardingStrategyConfiguration("user_id", "foo_algo"));
+        ShardingSphereMetaData metaData = createMetaData(rule, mockSampledStorageUnit(databaseType, 1, 5, 1), new Properties());
+        Map<String, Object> actual = statisticsCollector.collect("foo_db", "shardingsphere", "sharding_column_statistics", metaData).iterator().next();
+        assertThat(actual.get("partitioned"), is(true));
+        assertThat(actual.get("distinct_count"), is(new BigDecimal("2")));
+        assertThat(actual.get("min_value"), is("1"));
+        assertThat(actual.get("max_value"), is("5"));
+    }
+    
+    @Test
+    void assertCollectWithEstimatedDistinctCount() throws SQLException {
+        StorageUnit storageUnit = mockSampledStorageUnit(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1, 2, 3, 3);
+        ResultSet tableStatisticsResultSet = mock(ResultSet.class);
+        when(tableStatisticsResultSet.next()).thenReturn(true);
+        when(tableStatisticsResultSet.getBigDecimal("TABLE_ROWS")).thenReturn(new BigDecimal("400"));
+        when(storageUnit.getDataSource().getConnection().prepareStatement(anyString()).executeQuery()).thenReturn(tableStatisticsResultSet);
+        ShardingSphereMetaData metaData = createMetaData(mockShardingRule(), storageUnit, PropertiesBuilder.build(new Property("sharding-column-statistics-sample-rows", "4")));
+        Map<String, Object> actual = statisticsCollector.collect("foo_db", "shardingsphere", "sharding_column_statistics", metaData).iterator().next();
+        assertThat(actual.get("distinct_count"), is(new BigDecimal("21")));
+    }
+    
+    @Test
+    void assertCollectWithFailedDataNode() throws SQLException {
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(storageUnit.getStorageType()).thenReturn(databaseType);
+        when(storageUnit.getDataSource().getConnection()).thenThrow(SQLException.class);
+        ShardingSphereMetaData metaData = createMetaData(mockShardingRule(), storageUnit, new Properties());
+        Collection<Map<String, Object>> actual = statisticsCollector.collect("foo_db", "shardingsphere", "sharding_column_statistics", metaData);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.iterator().next().containsKey("distinct_count"), is(false));
+    }
+    
+    private ShardingRule mockShardingRule() {
+        ShardingRule result = mock(ShardingRule.class);
+        when(result.getShardingTables()).thenReturn(Collections.singletonMap("foo_tbl", new ShardingTable(Arrays.asList("ds_0", "ds_1"), "foo_tbl")));
+        when(result.findShardingColumn("user_id", "foo_tbl")).thenReturn(Optional.of("user_id"));
+        when(result.findShardingColumn("status", "foo_tbl")).thenReturn(Optional.empty());
+        when(result.getAttributes()).thenReturn(new RuleAttributes());
+        return result;
+    }
+    
+    private ShardingSphereMetaData createMetaData(final ShardingRule rule, final StorageUnit storageUnit, final Properties props) {
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Arrays.asList(new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", databaseType, new ResourceMetaData(Collections.emptyMap(), Collections.singletonMap("ds_0", storageUnit)),
+                new RuleMetaData(Collections.singleton(rule)), Collections.singleton(new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList())));
+        return new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), new ConfigurationProperties(props));
+    }
+    
+    private StorageUnit mockExactStorageUnit() throws SQLException {
+        StorageUnit result = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(result.getStorageType()).thenReturn(databaseType);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("10"));
+        when(resultSet.getString(2)).thenReturn("1");
+        when(resultSet.getString(3)).thenReturn("100");
+        when(result.getDataSource().getConnection().createStatement().executeQuery(anyString())).thenReturn(resultSet);
+        return result;
+    }
+    
+    private StorageUnit mockSampledStorageUnit(final DatabaseType storageType, final Object... values) throws SQLException {
+        StorageUnit result = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        when(result.getStorageType()).thenReturn(storageType);
+        ResultSet resultSet = mock(ResultSet.class);
+        AtomicInteger index = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(invocation -> index.incrementAndGet() < values.length);
+        when(resultSet.getObject(1)).thenAnswer(invocation -> values[index.get()]);
+        when(result.getDataSource().getConnection().createStatement().executeQuery(anyString())).thenReturn(resultSet);
+        return result;
+    }
+}
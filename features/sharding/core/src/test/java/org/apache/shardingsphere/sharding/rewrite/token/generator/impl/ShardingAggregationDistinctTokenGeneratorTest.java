@@ -21,6 +21,11 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.projection.
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationDistinctProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
 import org.junit.jupiter.api.Test;
 
@@ -39,7 +44,7 @@ import static org.mockito.Mockito.when;
 
 class ShardingAggregationDistinctTokenGeneratorTest {
     
-    private final ShardingAggregationDistinctTokenGenerator generator = new ShardingAggregationDistinctTokenGenerator();
+    private final ShardingAggregationDistinctTokenGenerator generator = new ShardingAggregationDistinctTokenGenerator(mock(ShardingRule.class));
     
     @Test
     void assertIsNotGenerateSQLTokenWithNotSelectStatementContext() {
@@ -79,4 +84,22 @@ class ShardingAggregationDistinctTokenGeneratorTest {
         List<SQLToken> actual = new ArrayList<>(generator.generateSQLTokens(selectStatementContext));
         assertThat(actual.get(0).toString(), is("TEST_DISTINCT_INNER_EXPRESSION"));
     }
+    
+    @Test
+    void assertGenerateSQLTokenWithPushDown() {
+        AggregationProjectionSegment aggregationSegment = new AggregationDistinctProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(DISTINCT order_id)", "order_id");
+        aggregationSegment.getParameters().add(new ColumnSegment(0, 0, new IdentifierValue("order_id")));
+        AggregationDistinctProjection aggregationDistinctProjection = mock(AggregationDistinctProjection.class);
+        when(aggregationDistinctProjection.getType()).thenReturn(AggregationType.COUNT);
+        when(aggregationDistinctProjection.getAggregationSegment()).thenReturn(aggregationSegment);
+        when(aggregationDistinctProjection.getExpression()).thenReturn("COUNT(DISTINCT order_id)");
+        when(aggregationDistinctProjection.getAlias()).thenReturn(Optional.of(new IdentifierValue("AGGREGATION_DISTINCT_DERIVED_0")));
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getProjectionsContext().getAggregationDistinctProjections()).thenReturn(Collections.singleton(aggregationDistinctProjection));
+        when(selectStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+        ShardingRule rule = mock(ShardingRule.class);
+        when(rule.isDataNodeDeterminedByColumn("order_id", "t_order")).thenReturn(true);
+        List<SQLToken> actual = new ArrayList<>(new ShardingAggregationDistinctTokenGenerator(rule).generateSQLTokens(selectStatementContext));
+        assertThat(actual.get(0).toString(), is("COUNT(DISTINCT order_id) AS AGGREGATION_DISTINCT_DERIVED_0"));
+    }
 }
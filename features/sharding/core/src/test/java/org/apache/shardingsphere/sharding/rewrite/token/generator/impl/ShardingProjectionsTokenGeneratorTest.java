@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sharding.rewrite.token.pojo.ProjectionsToken;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
@@ -70,7 +71,7 @@ class ShardingProjectionsTokenGeneratorTest {
     private ShardingProjectionsTokenGenerator createProjectionsTokenGenerator() {
         RouteContext routeContext = new RouteContext();
         routeContext.getRouteUnits().add(routeUnit);
-        ShardingProjectionsTokenGenerator result = new ShardingProjectionsTokenGenerator();
+        ShardingProjectionsTokenGenerator result = new ShardingProjectionsTokenGenerator(mock(ShardingRule.class));
         result.setRouteContext(routeContext);
         return result;
     }
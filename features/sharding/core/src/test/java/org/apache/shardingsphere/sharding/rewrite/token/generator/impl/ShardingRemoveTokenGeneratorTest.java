@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.generic.RemoveToken;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationDistinctProjectionSegment;
@@ -50,7 +51,7 @@ import static org.mockito.Mockito.when;
 
 class ShardingRemoveTokenGeneratorTest {
     
-    private final ShardingRemoveTokenGenerator generator = new ShardingRemoveTokenGenerator();
+    private final ShardingRemoveTokenGenerator generator = new ShardingRemoveTokenGenerator(mock(ShardingRule.class));
     
     @Test
     void assertIsGenerateSQLTokenWithNotSelectStatement() {
@@ -605,6 +605,57 @@ class ShardingRuleTest {
         assertThat(actual.get(), is("COLUMN1"));
     }
     
+    @Test
+    void assertIsDataNodeDeterminedByColumnWithDatabaseAndTableStrategies() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("column", "core_standard_fixture"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("column", "core_standard_fixture"));
+        shardingRuleConfig.getTables().add(tableRuleConfig);
+        shardingRuleConfig.getShardingAlgorithms().put("core_standard_fixture", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), Collections.emptyList());
+        assertTrue(actual.isDataNodeDeterminedByColumn("COLUMN", "logic_table"));
+        assertFalse(actual.isDataNodeDeterminedByColumn("other_column", "logic_table"));
+        assertFalse(actual.isDataNodeDeterminedByColumn("column", "other_table"));
+    }
+    
+    @Test
+    void assertIsDataNodeDeterminedByColumnWithDatabaseStrategyOnly() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_0");
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("column", "core_standard_fixture"));
+        tableRuleConfig.setTableShardingStrategy(new NoneShardingStrategyConfiguration());
+        shardingRuleConfig.getTables().add(tableRuleConfig);
+        ShardingTableRuleConfiguration multiTableRuleConfig = new ShardingTableRuleConfiguration("MULTI_TABLE", "ds_${0..1}.multi_table_${0..2}");
+        multiTableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("column", "core_standard_fixture"));
+        multiTableRuleConfig.setTableShardingStrategy(new NoneShardingStrategyConfiguration());
+        shardingRuleConfig.getTables().add(multiTableRuleConfig);
+        shardingRuleConfig.getShardingAlgorithms().put("core_standard_fixture", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), Collections.emptyList());
+        assertTrue(actual.isDataNodeDeterminedByColumn("column", "logic_table"));
+        assertFalse(actual.isDataNodeDeterminedByColumn("column", "multi_table"));
+    }
+    
+    @Test
+    void assertIsDataNodeDeterminedByColumnWithTableStrategyOnly() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithTableStrategies());
+        ShardingTableRuleConfiguration uniqueTableRuleConfig = new ShardingTableRuleConfiguration("UNIQUE_TABLE", "ds_0.unique_table_0,ds_1.unique_table_1");
+        uniqueTableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("column", "core_standard_fixture"));
+        shardingRuleConfig.getTables().add(uniqueTableRuleConfig);
+        shardingRuleConfig.getShardingAlgorithms().put("core_standard_fixture", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), Collections.emptyList());
+        assertFalse(actual.isDataNodeDeterminedByColumn("column", "logic_table"));
+        assertTrue(actual.isDataNodeDeterminedByColumn("column", "unique_table"));
+    }
+    
+    @Test
+    void assertIsNotDataNodeDeterminedByColumnWithComplexStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithComplexStrategies());
+        assertFalse(new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), Collections.emptyList()).isDataNodeDeterminedByColumn("column1", "LOGIC_TABLE"));
+    }
+    
     private ShardingTableRuleConfiguration createTableRuleConfigWithComplexStrategies() {
         ShardingTableRuleConfiguration result = new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
         result.setDatabaseShardingStrategy(new ComplexShardingStrategyConfiguration("COLUMN1,COLUMN2", "CORE.COMPLEX.FIXTURE"));
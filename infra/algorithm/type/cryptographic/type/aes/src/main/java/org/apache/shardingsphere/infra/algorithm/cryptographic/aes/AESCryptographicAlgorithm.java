@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.algorithm.cryptographic.aes;
 
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.algorithm.cryptographic.core.CryptographicAlgorithm;
 import org.apache.shardingsphere.infra.algorithm.cryptographic.core.CryptographicPropertiesProvider;
@@ -28,17 +29,32 @@ import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.util.Base64;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * AES cryptographic algorithm.
+ *
+ * <p>
+ * Cipher is not thread safe, initialized ciphers are borrowed from a bounded pool per algorithm instance and returned after each value.
+ * Pooled ciphers are released when the algorithm is closed.
+ * </p>
  */
-public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
+public final class AESCryptographicAlgorithm implements CryptographicAlgorithm, AutoCloseable {
+    
+    private static final int MAX_POOLED_CIPHERS = Runtime.getRuntime().availableProcessors() * 2;
     
-    private CryptographicPropertiesProvider propsProvider;
+    private CipherPool encryptCiphers;
+    
+    private CipherPool decryptCiphers;
     
     @Override
     public void init(final Properties props) {
-        propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        CryptographicPropertiesProvider propsProvider = TypedSPILoader.getService(CryptographicPropertiesProvider.class, "DEFAULT", props);
+        SecretKeySpec secretKeySpec = new SecretKeySpec(propsProvider.getSecretKey(), getType());
+        encryptCiphers = new CipherPool(Cipher.ENCRYPT_MODE, secretKeySpec);
+        decryptCiphers = new CipherPool(Cipher.DECRYPT_MODE, secretKeySpec);
     }
     
     @SneakyThrows(GeneralSecurityException.class)
@@ -47,7 +63,7 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = encryptCiphers.doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return encode(result);
     }
     
@@ -61,7 +77,7 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(decode(cipherValue.toString().trim()));
+        byte[] result = decryptCiphers.doFinal(decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
@@ -69,14 +85,62 @@ public final class AESCryptographicAlgorithm implements CryptographicAlgorithm {
         return Base64.getDecoder().decode(value);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(propsProvider.getSecretKey(), getType()));
-        return result;
-    }
-    
     @Override
     public String getType() {
         return "AES";
     }
+    
+    @Override
+    public void close() {
+        if (null != encryptCiphers) {
+            encryptCiphers.clear();
+        }
+        if (null != decryptCiphers) {
+            decryptCiphers.clear();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CipherPool {
+        
+        private final int cipherMode;
+        
+        private final SecretKeySpec secretKeySpec;
+        
+        private final Queue<Cipher> ciphers = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicInteger size = new AtomicInteger();
+        
+        private byte[] doFinal(final byte[] input) throws GeneralSecurityException {
+            Cipher cipher = borrow();
+            byte[] result = cipher.doFinal(input);
+            release(cipher);
+            return result;
+        }
+        
+        private Cipher borrow() throws GeneralSecurityException {
+            Cipher result = ciphers.poll();
+            if (null != result) {
+                size.decrementAndGet();
+                return result;
+            }
+            result = Cipher.getInstance(secretKeySpec.getAlgorithm());
+            result.init(cipherMode, secretKeySpec);
+            return result;
+        }
+        
+        private void release(final Cipher cipher) {
+            if (size.incrementAndGet() > MAX_POOLED_CIPHERS) {
+                size.decrementAndGet();
+                return;
+            }
+            ciphers.offer(cipher);
+        }
+        
+        private void clear() {
+            while (null != ciphers.poll()) {
+                size.decrementAndGet();
+            }
+        }
+    }
 }
@@ -24,11 +24,21 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import javax.crypto.IllegalBlockSizeException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AESCryptographicAlgorithmTest {
     
@@ -71,6 +81,43 @@ class AESCryptographicAlgorithmTest {
         assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
     }
     
+    @Test
+    void assertDecryptAfterDecryptFailed() {
+        assertThrows(IllegalBlockSizeException.class, () -> cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKF"));
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+    }
+    
+    @Test
+    void assertDecryptConcurrently() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Collection<Future<Object>> futures = new LinkedList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executorService.submit(() -> cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt("test"))));
+            }
+            for (Future<Object> each : futures) {
+                assertThat(each.get(), is("test"));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    void assertClose() throws ReflectiveOperationException {
+        assertThat(cryptographicAlgorithm.decrypt(cryptographicAlgorithm.encrypt("test")), is("test"));
+        assertThat(getPooledCiphers("decryptCiphers").size(), is(1));
+        ((AESCryptographicAlgorithm) cryptographicAlgorithm).close();
+        assertTrue(getPooledCiphers("encryptCiphers").isEmpty());
+        assertTrue(getPooledCiphers("decryptCiphers").isEmpty());
+        assertThat(cryptographicAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA=="), is("test"));
+    }
+    
+    private Collection<?> getPooledCiphers(final String poolFieldName) throws ReflectiveOperationException {
+        Object pool = Plugins.getMemberAccessor().get(AESCryptographicAlgorithm.class.getDeclaredField(poolFieldName), cryptographicAlgorithm);
+        return (Collection<?>) Plugins.getMemberAccessor().get(pool.getClass().getDeclaredField("ciphers"), pool);
+    }
+    
     @Test
     void assertDecryptNullValue() {
         assertNull(cryptographicAlgorithm.decrypt(null));
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Key ranges, which hold generated keys as primitive ranges instead of boxed keys.
+ */
+final class KeyRanges extends AbstractCollection<Long> {
+    
+    private long[] firstKeys = new long[1];
+    
+    private int[] counts = new int[1];
+    
+    private int rangeCount;
+    
+    private int size;
+    
+    /**
+     * Add key range.
+     *
+     * @param firstKey first key of range
+     * @param count count of keys in range
+     */
+    void add(final long firstKey, final int count) {
+        size += count;
+        if (rangeCount > 0 && firstKeys[rangeCount - 1] + counts[rangeCount - 1] == firstKey) {
+            counts[rangeCount - 1] += count;
+            return;
+        }
+        if (rangeCount == firstKeys.length) {
+            firstKeys = Arrays.copyOf(firstKeys, rangeCount << 1);
+            counts = Arrays.copyOf(counts, rangeCount << 1);
+        }
+        firstKeys[rangeCount] = firstKey;
+        counts[rangeCount] = count;
+        rangeCount++;
+    }
+    
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<Long>() {
+            
+            private int rangeIndex;
+            
+            private int offset;
+            
+            @Override
+            public boolean hasNext() {
+                return rangeIndex < rangeCount;
+            }
+            
+            @Override
+            public Long next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                long result = firstKeys[rangeIndex] + offset;
+                if (++offset == counts[rangeIndex]) {
+                    rangeIndex++;
+                    offset = 0;
+                }
+                return result;
+            }
+        };
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+}
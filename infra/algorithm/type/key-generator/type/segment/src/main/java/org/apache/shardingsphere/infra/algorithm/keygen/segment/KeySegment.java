@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Key segment.
+ */
+final class KeySegment {
+    
+    private final long upperBound;
+    
+    private final long prefetchThreshold;
+    
+    private final AtomicLong cursor;
+    
+    private final AtomicBoolean prefetched = new AtomicBoolean();
+    
+    KeySegment(final long firstKey, final int size, final int prefetchThresholdPercent) {
+        upperBound = firstKey + size;
+        prefetchThreshold = firstKey + (long) size * prefetchThresholdPercent / 100L;
+        cursor = new AtomicLong(firstKey);
+    }
+    
+    /**
+     * Acquire keys.
+     *
+     * @param count count of keys to be acquired
+     * @param keyRanges key ranges to hold acquired keys
+     * @return acquired count, which is less than expected count if segment is exhausted
+     */
+    int acquire(final int count, final KeyRanges keyRanges) {
+        long firstKey = cursor.getAndAdd(count);
+        if (firstKey >= upperBound) {
+            return 0;
+        }
+        int result = (int) Math.min(count, upperBound - firstKey);
+        keyRanges.add(firstKey, result);
+        return result;
+    }
+    
+    /**
+     * Judge whether next segment should be prefetched.
+     *
+     * @return whether next segment should be prefetched
+     */
+    boolean isPrefetchRequired() {
+        return cursor.get() >= prefetchThreshold && !prefetched.get();
+    }
+    
+    /**
+     * Mark next segment is prefetched.
+     *
+     * @return whether marked by current invocation
+     */
+    boolean markPrefetched() {
+        return prefetched.compareAndSet(false, true);
+    }
+}
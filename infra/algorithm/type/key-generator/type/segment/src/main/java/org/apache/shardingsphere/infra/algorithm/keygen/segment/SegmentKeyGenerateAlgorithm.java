@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Segment key generate algorithm.
+ *
+ * <pre>
+ *     Keys are leased from mode repository in segments, and handed out from local segment without lock.
+ *     Next segment is prefetched in background when current segment is consumed over prefetch threshold.
+ *     Unused keys of leased segments are skipped after restart, so generated keys are unique but not continuous.
+ *     Durable key segment allocator is required, because keys would be duplicated after restart otherwise.
+ * </pre>
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
+    
+    private static final String SEGMENT_NAME_KEY = "segment-name";
+    
+    private static final String SEGMENT_SIZE_KEY = "segment-size";
+    
+    private static final String PREFETCH_THRESHOLD_PERCENT_KEY = "prefetch-threshold-percent";
+    
+    private static final String DEFAULT_SEGMENT_NAME = "default";
+    
+    private static final int DEFAULT_SEGMENT_SIZE = 1000;
+    
+    private static final int DEFAULT_PREFETCH_THRESHOLD_PERCENT = 80;
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-KeySegment-Prefetch-%d").build());
+    
+    private final AtomicReference<ComputeNodeInstanceContext> computeNodeInstanceContext = new AtomicReference<>();
+    
+    private String segmentName;
+    
+    private int segmentSize;
+    
+    private int prefetchThresholdPercent;
+    
+    private volatile KeySegment currentSegment;
+    
+    private CompletableFuture<KeySegment> nextSegment;
+    
+    @Override
+    public void init(final Properties props) {
+        segmentName = getSegmentName(props);
+        segmentSize = getSegmentSize(props);
+        prefetchThresholdPercent = getPrefetchThresholdPercent(props);
+        currentSegment = new KeySegment(0L, 0, prefetchThresholdPercent);
+    }
+    
+    private String getSegmentName(final Properties props) {
+        String result = props.getProperty(SEGMENT_NAME_KEY, DEFAULT_SEGMENT_NAME);
+        ShardingSpherePreconditions.checkState(!Strings.isNullOrEmpty(result), () -> new AlgorithmInitializationException(this, "Segment name can not be empty."));
+        return result;
+    }
+    
+    private int getSegmentSize(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(SEGMENT_SIZE_KEY, DEFAULT_SEGMENT_SIZE).toString());
+        ShardingSpherePreconditions.checkState(result > 0, () -> new AlgorithmInitializationException(this, "Illegal segment size."));
+        return result;
+    }
+    
+    private int getPrefetchThresholdPercent(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(PREFETCH_THRESHOLD_PERCENT_KEY, DEFAULT_PREFETCH_THRESHOLD_PERCENT).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result <= 100, () -> new AlgorithmInitializationException(this, "Illegal prefetch threshold percent."));
+        return result;
+    }
+    
+    @Override
+    public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        ShardingSpherePreconditions.checkState(computeNodeInstanceContext.isKeySegmentAllocatorDurable(),
+                () -> new AlgorithmInitializationException(this, "Key segment allocator is not initialized or not durable, please use cluster mode or standalone mode with durable repository."));
+        this.computeNodeInstanceContext.set(computeNodeInstanceContext);
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        KeyRanges result = new KeyRanges();
+        int remainingCount = keyGenerateCount;
+        while (remainingCount > 0) {
+            KeySegment segment = currentSegment;
+            remainingCount -= segment.acquire(remainingCount, result);
+            if (segment.isPrefetchRequired()) {
+                prefetchNextSegment(segment);
+            }
+            if (remainingCount > 0) {
+                switchToNextSegment(segment);
+            }
+        }
+        return result;
+    }
+    
+    private synchronized void prefetchNextSegment(final KeySegment segment) {
+        if (segment.markPrefetched()) {
+            nextSegment = CompletableFuture.supplyAsync(this::allocateSegment, PREFETCH_EXECUTOR);
+        }
+    }
+    
+    private synchronized void switchToNextSegment(final KeySegment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
+        }
+        prefetchNextSegment(exhaustedSegment);
+        currentSegment = awaitNextSegment();
+        nextSegment = null;
+    }
+    
+    private KeySegment awaitNextSegment() {
+        try {
+            return nextSegment.join();
+        } catch (final CompletionException ignored) {
+            return allocateSegment();
+        }
+    }
+    
+    private KeySegment allocateSegment() {
+        ComputeNodeInstanceContext context = computeNodeInstanceContext.get();
+        ShardingSpherePreconditions.checkNotNull(context, () -> new AlgorithmExecuteException(this, "Compute node instance context is required to allocate key segment '%s'", segmentName));
+        return new KeySegment(context.allocateKeySegment(segmentName, segmentSize), segmentSize, prefetchThresholdPercent);
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+}
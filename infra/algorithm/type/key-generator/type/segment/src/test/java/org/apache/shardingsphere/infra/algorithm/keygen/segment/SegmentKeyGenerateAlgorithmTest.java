@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SegmentKeyGenerateAlgorithmTest {
+    
+    @Test
+    void assertGenerateKeysWithoutComputeNodeInstanceContext() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("segment-size", "10")));
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
+    @Test
+    void assertSetComputeNodeInstanceContextWithoutDurableKeySegmentAllocator() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("segment-size", "10")));
+        assertThrows(AlgorithmInitializationException.class, () -> ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(mock(ComputeNodeInstanceContext.class)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithComputeNodeInstanceContext() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT",
+                PropertiesBuilder.build(new Property("segment-name", "foo_segment"), new Property("segment-size", "10")));
+        ComputeNodeInstanceContext computeNodeInstanceContext = createComputeNodeInstanceContext();
+        when(computeNodeInstanceContext.allocateKeySegment("foo_segment", 10)).thenReturn(101L, 201L, 301L);
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 10)), is(createExpectedKeys(101L, 110L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 12)), is(createExpectedKeys(201L, 210L, 301L, 302L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWhenPrefetchFailed() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT",
+                PropertiesBuilder.build(new Property("segment-name", "foo_segment"), new Property("segment-size", "10")));
+        ComputeNodeInstanceContext computeNodeInstanceContext = createComputeNodeInstanceContext();
+        when(computeNodeInstanceContext.allocateKeySegment("foo_segment", 10)).thenThrow(IllegalStateException.class).thenReturn(1L);
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 3)), is(createExpectedKeys(1L, 3L)));
+    }
+    
+    @Test
+    void assertGenerateKeysConcurrently() throws ExecutionException, InterruptedException {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("segment-size", "100")));
+        ComputeNodeInstanceContext computeNodeInstanceContext = createComputeNodeInstanceContext();
+        AtomicLong allocatedMaxKey = new AtomicLong();
+        when(computeNodeInstanceContext.allocateKeySegment("default", 100)).thenAnswer(invocation -> allocatedMaxKey.getAndAdd(100L) + 1L);
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        int threadCount = 8;
+        int taskCount = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        Set<Object> actual = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            futures.add(executor.submit(() -> actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 37))));
+        }
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskCount * 37));
+    }
+    
+    @Test
+    void assertInitWithEmptySegmentName() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("segment-name", ""))).generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
+    @Test
+    void assertInitWithIllegalSegmentSize() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("segment-size", "0"))).generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
+    @Test
+    void assertInitWithIllegalPrefetchThresholdPercent() {
+        Properties props = PropertiesBuilder.build(new Property("prefetch-threshold-percent", "101"));
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", props).generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
+    private ComputeNodeInstanceContext createComputeNodeInstanceContext() {
+        ComputeNodeInstanceContext result = mock(ComputeNodeInstanceContext.class);
+        when(result.isKeySegmentAllocatorDurable()).thenReturn(true);
+        return result;
+    }
+    
+    private List<Long> createExpectedKeys(final long... bounds) {
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < bounds.length; i += 2) {
+            result.addAll(LongStream.rangeClosed(bounds[i], bounds[i + 1]).boxed().collect(Collectors.toList()));
+        }
+        return result;
+    }
+}
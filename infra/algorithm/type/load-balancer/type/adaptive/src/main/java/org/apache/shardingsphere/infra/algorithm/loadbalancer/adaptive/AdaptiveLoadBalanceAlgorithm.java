@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive load balance algorithm.
+ *
+ * <p>
+ * Picks two targets randomly and routes to the one with lower load, which is estimated by moving average of latency and in flight executions of target.
+ * Target without finished execution is estimated by mean latency of other targets, or initial latency if no target has finished execution.
+ * </p>
+ */
+public final class AdaptiveLoadBalanceAlgorithm implements DatabaseNameAwareLoadBalanceAlgorithm, AutoCloseable {
+    
+    private static final String INITIAL_LATENCY_MILLIS_KEY = "initial-latency-millis";
+    
+    private static final long DEFAULT_INITIAL_LATENCY_MILLIS = 10L;
+    
+    private long initialLatencyNanos;
+    
+    private String databaseName;
+    
+    @Override
+    public void init(final Properties props) {
+        long initialLatencyMillis = getInitialLatencyMillis(props);
+        ShardingSpherePreconditions.checkState(initialLatencyMillis > 0L, () -> new AlgorithmInitializationException(this, "Initial latency millis should be positive."));
+        initialLatencyNanos = TimeUnit.MILLISECONDS.toNanos(initialLatencyMillis);
+    }
+    
+    private long getInitialLatencyMillis(final Properties props) {
+        String value = props.getProperty(INITIAL_LATENCY_MILLIS_KEY, String.valueOf(DEFAULT_INITIAL_LATENCY_MILLIS));
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException ex) {
+            throw new AlgorithmInitializationException(this, "Initial latency millis `%s` should be number.", value);
+        }
+    }
+    
+    @Override
+    public void setDatabaseName(final String databaseName) {
+        this.databaseName = databaseName;
+        TargetExecutionStatisticsRegistry.register(databaseName);
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = (firstIndex + 1 + random.nextInt(size - 1)) % size;
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        TargetExecutionStatistics firstStatistics = TargetExecutionStatisticsRegistry.get(databaseName, firstTargetName);
+        TargetExecutionStatistics secondStatistics = TargetExecutionStatisticsRegistry.get(databaseName, secondTargetName);
+        long defaultLatencyNanos = firstStatistics.isSampled() && secondStatistics.isSampled() ? 0L : getMeanLatencyNanos(availableTargetNames);
+        return firstStatistics.getLoad(defaultLatencyNanos) <= secondStatistics.getLoad(defaultLatencyNanos) ? firstTargetName : secondTargetName;
+    }
+    
+    private long getMeanLatencyNanos(final List<String> availableTargetNames) {
+        long totalLatencyNanos = 0L;
+        int sampledCount = 0;
+        for (String each : availableTargetNames) {
+            TargetExecutionStatistics statistics = TargetExecutionStatisticsRegistry.get(databaseName, each);
+            if (statistics.isSampled()) {
+                totalLatencyNanos += statistics.getAverageLatencyNanos();
+                sampledCount++;
+            }
+        }
+        return 0 == sampledCount ? initialLatencyNanos : totalLatencyNanos / sampledCount;
+    }
+    
+    @Override
+    public void close() {
+        if (null != databaseName) {
+            TargetExecutionStatisticsRegistry.unregister(databaseName);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
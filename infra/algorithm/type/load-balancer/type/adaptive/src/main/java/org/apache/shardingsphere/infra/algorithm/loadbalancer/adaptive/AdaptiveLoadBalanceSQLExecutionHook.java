@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL execution hook to collect execution statistics for adaptive load balance algorithm.
+ */
+public final class AdaptiveLoadBalanceSQLExecutionHook implements SQLExecutionHook {
+    
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private TargetExecutionStatistics statistics;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+    }
+    
+    @Override
+    public void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        if (!TargetExecutionStatisticsRegistry.isRegistered(databaseName)) {
+            return;
+        }
+        statistics = TargetExecutionStatisticsRegistry.get(databaseName, dataSourceName);
+        statistics.start();
+        startNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != statistics) {
+            statistics.finish(System.nanoTime() - startNanos);
+            statistics = null;
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (null != statistics) {
+            statistics.finish(Math.max(System.nanoTime() - startNanos, FAILURE_PENALTY_NANOS));
+            statistics = null;
+        }
+    }
+}
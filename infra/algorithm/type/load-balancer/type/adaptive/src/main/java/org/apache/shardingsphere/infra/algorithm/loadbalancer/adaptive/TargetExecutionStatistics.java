@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution statistics of load balance target.
+ */
+public final class TargetExecutionStatistics {
+    
+    private static final int SMOOTHING_SHIFT = 3;
+    
+    private final AtomicLong averageLatencyNanos = new AtomicLong();
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    /**
+     * Start execution.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Finish execution.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void finish(final long latencyNanos) {
+        inFlightCount.decrementAndGet();
+        averageLatencyNanos.updateAndGet(each -> 0L == each ? latencyNanos : each + (latencyNanos - each >> SMOOTHING_SHIFT));
+    }
+    
+    /**
+     * Get exponentially weighted moving average of latency.
+     *
+     * @return average latency in nanoseconds
+     */
+    public long getAverageLatencyNanos() {
+        return averageLatencyNanos.get();
+    }
+    
+    /**
+     * Get in flight execution count.
+     *
+     * @return in flight execution count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Judge whether any execution of target has finished.
+     *
+     * @return is sampled or not
+     */
+    public boolean isSampled() {
+        return 0L != averageLatencyNanos.get();
+    }
+    
+    /**
+     * Get load, which is expected latency of next execution.
+     *
+     * @param initialLatencyNanos latency in nanoseconds to use before any execution of target finished
+     * @return load
+     */
+    public long getLoad(final long initialLatencyNanos) {
+        long latencyNanos = averageLatencyNanos.get();
+        return (0L == latencyNanos ? initialLatencyNanos : latencyNanos) * (Math.max(inFlightCount.get(), 0) + 1);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Target execution statistics registry.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetExecutionStatisticsRegistry {
+    
+    private static final Map<String, Map<String, TargetExecutionStatistics>> STATISTICS = new ConcurrentHashMap<>();
+    
+    private static final Map<String, Integer> REFERENCE_COUNTS = new ConcurrentHashMap<>();
+    
+    /**
+     * Register database to collect execution statistics.
+     *
+     * @param databaseName database name
+     */
+    public static void register(final String databaseName) {
+        REFERENCE_COUNTS.compute(databaseName, (key, value) -> {
+            STATISTICS.computeIfAbsent(key, unused -> new ConcurrentHashMap<>());
+            return null == value ? 1 : value + 1;
+        });
+    }
+    
+    /**
+     * Unregister database and remove its execution statistics if no algorithm refers to it.
+     *
+     * @param databaseName database name
+     */
+    public static void unregister(final String databaseName) {
+        REFERENCE_COUNTS.computeIfPresent(databaseName, (key, value) -> {
+            if (value > 1) {
+                return value - 1;
+            }
+            STATISTICS.remove(key);
+            return null;
+        });
+    }
+    
+    /**
+     * Judge whether database is registered to collect execution statistics.
+     *
+     * @param databaseName database name
+     * @return is registered or not
+     */
+    public static boolean isRegistered(final String databaseName) {
+        return null != databaseName && STATISTICS.containsKey(databaseName);
+    }
+    
+    /**
+     * Get execution statistics of target.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return execution statistics, empty statistics which are not kept if database is not registered
+     */
+    public static TargetExecutionStatistics get(final String databaseName, final String targetName) {
+        Map<String, TargetExecutionStatistics> databaseStatistics = null == databaseName ? null : STATISTICS.get(databaseName);
+        if (null == databaseStatistics) {
+            return new TargetExecutionStatistics();
+        }
+        TargetExecutionStatistics result = databaseStatistics.get(targetName);
+        if (null == result) {
+            result = databaseStatistics.computeIfAbsent(targetName, unused -> new TargetExecutionStatistics());
+        }
+        return result;
+    }
+}
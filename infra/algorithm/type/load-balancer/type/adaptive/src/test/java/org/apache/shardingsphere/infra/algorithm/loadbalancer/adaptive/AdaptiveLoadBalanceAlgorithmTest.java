@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAwareLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertGetSingleAvailableTarget() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE");
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    void assertGetTargetWithLowerLatency() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        TargetExecutionStatisticsRegistry.get("foo_db", "slow_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "slow_read_ds").finish(1000000L);
+        TargetExecutionStatisticsRegistry.get("foo_db", "fast_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "fast_read_ds").finish(1000L);
+        List<String> availableTargetNames = Arrays.asList("slow_read_ds", "fast_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("fast_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetWithLessInFlightExecutions() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        TargetExecutionStatisticsRegistry.get("foo_db", "busy_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "busy_read_ds").finish(1000L);
+        TargetExecutionStatisticsRegistry.get("foo_db", "busy_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "busy_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "idle_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "idle_read_ds").finish(1500L);
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("busy_read_ds", "idle_read_ds")), is("idle_read_ds"));
+    }
+    
+    @Test
+    void assertGetTargetWithoutSampledTargetInFlight() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        TargetExecutionStatisticsRegistry.get("foo_db", "sampled_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "sampled_read_ds").finish(1000L);
+        TargetExecutionStatisticsRegistry.get("foo_db", "hung_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "hung_read_ds").start();
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("sampled_read_ds", "hung_read_ds")), is("sampled_read_ds"));
+    }
+    
+    @Test
+    void assertGetTargetWithoutAnySampledTarget() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        TargetExecutionStatisticsRegistry.get("foo_db", "new_busy_read_ds").start();
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("new_busy_read_ds", "new_idle_read_ds")), is("new_idle_read_ds"));
+    }
+    
+    @Test
+    void assertGetTargetWithStatisticsOfOtherDatabase() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm();
+        TargetExecutionStatisticsRegistry.register("bar_db");
+        TargetExecutionStatisticsRegistry.get("bar_db", "shared_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("bar_db", "shared_read_ds").finish(1000L);
+        TargetExecutionStatisticsRegistry.get("foo_db", "shared_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "shared_read_ds").finish(1000000L);
+        TargetExecutionStatisticsRegistry.get("foo_db", "other_read_ds").start();
+        TargetExecutionStatisticsRegistry.get("foo_db", "other_read_ds").finish(2000L);
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("shared_read_ds", "other_read_ds")), is("other_read_ds"));
+    }
+    
+    @Test
+    void assertClose() throws Exception {
+        AdaptiveLoadBalanceAlgorithm loadBalanceAlgorithm = (AdaptiveLoadBalanceAlgorithm) TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE");
+        loadBalanceAlgorithm.setDatabaseName("closed_db");
+        AdaptiveLoadBalanceAlgorithm anotherLoadBalanceAlgorithm = (AdaptiveLoadBalanceAlgorithm) TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE");
+        anotherLoadBalanceAlgorithm.setDatabaseName("closed_db");
+        TargetExecutionStatisticsRegistry.get("closed_db", "closed_read_ds").start();
+        loadBalanceAlgorithm.close();
+        assertThat(TargetExecutionStatisticsRegistry.get("closed_db", "closed_read_ds").getInFlightCount(), is(1));
+        anotherLoadBalanceAlgorithm.close();
+        assertFalse(TargetExecutionStatisticsRegistry.isRegistered("closed_db"));
+        assertThat(TargetExecutionStatisticsRegistry.get("closed_db", "closed_read_ds").getInFlightCount(), is(0));
+    }
+    
+    @Test
+    void assertInitWithInvalidInitialLatency() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", PropertiesBuilder.build(new Property("initial-latency-millis", "0"))));
+    }
+    
+    private LoadBalanceAlgorithm createLoadBalanceAlgorithm() {
+        LoadBalanceAlgorithm result = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE");
+        ((DatabaseNameAwareLoadBalanceAlgorithm) result).setDatabaseName("foo_db");
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveLoadBalanceSQLExecutionHookTest {
+    
+    @Test
+    void assertFinishSuccess() {
+        TargetExecutionStatisticsRegistry.register("foo_db");
+        AdaptiveLoadBalanceSQLExecutionHook hook = new AdaptiveLoadBalanceSQLExecutionHook();
+        hook.start("foo_db", "success_read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(TargetExecutionStatisticsRegistry.get("foo_db", "success_read_ds").getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(TargetExecutionStatisticsRegistry.get("foo_db", "success_read_ds").getInFlightCount(), is(0));
+        assertTrue(TargetExecutionStatisticsRegistry.get("foo_db", "success_read_ds").getAverageLatencyNanos() > 0L);
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        TargetExecutionStatisticsRegistry.register("foo_db");
+        AdaptiveLoadBalanceSQLExecutionHook hook = new AdaptiveLoadBalanceSQLExecutionHook();
+        hook.start("foo_db", "failure_read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishFailure(new SQLException(""));
+        assertThat(TargetExecutionStatisticsRegistry.get("foo_db", "failure_read_ds").getInFlightCount(), is(0));
+        assertTrue(TargetExecutionStatisticsRegistry.get("foo_db", "failure_read_ds").getAverageLatencyNanos() >= 1000000000L);
+    }
+    
+    @Test
+    void assertStartWithoutDatabaseName() {
+        TargetExecutionStatisticsRegistry.register("foo_db");
+        AdaptiveLoadBalanceSQLExecutionHook hook = new AdaptiveLoadBalanceSQLExecutionHook();
+        hook.start(null, "unknown_read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishSuccess();
+        assertFalse(TargetExecutionStatisticsRegistry.get("foo_db", "unknown_read_ds").isSampled());
+    }
+    
+    @Test
+    void assertStartWithUnregisteredDatabase() {
+        AdaptiveLoadBalanceSQLExecutionHook hook = new AdaptiveLoadBalanceSQLExecutionHook();
+        hook.start("unregistered_db", "foo_read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishSuccess();
+        assertFalse(TargetExecutionStatisticsRegistry.isRegistered("unregistered_db"));
+    }
+    
+    @Test
+    void assertStartWithoutDatabaseNameParameter() {
+        TargetExecutionStatisticsRegistry.register("foo_db");
+        AdaptiveLoadBalanceSQLExecutionHook hook = new AdaptiveLoadBalanceSQLExecutionHook();
+        hook.start("without_database_read_ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishSuccess();
+        assertFalse(TargetExecutionStatisticsRegistry.get("foo_db", "without_database_read_ds").isSampled());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TargetExecutionStatisticsTest {
+    
+    @Test
+    void assertFinish() {
+        TargetExecutionStatistics statistics = new TargetExecutionStatistics();
+        statistics.start();
+        assertThat(statistics.getInFlightCount(), is(1));
+        statistics.finish(800L);
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertThat(statistics.getAverageLatencyNanos(), is(800L));
+        statistics.start();
+        statistics.finish(1600L);
+        assertThat(statistics.getAverageLatencyNanos(), is(900L));
+    }
+    
+    @Test
+    void assertGetLoad() {
+        TargetExecutionStatistics statistics = new TargetExecutionStatistics();
+        statistics.start();
+        statistics.finish(800L);
+        statistics.start();
+        assertThat(statistics.getLoad(100L), is(1600L));
+    }
+    
+    @Test
+    void assertGetLoadWithoutFinishedExecution() {
+        TargetExecutionStatistics statistics = new TargetExecutionStatistics();
+        statistics.start();
+        statistics.start();
+        assertFalse(statistics.isSampled());
+        assertThat(statistics.getLoad(100L), is(300L));
+    }
+}
@@ -54,6 +54,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The mode of worker group to execute SQL, which can be BLOCKING, COMPLETION or VIRTUAL_THREAD.
+     */
+    KERNEL_EXECUTOR_MODE("kernel-executor-mode", "BLOCKING", String.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -69,6 +74,32 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Memory budget in bytes for merging group by results in memory, exceeded groups are spilled to temporary files, 0 means unlimited.
+     */
+    GROUP_BY_MERGE_MEMORY_BUDGET("group-by-merge-memory-budget", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether estimate count distinct with HyperLogLog sketches in the merger when distinct aggregation can not be pushed down to data sources.
+     * Data sources still return every distinct value, only merge memory is bounded.
+     */
+    AGGREGATION_DISTINCT_APPROXIMATE_ENABLED("aggregation-distinct-approximate-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max rows of multi-values insert which batched single row inserts routed to same data node are folded into, 0 or 1 means disabled.
+     */
+    BATCH_INSERT_FOLD_SIZE("batch-insert-fold-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether parse simple single table point DML statements with dialect fast path SQL parser instead of ANTLR.
+     */
+    SQL_FAST_PATH_PARSER_ENABLED("sql-fast-path-parser-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Max rows sampled from each data node to estimate sharding column statistics, 0 means collect exact statistics by full scan.
+     */
+    SHARDING_COLUMN_STATISTICS_SAMPLE_ROWS("sharding-column-statistics-sample-rows", String.valueOf(10000), int.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -85,6 +116,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether cache merged rows of deterministic queries outside transactions, the cache is invalidated when tables are modified through proxy.
+     */
+    PROXY_QUERY_RESULT_CACHE_ENABLED("proxy-query-result-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max rows of query result cache, least recently used results are evicted when exceeded, cached results are dropped when it is changed.
+     */
+    PROXY_QUERY_RESULT_CACHE_MAX_ROWS("proxy-query-result-cache-max-rows", String.valueOf(100000L), long.class, false),
+    
+    /**
+     * Time to live of query result cache in milliseconds, cached results are dropped when it is changed.
+     */
+    PROXY_QUERY_RESULT_CACHE_TTL_MILLISECONDS("proxy-query-result-cache-ttl-milliseconds", String.valueOf(60000L), long.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
 import org.apache.shardingsphere.infra.state.instance.InstanceState;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
@@ -47,6 +48,9 @@ public final class ComputeNodeInstanceContext {
     @Getter(AccessLevel.NONE)
     private final AtomicReference<WorkerIdGenerator> workerIdGenerator;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<KeySegmentAllocator> keySegmentAllocator;
+    
     private final ClusterInstanceRegistry clusterInstanceRegistry;
     
     public ComputeNodeInstanceContext(final ComputeNodeInstance instance, final ModeConfiguration modeConfiguration, final EventBusContext eventBusContext) {
@@ -54,6 +58,7 @@ public final class ComputeNodeInstanceContext {
         this.modeConfiguration = modeConfiguration;
         this.eventBusContext = eventBusContext;
         workerIdGenerator = new AtomicReference<>();
+        keySegmentAllocator = new AtomicReference<>();
         clusterInstanceRegistry = new ClusterInstanceRegistry();
     }
     
@@ -66,6 +71,15 @@ public final class ComputeNodeInstanceContext {
         this.workerIdGenerator.set(workerIdGenerator);
     }
     
+    /**
+     * Set key segment allocator.
+     *
+     * @param keySegmentAllocator key segment allocator
+     */
+    public void setKeySegmentAllocator(final KeySegmentAllocator keySegmentAllocator) {
+        this.keySegmentAllocator.set(keySegmentAllocator);
+    }
+    
     /**
      * Update instance status.
      *
@@ -135,4 +149,26 @@ public final class ComputeNodeInstanceContext {
         instance.setWorkerId(result);
         return result;
     }
+    
+    /**
+     * Allocate key segment.
+     *
+     * @param segmentName segment name
+     * @param segmentSize segment size
+     * @return first key of allocated segment
+     */
+    public long allocateKeySegment(final String segmentName, final int segmentSize) {
+        ShardingSpherePreconditions.checkNotNull(keySegmentAllocator.get(), () -> new IllegalArgumentException("Key segment allocator is not initialized."));
+        return keySegmentAllocator.get().allocate(segmentName, segmentSize);
+    }
+    
+    /**
+     * Judge whether key segment allocator is initialized and durable.
+     *
+     * @return is durable or not
+     */
+    public boolean isKeySegmentAllocatorDurable() {
+        KeySegmentAllocator allocator = keySegmentAllocator.get();
+        return null != allocator && allocator.isDurable();
+    }
 }
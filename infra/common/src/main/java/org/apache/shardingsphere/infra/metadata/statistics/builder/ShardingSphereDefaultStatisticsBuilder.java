@@ -37,6 +37,8 @@ public final class ShardingSphereDefaultStatisticsBuilder {
     
     private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
     
+    private static final String SHARDING_COLUMN_STATISTICS = "sharding_column_statistics";
+    
     /**
      * Build default database statistics.
      *
@@ -49,6 +51,7 @@ public final class ShardingSphereDefaultStatisticsBuilder {
             SchemaStatistics schemaStatistics = new SchemaStatistics();
             buildClusterInformationTable(schemaStatistics);
             buildShardingTableStatisticsTable(schemaStatistics);
+            buildShardingColumnStatisticsTable(schemaStatistics);
             result.putSchemaStatistics(SHARDINGSPHERE, schemaStatistics);
         }
         return result;
@@ -63,4 +66,8 @@ public final class ShardingSphereDefaultStatisticsBuilder {
     private void buildShardingTableStatisticsTable(final SchemaStatistics schemaStatistics) {
         schemaStatistics.putTableStatistics(SHARDING_TABLE_STATISTICS, new TableStatistics(SHARDING_TABLE_STATISTICS));
     }
+    
+    private void buildShardingColumnStatisticsTable(final SchemaStatistics schemaStatistics) {
+        schemaStatistics.putTableStatistics(SHARDING_COLUMN_STATISTICS, new TableStatistics(SHARDING_COLUMN_STATISTICS));
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.instance;
 
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
@@ -30,10 +31,13 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ComputeNodeInstanceContextTest {
     
@@ -121,4 +125,34 @@ class ComputeNodeInstanceContextTest {
         instanceContext.init(mock(WorkerIdGenerator.class));
         assertThat(instanceContext.generateWorkerId(new Properties()), is(0));
     }
+    
+    @Test
+    void assertAllocateKeySegment() {
+        ComputeNodeInstanceContext instanceContext = new ComputeNodeInstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(ModeConfiguration.class), new EventBusContext());
+        KeySegmentAllocator keySegmentAllocator = mock(KeySegmentAllocator.class);
+        when(keySegmentAllocator.allocate("foo_segment", 100)).thenReturn(101L);
+        instanceContext.setKeySegmentAllocator(keySegmentAllocator);
+        assertThat(instanceContext.allocateKeySegment("foo_segment", 100), is(101L));
+    }
+    
+    @Test
+    void assertAllocateKeySegmentWithoutInitialization() {
+        ComputeNodeInstanceContext instanceContext = new ComputeNodeInstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(ModeConfiguration.class), new EventBusContext());
+        assertThrows(IllegalArgumentException.class, () -> instanceContext.allocateKeySegment("foo_segment", 100));
+    }
+    
+    @Test
+    void assertIsKeySegmentAllocatorDurable() {
+        ComputeNodeInstanceContext instanceContext = new ComputeNodeInstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(ModeConfiguration.class), new EventBusContext());
+        KeySegmentAllocator keySegmentAllocator = mock(KeySegmentAllocator.class);
+        when(keySegmentAllocator.isDurable()).thenReturn(true);
+        instanceContext.setKeySegmentAllocator(keySegmentAllocator);
+        assertTrue(instanceContext.isKeySegmentAllocatorDurable());
+    }
+    
+    @Test
+    void assertIsKeySegmentAllocatorDurableWithoutInitialization() {
+        ComputeNodeInstanceContext instanceContext = new ComputeNodeInstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(ModeConfiguration.class), new EventBusContext());
+        assertFalse(instanceContext.isKeySegmentAllocatorDurable());
+    }
 }
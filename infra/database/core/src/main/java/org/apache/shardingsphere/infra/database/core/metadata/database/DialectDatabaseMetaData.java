@@ -147,4 +147,13 @@ public interface DialectDatabaseMetaData extends DatabaseTypedSPI {
     default boolean isDDLNeedImplicitCommit() {
         return false;
     }
+    
+    /**
+     * Is support multi-values insert.
+     *
+     * @return support or not
+     */
+    default boolean isSupportMultiValuesInsert() {
+        return false;
+    }
 }
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class H2DatabaseMetaDataTest {
     
@@ -41,4 +42,9 @@ class H2DatabaseMetaDataTest {
     void assertGetDefaultNullsOrderType() {
         assertThat(dialectDatabaseMetaData.getDefaultNullsOrderType(), is(NullsOrderType.LOW));
     }
+    
+    @Test
+    void assertIsSupportMultiValuesInsert() {
+        assertTrue(dialectDatabaseMetaData.isSupportMultiValuesInsert());
+    }
 }
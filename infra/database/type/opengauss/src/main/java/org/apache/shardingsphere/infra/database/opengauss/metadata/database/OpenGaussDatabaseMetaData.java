@@ -98,6 +98,11 @@ public final class OpenGaussDatabaseMetaData implements DialectDatabaseMetaData
         return tableNamePattern.toLowerCase();
     }
     
+    @Override
+    public boolean isSupportMultiValuesInsert() {
+        return true;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "openGauss";
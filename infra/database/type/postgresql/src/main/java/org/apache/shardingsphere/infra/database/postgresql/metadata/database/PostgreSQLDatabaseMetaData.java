@@ -90,6 +90,11 @@ public final class PostgreSQLDatabaseMetaData implements DialectDatabaseMetaData
         return tableNamePattern.toLowerCase();
     }
     
+    @Override
+    public boolean isSupportMultiValuesInsert() {
+        return true;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
@@ -53,4 +53,9 @@ class PostgreSQLDatabaseMetaDataTest {
     void assertFormatTableNamePattern() {
         assertThat(dialectDatabaseMetaData.formatTableNamePattern("T_ORDER"), is("t_order"));
     }
+    
+    @Test
+    void assertIsSupportMultiValuesInsert() {
+        assertTrue(dialectDatabaseMetaData.isSupportMultiValuesInsert());
+    }
 }
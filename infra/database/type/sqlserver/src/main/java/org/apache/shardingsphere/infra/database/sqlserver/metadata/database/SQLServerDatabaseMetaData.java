@@ -43,6 +43,11 @@ public final class SQLServerDatabaseMetaData implements DialectDatabaseMetaData
         return Optional.of("dbo");
     }
     
+    @Override
+    public boolean isSupportMultiValuesInsert() {
+        return true;
+    }
+    
     @Override
     public String getDatabaseType() {
         return "SQLServer";
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SQLServerDatabaseMetaDataTest {
     
@@ -35,4 +36,9 @@ class SQLServerDatabaseMetaDataTest {
     void assertGetQuoteCharacter() {
         assertThat(dialectDatabaseMetaData.getQuoteCharacter(), is(QuoteCharacter.BRACKETS));
     }
+    
+    @Test
+    void assertIsSupportMultiValuesInsert() {
+        assertTrue(dialectDatabaseMetaData.isSupportMultiValuesInsert());
+    }
 }
@@ -26,11 +26,14 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -41,10 +44,15 @@ import java.util.concurrent.Future;
 @Getter
 public final class ExecutorEngine implements AutoCloseable {
     
+    private static final String DEFAULT_NAME_FORMAT = "%d";
+    
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private final ExecutorEngineMode mode;
+    
+    private ExecutorEngine(final int executorSize, final ExecutorEngineMode mode) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, DEFAULT_NAME_FORMAT, ExecutorEngineMode.VIRTUAL_THREAD == mode);
+        this.mode = mode;
     }
     
     /**
@@ -54,7 +62,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, ExecutorEngineMode.BLOCKING);
+    }
+    
+    /**
+     * Create executor engine with executor size and mode.
+     *
+     * @param executorSize executor size, which is ignored if virtual thread is used
+     * @param mode executor engine mode
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final ExecutorEngineMode mode) {
+        return new ExecutorEngine(executorSize, mode);
     }
     
     /**
@@ -74,8 +93,12 @@ public final class ExecutorEngine implements AutoCloseable {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
-        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
+        if (serial) {
+            return serialExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
+        }
+        return ExecutorEngineMode.BLOCKING == mode
+                ? parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback)
+                : completionExecute(executionGroupContext.getInputGroups(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
@@ -95,6 +118,53 @@ public final class ExecutorEngine implements AutoCloseable {
         return getGroupResults(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
+    private <I, O> List<O> completionExecute(final Collection<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
+                                             final ExecutorCallback<I, O> callback) throws SQLException {
+        Iterator<ExecutionGroup<I>> iterator = executionGroups.iterator();
+        ExecutionGroup<I> firstInputs = iterator.next();
+        List<CompletableFuture<Collection<O>>> restResultFutures = new ArrayList<>(executionGroups.size() - 1);
+        CompletableFuture<Void> failure = new CompletableFuture<>();
+        while (iterator.hasNext()) {
+            CompletableFuture<Collection<O>> future = completableExecute(iterator.next(), processId, callback);
+            future.whenComplete((unused, ex) -> {
+                if (null != ex) {
+                    failure.completeExceptionally(ex);
+                }
+            });
+            restResultFutures.add(future);
+        }
+        Collection<O> firstResults = syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback);
+        return getCompletedGroupResults(firstResults, restResultFutures, failure);
+    }
+    
+    private <I, O> CompletableFuture<Collection<O>> completableExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return callback.execute(executionGroup.getInputs(), false, processId);
+            } catch (final SQLException ex) {
+                throw new CompletionException(ex);
+            }
+        }, executorServiceManager.getExecutorService());
+    }
+    
+    private <O> List<O> getCompletedGroupResults(final Collection<O> firstResults, final List<CompletableFuture<Collection<O>>> restFutures,
+                                                 final CompletableFuture<Void> failure) throws SQLException {
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(restFutures.toArray(new CompletableFuture[0])), failure).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            return throwException(ex);
+        }
+        List<O> result = new LinkedList<>(firstResults);
+        for (CompletableFuture<Collection<O>> each : restFutures) {
+            if (each.isDone() && !each.isCompletedExceptionally()) {
+                result.addAll(each.join());
+            }
+        }
+        return result;
+    }
+    
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true, processId);
     }
@@ -126,8 +196,9 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <O> List<O> throwException(final Exception exception) throws SQLException {
-        if (exception.getCause() instanceof SQLException) {
-            throw (SQLException) exception.getCause();
+        Throwable cause = exception.getCause() instanceof CompletionException && null != exception.getCause().getCause() ? exception.getCause().getCause() : exception.getCause();
+        if (cause instanceof SQLException) {
+            throw (SQLException) cause;
         }
         throw new UnknownSQLException(exception);
     }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import org.apache.shardingsphere.infra.props.exception.TypedPropertiesServerException;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Executor engine mode.
+ */
+public enum ExecutorEngineMode {
+    
+    /**
+     * Execute with platform thread pool, and wait for results of execution groups one by one.
+     */
+    BLOCKING,
+    
+    /**
+     * Execute with platform thread pool, and gather results of execution groups as they complete.
+     */
+    COMPLETION,
+    
+    /**
+     * Execute with virtual threads if supported by runtime, otherwise with platform thread pool, and gather results of execution groups as they complete.
+     */
+    VIRTUAL_THREAD;
+    
+    /**
+     * Value of executor engine mode.
+     *
+     * @param mode mode name
+     * @return executor engine mode
+     * @throws TypedPropertiesServerException if mode name is unknown
+     */
+    public static ExecutorEngineMode valueFrom(final String mode) {
+        if (null == mode || mode.trim().isEmpty()) {
+            return BLOCKING;
+        }
+        String modeName = mode.trim().toUpperCase();
+        return Arrays.stream(values()).filter(each -> each.name().equals(modeName)).findFirst().orElseThrow(() -> new TypedPropertiesServerException(
+                Collections.singleton(String.format("Executor engine mode `%s` is not supported, supported modes are %s.", mode, Arrays.toString(values())))));
+    }
+}
@@ -19,7 +19,10 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -29,20 +32,31 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = "ShardingSphere-Virtual-";
+    
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
     private final ExecutorService executorService;
     
+    private final boolean virtualThreadEnabled;
+    
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadPreferred) {
+        Optional<ExecutorService> virtualThreadExecutorService = virtualThreadPreferred ? createVirtualThreadExecutorService() : Optional.empty();
+        virtualThreadEnabled = virtualThreadExecutorService.isPresent();
+        executorService = TtlExecutors.getTtlExecutorService(virtualThreadExecutorService.orElseGet(() -> getExecutorService(executorSize, nameFormat)));
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -50,6 +64,28 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    /**
+     * Create virtual thread executor service, which starts a new virtual thread for each task.
+     * Virtual thread is accessed by reflection, because ShardingSphere still runs on Java 8.
+     *
+     * @return created executor service, empty if virtual thread is not supported by current runtime
+     */
+    private Optional<ExecutorService> createVirtualThreadExecutorService() {
+        try {
+            Class<?> threadBuilderClass = Class.forName("java.lang.Thread$Builder");
+            Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            threadBuilder = threadBuilderClass.getMethod("name", String.class, long.class).invoke(threadBuilder, VIRTUAL_THREAD_NAME_PREFIX, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) threadBuilderClass.getMethod("factory").invoke(threadBuilder);
+            Method newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return Optional.of((ExecutorService) newThreadPerTaskExecutorMethod.invoke(null, threadFactory));
+            // CHECKSTYLE:OFF
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Virtual thread is not supported by current runtime, fall back to platform thread pool.");
+            return Optional.empty();
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -103,6 +103,20 @@ public final class ProcessEngine {
         process.removeProcessStatement(executionUnit.getExecutionUnit());
     }
     
+    /**
+     * Get database name of process.
+     *
+     * @param processId process ID
+     * @return database name, null if process is absent
+     */
+    public String getDatabaseName(final String processId) {
+        if (Strings.isNullOrEmpty(processId)) {
+            return null;
+        }
+        Process process = ProcessRegistry.getInstance().get(processId);
+        return null == process ? null : process.getDatabaseName();
+    }
+    
     /**
      * Complete SQL execution.
      *
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.sql.version;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Table data version registry.
+ *
+ * <p>
+ * Version of table data is increased whenever table data is modified, so derived data such as cached query results can be judged as expired by comparing versions.
+ * </p>
+ */
+@HighFrequencyInvocation
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableDataVersionRegistry {
+    
+    private static final TableDataVersionRegistry INSTANCE = new TableDataVersionRegistry();
+    
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    
+    /**
+     * Get table data version registry.
+     *
+     * @return got instance
+     */
+    public static TableDataVersionRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get current versions of tables.
+     *
+     * @param qualifiedTableNames qualified table names
+     * @return table versions
+     */
+    public Map<String, Long> getVersions(final Collection<String> qualifiedTableNames) {
+        Map<String, Long> result = new HashMap<>(qualifiedTableNames.size(), 1F);
+        for (String each : qualifiedTableNames) {
+            AtomicLong version = versions.get(each);
+            result.put(each, null == version ? 0L : version.get());
+        }
+        return result;
+    }
+    
+    /**
+     * Increase versions of tables.
+     *
+     * @param qualifiedTableNames qualified table names
+     */
+    public void increase(final Collection<String> qualifiedTableNames) {
+        for (String each : qualifiedTableNames) {
+            versions.computeIfAbsent(each, unused -> new AtomicLong()).incrementAndGet();
+        }
+    }
+}
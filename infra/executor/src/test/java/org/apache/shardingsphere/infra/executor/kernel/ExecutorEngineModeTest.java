@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import org.apache.shardingsphere.infra.props.exception.TypedPropertiesServerException;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExecutorEngineModeTest {
+    
+    @Test
+    void assertValueFromEmptyValue() {
+        assertThat(ExecutorEngineMode.valueFrom(""), is(ExecutorEngineMode.BLOCKING));
+    }
+    
+    @Test
+    void assertValueFrom() {
+        assertThat(ExecutorEngineMode.valueFrom(" virtual_thread "), is(ExecutorEngineMode.VIRTUAL_THREAD));
+    }
+    
+    @Test
+    void assertValueFromUnknownValue() {
+        assertThrows(TypedPropertiesServerException.class, () -> ExecutorEngineMode.valueFrom("foo"));
+    }
+}
@@ -21,9 +21,12 @@ import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackF
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -33,6 +36,7 @@ import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +92,25 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @ParameterizedTest
+    @EnumSource(value = ExecutorEngineMode.class, names = {"COMPLETION", "VIRTUAL_THREAD"})
+    void assertCompletionExecute(final ExecutorEngineMode mode) throws SQLException, InterruptedException {
+        try (ExecutorEngine completionExecutorEngine = ExecutorEngine.createExecutorEngine(10, mode)) {
+            List<String> actual = completionExecutorEngine.execute(createMockedExecutionGroups(8, 2), firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(16));
+        }
+    }
+    
+    @Test
+    void assertCompletionExecuteWithSQLException() {
+        try (ExecutorEngine completionExecutorEngine = ExecutorEngine.createExecutorEngine(10, ExecutorEngineMode.COMPLETION)) {
+            SQLException expected = new SQLException("foo");
+            ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread, processId) -> {
+                throw expected;
+            };
+            assertThat(assertThrows(SQLException.class, () -> completionExecutorEngine.execute(executionGroupContext, firstCallback, failedCallback, false)), is(expected));
+        }
+    }
 }
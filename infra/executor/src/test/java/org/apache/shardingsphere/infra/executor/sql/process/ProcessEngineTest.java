@@ -41,6 +41,9 @@ import org.mockito.Mock;
 import java.util.Collections;
 import java.util.UUID;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -92,4 +95,17 @@ class ProcessEngineTest {
         new ProcessEngine().completeSQLUnitExecution(mock(SQLExecutionUnit.class), "foo_id");
         verify(processRegistry).get("foo_id");
     }
+    
+    @Test
+    void assertGetDatabaseName() {
+        Process process = mock(Process.class);
+        when(process.getDatabaseName()).thenReturn("foo_db");
+        when(processRegistry.get("foo_id")).thenReturn(process);
+        assertThat(new ProcessEngine().getDatabaseName("foo_id"), is("foo_db"));
+    }
+    
+    @Test
+    void assertGetDatabaseNameWithoutProcess() {
+        assertNull(new ProcessEngine().getDatabaseName("bar_id"));
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.sql.version;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TableDataVersionRegistryTest {
+    
+    @Test
+    void assertIncrease() {
+        Map<String, Long> expected = TableDataVersionRegistry.getInstance().getVersions(Arrays.asList("foo_db.foo_tbl", "foo_db.bar_tbl"));
+        TableDataVersionRegistry.getInstance().increase(Collections.singleton("foo_db.foo_tbl"));
+        Map<String, Long> actual = TableDataVersionRegistry.getInstance().getVersions(Arrays.asList("foo_db.foo_tbl", "foo_db.bar_tbl"));
+        assertThat(actual.get("foo_db.foo_tbl"), is(expected.get("foo_db.foo_tbl") + 1L));
+        assertThat(actual.get("foo_db.bar_tbl"), is(expected.get("foo_db.bar_tbl")));
+    }
+}
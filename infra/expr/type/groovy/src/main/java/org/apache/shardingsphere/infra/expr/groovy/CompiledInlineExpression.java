@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Lowers the common shapes of sharding expressions into plain Java evaluators, so that they can be evaluated without Groovy closures.
+ * Supported placeholder bodies are composed of column references, {@code hashCode()}, {@code substring(begin[, end])},
+ * {@code Math.abs(...)} and a trailing modulo by an integer literal, for example {@code t_order_${order_id % 16}}
+ * or {@code ds_${Math.abs(user_name.hashCode() % 4)}}.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledInlineExpression {
+    
+    private static final Object UNSUPPORTED = new Object();
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("it", "this", "super", "null", "true", "false", "new", "Math"));
+    
+    private final String[] literals;
+    
+    private final ExpressionNode[] placeholders;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, empty if the expression shape can not be compiled
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<ExpressionNode> placeholders = new ArrayList<>();
+        int index = 0;
+        while (true) {
+            int beginIndex = inlineExpression.indexOf("${", index);
+            String literal = inlineExpression.substring(index, -1 == beginIndex ? inlineExpression.length() : beginIndex);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            if (-1 == beginIndex) {
+                break;
+            }
+            int endIndex = inlineExpression.indexOf('}', beginIndex);
+            if (-1 == endIndex) {
+                return Optional.empty();
+            }
+            Optional<ExpressionNode> placeholder = new ExpressionNodeParser(inlineExpression.substring(beginIndex + 2, endIndex)).parse();
+            if (!placeholder.isPresent()) {
+                return Optional.empty();
+            }
+            placeholders.add(placeholder.get());
+            index = endIndex + 1;
+        }
+        return placeholders.isEmpty() ? Optional.empty() : Optional.of(new CompiledInlineExpression(literals.toArray(new String[0]), placeholders.toArray(new ExpressionNode[0])));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return -1 == literal.indexOf('$') && -1 == literal.indexOf('"') && -1 == literal.indexOf('\\') && -1 == literal.indexOf('{') && -1 == literal.indexOf('}');
+    }
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param args arguments
+     * @return evaluated result, empty if the argument types are beyond the compiled evaluators and Groovy should be used instead
+     */
+    Optional<String> evaluate(final Map<String, Comparable<?>> args) {
+        StringBuilder result = new StringBuilder(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            Object value = placeholders[i].evaluate(args);
+            if (UNSUPPORTED == value) {
+                return Optional.empty();
+            }
+            result.append(value).append(literals[i + 1]);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private interface ExpressionNode {
+        
+        Object evaluate(Map<String, Comparable<?>> args);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ColumnNode implements ExpressionNode {
+        
+        private final String columnName;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object result = args.get(columnName);
+            return result instanceof String || result instanceof Integer || result instanceof Long || result instanceof Short || result instanceof Byte ? result : UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements ExpressionNode {
+        
+        private final ExpressionNode target;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = target.evaluate(args);
+            return UNSUPPORTED == value ? UNSUPPORTED : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SubstringNode implements ExpressionNode {
+        
+        private final ExpressionNode target;
+        
+        private final int beginIndex;
+        
+        private final int endIndex;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = target.evaluate(args);
+            if (!(value instanceof String)) {
+                return UNSUPPORTED;
+            }
+            String text = (String) value;
+            if (beginIndex > text.length() || endIndex > text.length()) {
+                return UNSUPPORTED;
+            }
+            return -1 == endIndex ? text.substring(beginIndex) : text.substring(beginIndex, endIndex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements ExpressionNode {
+        
+        private final ExpressionNode target;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = target.evaluate(args);
+            if (value instanceof Integer) {
+                return Math.abs((int) value);
+            }
+            if (value instanceof Long) {
+                return Math.abs((long) value);
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ModuloNode implements ExpressionNode {
+        
+        private final ExpressionNode target;
+        
+        private final int divisor;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = target.evaluate(args);
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return ((Number) value).intValue() % divisor;
+            }
+            if (value instanceof Long) {
+                return (long) value % divisor;
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionNodeParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Optional<ExpressionNode> parse() {
+            try {
+                ExpressionNode result = parseExpression();
+                skipWhitespace();
+                return position == expression.length() ? Optional.of(result) : Optional.empty();
+            } catch (final IllegalArgumentException ignored) {
+                return Optional.empty();
+            }
+        }
+        
+        private ExpressionNode parseExpression() {
+            ExpressionNode result = parseOperand();
+            skipWhitespace();
+            if (!tryConsume("%")) {
+                return result;
+            }
+            int divisor = parseInteger();
+            if (0 == divisor) {
+                throw new IllegalArgumentException("Divisor can not be zero.");
+            }
+            return new ModuloNode(result, divisor);
+        }
+        
+        private ExpressionNode parseOperand() {
+            skipWhitespace();
+            if (tryConsume("Math.abs(")) {
+                ExpressionNode result = new AbsNode(parseExpression());
+                expect(")");
+                return result;
+            }
+            ExpressionNode result = new ColumnNode(parseIdentifier());
+            while (tryConsume(".")) {
+                String methodName = parseIdentifier();
+                expect("(");
+                if ("hashCode".equals(methodName)) {
+                    expect(")");
+                    result = new HashCodeNode(result);
+                } else if ("substring".equals(methodName)) {
+                    int beginIndex = parseInteger();
+                    int endIndex = tryConsume(",") ? parseInteger() : -1;
+                    expect(")");
+                    if (-1 != endIndex && endIndex < beginIndex) {
+                        throw new IllegalArgumentException("Invalid substring range.");
+                    }
+                    result = new SubstringNode(result, beginIndex, endIndex);
+                } else {
+                    throw new IllegalArgumentException(String.format("Unsupported method `%s`.", methodName));
+                }
+            }
+            return result;
+        }
+        
+        private String parseIdentifier() {
+            skipWhitespace();
+            int beginPosition = position;
+            while (position < expression.length() && (Character.isLetterOrDigit(expression.charAt(position)) || '_' == expression.charAt(position))) {
+                position++;
+            }
+            String result = expression.substring(beginPosition, position);
+            if (result.isEmpty() || !Character.isLetter(result.charAt(0)) && '_' != result.charAt(0) || RESERVED_WORDS.contains(result)) {
+                throw new IllegalArgumentException(String.format("Invalid identifier `%s`.", result));
+            }
+            return result;
+        }
+        
+        private int parseInteger() {
+            skipWhitespace();
+            int beginPosition = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (beginPosition == position || position - beginPosition > 9) {
+                throw new IllegalArgumentException("Invalid integer literal.");
+            }
+            return Integer.parseInt(expression.substring(beginPosition, position));
+        }
+        
+        private boolean tryConsume(final String token) {
+            skipWhitespace();
+            if (expression.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+        
+        private void expect(final String token) {
+            if (!tryConsume(token)) {
+                throw new IllegalArgumentException(String.format("Expect `%s`.", token));
+            }
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import groovy.lang.Closure;
+import groovy.lang.GroovyShell;
+import groovy.util.Expando;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionTest {
+    
+    private static final Collection<Comparable<?>> VALUES = Arrays.asList(0, 7, -7, Integer.MIN_VALUE, 15L, -31L, Long.MAX_VALUE, (short) -3, (byte) 5, "foo_bar", "x", "");
+    
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"t_order_${order_id}", "t_order_${order_id % 16}", "ds_${order_id % 2}.t_order_${order_id % 4}", "t_${Math.abs(order_id % 8)}", "t_${order_id.hashCode() % 4}",
+            "t_${Math.abs(order_id.hashCode() % 4)}", "t_${Math.abs(order_id.hashCode()) % 4}", "t_${ order_id  %  3 }", "t_${order_id.substring(0, 1)}", "t_${order_id.substring(1)}",
+            "t_${order_id.substring(1).hashCode() % 5}"})
+    void assertEvaluateSameAsGroovyClosure(final String expression) {
+        CompiledInlineExpression compiledInlineExpression = CompiledInlineExpression.compile(expression).orElseThrow(IllegalStateException::new);
+        for (Comparable<?> each : VALUES) {
+            Map<String, Comparable<?>> args = Collections.singletonMap("order_id", each);
+            compiledInlineExpression.evaluate(args).ifPresent(actual -> assertThat(actual, is(evaluateWithClosure(expression, args))));
+        }
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"t_order", "t_${order_id / 2}", "t_${order_id % 0}", "t_${it}", "t_${order_id.toString()}", "t_${order_id}$", "t_${'x'}", "t_${order_id", "t_${order_id + 1}",
+            "t_${order_id.substring(2, 1)}", "t_\"${order_id}\""})
+    void assertNotCompile(final String expression) {
+        assertFalse(CompiledInlineExpression.compile(expression).isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression compiledInlineExpression = CompiledInlineExpression.compile("t_order_${order_id % 16}").orElseThrow(IllegalStateException::new);
+        assertFalse(compiledInlineExpression.evaluate(Collections.singletonMap("order_id", 1.5D)).isPresent());
+        assertFalse(compiledInlineExpression.evaluate(Collections.singletonMap("order_id", "foo")).isPresent());
+        assertFalse(compiledInlineExpression.evaluate(Collections.emptyMap()).isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithMultipleColumns() {
+        CompiledInlineExpression compiledInlineExpression = CompiledInlineExpression.compile("t_${user_id % 2}_${order_id % 3}").orElseThrow(IllegalStateException::new);
+        Map<String, Comparable<?>> args = new HashMap<>(2, 1F);
+        args.put("user_id", 5);
+        args.put("order_id", 7L);
+        assertTrue(compiledInlineExpression.evaluate(args).isPresent());
+        assertThat(compiledInlineExpression.evaluate(args).get(), is("t_1_1"));
+    }
+    
+    private String evaluateWithClosure(final String expression, final Map<String, Comparable<?>> args) {
+        Closure<?> closure = ((Closure<?>) new GroovyShell().evaluate("{it -> \"" + expression + "\"}")).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        args.forEach(closure::setProperty);
+        return closure.call().toString();
+    }
+}
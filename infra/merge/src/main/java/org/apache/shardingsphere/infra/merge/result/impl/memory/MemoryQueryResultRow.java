@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import com.google.common.base.Preconditions;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
@@ -27,6 +28,7 @@ import java.sql.SQLException;
  * Memory query result row.
  */
 @RequiredArgsConstructor
+@Getter
 public final class MemoryQueryResultRow {
     
     private final Object[] data;
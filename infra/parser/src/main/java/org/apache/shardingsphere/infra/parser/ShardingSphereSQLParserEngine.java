@@ -38,7 +38,11 @@ public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
     public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, false);
+    }
+    
+    public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean fastPathSQLParserEnabled) {
+        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, fastPathSQLParserEnabled);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
@@ -34,14 +34,15 @@ public final class SQLStatementCacheBuilder {
     /**
      * Build SQL statement cache.
      *
+     * @param databaseType database type
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
-     * @param databaseType database type
+     * @param fastPathSQLParserEnabled whether fast path SQL parser is enabled
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
-                                                           final CacheOption parseTreeCacheOption) {
+                                                           final CacheOption parseTreeCacheOption, final boolean fastPathSQLParserEnabled) {
         return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption));
+                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, fastPathSQLParserEnabled));
     }
 }
@@ -39,11 +39,19 @@ public final class SQLStatementParserEngine {
     @Getter
     private final CacheOption parseTreeCacheOption;
     
+    @Getter
+    private final boolean fastPathSQLParserEnabled;
+    
     public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
-        sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, false);
+    }
+    
+    public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean fastPathSQLParserEnabled) {
+        sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption, fastPathSQLParserEnabled);
+        sqlStatementCache = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption, fastPathSQLParserEnabled);
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
+        this.fastPathSQLParserEnabled = fastPathSQLParserEnabled;
     }
     
     /**
@@ -39,15 +39,17 @@ public final class SQLStatementParserEngineFactory {
      * @param databaseType database type
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
+     * @param fastPathSQLParserEnabled whether fast path SQL parser is enabled
      * @return SQL statement parser engine
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType,
-                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean fastPathSQLParserEnabled) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption));
-        } else if (!result.getSqlStatementCacheOption().equals(sqlStatementCacheOption) || !result.getParseTreeCacheOption().equals(parseTreeCacheOption)) {
-            result = new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, fastPathSQLParserEnabled));
+        } else if (!result.getSqlStatementCacheOption().equals(sqlStatementCacheOption) || !result.getParseTreeCacheOption().equals(parseTreeCacheOption)
+                || result.isFastPathSQLParserEnabled() != fastPathSQLParserEnabled) {
+            result = new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, fastPathSQLParserEnabled);
             ENGINES.put(databaseType, result);
         }
         return result;
@@ -17,24 +17,59 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.template.ParseTreeTemplate;
+import org.apache.shardingsphere.infra.parser.sql.template.SQLFingerprintGenerator;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
-import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.DialectFastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * SQL statement parser executor.
+ *
+ * <p>Simple statements supported by dialect fast path SQL parser skip ANTLR if fast path SQL parser is enabled.
+ * Other SQLs which differ only in literal values share parse tree templates, each template is bound by one thread at a time.
+ * A SQL is parsed by ANTLR parser with its lexed tokens only if no template of its fingerprint is idle, the parsed tree becomes a new template of the fingerprint.</p>
  */
 public final class SQLStatementParserExecutor {
     
-    private final SQLParserEngine parserEngine;
+    private static final Map<Class<? extends SQLLexer>, SQLFingerprintGenerator> FINGERPRINT_GENERATORS = new ConcurrentHashMap<>();
+    
+    private static final int MAX_TEMPLATE_COUNT_PER_FINGERPRINT = Runtime.getRuntime().availableProcessors();
+    
+    private final DatabaseType databaseType;
+    
+    private final SQLParserExecutor parserExecutor;
     
     private final SQLStatementVisitorEngine visitorEngine;
     
-    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
-        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
+    private final Cache<String, Queue<ParseTreeTemplate>> parseTreeTemplateCache;
+    
+    private final boolean fastPathSQLParserEnabled;
+    
+    public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption, final boolean fastPathSQLParserEnabled) {
+        this.databaseType = databaseType;
+        parserExecutor = new SQLParserExecutor(databaseType);
         visitorEngine = new SQLStatementVisitorEngine(databaseType);
+        parseTreeTemplateCache = Caffeine.newBuilder().softValues().initialCapacity(parseTreeCacheOption.getInitialCapacity()).maximumSize(parseTreeCacheOption.getMaximumSize()).build();
+        this.fastPathSQLParserEnabled = fastPathSQLParserEnabled;
     }
     
     /**
@@ -44,6 +79,37 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
+        if (fastPathSQLParserEnabled) {
+            Optional<SQLStatement> fastPathResult = findFastPathSQLParser(sqlParserFacade).flatMap(optional -> optional.parse(sql));
+            if (fastPathResult.isPresent()) {
+                return fastPathResult.get();
+            }
+        }
+        Class<? extends SQLLexer> lexerClass = sqlParserFacade.getLexerClass();
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, lexerClass);
+        tokenStream.fill();
+        String fingerprint = FINGERPRINT_GENERATORS.computeIfAbsent(lexerClass, SQLStatementParserExecutor::createFingerprintGenerator).generate(tokenStream);
+        Queue<ParseTreeTemplate> parseTreeTemplates = parseTreeTemplateCache.getIfPresent(fingerprint);
+        ParseTreeTemplate parseTreeTemplate = null == parseTreeTemplates ? null : parseTreeTemplates.poll();
+        if (null != parseTreeTemplate) {
+            try {
+                return visitorEngine.visit(parseTreeTemplate.bind(tokenStream));
+            } finally {
+                parseTreeTemplates.offer(parseTreeTemplate);
+            }
+        }
+        ParseASTNode parseASTNode = parserExecutor.parse(sql, tokenStream);
+        SQLStatement result = visitorEngine.visit(parseASTNode);
+        ParseTreeTemplate.create(parseASTNode).ifPresent(optional -> parseTreeTemplateCache.get(fingerprint, key -> new ArrayBlockingQueue<>(MAX_TEMPLATE_COUNT_PER_FINGERPRINT)).offer(optional));
+        return result;
+    }
+    
+    private Optional<DialectFastPathSQLParser> findFastPathSQLParser(final DialectSQLParserFacade sqlParserFacade) {
+        return DatabaseTypedSPILoader.findService(DialectFastPathSQLParser.class, databaseType).filter(optional -> optional.getDatabaseType().equals(sqlParserFacade.getDatabaseType()));
+    }
+    
+    private static SQLFingerprintGenerator createFingerprintGenerator(final Class<? extends SQLLexer> lexerClass) {
+        return new SQLFingerprintGenerator(((Lexer) SQLParserFactory.newTokenStream("", lexerClass).getTokenSource()).getVocabulary());
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.parser.sql.template;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Parse tree template.
+ *
+ * <p>Holds the parse tree of a parsed SQL, the tree can be bound to the tokens of another SQL with the same fingerprint to skip parsing.
+ * The parse tree is mutated while binding, so it must not be shared by other threads during binding and visiting.</p>
+ */
+public final class ParseTreeTemplate {
+    
+    private final ParseTree parseTree;
+    
+    private int[] tokenOrdinals;
+    
+    private ParseTreeTemplate(final ParseTree parseTree, final int[] tokenOrdinals) {
+        this.parseTree = parseTree;
+        this.tokenOrdinals = tokenOrdinals;
+    }
+    
+    /**
+     * Create parse tree template.
+     *
+     * @param parseASTNode parse AST node
+     * @return created parse tree template, empty if parse tree can not be rebound
+     */
+    public static Optional<ParseTreeTemplate> create(final ParseASTNode parseASTNode) {
+        parseASTNode.getTokenStream().fill();
+        int[] tokenOrdinals = getTokenOrdinals(parseASTNode.getTokenStream().getTokens());
+        return ParseTreeTokenBinder.isBindable(parseASTNode.getParseTree(), each -> isOnChannelToken(each, tokenOrdinals))
+                ? Optional.of(new ParseTreeTemplate(parseASTNode.getParseTree(), tokenOrdinals))
+                : Optional.empty();
+    }
+    
+    private static int[] getTokenOrdinals(final List<Token> tokens) {
+        int[] result = new int[tokens.size()];
+        Arrays.fill(result, -1);
+        int ordinal = 0;
+        for (Token each : tokens) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                result[each.getTokenIndex()] = ordinal++;
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isOnChannelToken(final Token token, final int[] tokenOrdinals) {
+        return 0 <= token.getTokenIndex() && token.getTokenIndex() < tokenOrdinals.length && tokenOrdinals[token.getTokenIndex()] >= 0;
+    }
+    
+    /**
+     * Bind template to tokens of SQL with the same fingerprint.
+     *
+     * @param tokenStream filled token stream
+     * @return bound parse AST node
+     */
+    public ParseASTNode bind(final CommonTokenStream tokenStream) {
+        List<Token> onChannelTokens = new ArrayList<>(tokenStream.size());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL == each.getChannel()) {
+                onChannelTokens.add(each);
+            }
+        }
+        int[] boundTokenOrdinals = tokenOrdinals;
+        ParseTreeTokenBinder.bind(parseTree, each -> onChannelTokens.get(boundTokenOrdinals[each.getTokenIndex()]));
+        tokenOrdinals = getTokenOrdinals(tokenStream.getTokens());
+        return new ParseASTNode(parseTree, tokenStream);
+    }
+}
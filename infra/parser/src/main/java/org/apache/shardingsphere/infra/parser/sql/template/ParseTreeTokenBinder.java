@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.parser.sql.template;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Parse tree token binder.
+ *
+ * <p>Replaces tokens referenced by terminal nodes, rule contexts and token labels of generated rule contexts.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParseTreeTokenBinder {
+    
+    private static final Map<Class<?>, Collection<Field>> TOKEN_FIELDS = new ConcurrentHashMap<>();
+    
+    /**
+     * Judge whether all tokens referenced by parse tree are bindable.
+     *
+     * @param parseTree parse tree
+     * @param bindable bindable predicate of token
+     * @return bindable or not
+     */
+    public static boolean isBindable(final ParseTree parseTree, final Predicate<Token> bindable) {
+        boolean[] result = {true};
+        bind(parseTree, each -> {
+            result[0] = result[0] && bindable.test(each);
+            return each;
+        });
+        return result[0];
+    }
+    
+    /**
+     * Bind tokens of parse tree.
+     *
+     * @param parseTree parse tree
+     * @param tokenMapper mapper from current token to bound token
+     */
+    public static void bind(final ParseTree parseTree, final UnaryOperator<Token> tokenMapper) {
+        if (parseTree instanceof TerminalNodeImpl) {
+            TerminalNodeImpl terminalNode = (TerminalNodeImpl) parseTree;
+            terminalNode.symbol = tokenMapper.apply(terminalNode.symbol);
+            return;
+        }
+        if (parseTree instanceof ParserRuleContext) {
+            bindRuleContext((ParserRuleContext) parseTree, tokenMapper);
+        }
+        for (int i = 0; i < parseTree.getChildCount(); i++) {
+            bind(parseTree.getChild(i), tokenMapper);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(IllegalAccessException.class)
+    private static void bindRuleContext(final ParserRuleContext ruleContext, final UnaryOperator<Token> tokenMapper) {
+        if (null != ruleContext.start) {
+            ruleContext.start = tokenMapper.apply(ruleContext.start);
+        }
+        if (null != ruleContext.stop) {
+            ruleContext.stop = tokenMapper.apply(ruleContext.stop);
+        }
+        for (Field each : TOKEN_FIELDS.computeIfAbsent(ruleContext.getClass(), ParseTreeTokenBinder::findTokenFields)) {
+            Object value = each.get(ruleContext);
+            if (value instanceof Token) {
+                each.set(ruleContext, tokenMapper.apply((Token) value));
+            } else if (value instanceof List) {
+                ((List<Token>) value).replaceAll(tokenMapper);
+            }
+        }
+    }
+    
+    private static Collection<Field> findTokenFields(final Class<?> ruleContextClass) {
+        Collection<Field> result = new LinkedList<>();
+        for (Class<?> clazz = ruleContextClass; ParserRuleContext.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers()) && isTokenField(each)) {
+                    each.setAccessible(true);
+                    result.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static boolean isTokenField(final Field field) {
+        if (Token.class == field.getType()) {
+            return true;
+        }
+        return List.class == field.getType() && field.getGenericType() instanceof ParameterizedType
+                && Token.class == ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+    }
+}
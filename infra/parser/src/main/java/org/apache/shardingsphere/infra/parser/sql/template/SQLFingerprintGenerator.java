@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.parser.sql.template;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * SQL fingerprint generator.
+ *
+ * <p>Generates the canonical key of SQL by replacing literal tokens with placeholders, SQLs which differ only in literal values share the same fingerprint.</p>
+ */
+public final class SQLFingerprintGenerator {
+    
+    private static final Collection<String> LITERAL_SYMBOLIC_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "SINGLE_QUOTED_TEXT", "DOUBLE_QUOTED_TEXT", "NCHAR_TEXT", "UCHAR_TEXT", "NUMBER_", "INTEGER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private static final String PLACEHOLDER = "?";
+    
+    private final boolean[] literalTokenTypes;
+    
+    public SQLFingerprintGenerator(final Vocabulary vocabulary) {
+        literalTokenTypes = new boolean[vocabulary.getMaxTokenType() + 1];
+        for (int i = 0; i < literalTokenTypes.length; i++) {
+            literalTokenTypes[i] = LITERAL_SYMBOLIC_NAMES.contains(vocabulary.getSymbolicName(i));
+        }
+    }
+    
+    /**
+     * Generate fingerprint.
+     *
+     * @param tokenStream filled token stream
+     * @return generated fingerprint
+     */
+    public String generate(final CommonTokenStream tokenStream) {
+        StringBuilder result = new StringBuilder();
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL != each.getChannel() || Token.EOF == each.getType()) {
+                continue;
+            }
+            String text = isLiteral(each.getType()) ? PLACEHOLDER : each.getText();
+            result.append(each.getType()).append(':').append(text.length()).append(':').append(text);
+        }
+        return result.toString();
+    }
+    
+    private boolean isLiteral(final int tokenType) {
+        return tokenType > 0 && tokenType < literalTokenTypes.length && literalTokenTypes[tokenType];
+    }
+}
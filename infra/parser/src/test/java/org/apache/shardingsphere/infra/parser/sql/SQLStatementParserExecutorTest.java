@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.parser.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.template.ParseTreeTemplate;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.DialectFastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.Queue;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+
+class SQLStatementParserExecutorTest {
+    
+    private final SQLStatementParserExecutor executor = new SQLStatementParserExecutor(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(128, 1024L), false);
+    
+    @Test
+    void assertParseWithDifferentLiterals() {
+        SelectStatement first = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'a'");
+        SelectStatement second = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE order_id = 1000 /* foo */ AND status = 'finished'");
+        assertCondition(first, 1, 28, 39, "a", 54, 56);
+        assertCondition(second, 1000, 28, 42, "finished", 67, 76);
+        assertThat(second.getCommentSegments().size(), is(1));
+        assertThat(second.getCommentSegments().iterator().next().getText(), is("/* foo */"));
+    }
+    
+    @Test
+    void assertParseWithDifferentStructures() {
+        executor.parse("SELECT * FROM t_order WHERE order_id = 1");
+        SelectStatement actual = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE user_id = 10");
+        BinaryOperationExpression condition = (BinaryOperationExpression) actual.getWhere().get().getExpr();
+        assertThat(condition.getText(), is("user_id = 10"));
+    }
+    
+    @Test
+    void assertParseWithoutTemplateLexesOnce() {
+        String sql = "SELECT * FROM t_order WHERE order_id = 1 AND user_id = 2";
+        try (MockedStatic<SQLParserFactory> mocked = mockStatic(SQLParserFactory.class, CALLS_REAL_METHODS)) {
+            SelectStatement actual = (SelectStatement) executor.parse(sql);
+            assertThat(actual.getWhere().get().getExpr().getText(), is("order_id = 1 AND user_id = 2"));
+            mocked.verify(() -> SQLParserFactory.newTokenStream(eq(sql), any()));
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertParseWithBusyTemplate() throws ReflectiveOperationException {
+        executor.parse("SELECT * FROM t_order WHERE order_id = 1");
+        Queue<ParseTreeTemplate> parseTreeTemplates = ((Cache<String, Queue<ParseTreeTemplate>>) Plugins.getMemberAccessor()
+                .get(SQLStatementParserExecutor.class.getDeclaredField("parseTreeTemplateCache"), executor)).asMap().values().iterator().next();
+        ParseTreeTemplate busyTemplate = parseTreeTemplates.poll();
+        SelectStatement actual = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE order_id = 2");
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) actual.getWhere().get().getExpr()).getRight()).getLiterals(), is(2));
+        assertThat(parseTreeTemplates.size(), is(1));
+        parseTreeTemplates.offer(busyTemplate);
+        actual = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE order_id = 3");
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) actual.getWhere().get().getExpr()).getRight()).getLiterals(), is(3));
+    }
+    
+    @Test
+    void assertParseWithFastPathSQLParserEnabled() {
+        SQLStatementParserExecutor fastPathExecutor = new SQLStatementParserExecutor(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(128, 1024L), true);
+        try (MockedStatic<DatabaseTypedSPILoader> mocked = mockStatic(DatabaseTypedSPILoader.class, CALLS_REAL_METHODS)) {
+            SelectStatement actual = (SelectStatement) fastPathExecutor.parse("SELECT * FROM t_order WHERE order_id = ?");
+            assertThat(actual.getParameterCount(), is(1));
+            mocked.verify(() -> DatabaseTypedSPILoader.findService(eq(DialectFastPathSQLParser.class), any(DatabaseType.class)));
+        }
+    }
+    
+    @Test
+    void assertParseWithFastPathSQLParserDisabled() {
+        try (MockedStatic<DatabaseTypedSPILoader> mocked = mockStatic(DatabaseTypedSPILoader.class, CALLS_REAL_METHODS)) {
+            SelectStatement actual = (SelectStatement) executor.parse("SELECT * FROM t_order WHERE order_id = ?");
+            assertThat(actual.getParameterCount(), is(1));
+            mocked.verify(() -> DatabaseTypedSPILoader.findService(eq(DialectFastPathSQLParser.class), any(DatabaseType.class)), never());
+        }
+    }
+    
+    private void assertCondition(final SelectStatement actual, final int orderId, final int orderIdStartIndex, final int orderIdStopIndex,
+                                 final String status, final int statusStartIndex, final int statusStopIndex) {
+        BinaryOperationExpression andCondition = (BinaryOperationExpression) actual.getWhere().get().getExpr();
+        BinaryOperationExpression orderIdCondition = (BinaryOperationExpression) andCondition.getLeft();
+        assertThat(orderIdCondition.getStartIndex(), is(orderIdStartIndex));
+        assertThat(orderIdCondition.getStopIndex(), is(orderIdStopIndex));
+        assertThat(((LiteralExpressionSegment) orderIdCondition.getRight()).getLiterals(), is(orderId));
+        LiteralExpressionSegment statusLiteral = (LiteralExpressionSegment) ((BinaryOperationExpression) andCondition.getRight()).getRight();
+        assertThat(statusLiteral.getLiterals(), is(status));
+        assertThat(statusLiteral.getStartIndex(), is(statusStartIndex));
+        assertThat(statusLiteral.getStopIndex(), is(statusStopIndex));
+    }
+}
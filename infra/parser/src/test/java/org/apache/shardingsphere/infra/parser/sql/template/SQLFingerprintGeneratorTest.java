@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.parser.sql.template;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.mysql.parser.MySQLLexer;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLFingerprintGeneratorTest {
+    
+    @Test
+    void assertGenerateWithDifferentLiterals() {
+        assertThat(generate("SELECT * FROM t_order WHERE order_id = 1 AND status = 'a'"), is(generate("SELECT * FROM t_order WHERE order_id = 10 AND status = 'finished'")));
+    }
+    
+    @Test
+    void assertGenerateWithDifferentComments() {
+        assertThat(generate("SELECT * FROM t_order WHERE order_id = 1"), is(generate("SELECT * FROM t_order /* foo */ WHERE order_id = 1")));
+    }
+    
+    @Test
+    void assertGenerateWithDifferentIdentifiers() {
+        assertThat(generate("SELECT * FROM t_order WHERE order_id = 1"), not(generate("SELECT * FROM t_order WHERE user_id = 1")));
+    }
+    
+    @Test
+    void assertGenerateWithDifferentLiteralTypes() {
+        assertThat(generate("SELECT * FROM t_order WHERE order_id = 1"), not(generate("SELECT * FROM t_order WHERE order_id = '1'")));
+    }
+    
+    private String generate(final String sql) {
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, MySQLLexer.class);
+        tokenStream.fill();
+        return new SQLFingerprintGenerator(((Lexer) tokenStream.getTokenSource()).getVocabulary()).generate(tokenStream);
+    }
+}
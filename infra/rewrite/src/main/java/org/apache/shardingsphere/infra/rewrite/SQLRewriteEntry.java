@@ -26,15 +26,24 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlan;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCache;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCacheKey;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCacheRuleAttribute;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -66,11 +75,37 @@ public final class SQLRewriteEntry {
      * @return route unit and SQL rewrite result map
      */
     public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext) {
-        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext);
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
-        return routeContext.getRouteUnits().isEmpty()
-                ? new GenericSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, queryContext)
-                : new RouteSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, routeContext, queryContext);
+        if (routeContext.getRouteUnits().isEmpty()) {
+            return new GenericSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(createSQLRewriteContext(queryContext, routeContext), queryContext);
+        }
+        RouteSQLRewriteEngine routeSQLRewriteEngine = new RouteSQLRewriteEngine(rule, database, globalRuleMetaData);
+        Optional<SQLRewritePlanCache> sqlRewritePlanCache = findSQLRewritePlanCache(queryContext);
+        return sqlRewritePlanCache.isPresent()
+                ? rewriteWithPlanCache(queryContext, routeContext, routeSQLRewriteEngine, sqlRewritePlanCache.get())
+                : routeSQLRewriteEngine.rewrite(createSQLRewriteContext(queryContext, routeContext), routeContext, queryContext);
+    }
+    
+    private Optional<SQLRewritePlanCache> findSQLRewritePlanCache(final QueryContext queryContext) {
+        if (queryContext.getParameters().isEmpty() || queryContext.getHintValueContext().isSkipSQLRewrite()
+                || !(queryContext.getSqlStatementContext().getSqlStatement() instanceof DMLStatement)) {
+            return Optional.empty();
+        }
+        return database.getRuleMetaData().findAttribute(SQLRewritePlanCacheRuleAttribute.class).map(SQLRewritePlanCacheRuleAttribute::getSqlRewritePlanCache)
+                .filter(each -> each.isCacheable(queryContext.getSql()));
+    }
+    
+    private RouteSQLRewriteResult rewriteWithPlanCache(final QueryContext queryContext, final RouteContext routeContext,
+                                                      final RouteSQLRewriteEngine routeSQLRewriteEngine, final SQLRewritePlanCache sqlRewritePlanCache) {
+        SQLRewritePlanCacheKey cacheKey = new SQLRewritePlanCacheKey(queryContext.getSql(), routeContext);
+        Optional<SQLRewritePlan> cachedPlan = sqlRewritePlanCache.get(cacheKey).filter(each -> each.isValid(database, queryContext.getSqlStatementContext()));
+        if (cachedPlan.isPresent()) {
+            return routeSQLRewriteEngine.rewrite(cachedPlan.get(), queryContext);
+        }
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext);
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = routeSQLRewriteEngine.createSQLRewriteUnits(sqlRewriteContext, routeContext);
+        SQLRewritePlan.create(database, sqlRewriteContext, sqlRewriteUnits).ifPresent(optional -> sqlRewritePlanCache.put(cacheKey, optional));
+        return routeSQLRewriteEngine.translate(queryContext, sqlRewriteUnits);
     }
     
     private SQLRewriteContext createSQLRewriteContext(final QueryContext queryContext, final RouteContext routeContext) {
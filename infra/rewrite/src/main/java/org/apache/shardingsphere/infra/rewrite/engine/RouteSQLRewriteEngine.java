@@ -32,6 +32,7 @@ import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlan;
 import org.apache.shardingsphere.infra.rewrite.sql.impl.RouteSQLBuilder;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -69,10 +70,28 @@ public final class RouteSQLRewriteEngine {
      * @return SQL rewrite result
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final QueryContext queryContext) {
-        return new RouteSQLRewriteResult(translate(queryContext, createSQLRewriteUnits(sqlRewriteContext, routeContext)));
+        return translate(queryContext, createSQLRewriteUnits(sqlRewriteContext, routeContext));
     }
     
-    private Map<RouteUnit, SQLRewriteUnit> createSQLRewriteUnits(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
+    /**
+     * Rewrite SQL and parameters with cached SQL rewrite plan.
+     *
+     * @param sqlRewritePlan SQL rewrite plan
+     * @param queryContext query context
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLRewritePlan sqlRewritePlan, final QueryContext queryContext) {
+        return translate(queryContext, sqlRewritePlan.createSQLRewriteUnits(queryContext.getSqlStatementContext(), queryContext.getParameters()));
+    }
+    
+    /**
+     * Create SQL rewrite units before translation.
+     *
+     * @param sqlRewriteContext SQL rewrite context
+     * @param routeContext route context
+     * @return route unit and SQL rewrite unit map
+     */
+    public Map<RouteUnit, SQLRewriteUnit> createSQLRewriteUnits(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(routeContext.getRouteUnits().size(), 1F);
         for (Entry<String, Collection<RouteUnit>> entry : aggregateRouteUnitGroups(routeContext.getRouteUnits()).entrySet()) {
             Collection<RouteUnit> routeUnits = entry.getValue();
@@ -166,7 +185,14 @@ public final class RouteSQLRewriteEngine {
         return false;
     }
     
-    private Map<RouteUnit, SQLRewriteUnit> translate(final QueryContext queryContext, final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits) {
+    /**
+     * Translate SQL rewrite units.
+     *
+     * @param queryContext query context
+     * @param sqlRewriteUnits route unit and SQL rewrite unit map before translation
+     * @return SQL rewrite result
+     */
+    public RouteSQLRewriteResult translate(final QueryContext queryContext, final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits) {
         Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(sqlRewriteUnits.size(), 1F);
         Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
         for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
@@ -175,6 +201,6 @@ public final class RouteSQLRewriteEngine {
             SQLRewriteUnit sqlRewriteUnit = new SQLRewriteUnit(sqlTranslatorContext.getSql(), sqlTranslatorContext.getParameters());
             result.put(entry.getKey(), sqlRewriteUnit);
         }
-        return result;
+        return new RouteSQLRewriteResult(result);
     }
 }
@@ -68,6 +68,16 @@ public final class GroupedParameterBuilder implements ParameterBuilder {
         return parameterBuilders.get(count).getParameters();
     }
     
+    @Override
+    public boolean isRewritten() {
+        for (StandardParameterBuilder each : parameterBuilders) {
+            if (each.isRewritten()) {
+                return true;
+            }
+        }
+        return genericParameterBuilder.isRewritten();
+    }
+    
     /**
      * Get derived column name.
      *
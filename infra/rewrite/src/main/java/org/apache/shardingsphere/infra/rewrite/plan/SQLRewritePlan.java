@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL rewrite plan.
+ *
+ * <p>
+ * Keeps rewritten SQL of each route unit and the original parameter indexes it binds, so only parameter values need to be derived per execution.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLRewritePlan {
+    
+    private static final int AMBIGUOUS_PARAMETER_INDEX = -1;
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    private final Map<String, ShardingSphereTable> tables;
+    
+    private final boolean needAggregateRewrite;
+    
+    private final Map<RouteUnit, SQLRewriteUnitTemplate> templates;
+    
+    /**
+     * Create SQL rewrite plan.
+     *
+     * @param database database
+     * @param sqlRewriteContext SQL rewrite context
+     * @param sqlRewriteUnits SQL rewrite units before translation
+     * @return created SQL rewrite plan, empty if parameters of SQL rewrite units can not be derived from original parameters
+     */
+    public static Optional<SQLRewritePlan> create(final ShardingSphereDatabase database, final SQLRewriteContext sqlRewriteContext, final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits) {
+        SQLStatementContext sqlStatementContext = sqlRewriteContext.getSqlStatementContext();
+        if (sqlRewriteContext.getParameterBuilder().isRewritten() || isGeneratedKeyInsert(sqlStatementContext)) {
+            return Optional.empty();
+        }
+        Map<Object, Integer> paramIndexes = createParameterIndexes(sqlRewriteContext.getParameters());
+        Map<RouteUnit, SQLRewriteUnitTemplate> templates = new LinkedHashMap<>(sqlRewriteUnits.size(), 1F);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
+            Optional<int[]> templateParamIndexes = findParameterIndexes(entry.getValue().getParameters(), paramIndexes);
+            if (!templateParamIndexes.isPresent()) {
+                return Optional.empty();
+            }
+            templates.put(copyRouteUnit(entry.getKey()), new SQLRewriteUnitTemplate(entry.getValue().getSql(), templateParamIndexes.get()));
+        }
+        boolean needAggregateRewrite = sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isNeedAggregateRewrite();
+        return Optional.of(new SQLRewritePlan(new ArrayList<>(database.getRuleMetaData().getRules()), getTables(database, sqlStatementContext), needAggregateRewrite, templates));
+    }
+    
+    private static boolean isGeneratedKeyInsert(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof InsertStatementContext && ((InsertStatementContext) sqlStatementContext).getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+    }
+    
+    private static Map<Object, Integer> createParameterIndexes(final List<Object> params) {
+        Map<Object, Integer> result = new IdentityHashMap<>(params.size());
+        int index = 0;
+        for (Object each : params) {
+            result.put(each, result.containsKey(each) ? AMBIGUOUS_PARAMETER_INDEX : index);
+            index++;
+        }
+        return result;
+    }
+    
+    private static Optional<int[]> findParameterIndexes(final List<Object> params, final Map<Object, Integer> paramIndexes) {
+        int[] result = new int[params.size()];
+        int index = 0;
+        for (Object each : params) {
+            Integer paramIndex = paramIndexes.get(each);
+            if (null == paramIndex || AMBIGUOUS_PARAMETER_INDEX == paramIndex) {
+                return Optional.empty();
+            }
+            result[index++] = paramIndex;
+        }
+        return Optional.of(result);
+    }
+    
+    private static RouteUnit copyRouteUnit(final RouteUnit routeUnit) {
+        return new RouteUnit(routeUnit.getDataSourceMapper(), new ArrayList<>(routeUnit.getTableMappers()));
+    }
+    
+    private static Map<String, ShardingSphereTable> getTables(final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof TableAvailable)) {
+            return Collections.emptyMap();
+        }
+        TablesContext tablesContext = ((TableAvailable) sqlStatementContext).getTablesContext();
+        ShardingSphereSchema schema = database.getSchema(
+                tablesContext.getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(sqlStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName())));
+        Map<String, ShardingSphereTable> result = new HashMap<>(tablesContext.getTableNames().size(), 1F);
+        for (String each : tablesContext.getTableNames()) {
+            result.put(each, null == schema ? null : schema.getTable(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether SQL rewrite plan is still valid for current rules and metadata.
+     *
+     * @param database database
+     * @param sqlStatementContext SQL statement context
+     * @return valid or not
+     */
+    public boolean isValid(final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext) {
+        return isSameRules(database.getRuleMetaData().getRules()) && isSameTables(getTables(database, sqlStatementContext));
+    }
+    
+    private boolean isSameRules(final Collection<ShardingSphereRule> currentRules) {
+        if (rules.size() != currentRules.size()) {
+            return false;
+        }
+        Iterator<ShardingSphereRule> iterator = rules.iterator();
+        for (ShardingSphereRule each : currentRules) {
+            if (each != iterator.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameTables(final Map<String, ShardingSphereTable> currentTables) {
+        if (tables.size() != currentTables.size()) {
+            return false;
+        }
+        for (Entry<String, ShardingSphereTable> entry : currentTables.entrySet()) {
+            if (!tables.containsKey(entry.getKey()) || tables.get(entry.getKey()) != entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Create SQL rewrite units with actual parameters.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param params actual parameters
+     * @return SQL rewrite units before translation
+     */
+    public Map<RouteUnit, SQLRewriteUnit> createSQLRewriteUnits(final SQLStatementContext sqlStatementContext, final List<Object> params) {
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            ((SelectStatementContext) sqlStatementContext).setNeedAggregateRewrite(needAggregateRewrite);
+        }
+        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(templates.size(), 1F);
+        for (Entry<RouteUnit, SQLRewriteUnitTemplate> entry : templates.entrySet()) {
+            result.put(copyRouteUnit(entry.getKey()), entry.getValue().createSQLRewriteUnit(params));
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SQLRewriteUnitTemplate {
+        
+        private final String sql;
+        
+        private final int[] parameterIndexes;
+        
+        private SQLRewriteUnit createSQLRewriteUnit(final List<Object> params) {
+            List<Object> actualParams = new ArrayList<>(parameterIndexes.length);
+            for (int each : parameterIndexes) {
+                actualParams.add(params.get(each));
+            }
+            return new SQLRewriteUnit(sql, actualParams);
+        }
+    }
+}
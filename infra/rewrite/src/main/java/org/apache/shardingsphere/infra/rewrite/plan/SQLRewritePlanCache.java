@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Optional;
+
+/**
+ * SQL rewrite plan cache.
+ */
+public final class SQLRewritePlanCache {
+    
+    private final int allowedMaxSqlLength;
+    
+    private final Cache<SQLRewritePlanCacheKey, SQLRewritePlan> cache;
+    
+    public SQLRewritePlanCache(final int allowedMaxSqlLength, final int initialCapacity, final int maximumSize, final boolean softValues) {
+        this.allowedMaxSqlLength = allowedMaxSqlLength;
+        cache = buildCache(initialCapacity, maximumSize, softValues);
+    }
+    
+    private Cache<SQLRewritePlanCacheKey, SQLRewritePlan> buildCache(final int initialCapacity, final int maximumSize, final boolean softValues) {
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(initialCapacity).maximumSize(maximumSize);
+        if (softValues) {
+            result.softValues();
+        }
+        return result.build();
+    }
+    
+    /**
+     * Judge whether SQL is allowed to be cached.
+     *
+     * @param sql SQL
+     * @return allowed to be cached or not
+     */
+    public boolean isCacheable(final String sql) {
+        return sql.length() <= allowedMaxSqlLength;
+    }
+    
+    /**
+     * Cache SQL rewrite plan.
+     *
+     * @param key cache key
+     * @param plan SQL rewrite plan
+     */
+    public void put(final SQLRewritePlanCacheKey key, final SQLRewritePlan plan) {
+        cache.put(key, plan);
+    }
+    
+    /**
+     * Get cached SQL rewrite plan.
+     *
+     * @param key cache key
+     * @return optional cached SQL rewrite plan
+     */
+    public Optional<SQLRewritePlan> get(final SQLRewritePlanCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Key of SQL rewrite plan cache.
+ */
+@Getter
+@EqualsAndHashCode
+public final class SQLRewritePlanCacheKey {
+    
+    private final String sql;
+    
+    private final List<RouteUnit> routeUnits;
+    
+    private final List<List<DataNode>> originalDataNodes;
+    
+    public SQLRewritePlanCacheKey(final String sql, final RouteContext routeContext) {
+        this.sql = sql;
+        routeUnits = new ArrayList<>(routeContext.getRouteUnits().size());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            routeUnits.add(new RouteUnit(each.getDataSourceMapper(), new ArrayList<>(each.getTableMappers())));
+        }
+        originalDataNodes = new ArrayList<>(routeContext.getOriginalDataNodes().size());
+        for (Collection<DataNode> each : routeContext.getOriginalDataNodes()) {
+            originalDataNodes.add(new ArrayList<>(each));
+        }
+    }
+}
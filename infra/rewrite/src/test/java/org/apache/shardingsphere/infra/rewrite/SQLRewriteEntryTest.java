@@ -28,11 +28,17 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCache;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCacheKey;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCacheRuleAttribute;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sqltranslator.context.SQLTranslatorContext;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
@@ -46,6 +52,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -96,6 +103,33 @@ class SQLRewriteEntryTest {
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
     
+    @Test
+    void assertRewriteWithSQLRewritePlanCache() {
+        SQLRewritePlanCache sqlRewritePlanCache = new SQLRewritePlanCache(100, 16, 16, false);
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getAttributes()).thenReturn(new RuleAttributes(new SQLRewritePlanCacheRuleAttribute(sqlRewritePlanCache)));
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", h2DatabaseType, mockResourceMetaData(),
+                new RuleMetaData(Collections.singleton(rule)), Collections.singleton(new ShardingSphereSchema("test")));
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(
+                database, new RuleMetaData(Collections.singleton(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()))), new ConfigurationProperties(new Properties()));
+        RouteContext routeContext = new RouteContext();
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t", "t_0")));
+        routeContext.getRouteUnits().add(routeUnit);
+        RouteSQLRewriteResult firstResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(createDMLQueryContext(1), routeContext);
+        assertThat(firstResult.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
+        assertTrue(sqlRewritePlanCache.get(new SQLRewritePlanCacheKey("SELECT ?", routeContext)).isPresent());
+        RouteSQLRewriteResult secondResult = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(createDMLQueryContext(2), routeContext);
+        assertThat(secondResult.getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ?"));
+        assertThat(secondResult.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(2)));
+    }
+    
+    private QueryContext createDMLQueryContext(final Object param) {
+        QueryContext result = createQueryContext();
+        when(result.getParameters()).thenReturn(Collections.singletonList(param));
+        when(result.getSqlStatementContext().getSqlStatement()).thenReturn(mock(DMLStatement.class));
+        return result;
+    }
+    
     private ResourceMetaData mockResourceMetaData() {
         Map<String, StorageUnit> storageUnits = new LinkedHashMap<>(2, 1F);
         StorageUnit storageUnit1 = mock(StorageUnit.class);
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import org.apache.shardingsphere.infra.binder.context.statement.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLRewritePlanTest {
+    
+    private final CommonSQLStatementContext sqlStatementContext = mock(CommonSQLStatementContext.class);
+    
+    private final ShardingSphereRule rule = mock(ShardingSphereRule.class);
+    
+    @Test
+    void assertCreateSQLRewriteUnits() {
+        List<Object> params = Arrays.asList(new Object(), new Object(), new Object());
+        RouteUnit firstRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+        RouteUnit secondRouteUnit = new RouteUnit(new RouteMapper("ds", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1")));
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(2, 1F);
+        sqlRewriteUnits.put(firstRouteUnit, new SQLRewriteUnit("SELECT ? FROM t_order_0 WHERE id = ?", Arrays.asList(params.get(0), params.get(1))));
+        sqlRewriteUnits.put(secondRouteUnit, new SQLRewriteUnit("SELECT ? FROM t_order_1 WHERE id = ?", Arrays.asList(params.get(0), params.get(2))));
+        Optional<SQLRewritePlan> plan = SQLRewritePlan.create(mockDatabase(), mockSQLRewriteContext(params), sqlRewriteUnits);
+        assertTrue(plan.isPresent());
+        Map<RouteUnit, SQLRewriteUnit> actual = plan.get().createSQLRewriteUnits(sqlStatementContext, Arrays.asList("foo", 1, 2));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(firstRouteUnit).getSql(), is("SELECT ? FROM t_order_0 WHERE id = ?"));
+        assertThat(actual.get(firstRouteUnit).getParameters(), is(Arrays.<Object>asList("foo", 1)));
+        assertThat(actual.get(secondRouteUnit).getSql(), is("SELECT ? FROM t_order_1 WHERE id = ?"));
+        assertThat(actual.get(secondRouteUnit).getParameters(), is(Arrays.<Object>asList("foo", 2)));
+    }
+    
+    @Test
+    void assertCreateWithRewrittenParameters() {
+        List<Object> params = Collections.singletonList(new Object());
+        SQLRewriteContext sqlRewriteContext = mockSQLRewriteContext(params);
+        ((StandardParameterBuilder) sqlRewriteContext.getParameterBuilder()).addReplacedParameters(0, new Object());
+        assertFalse(SQLRewritePlan.create(mockDatabase(), sqlRewriteContext, createSQLRewriteUnits(params)).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithAmbiguousParameters() {
+        Object param = new Object();
+        List<Object> params = Arrays.asList(param, param);
+        assertFalse(SQLRewritePlan.create(mockDatabase(), mockSQLRewriteContext(params), createSQLRewriteUnits(params)).isPresent());
+    }
+    
+    @Test
+    void assertCreateWithUnknownParameters() {
+        List<Object> params = Collections.singletonList(new Object());
+        assertFalse(SQLRewritePlan.create(mockDatabase(), mockSQLRewriteContext(params), createSQLRewriteUnits(Collections.singletonList(new Object()))).isPresent());
+    }
+    
+    @Test
+    void assertIsValid() {
+        List<Object> params = Collections.singletonList(new Object());
+        ShardingSphereDatabase database = mockDatabase();
+        Optional<SQLRewritePlan> plan = SQLRewritePlan.create(database, mockSQLRewriteContext(params), createSQLRewriteUnits(params));
+        assertTrue(plan.isPresent());
+        assertTrue(plan.get().isValid(database, sqlStatementContext));
+    }
+    
+    @Test
+    void assertIsNotValidWithChangedRules() {
+        List<Object> params = Collections.singletonList(new Object());
+        Optional<SQLRewritePlan> plan = SQLRewritePlan.create(mockDatabase(), mockSQLRewriteContext(params), createSQLRewriteUnits(params));
+        assertTrue(plan.isPresent());
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData().getRules()).thenReturn(Collections.singleton(mock(ShardingSphereRule.class)));
+        assertFalse(plan.get().isValid(database, sqlStatementContext));
+    }
+    
+    private ShardingSphereDatabase mockDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData().getRules()).thenReturn(Collections.singleton(rule));
+        return result;
+    }
+    
+    private SQLRewriteContext mockSQLRewriteContext(final List<Object> params) {
+        SQLRewriteContext result = mock(SQLRewriteContext.class);
+        when(result.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(result.getParameters()).thenReturn(params);
+        when(result.getParameterBuilder()).thenReturn(new StandardParameterBuilder(params));
+        return result;
+    }
+    
+    private Map<RouteUnit, SQLRewriteUnit> createSQLRewriteUnits(final List<Object> params) {
+        return Collections.singletonMap(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))),
+                new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE id = ?", params));
+    }
+}
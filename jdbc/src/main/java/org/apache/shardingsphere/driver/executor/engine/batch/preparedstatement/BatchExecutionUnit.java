@@ -33,6 +33,10 @@ import java.util.Map;
 
 /**
  * Batch execution unit.
+ *
+ * <p>
+ * Rows of folded batch execution unit are put into multi-values insert, each actual call of addBatch takes {@code foldedRowCount} rows.
+ * </p>
  */
 @RequiredArgsConstructor
 @Getter
@@ -42,10 +46,16 @@ public final class BatchExecutionUnit {
     
     private final ExecutionUnit executionUnit;
     
+    private final int foldedRowCount;
+    
     private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
     
     @Getter(AccessLevel.NONE)
-    private int actualCallAddBatchTimes;
+    private int rowCount;
+    
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        this(executionUnit, 1);
+    }
     
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
@@ -53,7 +63,16 @@ public final class BatchExecutionUnit {
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, rowCount++ / foldedRowCount);
+    }
+    
+    /**
+     * Get times of actual call addBatch.
+     *
+     * @return times of actual call addBatch
+     */
+    public int getActualCallAddBatchTimes() {
+        return (rowCount + foldedRowCount - 1) / foldedRowCount;
     }
     
     /**
@@ -63,6 +82,7 @@ public final class BatchExecutionUnit {
      */
     public List<List<Object>> getParameterSets() {
         List<List<Object>> result = new LinkedList<>();
+        int actualCallAddBatchTimes = getActualCallAddBatchTimes();
         if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == actualCallAddBatchTimes) {
             result.add(Collections.emptyList());
         } else {
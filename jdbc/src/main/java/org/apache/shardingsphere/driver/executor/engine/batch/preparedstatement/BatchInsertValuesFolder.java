@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map.Entry;
+
+/**
+ * Batch insert values folder.
+ *
+ * <p>
+ * Folds rows of batched single row insert, which are routed to same data source with same actual SQL, into multi-values insert.
+ * For example, 3 rows of {@code INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)} with fold size 2 are executed as
+ * {@code INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)} for first 2 rows and the original SQL for the last row.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class BatchInsertValuesFolder {
+    
+    private static final String VALUES_KEYWORD = "VALUES";
+    
+    private static final String VALUE_KEYWORD = "VALUE";
+    
+    private final int foldSize;
+    
+    /**
+     * Fold batch execution unit.
+     *
+     * @param batchExecutionUnit batch execution unit to be folded
+     * @return folded batch execution units, or the batch execution unit itself if it can not be folded
+     */
+    public Collection<BatchExecutionUnit> fold(final BatchExecutionUnit batchExecutionUnit) {
+        int rowCount = batchExecutionUnit.getActualCallAddBatchTimes();
+        String sql = batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql();
+        int valuesEndIndex = findValuesEndIndex(sql);
+        int valuesStartIndex = valuesEndIndex < 0 ? -1 : findValuesStartIndex(sql, valuesEndIndex);
+        if (foldSize < 2 || rowCount < 2 || 1 != batchExecutionUnit.getFoldedRowCount() || valuesStartIndex < 0
+                || 0 != batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().size() % rowCount) {
+            return Collections.singleton(batchExecutionUnit);
+        }
+        FoldedSQL foldedSQL = new FoldedSQL(sql.substring(0, valuesStartIndex), sql.substring(valuesStartIndex, valuesEndIndex + 1), sql.substring(valuesEndIndex + 1));
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        int fullFoldedRowCount = rowCount / foldSize * foldSize;
+        if (fullFoldedRowCount > 0) {
+            result.add(createFoldedBatchExecutionUnit(batchExecutionUnit, foldedSQL, foldSize, 0, fullFoldedRowCount));
+        }
+        if (rowCount > fullFoldedRowCount) {
+            result.add(createFoldedBatchExecutionUnit(batchExecutionUnit, foldedSQL, rowCount - fullFoldedRowCount, fullFoldedRowCount, rowCount));
+        }
+        return result;
+    }
+    
+    private int findValuesEndIndex(final String sql) {
+        int result = sql.length() - 1;
+        while (result >= 0 && Character.isWhitespace(sql.charAt(result))) {
+            result--;
+        }
+        return result >= 0 && ')' == sql.charAt(result) ? result : -1;
+    }
+    
+    private int findValuesStartIndex(final String sql, final int valuesEndIndex) {
+        int depth = 0;
+        for (int i = valuesEndIndex; i >= 0; i--) {
+            char each = sql.charAt(i);
+            if ('\'' == each || '"' == each || '`' == each) {
+                return -1;
+            }
+            if (')' == each) {
+                depth++;
+            } else if ('(' == each && 0 == --depth) {
+                return isEndWithValuesKeyword(sql.substring(0, i).trim()) ? i : -1;
+            }
+        }
+        return -1;
+    }
+    
+    private boolean isEndWithValuesKeyword(final String sql) {
+        return isEndWithKeyword(sql, VALUES_KEYWORD) || isEndWithKeyword(sql, VALUE_KEYWORD);
+    }
+    
+    private boolean isEndWithKeyword(final String sql, final String keyword) {
+        int keywordStartIndex = sql.length() - keyword.length();
+        if (keywordStartIndex < 1 || !sql.regionMatches(true, keywordStartIndex, keyword, 0, keyword.length())) {
+            return false;
+        }
+        char previous = sql.charAt(keywordStartIndex - 1);
+        return Character.isWhitespace(previous) || ')' == previous;
+    }
+    
+    private BatchExecutionUnit createFoldedBatchExecutionUnit(final BatchExecutionUnit batchExecutionUnit, final FoldedSQL foldedSQL, final int foldedRowCount,
+                                                              final int startRowIndex, final int endRowIndex) {
+        ExecutionUnit executionUnit = batchExecutionUnit.getExecutionUnit();
+        int rowParameterCount = executionUnit.getSqlUnit().getParameters().size() / batchExecutionUnit.getActualCallAddBatchTimes();
+        SQLUnit sqlUnit = new SQLUnit(foldedSQL.toSQL(foldedRowCount),
+                new ArrayList<>(executionUnit.getSqlUnit().getParameters().subList(startRowIndex * rowParameterCount, endRowIndex * rowParameterCount)),
+                executionUnit.getSqlUnit().getTableRouteMappers());
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit), foldedRowCount);
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            if (entry.getValue() >= startRowIndex && entry.getValue() < endRowIndex) {
+                result.mapAddBatchCount(entry.getKey());
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class FoldedSQL {
+        
+        private final String prefix;
+        
+        private final String values;
+        
+        private final String suffix;
+        
+        private String toSQL(final int rowCount) {
+            StringBuilder result = new StringBuilder(prefix.length() + suffix.length() + (values.length() + 2) * rowCount).append(prefix).append(values);
+            for (int i = 1; i < rowCount; i++) {
+                result.append(", ").append(values);
+            }
+            return result.append(suffix).toString();
+        }
+    }
+}
@@ -17,10 +17,11 @@
 
 package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
 
-import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -31,14 +32,15 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,16 +58,16 @@ public final class BatchPreparedStatementExecutor {
     
     private ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext;
     
-    @Getter
-    private final Collection<BatchExecutionUnit> batchExecutionUnits;
+    private final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
     
     private int batchCount;
     
+    private boolean folded;
+    
     public BatchPreparedStatementExecutor(final ShardingSphereDatabase database, final JDBCExecutor jdbcExecutor, final String processId) {
         this.database = database;
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(processId, database.getName()));
-        batchExecutionUnits = new LinkedList<>();
     }
     
     /**
@@ -83,44 +85,62 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
-            BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
+            BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(each);
+            if (null == batchExecutionUnit) {
+                batchExecutionUnit = new BatchExecutionUnit(each);
+                batchExecutionUnits.put(each, batchExecutionUnit);
+            } else {
+                batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(each.getSqlUnit().getParameters());
+            }
+            batchExecutionUnit.mapAddBatchCount(batchCount);
         }
-        return result;
+        batchCount++;
     }
     
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
+    /**
+     * Get batch execution units.
+     *
+     * @return batch execution units
+     */
+    public Collection<BatchExecutionUnit> getBatchExecutionUnits() {
+        return batchExecutionUnits.values();
     }
     
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
-            }
+    /**
+     * Fold batched single row insert values into multi-values insert.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param foldSize max rows of each multi-values insert
+     */
+    public void foldInsertValues(final SQLStatementContext sqlStatementContext, final int foldSize) {
+        if (foldSize < 2 || !isSingleRowInsert(sqlStatementContext)) {
+            return;
+        }
+        BatchInsertValuesFolder folder = new BatchInsertValuesFolder(foldSize);
+        Collection<BatchExecutionUnit> foldedBatchExecutionUnits = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits.values()) {
+            foldedBatchExecutionUnits.addAll(isSupportMultiValuesInsert(each.getExecutionUnit().getDataSourceName()) ? folder.fold(each) : Collections.singleton(each));
+        }
+        batchExecutionUnits.clear();
+        for (BatchExecutionUnit each : foldedBatchExecutionUnits) {
+            batchExecutionUnits.put(each.getExecutionUnit(), each);
+            folded = folded || each.getFoldedRowCount() > 1;
         }
     }
     
-    private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
-        oldBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters().addAll(newBatchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters());
-        oldBatchExecutionUnit.mapAddBatchCount(batchCount);
+    private boolean isSingleRowInsert(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return null == insertStatementContext.getInsertSelectContext() && null == insertStatementContext.getOnDuplicateKeyUpdateValueContext()
+                && 1 == insertStatementContext.getInsertValueContexts().size();
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
+    private boolean isSupportMultiValuesInsert(final String dataSourceName) {
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(dataSourceName);
+        return null != storageUnit && new DatabaseTypeRegistry(storageUnit.getStorageType()).getDialectDatabaseMetaData().isSupportMultiValuesInsert();
     }
     
     /**
@@ -149,7 +169,7 @@ public final class BatchPreparedStatementExecutor {
         if (results.isEmpty()) {
             return new int[0];
         }
-        return isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
+        return folded || isNeedAccumulate(sqlStatementContext) ? accumulate(results) : results.get(0);
     }
     
     private boolean isNeedAccumulate(final SQLStatementContext sqlStatementContext) {
@@ -177,24 +197,22 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private void accumulate(final int[] executeResult, final int[] addBatchCounts, final JDBCExecutionUnit executionUnit) {
-        for (Entry<Integer, Integer> entry : getJDBCAndActualAddBatchCallTimesMap(executionUnit).entrySet()) {
-            int value = null == executeResult || 0 == executeResult.length ? 0 : executeResult[entry.getValue()];
-            addBatchCounts[entry.getKey()] += value;
+        BatchExecutionUnit batchExecutionUnit = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == batchExecutionUnit) {
+            return;
         }
-    }
-    
-    private Map<Integer, Integer> getJDBCAndActualAddBatchCallTimesMap(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getJdbcAndActualAddBatchCallTimesMap();
-            }
+        for (Entry<Integer, Integer> entry : batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().entrySet()) {
+            int value = null == executeResult || 0 == executeResult.length ? 0 : getRowUpdateCount(executeResult[entry.getValue()], batchExecutionUnit.getFoldedRowCount());
+            int accumulated = addBatchCounts[entry.getKey()];
+            addBatchCounts[entry.getKey()] = Statement.SUCCESS_NO_INFO == value || Statement.SUCCESS_NO_INFO == accumulated ? Statement.SUCCESS_NO_INFO : accumulated + value;
         }
-        return Collections.emptyMap();
     }
     
-    private boolean isSameDataSourceAndSQL(final BatchExecutionUnit batchExecutionUnit, final JDBCExecutionUnit jdbcExecutionUnit) {
-        return batchExecutionUnit.getExecutionUnit().getDataSourceName().equals(jdbcExecutionUnit.getExecutionUnit().getDataSourceName())
-                && batchExecutionUnit.getExecutionUnit().getSqlUnit().getSql().equals(jdbcExecutionUnit.getExecutionUnit().getSqlUnit().getSql());
+    private int getRowUpdateCount(final int updateCount, final int foldedRowCount) {
+        if (1 == foldedRowCount) {
+            return updateCount;
+        }
+        return foldedRowCount == updateCount ? 1 : Statement.SUCCESS_NO_INFO;
     }
     
     /**
@@ -239,12 +257,11 @@ public final class BatchPreparedStatementExecutor {
     }
     
     private List<List<Object>> getParameterSets(final JDBCExecutionUnit executionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (isSameDataSourceAndSQL(each, executionUnit)) {
-                return each.getParameterSets();
-            }
+        BatchExecutionUnit result = batchExecutionUnits.get(executionUnit.getExecutionUnit());
+        if (null == result) {
+            throw new IllegalStateException("Can not get value from parameter sets.");
         }
-        throw new IllegalStateException("Can not get value from parameter sets.");
+        return result.getParameterSets();
     }
     
     /**
@@ -253,6 +270,7 @@ public final class BatchPreparedStatementExecutor {
     public void clear() {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
+        folded = false;
         batchExecutionUnits.clear();
     }
 }
@@ -125,6 +125,7 @@ public final class DriverExecuteBatchExecutor {
                                  final SQLStatementContext sqlStatementContext, final Collection<Comparable<?>> generatedValues, final StatementOption statementOption,
                                  final ExecutionContext executionContext, final StatementAddCallback addCallback, final PreparedStatementParametersReplayCallback replayCallback,
                                  final GeneratedKeyCallback generatedKeyCallback) throws SQLException {
+        batchExecutor.foldInsertValues(sqlStatementContext, metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_FOLD_SIZE));
         initBatchPreparedStatementExecutor(database, batchExecutor, executionContext, replayCallback);
         int[] result = batchExecutor.executeBatch(sqlStatementContext);
         if (statementOption.isReturnGeneratedKeys() && generatedValues.isEmpty()) {
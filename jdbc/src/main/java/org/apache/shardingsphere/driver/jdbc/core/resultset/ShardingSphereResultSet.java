@@ -89,6 +89,15 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.wasNull();
     }
     
+    @Override
+    public void close() throws SQLException {
+        try {
+            mergeResultSet.close();
+        } finally {
+            super.close();
+        }
+    }
+    
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
         return (boolean) ResultSetUtils.convertValue(mergeResultSet.getValue(columnIndex, boolean.class), boolean.class);
@@ -60,6 +60,6 @@ class BatchExecutionUnitTest {
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
                 + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
-                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
+                + "foldedRowCount=1, jdbcAndActualAddBatchCallTimesMap={}, rowCount=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
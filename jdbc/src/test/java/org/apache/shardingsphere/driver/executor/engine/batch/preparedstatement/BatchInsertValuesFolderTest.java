@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class BatchInsertValuesFolderTest {
+    
+    private static final String SQL = "INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?)";
+    
+    @Test
+    void assertFold() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesFolder(2).fold(createBatchExecutionUnit(SQL, 3));
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        BatchExecutionUnit fullFolded = iterator.next();
+        assertThat(fullFolded.getExecutionUnit().getDataSourceName(), is("ds_0"));
+        assertThat(fullFolded.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, user_id) VALUES (?, ?), (?, ?)"));
+        assertThat(fullFolded.getFoldedRowCount(), is(2));
+        assertThat(fullFolded.getActualCallAddBatchTimes(), is(1));
+        assertThat(fullFolded.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, 10, 1, 11))));
+        assertThat(fullFolded.getJdbcAndActualAddBatchCallTimesMap().get(0), is(0));
+        assertThat(fullFolded.getJdbcAndActualAddBatchCallTimesMap().get(1), is(0));
+        BatchExecutionUnit remainder = iterator.next();
+        assertThat(remainder.getExecutionUnit().getSqlUnit().getSql(), is(SQL));
+        assertThat(remainder.getFoldedRowCount(), is(1));
+        assertThat(remainder.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(2, 12))));
+        assertThat(remainder.getJdbcAndActualAddBatchCallTimesMap().get(2), is(0));
+    }
+    
+    @Test
+    void assertFoldWithSuffixAndNestedParentheses() {
+        Collection<BatchExecutionUnit> actual = new BatchInsertValuesFolder(4).fold(createBatchExecutionUnit("insert into t_order_0 (order_id, user_id) value(?, abs(?)) ", 2));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getExecutionUnit().getSqlUnit().getSql(), is("insert into t_order_0 (order_id, user_id) value(?, abs(?)), (?, abs(?)) "));
+    }
+    
+    @Test
+    void assertNotFoldWithSingleRow() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit(SQL, 1);
+        assertThat(new BatchInsertValuesFolder(2).fold(batchExecutionUnit).iterator().next(), sameInstance(batchExecutionUnit));
+    }
+    
+    @Test
+    void assertNotFoldWithoutValuesClause() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, user_id) SELECT ?, ?", 2);
+        assertThat(new BatchInsertValuesFolder(2).fold(batchExecutionUnit).iterator().next(), sameInstance(batchExecutionUnit));
+    }
+    
+    @Test
+    void assertNotFoldWithQuotedLiteral() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, user_id, status) VALUES (?, ?, 'a)')", 2);
+        assertThat(new BatchInsertValuesFolder(2).fold(batchExecutionUnit).iterator().next(), sameInstance(batchExecutionUnit));
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int rowCount) {
+        List<Object> params = new ArrayList<>(rowCount * 2);
+        for (int i = 0; i < rowCount; i++) {
+            params.add(i);
+            params.add(10 + i);
+        }
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, params)));
+        for (int i = 0; i < rowCount; i++) {
+            result.mapAddBatchCount(i);
+        }
+        return result;
+    }
+}
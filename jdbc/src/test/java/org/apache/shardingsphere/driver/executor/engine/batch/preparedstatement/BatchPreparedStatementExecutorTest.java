@@ -49,11 +49,14 @@ import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -137,6 +140,30 @@ class BatchPreparedStatementExecutorTest {
         verify(preparedStatement2).executeBatch();
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Test
+    void assertExecuteBatchForFoldedPreparedStatements() throws SQLException {
+        PreparedStatement fullFoldedPreparedStatement = getPreparedStatement();
+        PreparedStatement remainderPreparedStatement = getPreparedStatement();
+        when(fullFoldedPreparedStatement.executeBatch()).thenReturn(new int[]{2, Statement.SUCCESS_NO_INFO});
+        when(remainderPreparedStatement.executeBatch()).thenReturn(new int[]{1});
+        BatchExecutionUnit fullFolded = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("INSERT INTO t_order (order_id) VALUES (?), (?)", Arrays.asList(1, 2, 3, 4))), 2);
+        for (int i = 0; i < 4; i++) {
+            fullFolded.mapAddBatchCount(i);
+        }
+        BatchExecutionUnit remainder = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("INSERT INTO t_order (order_id) VALUES (?)", Collections.singletonList(5))));
+        remainder.mapAddBatchCount(4);
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
+        batchExecutionUnits.put(fullFolded.getExecutionUnit(), fullFolded);
+        batchExecutionUnits.put(remainder.getExecutionUnit(), remainder);
+        List<JDBCExecutionUnit> executionUnits = Arrays.asList(new JDBCExecutionUnit(fullFolded.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, fullFoldedPreparedStatement),
+                new JDBCExecutionUnit(remainder.getExecutionUnit(), ConnectionMode.MEMORY_STRICTLY, remainderPreparedStatement));
+        setFields(Collections.singleton(new ExecutionGroup<>(executionUnits)), batchExecutionUnits);
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("batchCount"), executor, 5);
+        Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("folded"), executor, true);
+        assertThat(executor.executeBatch(mock(SQLStatementContext.class)), is(new int[]{1, 1, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 1}));
+    }
+    
     @Test
     void assertExecuteBatchForSinglePreparedStatementFailure() throws SQLException {
         PreparedStatement preparedStatement = getPreparedStatement();
@@ -167,19 +194,19 @@ class BatchPreparedStatementExecutorTest {
         Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups = new LinkedList<>();
         List<JDBCExecutionUnit> executionUnits = new LinkedList<>();
         executionGroups.add(new ExecutionGroup<>(executionUnits));
-        Collection<BatchExecutionUnit> batchExecutionUnits = new LinkedList<>();
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits = new LinkedHashMap<>();
         for (PreparedStatement each : preparedStatements) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))));
             batchExecutionUnit.mapAddBatchCount(0);
             batchExecutionUnit.mapAddBatchCount(1);
-            batchExecutionUnits.add(batchExecutionUnit);
+            batchExecutionUnits.put(batchExecutionUnit.getExecutionUnit(), batchExecutionUnit);
             executionUnits.add(new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.singletonList(1))), ConnectionMode.MEMORY_STRICTLY, each));
         }
         setFields(executionGroups, batchExecutionUnits);
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Collection<BatchExecutionUnit> batchExecutionUnits) {
+    private void setFields(final Collection<ExecutionGroup<JDBCExecutionUnit>> executionGroups, final Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnits) {
         String processId = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", "");
         Plugins.getMemberAccessor().set(BatchPreparedStatementExecutor.class.getDeclaredField("executionGroupContext"), executor,
                 new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext(processId, "logic_db")));
@@ -59,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
@@ -112,6 +113,13 @@ class ShardingSphereResultSetTest {
         assertFalse(shardingSphereResultSet.wasNull());
     }
     
+    @Test
+    void assertClose() throws SQLException {
+        shardingSphereResultSet.close();
+        verify(mergeResultSet).close();
+        assertTrue(shardingSphereResultSet.isClosed());
+    }
+    
     @Test
     void assertGetBooleanWithColumnIndex() throws SQLException {
         when(mergeResultSet.getValue(1, boolean.class)).thenReturn(true);
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.channel;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Pipeline channel.
@@ -64,4 +65,13 @@ public interface PipelineChannel {
      * @param records data records
      */
     void ack(List<Record> records);
+    
+    /**
+     * Get channel metrics.
+     *
+     * @return channel metrics, empty if the channel does not collect metrics
+     */
+    default Optional<PipelineChannelMetrics> getMetrics() {
+        return Optional.empty();
+    }
 }
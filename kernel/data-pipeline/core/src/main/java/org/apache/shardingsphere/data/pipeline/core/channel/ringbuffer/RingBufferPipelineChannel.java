@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelMetrics;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ * <p>It supports one push thread and one fetch thread, which is the case of every dumper and importer pair.</p>
+ * <p>Idle threads spin, then yield, then park with doubling intervals up to 1 millisecond.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final int SPIN_TIMES = 64;
+    
+    private static final int YIELD_TIMES = 128;
+    
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+    
+    private static final int MAX_PARK_SHIFT = 5;
+    
+    private static final long METRICS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private final Object[] buffer;
+    
+    private final int mask;
+    
+    private final AtomicLong producerIndex = new AtomicLong();
+    
+    private final AtomicLong consumerIndex = new AtomicLong();
+    
+    private final AtomicLong consumedRecordsCount = new AtomicLong();
+    
+    private final List<List<Record>> drainedBatches = new ArrayList<>();
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private long cachedConsumerIndex;
+    
+    private long cachedProducerIndex;
+    
+    private long lastMetricsNanos = System.nanoTime();
+    
+    private long lastMetricsRecordsCount;
+    
+    private long recordsPerSecond;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final PipelineChannelAckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(1, bufferSize));
+        buffer = new Object[capacity < bufferSize ? capacity << 1 : capacity];
+        mask = buffer.length - 1;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        long index = producerIndex.get();
+        if (index - cachedConsumerIndex >= buffer.length) {
+            int idleTimes = 0;
+            while (index - (cachedConsumerIndex = consumerIndex.get()) >= buffer.length) {
+                idle(idleTimes++);
+            }
+        }
+        buffer[(int) index & mask] = records;
+        producerIndex.lazySet(index + 1L);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int recordsCount = 0;
+        int idleTimes = 0;
+        while (recordsCount < batchSize) {
+            List<Record> records = take();
+            if (null == records) {
+                if (System.nanoTime() - deadlineNanos >= 0L) {
+                    break;
+                }
+                idle(idleTimes++);
+                continue;
+            }
+            idleTimes = 0;
+            if (!records.isEmpty()) {
+                drainedBatches.add(records);
+                recordsCount += records.size();
+            }
+        }
+        return mergeDrainedBatches(recordsCount);
+    }
+    
+    private List<Record> mergeDrainedBatches(final int recordsCount) {
+        if (drainedBatches.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (1 == drainedBatches.size()) {
+            List<Record> result = drainedBatches.get(0);
+            drainedBatches.clear();
+            return result;
+        }
+        List<Record> result = new ArrayList<>(recordsCount);
+        drainedBatches.forEach(result::addAll);
+        drainedBatches.clear();
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Record> peek() {
+        long index = consumerIndex.get();
+        if (!isAvailable(index)) {
+            return Collections.emptyList();
+        }
+        return (List<Record>) buffer[(int) index & mask];
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = take();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Record> take() {
+        long index = consumerIndex.get();
+        if (!isAvailable(index)) {
+            return null;
+        }
+        int offset = (int) index & mask;
+        List<Record> result = (List<Record>) buffer[offset];
+        buffer[offset] = null;
+        consumerIndex.lazySet(index + 1L);
+        consumedRecordsCount.lazySet(consumedRecordsCount.get() + result.size());
+        return result;
+    }
+    
+    private boolean isAvailable(final long index) {
+        return index < cachedProducerIndex || index < (cachedProducerIndex = producerIndex.get());
+    }
+    
+    private void idle(final int idleTimes) throws InterruptedException {
+        if (idleTimes < SPIN_TIMES) {
+            return;
+        }
+        if (idleTimes < SPIN_TIMES + YIELD_TIMES) {
+            Thread.yield();
+            return;
+        }
+        LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, MIN_PARK_NANOS << Math.min(MAX_PARK_SHIFT, idleTimes - SPIN_TIMES - YIELD_TIMES)));
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public synchronized Optional<PipelineChannelMetrics> getMetrics() {
+        long currentNanos = System.nanoTime();
+        long elapsedNanos = currentNanos - lastMetricsNanos;
+        if (elapsedNanos >= METRICS_INTERVAL_NANOS) {
+            long recordsCount = consumedRecordsCount.get();
+            recordsPerSecond = (recordsCount - lastMetricsRecordsCount) * TimeUnit.SECONDS.toNanos(1L) / elapsedNanos;
+            lastMetricsRecordsCount = recordsCount;
+            lastMetricsNanos = currentNanos;
+        }
+        long occupiedSlots = Math.max(0L, producerIndex.get() - consumerIndex.get());
+        return Optional.of(new PipelineChannelMetrics(recordsPerSecond, (int) (occupiedSlots * 100L / buffer.length)));
+    }
+}
@@ -38,33 +38,47 @@ public final class DataMatchTableDataConsistencyChecker implements TableDataCons
     
     private static final int DEFAULT_CHUNK_SIZE = 1000;
     
+    private static final String PARALLELISM_KEY = "parallelism";
+    
+    private static final int DEFAULT_PARALLELISM = 1;
+    
+    private static final String SHARDING_SIZE_KEY = "sharding-size";
+    
+    private static final int DEFAULT_SHARDING_SIZE = 10000000;
+    
     private int chunkSize;
     
+    private int parallelism;
+    
+    private int shardingSize;
+    
     @Override
     public void init(final Properties props) {
-        chunkSize = getChunkSize(props);
+        chunkSize = getPositiveIntegerValue(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        parallelism = getPositiveIntegerValue(props, PARALLELISM_KEY, DEFAULT_PARALLELISM);
+        shardingSize = getPositiveIntegerValue(props, SHARDING_SIZE_KEY, DEFAULT_SHARDING_SIZE);
     }
     
-    private int getChunkSize(final Properties props) {
-        String chunkSizeText = props.getProperty(CHUNK_SIZE_KEY);
-        if (Strings.isNullOrEmpty(chunkSizeText)) {
-            return DEFAULT_CHUNK_SIZE;
+    private int getPositiveIntegerValue(final Properties props, final String key, final int defaultValue) {
+        String valueText = props.getProperty(key);
+        if (Strings.isNullOrEmpty(valueText)) {
+            return defaultValue;
         }
         int result;
         try {
-            result = Integer.parseInt(chunkSizeText);
+            result = Integer.parseInt(valueText);
         } catch (final NumberFormatException ignore) {
-            throw new PipelineInvalidParameterException("'chunk-size' is not a valid number: `" + chunkSizeText + "`");
+            throw new PipelineInvalidParameterException("'" + key + "' is not a valid number: `" + valueText + "`");
         }
         if (result <= 0) {
-            throw new PipelineInvalidParameterException("Invalid 'chunk-size': " + result);
+            throw new PipelineInvalidParameterException("Invalid '" + key + "': " + result);
         }
         return result;
     }
     
     @Override
     public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
-        return new DataMatchTableInventoryChecker(param, chunkSize);
+        return new DataMatchTableInventoryChecker(param, chunkSize, parallelism, shardingSize);
     }
     
     @Override
@@ -85,8 +99,8 @@ public final class DataMatchTableDataConsistencyChecker implements TableDataCons
         
         private final int chunkSize;
         
-        DataMatchTableInventoryChecker(final TableInventoryCheckParameter param, final int chunkSize) {
-            super(param);
+        DataMatchTableInventoryChecker(final TableInventoryCheckParameter param, final int chunkSize, final int parallelism, final int shardingSize) {
+            super(param, parallelism, shardingSize);
             this.chunkSize = chunkSize;
         }
         
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
@@ -26,6 +25,7 @@ import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.yaml
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
@@ -33,12 +33,17 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFact
 import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -47,83 +52,140 @@ import java.util.concurrent.atomic.AtomicBoolean;
 /**
  * Matching table inventory checker.
  */
-@RequiredArgsConstructor
 @Slf4j
 public abstract class MatchingTableInventoryChecker implements TableInventoryChecker {
     
+    private static final String RANGE_POSITION_KEY_DELIMITER = "#";
+    
     private final TableInventoryCheckParameter param;
     
+    private final int parallelism;
+    
+    private final long shardingSize;
+    
     private final AtomicBoolean canceling = new AtomicBoolean(false);
     
-    private volatile SingleTableInventoryCalculator sourceCalculator;
+    private final Collection<SingleTableInventoryCalculator> runningCalculators = new CopyOnWriteArrayList<>();
     
-    private volatile SingleTableInventoryCalculator targetCalculator;
+    protected MatchingTableInventoryChecker(final TableInventoryCheckParameter param) {
+        this(param, 1, 0L);
+    }
+    
+    protected MatchingTableInventoryChecker(final TableInventoryCheckParameter param, final int parallelism, final long shardingSize) {
+        this.param = param;
+        this.parallelism = parallelism;
+        this.shardingSize = shardingSize;
+    }
     
     @Override
     public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
-        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(param.getJobId() + "-matching-check-%d");
-        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2), threadFactory);
+        List<QueryRange> queryRanges = parallelism > 1 ? new TableInventoryCheckRangeSplitter(param, shardingSize).split() : Collections.emptyList();
+        if (queryRanges.size() <= 1) {
+            ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(param.getJobId() + "-matching-check-%d");
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(2), threadFactory);
+            try {
+                return checkSingleTableInventoryData(param, executor);
+            } finally {
+                executor.shutdown();
+                executor.shutdownNow();
+            }
+        }
+        return checkSingleTableInventoryDataByRanges(queryRanges);
+    }
+    
+    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final TableInventoryCheckParameter param, final ThreadPoolExecutor executor) {
+        String sourceTableName = param.getSourceTable().getTableName();
+        String targetTableName = param.getTargetTable().getTableName();
+        QueryRange sourceQueryRange = new QueryRange(param.getProgressContext().getSourceTableCheckPositions().get(sourceTableName), false, null);
+        QueryRange targetQueryRange = new QueryRange(param.getProgressContext().getTargetTableCheckPositions().get(targetTableName), false, null);
+        boolean matched = checkQueryRange(sourceQueryRange, targetQueryRange, sourceTableName, targetTableName, executor, new AtomicBoolean(false));
+        return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(new YamlTableDataConsistencyCheckResult(matched));
+    }
+    
+    private TableDataConsistencyCheckResult checkSingleTableInventoryDataByRanges(final List<QueryRange> queryRanges) {
+        int threadsCount = Math.min(parallelism, queryRanges.size());
+        ThreadPoolExecutor rangeExecutor = new ThreadPoolExecutor(threadsCount, threadsCount, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build(param.getJobId() + "-matching-check-range-%d"));
+        ThreadPoolExecutor calculateExecutor = new ThreadPoolExecutor(threadsCount, threadsCount, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build(param.getJobId() + "-matching-check-%d"));
+        AtomicBoolean notMatched = new AtomicBoolean(false);
         try {
-            return checkSingleTableInventoryData(param, executor);
+            List<Future<Boolean>> futures = new ArrayList<>(queryRanges.size());
+            for (int i = 0; i < queryRanges.size(); i++) {
+                String sourcePositionKey = param.getSourceTable().getTableName() + RANGE_POSITION_KEY_DELIMITER + i;
+                String targetPositionKey = param.getTargetTable().getTableName() + RANGE_POSITION_KEY_DELIMITER + i;
+                QueryRange sourceQueryRange = createResumedQueryRange(queryRanges.get(i), param.getProgressContext().getSourceTableCheckPositions().get(sourcePositionKey));
+                QueryRange targetQueryRange = createResumedQueryRange(queryRanges.get(i), param.getProgressContext().getTargetTableCheckPositions().get(targetPositionKey));
+                futures.add(rangeExecutor.submit(() -> checkQueryRange(sourceQueryRange, targetQueryRange, sourcePositionKey, targetPositionKey, calculateExecutor, notMatched)));
+            }
+            boolean matched = true;
+            for (Future<Boolean> each : futures) {
+                matched &= waitFuture(each);
+            }
+            return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(new YamlTableDataConsistencyCheckResult(matched));
         } finally {
-            executor.shutdown();
-            executor.shutdownNow();
+            rangeExecutor.shutdownNow();
+            calculateExecutor.shutdownNow();
         }
     }
     
-    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final TableInventoryCheckParameter param, final ThreadPoolExecutor executor) {
+    private QueryRange createResumedQueryRange(final QueryRange queryRange, final Object checkPosition) {
+        return null == checkPosition ? queryRange : new QueryRange(checkPosition, false, queryRange.getUpper());
+    }
+    
+    private boolean checkQueryRange(final QueryRange sourceQueryRange, final QueryRange targetQueryRange, final String sourcePositionKey, final String targetPositionKey,
+                                    final ThreadPoolExecutor executor, final AtomicBoolean notMatched) {
         SingleTableInventoryCalculateParameter sourceParam = new SingleTableInventoryCalculateParameter(param.getSourceDataSource(), param.getSourceTable(),
-                param.getColumnNames(), param.getUniqueKeys(), param.getProgressContext().getSourceTableCheckPositions().get(param.getSourceTable().getTableName()));
+                param.getColumnNames(), param.getUniqueKeys(), sourceQueryRange.getLower());
+        sourceParam.setQueryRange(sourceQueryRange);
         SingleTableInventoryCalculateParameter targetParam = new SingleTableInventoryCalculateParameter(param.getTargetDataSource(), param.getTargetTable(),
-                param.getColumnNames(), param.getUniqueKeys(), param.getProgressContext().getTargetTableCheckPositions().get(param.getTargetTable().getTableName()));
+                param.getColumnNames(), param.getUniqueKeys(), targetQueryRange.getLower());
+        targetParam.setQueryRange(targetQueryRange);
         SingleTableInventoryCalculator sourceCalculator = buildSingleTableInventoryCalculator();
-        this.sourceCalculator = sourceCalculator;
         SingleTableInventoryCalculator targetCalculator = buildSingleTableInventoryCalculator();
-        this.targetCalculator = targetCalculator;
+        runningCalculators.add(sourceCalculator);
+        runningCalculators.add(targetCalculator);
         try {
             Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults = waitFuture(executor.submit(() -> sourceCalculator.calculate(sourceParam))).iterator();
             Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults = waitFuture(executor.submit(() -> targetCalculator.calculate(targetParam))).iterator();
-            return checkSingleTableInventoryData(sourceCalculatedResults, targetCalculatedResults, param, executor);
+            boolean result = checkQueryRange(sourceCalculatedResults, targetCalculatedResults, sourcePositionKey, targetPositionKey, executor, notMatched);
+            if (!result) {
+                notMatched.set(true);
+            }
+            return result;
         } finally {
             QuietlyCloser.close(sourceParam.getCalculationContext());
             QuietlyCloser.close(targetParam.getCalculationContext());
-            this.sourceCalculator = null;
-            this.targetCalculator = null;
+            runningCalculators.remove(sourceCalculator);
+            runningCalculators.remove(targetCalculator);
         }
     }
     
-    private TableDataConsistencyCheckResult checkSingleTableInventoryData(final Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults,
-                                                                          final Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults,
-                                                                          final TableInventoryCheckParameter param, final ThreadPoolExecutor executor) {
-        YamlTableDataConsistencyCheckResult checkResult = new YamlTableDataConsistencyCheckResult(true);
+    private boolean checkQueryRange(final Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults, final Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults,
+                                    final String sourcePositionKey, final String targetPositionKey, final ThreadPoolExecutor executor, final AtomicBoolean notMatched) {
         while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+            if (notMatched.get()) {
+                return true;
+            }
             if (null != param.getReadRateLimitAlgorithm()) {
                 param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
             }
             SingleTableInventoryCalculatedResult sourceCalculatedResult = waitFuture(executor.submit(sourceCalculatedResults::next));
             SingleTableInventoryCalculatedResult targetCalculatedResult = waitFuture(executor.submit(targetCalculatedResults::next));
             if (!Objects.equals(sourceCalculatedResult, targetCalculatedResult)) {
-                checkResult.setMatched(false);
-                log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKeys={}", param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys());
-                break;
+                log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKeys={}, sourcePositionKey={}",
+                        param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys(), sourcePositionKey);
+                return false;
             }
             if (sourceCalculatedResult.getMaxUniqueKeyValue().isPresent()) {
-                param.getProgressContext().getSourceTableCheckPositions().put(param.getSourceTable().getTableName(), sourceCalculatedResult.getMaxUniqueKeyValue().get());
+                param.getProgressContext().getSourceTableCheckPositions().put(sourcePositionKey, sourceCalculatedResult.getMaxUniqueKeyValue().get());
             }
             if (targetCalculatedResult.getMaxUniqueKeyValue().isPresent()) {
-                param.getProgressContext().getTargetTableCheckPositions().put(param.getTargetTable().getTableName(), targetCalculatedResult.getMaxUniqueKeyValue().get());
+                param.getProgressContext().getTargetTableCheckPositions().put(targetPositionKey, targetCalculatedResult.getMaxUniqueKeyValue().get());
             }
             param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(sourceCalculatedResult.getRecordsCount()));
         }
-        if (sourceCalculatedResults.hasNext()) {
-            checkResult.setMatched(false);
-            return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(checkResult);
-        }
-        if (targetCalculatedResults.hasNext()) {
-            checkResult.setMatched(false);
-            return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(checkResult);
-        }
-        return new YamlTableDataConsistencyCheckResultSwapper().swapToObject(checkResult);
+        return notMatched.get() || !sourceCalculatedResults.hasNext() && !targetCalculatedResults.hasNext();
     }
     
     private <T> T waitFuture(final Future<T> future) {
@@ -145,8 +207,7 @@ public abstract class MatchingTableInventoryChecker implements TableInventoryChe
     @Override
     public void cancel() {
         canceling.set(true);
-        Optional.ofNullable(sourceCalculator).ifPresent(SingleTableInventoryCalculator::cancel);
-        Optional.ofNullable(targetCalculator).ifPresent(SingleTableInventoryCalculator::cancel);
+        runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
     }
     
     @Override
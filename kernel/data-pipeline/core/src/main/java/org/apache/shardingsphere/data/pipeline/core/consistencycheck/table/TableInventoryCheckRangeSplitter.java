@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryPositionCalculator;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Table inventory check range splitter.
+ *
+ * <p>
+ * Splits table by integer unique key into ranges in the same way as inventory dumpers. The first range has no lower bound and the last range has no upper bound,
+ * so records inserted out of the unique key range when splitting are still checked.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class TableInventoryCheckRangeSplitter {
+    
+    private static final String RANGE_BOUNDARIES_KEY_SUFFIX = "#ranges";
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final long shardingSize;
+    
+    /**
+     * Split table into query ranges.
+     *
+     * @return query ranges, the only one range has no lower and upper bound if table could not be split
+     */
+    public List<QueryRange> split() {
+        Map<String, Object> checkPositions = param.getProgressContext().getSourceTableCheckPositions();
+        String rangeBoundariesKey = param.getSourceTable().getTableName() + RANGE_BOUNDARIES_KEY_SUFFIX;
+        Object persistedRangeBoundaries = checkPositions.get(rangeBoundariesKey);
+        if (null != persistedRangeBoundaries) {
+            return createQueryRanges(parseRangeBoundaries(persistedRangeBoundaries.toString()));
+        }
+        List<Long> result = splitRangeBoundaries();
+        if (!result.isEmpty()) {
+            checkPositions.put(rangeBoundariesKey, result.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        return createQueryRanges(result);
+    }
+    
+    private List<Long> parseRangeBoundaries(final String rangeBoundaries) {
+        List<Long> result = new ArrayList<>();
+        for (String each : rangeBoundaries.split(",")) {
+            result.add(Long.parseLong(each.trim()));
+        }
+        return result;
+    }
+    
+    private List<Long> splitRangeBoundaries() {
+        if (param.getUniqueKeys().isEmpty() || !PipelineJdbcUtils.isIntegerColumn(param.getUniqueKeys().get(0).getDataType())) {
+            return Collections.emptyList();
+        }
+        QualifiedTable table = param.getSourceTable();
+        PipelineDataSource dataSource = param.getSourceDataSource();
+        PipelinePrepareSQLBuilder sqlBuilder = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType());
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<Range<Long>> uniqueKeyValuesRange = getUniqueKeyValuesRange(connection, sqlBuilder.buildUniqueKeyMinMaxValuesSQL(table.getSchemaName(), table.getTableName(),
+                    param.getUniqueKeys().get(0).getName()));
+            if (!uniqueKeyValuesRange.isPresent()) {
+                return Collections.emptyList();
+            }
+            long tableRecordsCount = getTableRecordsCount(connection, sqlBuilder);
+            if (tableRecordsCount <= shardingSize) {
+                return Collections.emptyList();
+            }
+            List<Long> result = new ArrayList<>();
+            for (IngestPosition each : InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange.get(), shardingSize)) {
+                result.add(((IntegerPrimaryKeyIngestPosition) each).getEndValue());
+            }
+            result.remove(result.size() - 1);
+            return result;
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+        }
+    }
+    
+    private Optional<Range<Long>> getUniqueKeyValuesRange(final Connection connection, final String sql) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next() || null == resultSet.getObject(1)) {
+                return Optional.empty();
+            }
+            return Optional.of(Range.of(resultSet.getLong(1), resultSet.getLong(2)));
+        }
+    }
+    
+    private long getTableRecordsCount(final Connection connection, final PipelinePrepareSQLBuilder sqlBuilder) throws SQLException {
+        QualifiedTable table = param.getSourceTable();
+        Optional<String> estimatedCountSQL = sqlBuilder.buildEstimatedCountSQL(connection.getCatalog(), table.getSchemaName(), table.getTableName());
+        if (estimatedCountSQL.isPresent()) {
+            long result = getCount(connection, estimatedCountSQL.get());
+            if (result > 0L) {
+                return result;
+            }
+        }
+        return getCount(connection, sqlBuilder.buildCountSQL(table.getSchemaName(), table.getTableName()));
+    }
+    
+    private long getCount(final Connection connection, final String sql) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+    
+    private List<QueryRange> createQueryRanges(final List<Long> rangeBoundaries) {
+        List<QueryRange> result = new ArrayList<>(rangeBoundaries.size() + 1);
+        Long lower = null;
+        for (Long each : rangeBoundaries) {
+            result.add(new QueryRange(lower, false, each));
+            lower = each;
+        }
+        result.add(new QueryRange(lower, false, null));
+        return result;
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.data.pipeline.core.importer.sink.type;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
@@ -40,8 +42,12 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -134,7 +140,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
                 break;
             case DELETE:
                 Optional.ofNullable(importerConfig.getRateLimitAlgorithm()).ifPresent(optional -> optional.intercept(PipelineSQLOperationType.DELETE, 1));
-                executeBatchDelete(records);
+                executeBatchDelete(records, firstTimeRun);
                 break;
             default:
                 break;
@@ -151,7 +157,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
             if (firstTimeRun) {
                 executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
             } else {
-                retryBatchInsert(preparedStatement, dataRecords);
+                executeBisectBatch(preparedStatement, new ArrayList<>(dataRecords), this::setInsertParameters);
             }
         } finally {
             runningStatement.set(null);
@@ -165,9 +171,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
         preparedStatement.setQueryTimeout(30);
         for (DataRecord each : dataRecords) {
-            for (int i = 0; i < each.getColumnCount(); i++) {
-                preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
-            }
+            setInsertParameters(preparedStatement, each);
             preparedStatement.addBatch();
         }
         preparedStatement.executeBatch();
@@ -176,12 +180,9 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
-    private void retryBatchInsert(final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
-        for (DataRecord each : dataRecords) {
-            for (int i = 0; i < each.getColumnCount(); i++) {
-                preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
-            }
-            preparedStatement.executeUpdate();
+    private void setInsertParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord) throws SQLException {
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            preparedStatement.setObject(i + 1, dataRecord.getColumn(i).getValue());
         }
     }
     
@@ -191,8 +192,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
             }
-            for (DataRecord each : dataRecords) {
-                executeUpdate(connection, each);
+            for (UpdateDataRecordGroup each : groupConsecutiveUpdateDataRecords(dataRecords)) {
+                if (1 == each.getDataRecords().size()) {
+                    executeUpdate(connection, each.getSql(), each.getDataRecords().get(0));
+                } else {
+                    executeBatchUpdate(connection, each.getSql(), each.getDataRecords(), firstTimeRun);
+                }
             }
             if (transactionEnabled) {
                 connection.commit();
@@ -200,32 +205,35 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord dataRecord) throws SQLException {
-        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
-        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
-        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
-        String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
+    private List<UpdateDataRecordGroup> groupConsecutiveUpdateDataRecords(final Collection<DataRecord> dataRecords) {
+        List<UpdateDataRecordGroup> result = new LinkedList<>();
+        UpdateDataRecordGroup previousGroup = null;
+        for (DataRecord each : dataRecords) {
+            String sql = buildUpdateSQL(each);
+            if (null == previousGroup || !sql.equals(previousGroup.getSql())) {
+                previousGroup = new UpdateDataRecordGroup(sql, new ArrayList<>());
+                result.add(previousGroup);
+            }
+            previousGroup.getDataRecords().add(each);
+        }
+        return result;
+    }
+    
+    private String buildUpdateSQL(final DataRecord dataRecord) {
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
+        return importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
+    }
+    
+    private void executeUpdate(final Connection connection, final String sql, final DataRecord dataRecord) throws SQLException {
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             runningStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
-                }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
-            }
+            setUpdateParameters(preparedStatement, dataRecord);
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
-            int updateCount = preparedStatement.executeUpdate();
-            if (1 != updateCount) {
-                log.warn("Update failed, update count: {}, sql: {}, set columns: {}, sharding columns: {}, condition columns: {}",
-                        updateCount, sql, setColumns, JsonUtils.toJsonString(shardingColumns), JsonUtils.toJsonString(conditionColumns));
-            }
+            checkUpdateCount(preparedStatement.executeUpdate(), sql, dataRecord);
         } catch (final SQLException ex) {
+            Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+            List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
+            List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
             log.error("execute update failed, sql: {}, set columns: {}, sharding columns: {}, condition columns: {}, error message: {}, data record: {}",
                     sql, setColumns, JsonUtils.toJsonString(shardingColumns), JsonUtils.toJsonString(conditionColumns), ex.getMessage(), dataRecord);
             throw ex;
@@ -234,45 +242,136 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
-    private void executeBatchDelete(final Collection<DataRecord> dataRecords) throws SQLException {
+    private void executeBatchUpdate(final Connection connection, final String sql, final List<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatement.set(preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            int[] updateCounts = firstTimeRun
+                    ? executeBatch(preparedStatement, dataRecords, this::setUpdateParameters)
+                    : executeBisectBatch(preparedStatement, dataRecords, this::setUpdateParameters);
+            for (int i = 0; i < Math.min(updateCounts.length, dataRecords.size()); i++) {
+                checkUpdateCount(updateCounts[i], sql, dataRecords.get(i));
+            }
+        } catch (final SQLException ex) {
+            log.error("execute batch update failed, sql: {}, records count: {}, error message: {}", sql, dataRecords.size(), ex.getMessage());
+            throw ex;
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
+    private void checkUpdateCount(final int updateCount, final String sql, final DataRecord dataRecord) {
+        if (1 == updateCount || Statement.SUCCESS_NO_INFO == updateCount) {
+            return;
+        }
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
+        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
+        log.warn("Update failed, update count: {}, sql: {}, set columns: {}, sharding columns: {}, condition columns: {}",
+                updateCount, sql, setColumns, JsonUtils.toJsonString(shardingColumns), JsonUtils.toJsonString(conditionColumns));
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord) throws SQLException {
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
+        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
+        for (int i = 0; i < setColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                continue;
+            }
+            preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
+        }
+    }
+    
+    private void executeBatchDelete(final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            boolean transactionEnabled = dataRecords.size() > 1;
+            boolean transactionEnabled = dataRecords.size() > 1 && firstTimeRun;
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
             }
-            executeBatchDelete(connection, dataRecords, importerConfig.getShardingColumns(dataRecords.iterator().next().getTableName()));
+            executeBatchDelete(connection, dataRecords, importerConfig.getShardingColumns(dataRecords.iterator().next().getTableName()), firstTimeRun);
             if (transactionEnabled) {
                 connection.commit();
             }
         }
     }
     
-    private void executeBatchDelete(final Connection connection, final Collection<DataRecord> dataRecords, final Set<String> shardingColumns) throws SQLException {
+    private void executeBatchDelete(final Connection connection, final Collection<DataRecord> dataRecords, final Set<String> shardingColumns, final boolean firstTimeRun) throws SQLException {
         DataRecord dataRecord = dataRecords.iterator().next();
         String deleteSQL = importSQLBuilder.buildDeleteSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, shardingColumns));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
             runningStatement.set(preparedStatement);
             preparedStatement.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    Object oldValue = conditionColumns.get(i).getOldValue();
-                    if (null == oldValue) {
-                        log.warn("Record old value is null, record: {}", each);
-                    }
-                    preparedStatement.setObject(i + 1, oldValue);
-                }
-                preparedStatement.addBatch();
+            if (firstTimeRun) {
+                executeBatch(preparedStatement, dataRecords, this::setDeleteParameters);
+            } else {
+                executeBisectBatch(preparedStatement, new ArrayList<>(dataRecords), this::setDeleteParameters);
             }
-            preparedStatement.executeBatch();
         } finally {
             runningStatement.set(null);
         }
     }
     
+    private void setDeleteParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord) throws SQLException {
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName()));
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Object oldValue = conditionColumns.get(i).getOldValue();
+            if (null == oldValue) {
+                log.warn("Record old value is null, record: {}", dataRecord);
+            }
+            preparedStatement.setObject(i + 1, oldValue);
+        }
+    }
+    
+    private int[] executeBatch(final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords, final ParameterSetter parameterSetter) throws SQLException {
+        for (DataRecord each : dataRecords) {
+            parameterSetter.setParameters(preparedStatement, each);
+            preparedStatement.addBatch();
+        }
+        return preparedStatement.executeBatch();
+    }
+    
+    private int[] executeBisectBatch(final PreparedStatement preparedStatement, final List<DataRecord> dataRecords, final ParameterSetter parameterSetter) throws SQLException {
+        try {
+            return executeBatch(preparedStatement, dataRecords, parameterSetter);
+        } catch (final SQLException ex) {
+            if (1 == dataRecords.size()) {
+                log.error("execute batch failed, data record: {}, error message: {}", dataRecords.get(0), ex.getMessage());
+                throw ex;
+            }
+            preparedStatement.clearBatch();
+            int middle = dataRecords.size() / 2;
+            int[] firstUpdateCounts = executeBisectBatch(preparedStatement, dataRecords.subList(0, middle), parameterSetter);
+            int[] secondUpdateCounts = executeBisectBatch(preparedStatement, dataRecords.subList(middle, dataRecords.size()), parameterSetter);
+            int[] result = Arrays.copyOf(firstUpdateCounts, firstUpdateCounts.length + secondUpdateCounts.length);
+            System.arraycopy(secondUpdateCounts, 0, result, firstUpdateCounts.length, secondUpdateCounts.length);
+            return result;
+        }
+    }
+    
     @Override
     public void close() {
         Optional.ofNullable(runningStatement.get()).ifPresent(PipelineJdbcUtils::cancelStatement);
     }
+    
+    private interface ParameterSetter {
+        
+        void setParameters(PreparedStatement preparedStatement, DataRecord dataRecord) throws SQLException;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class UpdateDataRecordGroup {
+        
+        private final String sql;
+        
+        private final List<DataRecord> dataRecords;
+    }
 }
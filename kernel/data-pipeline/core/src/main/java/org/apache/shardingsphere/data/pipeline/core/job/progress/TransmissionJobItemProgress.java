@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelMetrics;
 import org.apache.shardingsphere.data.pipeline.core.context.TransmissionJobItemContext;
 import org.apache.shardingsphere.data.pipeline.core.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTaskProgress;
@@ -30,6 +31,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Transmission job item progress.
@@ -51,6 +53,10 @@ public final class TransmissionJobItemProgress implements PipelineJobItemProgres
     
     private long processedRecordsCount;
     
+    private long channelRecordsPerSecond;
+    
+    private int channelOccupancyPercentage;
+    
     private boolean active;
     
     private JobStatus status = JobStatus.RUNNING;
@@ -63,6 +69,18 @@ public final class TransmissionJobItemProgress implements PipelineJobItemProgres
         inventoryRecordsCount = context.getInventoryRecordsCount();
         processedRecordsCount = context.getProcessedRecordsCount();
         status = context.getStatus();
+        collectChannelMetrics(context.getInventoryTasks());
+        collectChannelMetrics(context.getIncrementalTasks());
+    }
+    
+    private void collectChannelMetrics(final Collection<PipelineTask> tasks) {
+        for (PipelineTask each : tasks) {
+            Optional<PipelineChannelMetrics> channelMetrics = each.getChannelMetrics();
+            if (channelMetrics.isPresent()) {
+                channelRecordsPerSecond += channelMetrics.get().getRecordsPerSecond();
+                channelOccupancyPercentage = Math.max(channelOccupancyPercentage, channelMetrics.get().getOccupancyPercentage());
+            }
+        }
     }
     
     private JobItemIncrementalTasksProgress getIncrementalTasksProgress(final Collection<PipelineTask> incrementalTasks) {
@@ -40,4 +40,8 @@ public final class YamlTransmissionJobItemProgress implements YamlPipelineJobIte
     private long processedRecordsCount;
     
     private long inventoryRecordsCount;
+    
+    private long channelRecordsPerSecond;
+    
+    private int channelOccupancyPercentage;
 }
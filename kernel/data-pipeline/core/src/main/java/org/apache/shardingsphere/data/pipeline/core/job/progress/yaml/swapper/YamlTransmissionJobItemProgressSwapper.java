@@ -42,6 +42,8 @@ public final class YamlTransmissionJobItemProgressSwapper implements YamlPipelin
         result.setIncremental(incrementalTasksProgressSwapper.swapToYaml(progress.getIncremental()));
         result.setProcessedRecordsCount(progress.getProcessedRecordsCount());
         result.setInventoryRecordsCount(progress.getInventoryRecordsCount());
+        result.setChannelRecordsPerSecond(progress.getChannelRecordsPerSecond());
+        result.setChannelOccupancyPercentage(progress.getChannelOccupancyPercentage());
         return result;
     }
     
@@ -55,6 +57,8 @@ public final class YamlTransmissionJobItemProgressSwapper implements YamlPipelin
         result.setIncremental(incrementalTasksProgressSwapper.swapToObject(yamlProgress.getSourceDatabaseType(), yamlProgress.getIncremental()));
         result.setProcessedRecordsCount(yamlProgress.getProcessedRecordsCount());
         result.setInventoryRecordsCount(yamlProgress.getInventoryRecordsCount());
+        result.setChannelRecordsPerSecond(yamlProgress.getChannelRecordsPerSecond());
+        result.setChannelOccupancyPercentage(yamlProgress.getChannelOccupancyPercentage());
         return result;
     }
     
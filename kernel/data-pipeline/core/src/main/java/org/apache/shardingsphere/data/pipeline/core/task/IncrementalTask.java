@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.core.task;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelMetrics;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineLifecycleRunnable;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
@@ -28,13 +30,14 @@ import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTas
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Incremental task.
  */
 @RequiredArgsConstructor
-@ToString(exclude = {"incrementalExecuteEngine", "dumper", "importers", "taskProgress"})
+@ToString(exclude = {"incrementalExecuteEngine", "dumper", "channel", "importers", "taskProgress"})
 public final class IncrementalTask implements PipelineTask {
     
     @Getter
@@ -44,6 +47,8 @@ public final class IncrementalTask implements PipelineTask {
     
     private final Dumper dumper;
     
+    private final PipelineChannel channel;
+    
     private final Collection<Importer> importers;
     
     @Getter
@@ -65,4 +70,9 @@ public final class IncrementalTask implements PipelineTask {
         dumper.stop();
         importers.forEach(PipelineLifecycleRunnable::stop);
     }
+    
+    @Override
+    public Optional<PipelineChannelMetrics> getChannelMetrics() {
+        return channel.getMetrics();
+    }
 }
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.core.task;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelMetrics;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
@@ -28,6 +30,7 @@ import org.apache.shardingsphere.data.pipeline.core.task.progress.InventoryTaskP
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -47,6 +50,8 @@ public final class InventoryTask implements PipelineTask {
     
     private final Dumper dumper;
     
+    private final PipelineChannel channel;
+    
     private final Importer importer;
     
     private final AtomicReference<IngestPosition> position;
@@ -71,4 +76,9 @@ public final class InventoryTask implements PipelineTask {
     public InventoryTaskProgress getTaskProgress() {
         return new InventoryTaskProgress(position.get());
     }
+    
+    @Override
+    public Optional<PipelineChannelMetrics> getChannelMetrics() {
+        return channel.getMetrics();
+    }
 }
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.data.pipeline.core.task;
 
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelMetrics;
 import org.apache.shardingsphere.data.pipeline.core.task.progress.TaskProgress;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -52,4 +54,11 @@ public interface PipelineTask {
      * @return task progress
      */
     TaskProgress getTaskProgress();
+    
+    /**
+     * Get channel metrics.
+     *
+     * @return channel metrics, empty if the channel does not collect metrics
+     */
+    Optional<PipelineChannelMetrics> getChannelMetrics();
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelMetrics;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchSingleBatch() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(1, 0L), sameInstance(records));
+    }
+    
+    @Test
+    void assertFetchMultipleBatches() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        Record record1 = new PlaceholderRecord(new IngestFinishedPosition());
+        Record record2 = new PlaceholderRecord(new IngestFinishedPosition());
+        channel.push(Collections.singletonList(record1));
+        channel.push(Collections.singletonList(record2));
+        assertThat(channel.fetch(2, 0L), is(Arrays.asList(record1, record2)));
+    }
+    
+    @Test
+    void assertFetchWithTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(10, 10L), is(records));
+        assertThat(channel.fetch(10, 10L), is(Collections.emptyList()));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Test
+    void assertPushWhenBufferIsFull() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, new InventoryTaskAckCallback(new AtomicReference<>()));
+        int batchCount = 1000;
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < batchCount; i++) {
+                channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+            }
+        });
+        thread.start();
+        List<Record> actual = new ArrayList<>(batchCount);
+        while (actual.size() < batchCount) {
+            actual.addAll(channel.fetch(batchCount, 100L));
+        }
+        thread.join();
+        assertThat(actual.size(), is(batchCount));
+    }
+    
+    @Test
+    void assertPeekWithRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+    }
+    
+    @Test
+    void assertPeekWithoutRecords() {
+        assertThat(new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>())).peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPollWithRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.poll(), is(records));
+    }
+    
+    @Test
+    void assertPollWithoutRecords() {
+        assertThat(new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>())).poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new RingBufferPipelineChannel(4, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+    
+    @Test
+    void assertGetMetrics() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, new InventoryTaskAckCallback(new AtomicReference<>()));
+        channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+        channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+        assertTrue(channel.getMetrics().isPresent());
+        PipelineChannelMetrics actual = channel.getMetrics().get();
+        assertThat(actual.getOccupancyPercentage(), is(50));
+        assertThat(actual.getRecordsPerSecond(), is(0L));
+    }
+}
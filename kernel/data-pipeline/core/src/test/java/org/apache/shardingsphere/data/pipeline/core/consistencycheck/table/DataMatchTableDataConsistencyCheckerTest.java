@@ -42,12 +42,27 @@ class DataMatchTableDataConsistencyCheckerTest {
         }
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Test
+    void assertInitWithParallelism() {
+        DataMatchTableDataConsistencyChecker checker = new DataMatchTableDataConsistencyChecker();
+        Properties props = buildAlgorithmProperties("1000");
+        props.put("parallelism", "4");
+        props.put("sharding-size", "100000");
+        checker.init(props);
+        assertThat(Plugins.getMemberAccessor().get(DataMatchTableDataConsistencyChecker.class.getDeclaredField("parallelism"), checker), is(4));
+        assertThat(Plugins.getMemberAccessor().get(DataMatchTableDataConsistencyChecker.class.getDeclaredField("shardingSize"), checker), is(100000));
+    }
+    
     @Test
     void assertInitFailure() {
         assertThrows(PipelineInvalidParameterException.class, () -> new DataMatchTableDataConsistencyChecker().init(buildAlgorithmProperties("xyz")));
         for (String each : Arrays.asList("0", "-1")) {
             assertThrows(PipelineInvalidParameterException.class, () -> new DataMatchTableDataConsistencyChecker().init(buildAlgorithmProperties(each)));
         }
+        Properties props = buildAlgorithmProperties("1000");
+        props.put("parallelism", "0");
+        assertThrows(PipelineInvalidParameterException.class, () -> new DataMatchTableDataConsistencyChecker().init(props));
     }
     
     private Properties buildAlgorithmProperties(final String chunkSize) {
@@ -44,7 +44,7 @@ public final class ShowStreamingJobStatusExecutor implements DistSQLQueryExecuto
     @Override
     public Collection<String> getColumnNames(final ShowStreamingStatusStatement sqlStatement) {
         return Arrays.asList("item", "data_source", "status", "active", "processed_records_count", "inventory_finished_percentage", "incremental_idle_seconds", "confirmed_position",
-                "current_position", "error_message");
+                "current_position", "channel_records_per_second", "channel_occupancy_percentage", "error_message");
     }
     
     @Override
@@ -58,12 +58,12 @@ public final class ShowStreamingJobStatusExecutor implements DistSQLQueryExecuto
         TransmissionJobItemInfo transmissionJobItemInfo = cdcJobItemInfo.getTransmissionJobItemInfo();
         TransmissionJobItemProgress jobItemProgress = transmissionJobItemInfo.getJobItemProgress();
         if (null == jobItemProgress) {
-            return new LocalDataQueryResultRow(transmissionJobItemInfo.getShardingItem(), "", "", "", "", "", "", "", "", transmissionJobItemInfo.getErrorMessage());
+            return new LocalDataQueryResultRow(transmissionJobItemInfo.getShardingItem(), "", "", "", "", "", "", "", "", "", "", transmissionJobItemInfo.getErrorMessage());
         }
         return new LocalDataQueryResultRow(transmissionJobItemInfo.getShardingItem(), jobItemProgress.getDataSourceName(), jobItemProgress.getStatus(), jobItemProgress.isActive(),
                 jobItemProgress.getProcessedRecordsCount(), transmissionJobItemInfo.getInventoryFinishedPercentage(),
                 getIncrementalIdleSeconds(jobItemProgress, transmissionJobItemInfo, currentTimeMillis), cdcJobItemInfo.getConfirmedPosition(), cdcJobItemInfo.getCurrentPosition(),
-                transmissionJobItemInfo.getErrorMessage());
+                jobItemProgress.getChannelRecordsPerSecond(), jobItemProgress.getChannelOccupancyPercentage(), transmissionJobItemInfo.getErrorMessage());
     }
     
     private static Optional<Long> getIncrementalIdleSeconds(final TransmissionJobItemProgress jobItemProgress, final TransmissionJobItemInfo transmissionJobItemInfo, final long currentTimeMillis) {
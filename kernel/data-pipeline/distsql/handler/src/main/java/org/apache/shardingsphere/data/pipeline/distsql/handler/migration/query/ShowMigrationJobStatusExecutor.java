@@ -39,7 +39,8 @@ public final class ShowMigrationJobStatusExecutor implements DistSQLQueryExecuto
     
     @Override
     public Collection<String> getColumnNames(final ShowMigrationStatusStatement sqlStatement) {
-        return Arrays.asList("item", "data_source", "tables", "status", "active", "processed_records_count", "inventory_finished_percentage", "incremental_idle_seconds", "error_message");
+        return Arrays.asList("item", "data_source", "tables", "status", "active", "processed_records_count", "inventory_finished_percentage", "incremental_idle_seconds",
+                "channel_records_per_second", "channel_occupancy_percentage", "error_message");
     }
     
     @Override
@@ -52,11 +53,11 @@ public final class ShowMigrationJobStatusExecutor implements DistSQLQueryExecuto
     private LocalDataQueryResultRow getRow(final TransmissionJobItemInfo jobItemInfo, final long currentTimeMillis) {
         TransmissionJobItemProgress jobItemProgress = jobItemInfo.getJobItemProgress();
         if (null == jobItemProgress) {
-            return new LocalDataQueryResultRow(jobItemInfo.getShardingItem(), "", "", "", "", "", "", "", jobItemInfo.getErrorMessage());
+            return new LocalDataQueryResultRow(jobItemInfo.getShardingItem(), "", "", "", "", "", "", "", "", "", jobItemInfo.getErrorMessage());
         }
         return new LocalDataQueryResultRow(jobItemInfo.getShardingItem(), jobItemProgress.getDataSourceName(), jobItemInfo.getTableNames(), jobItemProgress.getStatus(), jobItemProgress.isActive(),
                 jobItemProgress.getProcessedRecordsCount(), jobItemInfo.getInventoryFinishedPercentage(), getIncrementalIdleSeconds(jobItemProgress, jobItemInfo, currentTimeMillis),
-                jobItemInfo.getErrorMessage());
+                jobItemProgress.getChannelRecordsPerSecond(), jobItemProgress.getChannelOccupancyPercentage(), jobItemInfo.getErrorMessage());
     }
     
     private Optional<Long> getIncrementalIdleSeconds(final TransmissionJobItemProgress jobItemProgress, final TransmissionJobItemInfo jobItemInfo, final long currentTimeMillis) {
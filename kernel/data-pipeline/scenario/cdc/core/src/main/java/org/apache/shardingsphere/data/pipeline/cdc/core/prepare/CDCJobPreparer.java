@@ -134,7 +134,7 @@ public final class CDCJobPreparer {
             Importer importer = importerUsed.get() ? null
                     : new CDCImporter(channelProgressPairs, importerConfig.getBatchSize(), 100L, jobItemContext.getSink(), false, importerConfig.getRateLimitAlgorithm());
             jobItemContext.getInventoryTasks().add(new CDCInventoryTask(PipelineTaskUtils.generateInventoryTaskId(each), processContext.getInventoryDumperExecuteEngine(),
-                    processContext.getInventoryImporterExecuteEngine(), dumper, importer, position));
+                    processContext.getInventoryImporterExecuteEngine(), dumper, channel, importer, position));
             if (!(position.get() instanceof IngestFinishedPosition)) {
                 importerUsed.set(true);
             }
@@ -155,7 +155,7 @@ public final class CDCJobPreparer {
         Importer importer = importerUsed.get() ? null
                 : new CDCImporter(channelProgressPairs, 1, 100L, jobItemContext.getSink(), needSorting, taskConfig.getImporterConfig().getRateLimitAlgorithm());
         PipelineTask incrementalTask = new CDCIncrementalTask(
-                dumperContext.getCommonContext().getDataSourceName(), jobItemContext.getJobProcessContext().getIncrementalExecuteEngine(), dumper, importer, taskProgress);
+                dumperContext.getCommonContext().getDataSourceName(), jobItemContext.getJobProcessContext().getIncrementalExecuteEngine(), dumper, channel, importer, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
         importerUsed.set(true);
     }
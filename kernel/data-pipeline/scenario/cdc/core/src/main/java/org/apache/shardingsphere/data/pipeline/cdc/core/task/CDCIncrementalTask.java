@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.task;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelMetrics;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
@@ -30,13 +32,14 @@ import org.apache.shardingsphere.data.pipeline.core.task.progress.IncrementalTas
 import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * CDC incremental task.
  */
 @RequiredArgsConstructor
-@ToString(exclude = {"incrementalExecuteEngine", "dumper", "importer", "taskProgress"})
+@ToString(exclude = {"incrementalExecuteEngine", "dumper", "channel", "importer", "taskProgress"})
 public final class CDCIncrementalTask implements PipelineTask {
     
     @Getter
@@ -46,6 +49,8 @@ public final class CDCIncrementalTask implements PipelineTask {
     
     private final Dumper dumper;
     
+    private final PipelineChannel channel;
+    
     @Nullable
     private final Importer importer;
     
@@ -70,4 +75,9 @@ public final class CDCIncrementalTask implements PipelineTask {
             importer.stop();
         }
     }
+    
+    @Override
+    public Optional<PipelineChannelMetrics> getChannelMetrics() {
+        return channel.getMetrics();
+    }
 }
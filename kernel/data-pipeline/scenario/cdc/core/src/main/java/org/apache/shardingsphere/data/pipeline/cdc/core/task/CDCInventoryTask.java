@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.cdc.core.task;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelMetrics;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
@@ -33,6 +35,7 @@ import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -40,7 +43,7 @@ import java.util.concurrent.atomic.AtomicReference;
  * CDC inventory task.
  */
 @RequiredArgsConstructor
-@ToString(exclude = {"inventoryDumperExecuteEngine", "inventoryImporterExecuteEngine", "dumper", "importer"})
+@ToString(exclude = {"inventoryDumperExecuteEngine", "inventoryImporterExecuteEngine", "dumper", "channel", "importer"})
 public final class CDCInventoryTask implements PipelineTask {
     
     @Getter
@@ -52,6 +55,8 @@ public final class CDCInventoryTask implements PipelineTask {
     
     private final Dumper dumper;
     
+    private final PipelineChannel channel;
+    
     @Nullable
     private final Importer importer;
     
@@ -82,4 +87,9 @@ public final class CDCInventoryTask implements PipelineTask {
     public InventoryTaskProgress getTaskProgress() {
         return new InventoryTaskProgress(position.get());
     }
+    
+    @Override
+    public Optional<PipelineChannelMetrics> getChannelMetrics() {
+        return channel.getMetrics();
+    }
 }
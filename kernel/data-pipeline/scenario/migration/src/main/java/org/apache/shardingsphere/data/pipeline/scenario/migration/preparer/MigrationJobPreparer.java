@@ -191,7 +191,7 @@ public final class MigrationJobPreparer implements PipelineJobPreparer<Migration
         Dumper dumper = IncrementalDumperCreator.create(param);
         Collection<Importer> importers = Collections.singletonList(new SingleChannelConsumerImporter(channel, taskConfig.getImporterConfig().getBatchSize(), 1000L,
                 jobItemContext.getSink(), jobItemContext));
-        PipelineTask incrementalTask = new IncrementalTask(dumperContext.getCommonContext().getDataSourceName(), incrementalExecuteEngine, dumper, importers, taskProgress);
+        PipelineTask incrementalTask = new IncrementalTask(dumperContext.getCommonContext().getDataSourceName(), incrementalExecuteEngine, dumper, channel, importers, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
     }
 }
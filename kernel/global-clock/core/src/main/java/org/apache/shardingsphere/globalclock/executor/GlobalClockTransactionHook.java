@@ -43,7 +43,7 @@ public final class GlobalClockTransactionHook implements TransactionHook<GlobalC
     
     @Override
     public void afterBegin(final GlobalClockRule rule, final DatabaseType databaseType, final TransactionConnectionContext transactionContext) {
-        rule.getGlobalClockProvider().ifPresent(optional -> transactionContext.setBeginMillis(optional.getCurrentTimestamp()));
+        rule.getGlobalClockProvider().ifPresent(optional -> transactionContext.setBeginMillis(optional.getSnapshotTimestamp()));
     }
     
     @Override
@@ -70,7 +70,7 @@ public final class GlobalClockTransactionHook implements TransactionHook<GlobalC
         }
         Optional<GlobalClockProvider> globalClockProvider = rule.getGlobalClockProvider();
         Preconditions.checkState(globalClockProvider.isPresent());
-        globalClockTransactionExecutor.get().sendSnapshotTimestamp(connections, globalClockProvider.get().getCurrentTimestamp());
+        globalClockTransactionExecutor.get().sendSnapshotTimestamp(connections, globalClockProvider.get().getSnapshotTimestamp());
     }
     
     @Override
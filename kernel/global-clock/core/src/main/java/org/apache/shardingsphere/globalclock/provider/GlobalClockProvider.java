@@ -33,6 +33,15 @@ public interface GlobalClockProvider extends TypedSPI {
      */
     long getCurrentTimestamp();
     
+    /**
+     * Get snapshot timestamp.
+     *
+     * @return snapshot timestamp
+     */
+    default long getSnapshotTimestamp() {
+        return getCurrentTimestamp();
+    }
+    
     /**
      * Get next timestamp.
      *
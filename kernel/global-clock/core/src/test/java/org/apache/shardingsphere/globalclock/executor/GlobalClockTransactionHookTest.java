@@ -86,7 +86,7 @@ class GlobalClockTransactionHookTest {
     @Test
     void assertAfterBeginWhenGlobalClockProviderPresent() {
         when(rule.getGlobalClockProvider()).thenReturn(Optional.of(globalClockProvider));
-        when(globalClockProvider.getCurrentTimestamp()).thenReturn(10L);
+        when(globalClockProvider.getSnapshotTimestamp()).thenReturn(10L);
         transactionHook.afterBegin(rule, databaseType, transactionContext);
         verify(transactionContext).setBeginMillis(10L);
     }
@@ -140,7 +140,7 @@ class GlobalClockTransactionHookTest {
         when(rule.getConfiguration().isEnabled()).thenReturn(true);
         when(rule.getGlobalClockProvider()).thenReturn(Optional.of(globalClockProvider));
         when(DatabaseTypedSPILoader.findService(GlobalClockTransactionExecutor.class, databaseType)).thenReturn(Optional.of(globalClockTransactionExecutor));
-        when(globalClockProvider.getCurrentTimestamp()).thenReturn(10L);
+        when(globalClockProvider.getSnapshotTimestamp()).thenReturn(10L);
         transactionHook.beforeExecuteSQL(rule, databaseType, Collections.emptyList(), transactionContext, null);
         verify(globalClockTransactionExecutor).sendSnapshotTimestamp(Collections.emptyList(), 10L);
     }
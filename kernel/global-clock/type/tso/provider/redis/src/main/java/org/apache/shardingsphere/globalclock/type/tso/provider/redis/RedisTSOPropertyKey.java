@@ -38,7 +38,9 @@ public enum RedisTSOPropertyKey implements TypedPropertyKey {
     
     MAX_IDLE("maxIdle", "8", int.class),
     
-    MAX_TOTAL("maxTotal", "18", int.class);
+    MAX_TOTAL("maxTotal", "18", int.class),
+    
+    SNAPSHOT_MAX_STALENESS_MILLIS("snapshotMaxStalenessMillis", "0", long.class);
     
     private final String key;
     
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.globalclock.type.tso.provider.redis;
 
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.globalclock.type.tso.provider.TSOProvider;
+import org.apache.shardingsphere.globalclock.type.tso.provider.snapshot.SnapshotTimestampCache;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
@@ -41,12 +42,16 @@ public final class RedisTSOProvider implements TSOProvider {
     
     private JedisPool jedisPool;
     
+    private SnapshotTimestampCache snapshotTimestampCache;
+    
     @Override
     public void init(final Properties props) {
         if (initialized.compareAndSet(false, true)) {
             createJedisPool(props);
             checkJedisPool();
             initCSN();
+            long snapshotMaxStalenessMillis = Long.parseLong(getValue(props, RedisTSOPropertyKey.SNAPSHOT_MAX_STALENESS_MILLIS));
+            snapshotTimestampCache = snapshotMaxStalenessMillis > 0L ? new SnapshotTimestampCache(this::getCurrentTimestamp, snapshotMaxStalenessMillis) : null;
         }
     }
     
@@ -85,12 +90,22 @@ public final class RedisTSOProvider implements TSOProvider {
         }
     }
     
+    @Override
+    public long getSnapshotTimestamp() {
+        return null == snapshotTimestampCache ? getCurrentTimestamp() : snapshotTimestampCache.get();
+    }
+    
     @Override
     public long getNextTimestamp() {
+        long result;
         try (Jedis jedis = jedisPool.getResource()) {
-            return jedis.incr(CSN_KEY);
+            result = jedis.incr(CSN_KEY);
             // TODO use redis lock to instead of reg center's lock. unlock here #35041
         }
+        if (null != snapshotTimestampCache) {
+            snapshotTimestampCache.refresh(result);
+        }
+        return result;
     }
     
     @Override
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.redis;
+
+import org.apache.shardingsphere.globalclock.type.tso.provider.redis.fixture.RedisServerFixture;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RedisTSOProviderTest {
+    
+    private static final long INIT_CSN = Integer.MAX_VALUE;
+    
+    private RedisServerFixture redisServer;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        redisServer = new RedisServerFixture();
+    }
+    
+    @AfterEach
+    void tearDown() throws IOException {
+        redisServer.close();
+    }
+    
+    @Test
+    void assertGetTimestamps() {
+        RedisTSOProvider provider = createProvider(new Property("port", String.valueOf(redisServer.getPort())));
+        assertThat(provider.getCurrentTimestamp(), is(INIT_CSN));
+        assertThat(provider.getNextTimestamp(), is(INIT_CSN + 1L));
+        assertThat(provider.getCurrentTimestamp(), is(INIT_CSN + 1L));
+        assertThat(provider.getSnapshotTimestamp(), is(INIT_CSN + 1L));
+    }
+    
+    @Test
+    void assertGetSnapshotTimestampWithMaxStaleness() {
+        RedisTSOProvider provider = createProvider(new Property("port", String.valueOf(redisServer.getPort())), new Property("snapshotMaxStalenessMillis", "60000"));
+        int originalGetCount = redisServer.getCommandCount("GET");
+        assertThat(provider.getSnapshotTimestamp(), is(INIT_CSN));
+        assertThat(provider.getSnapshotTimestamp(), is(INIT_CSN));
+        assertThat(redisServer.getCommandCount("GET"), is(originalGetCount + 1));
+        assertThat(provider.getNextTimestamp(), is(INIT_CSN + 1L));
+        assertThat(provider.getSnapshotTimestamp(), is(INIT_CSN + 1L));
+        assertThat(redisServer.getCommandCount("GET"), is(originalGetCount + 1));
+    }
+    
+    private RedisTSOProvider createProvider(final Property... properties) {
+        RedisTSOProvider result = new RedisTSOProvider();
+        result.init(PropertiesBuilder.build(properties));
+        return result;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.redis.fixture;
+
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process redis server fixture, which supports PING, GET, SET and INCR with redis serialization protocol.
+ */
+public final class RedisServerFixture implements AutoCloseable {
+    
+    private final ServerSocket serverSocket;
+    
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    
+    private final Map<String, AtomicInteger> commandCounts = new ConcurrentHashMap<>();
+    
+    @Getter
+    private final int port;
+    
+    public RedisServerFixture() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        port = serverSocket.getLocalPort();
+        executor.submit(this::accept);
+    }
+    
+    /**
+     * Get executed count of command.
+     *
+     * @param command command
+     * @return executed count
+     */
+    public int getCommandCount(final String command) {
+        AtomicInteger result = commandCounts.get(command);
+        return null == result ? 0 : result.get();
+    }
+    
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> serve(socket));
+            } catch (final IOException ignored) {
+                return;
+            }
+        }
+    }
+    
+    private void serve(final Socket socket) {
+        try (
+                Socket ignored = socket;
+                InputStream in = new BufferedInputStream(socket.getInputStream());
+                OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            List<String> command = readCommand(in);
+            while (!command.isEmpty()) {
+                out.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                command = readCommand(in);
+            }
+        } catch (final IOException ignored) {
+            // ignore disconnection of client
+        }
+    }
+    
+    private List<String> readCommand(final InputStream in) throws IOException {
+        String header = readLine(in);
+        if (null == header) {
+            return new ArrayList<>();
+        }
+        int argumentCount = Integer.parseInt(header.substring(1));
+        List<String> result = new ArrayList<>(argumentCount);
+        for (int i = 0; i < argumentCount; i++) {
+            byte[] argument = new byte[Integer.parseInt(readLine(in).substring(1))];
+            int offset = 0;
+            while (offset < argument.length) {
+                offset += in.read(argument, offset, argument.length - offset);
+            }
+            readLine(in);
+            result.add(new String(argument, StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+    
+    private String readLine(final InputStream in) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        int current = in.read();
+        while ('\r' != current) {
+            if (-1 == current) {
+                return null;
+            }
+            result.write(current);
+            current = in.read();
+        }
+        in.read();
+        return new String(result.toByteArray(), StandardCharsets.UTF_8);
+    }
+    
+    private String execute(final List<String> command) {
+        String commandName = command.get(0).toUpperCase(Locale.ENGLISH);
+        commandCounts.computeIfAbsent(commandName, key -> new AtomicInteger()).incrementAndGet();
+        switch (commandName) {
+            case "PING":
+                return "+PONG\r\n";
+            case "GET":
+                String value = values.get(command.get(1));
+                return null == value ? "$-1\r\n" : String.format("$%d\r\n%s\r\n", value.length(), value);
+            case "SET":
+                values.put(command.get(1), command.get(2));
+                return "+OK\r\n";
+            case "INCR":
+                return String.format(":%s\r\n", increase(command.get(1), 1L));
+            default:
+                return "+OK\r\n";
+        }
+    }
+    
+    private String increase(final String key, final long increment) {
+        return values.compute(key, (unused, value) -> String.valueOf((null == value ? 0L : Long.parseLong(value)) + increment));
+    }
+    
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.snapshot;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Snapshot timestamp cache.
+ *
+ * <p>
+ * Cached timestamp is reused for snapshot reads until it is older than max staleness, and it never moves backwards.
+ * </p>
+ */
+public final class SnapshotTimestampCache {
+    
+    private final LongSupplier loader;
+    
+    private final long maxStalenessNanos;
+    
+    private volatile CachedTimestamp cachedTimestamp;
+    
+    public SnapshotTimestampCache(final LongSupplier loader, final long maxStalenessMillis) {
+        this.loader = loader;
+        maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(maxStalenessMillis);
+    }
+    
+    /**
+     * Get snapshot timestamp.
+     *
+     * @return snapshot timestamp
+     */
+    public long get() {
+        CachedTimestamp result = cachedTimestamp;
+        if (null != result && !result.isStale(System.nanoTime(), maxStalenessNanos)) {
+            return result.timestamp;
+        }
+        synchronized (this) {
+            result = cachedTimestamp;
+            if (null != result && !result.isStale(System.nanoTime(), maxStalenessNanos)) {
+                return result.timestamp;
+            }
+            long loadedNanos = System.nanoTime();
+            refresh(loader.getAsLong(), loadedNanos);
+            return cachedTimestamp.timestamp;
+        }
+    }
+    
+    /**
+     * Refresh cached timestamp with timestamp allocated by current compute node.
+     *
+     * @param timestamp allocated timestamp
+     */
+    public void refresh(final long timestamp) {
+        refresh(timestamp, System.nanoTime());
+    }
+    
+    private synchronized void refresh(final long timestamp, final long loadedNanos) {
+        CachedTimestamp current = cachedTimestamp;
+        cachedTimestamp = null == current
+                ? new CachedTimestamp(timestamp, loadedNanos)
+                : new CachedTimestamp(Math.max(timestamp, current.timestamp), Math.max(loadedNanos, current.loadedNanos));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedTimestamp {
+        
+        private final long timestamp;
+        
+        private final long loadedNanos;
+        
+        private boolean isStale(final long currentNanos, final long maxStalenessNanos) {
+            return currentNanos - loadedNanos >= maxStalenessNanos;
+        }
+    }
+}
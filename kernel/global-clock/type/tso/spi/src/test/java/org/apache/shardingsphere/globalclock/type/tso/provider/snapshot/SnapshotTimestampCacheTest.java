@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SnapshotTimestampCacheTest {
+    
+    @Test
+    void assertGetWithinMaxStaleness() {
+        AtomicLong clock = new AtomicLong();
+        SnapshotTimestampCache cache = new SnapshotTimestampCache(clock::incrementAndGet, 60000L);
+        assertThat(cache.get(), is(1L));
+        assertThat(cache.get(), is(1L));
+        assertThat(clock.get(), is(1L));
+    }
+    
+    @Test
+    void assertGetWhenStale() {
+        AtomicLong clock = new AtomicLong();
+        SnapshotTimestampCache cache = new SnapshotTimestampCache(clock::incrementAndGet, 0L);
+        assertThat(cache.get(), is(1L));
+        assertThat(cache.get(), is(2L));
+    }
+    
+    @Test
+    void assertRefresh() {
+        SnapshotTimestampCache cache = new SnapshotTimestampCache(() -> 1L, 60000L);
+        assertThat(cache.get(), is(1L));
+        cache.refresh(5L);
+        assertThat(cache.get(), is(5L));
+        cache.refresh(3L);
+        assertThat(cache.get(), is(5L));
+    }
+}
@@ -191,6 +191,7 @@ public final class SQLFederationEngine implements AutoCloseable {
             SelectStatementContext selectStatementContext = (SelectStatementContext) queryContext.getSqlStatementContext();
             String databaseName = selectStatementContext.getTablesContext().getDatabaseNames().stream().findFirst().orElse(currentDatabaseName);
             String schemaName = selectStatementContext.getTablesContext().getSchemaName().orElse(currentSchemaName);
+            sqlFederationRule.getStatisticsRefresher().asyncRefresh(sqlFederationRule.getOptimizerContext(), metaData, statistics);
             SQLFederationProcessor processor = SQLFederationProcessorFactory.getInstance().newInstance(metaData, statistics, jdbcExecutor);
             SqlToRelConverter converter = creeateSQLToRelConverter(databaseName, schemaName, selectStatementContext.getDatabaseType(), processor.getConvention());
             SQLFederationExecutionPlan executionPlan = compileQuery(converter, databaseName, schemaName,
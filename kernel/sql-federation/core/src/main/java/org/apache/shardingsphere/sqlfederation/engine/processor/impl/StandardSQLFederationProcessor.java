@@ -49,7 +49,6 @@ import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -90,8 +89,10 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     public ResultSet executePlan(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> callback,
                                  final SQLFederationExecutionPlan executionPlan, final SqlToRelConverter converter, final SQLFederationContext federationContext,
                                  final SchemaPlus schemaPlus) {
-        Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), Prefer.ARRAY);
+        Map<String, Object> internalParams = new HashMap<>();
+        Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(internalParams, null, (EnumerableRel) executionPlan.getPhysicalPlan(), Prefer.ARRAY);
         Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+        params.putAll(internalParams);
         Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationBindContext(converter, params)).enumerator();
         return new SQLFederationResultSet(enumerator, schemaPlus, (SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext(), executionPlan.getResultColumnType());
     }
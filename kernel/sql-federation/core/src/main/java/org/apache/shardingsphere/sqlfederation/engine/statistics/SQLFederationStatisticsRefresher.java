@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.engine.statistics;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.calcite.schema.Schema;
+import org.apache.calcite.schema.Table;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.DatabaseStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.RowStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.SchemaStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.context.planner.OptimizerMetaData;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationColumnStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SQL federation statistics refresher.
+ *
+ * <p>
+ * Row counts of logic tables are summed up from {@code shardingsphere.sharding_table_statistics},
+ * distinct counts, min values and max values of sharding columns are merged from {@code shardingsphere.sharding_column_statistics},
+ * both are collected by the statistics collect job for every data node.
+ * Distinct counts of data nodes are summed up only if the column partitions its values across data nodes, otherwise the max one is used.
+ * </p>
+ */
+@Slf4j
+public final class SQLFederationStatisticsRefresher implements AutoCloseable {
+    
+    private static final String STATISTICS_SCHEMA_NAME = "shardingsphere";
+    
+    private static final String TABLE_STATISTICS_TABLE_NAME = "sharding_table_statistics";
+    
+    private static final String COLUMN_STATISTICS_TABLE_NAME = "sharding_column_statistics";
+    
+    private static final long REFRESH_INTERVAL_MILLIS = 60000L;
+    
+    private final ThreadPoolExecutor executorService;
+    
+    private final AtomicReference<RefreshState> refreshState = new AtomicReference<>(new RefreshState(null, 0L));
+    
+    public SQLFederationStatisticsRefresher() {
+        executorService = new ThreadPoolExecutor(1, 1, REFRESH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), ExecutorThreadFactoryBuilder.build("sql-federation-statistics-%d"));
+        executorService.allowCoreThreadTimeOut(true);
+    }
+    
+    /**
+     * Async refresh statistics of optimizer context if refresh interval elapsed or optimizer context changed.
+     *
+     * @param optimizerContext optimizer context
+     * @param metaData meta data
+     * @param statistics ShardingSphere statistics
+     */
+    public void asyncRefresh(final OptimizerContext optimizerContext, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        if (null == statistics || executorService.isShutdown()) {
+            return;
+        }
+        long currentMillis = System.currentTimeMillis();
+        RefreshState currentState = refreshState.get();
+        if (optimizerContext == currentState.getOptimizerContext() && currentMillis < currentState.getNextRefreshMillis()) {
+            return;
+        }
+        if (refreshState.compareAndSet(currentState, new RefreshState(optimizerContext, currentMillis + REFRESH_INTERVAL_MILLIS))) {
+            try {
+                executorService.execute(() -> refresh(optimizerContext, metaData, statistics));
+            } catch (final RejectedExecutionException ignored) {
+                // refresher has been closed with the rule
+            }
+        }
+    }
+    
+    /**
+     * Refresh statistics of optimizer context.
+     *
+     * @param optimizerContext optimizer context
+     * @param metaData meta data
+     * @param statistics ShardingSphere statistics
+     */
+    public void refresh(final OptimizerContext optimizerContext, final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        try {
+            Map<String, Map<String, Double>> rowCounts = new CaseInsensitiveMap<>();
+            Map<String, Map<String, Map<String, ColumnStatisticValues>>> columnStatistics = new CaseInsensitiveMap<>();
+            loadStatistics(metaData, statistics, rowCounts, columnStatistics);
+            for (ShardingSphereDatabase each : metaData.getAllDatabases()) {
+                OptimizerMetaData optimizerMetaData = optimizerContext.getMetaData(each.getName());
+                if (null != optimizerMetaData) {
+                    refreshRowCounts(each, optimizerMetaData, rowCounts.getOrDefault(each.getName(), Collections.emptyMap()));
+                    refreshColumnStatistics(each, optimizerMetaData, columnStatistics.getOrDefault(each.getName(), Collections.emptyMap()));
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Refresh SQL federation statistics failed.", ex);
+        }
+    }
+    
+    private void loadStatistics(final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics,
+                                final Map<String, Map<String, Double>> rowCounts, final Map<String, Map<String, Map<String, ColumnStatisticValues>>> columnStatistics) {
+        for (ShardingSphereDatabase each : metaData.getAllDatabases()) {
+            if (!statistics.containsDatabaseStatistics(each.getName()) || !each.containsSchema(STATISTICS_SCHEMA_NAME)) {
+                continue;
+            }
+            DatabaseStatistics databaseStatistics = statistics.getDatabaseStatistics(each.getName());
+            if (!databaseStatistics.containsSchemaStatistics(STATISTICS_SCHEMA_NAME)) {
+                continue;
+            }
+            SchemaStatistics schemaStatistics = databaseStatistics.getSchemaStatistics(STATISTICS_SCHEMA_NAME);
+            ShardingSphereSchema schema = each.getSchema(STATISTICS_SCHEMA_NAME);
+            if (schema.containsTable(TABLE_STATISTICS_TABLE_NAME) && schemaStatistics.containsTableStatistics(TABLE_STATISTICS_TABLE_NAME)) {
+                appendRowCounts(schemaStatistics.getTableStatistics(TABLE_STATISTICS_TABLE_NAME), schema.getTable(TABLE_STATISTICS_TABLE_NAME), rowCounts);
+            }
+            if (schema.containsTable(COLUMN_STATISTICS_TABLE_NAME) && schemaStatistics.containsTableStatistics(COLUMN_STATISTICS_TABLE_NAME)) {
+                appendColumnStatistics(schemaStatistics.getTableStatistics(COLUMN_STATISTICS_TABLE_NAME), schema.getTable(COLUMN_STATISTICS_TABLE_NAME), columnStatistics);
+            }
+        }
+    }
+    
+    private void appendRowCounts(final TableStatistics tableStatistics, final ShardingSphereTable table, final Map<String, Map<String, Double>> rowCounts) {
+        List<String> columnNames = getColumnNames(table);
+        int logicDatabaseNameIndex = columnNames.indexOf("logic_database_name");
+        int logicTableNameIndex = columnNames.indexOf("logic_table_name");
+        int rowCountIndex = columnNames.indexOf("row_count");
+        if (logicDatabaseNameIndex < 0 || logicTableNameIndex < 0 || rowCountIndex < 0) {
+            return;
+        }
+        for (RowStatistics each : tableStatistics.getRows()) {
+            Object logicDatabaseName = getValue(each, logicDatabaseNameIndex);
+            Object logicTableName = getValue(each, logicTableNameIndex);
+            Optional<Double> rowCount = toDouble(getValue(each, rowCountIndex));
+            if (null != logicDatabaseName && null != logicTableName && rowCount.isPresent()) {
+                rowCounts.computeIfAbsent(logicDatabaseName.toString(), key -> new CaseInsensitiveMap<>()).merge(logicTableName.toString(), rowCount.get(), Double::sum);
+            }
+        }
+    }
+    
+    private void appendColumnStatistics(final TableStatistics tableStatistics, final ShardingSphereTable table,
+                                        final Map<String, Map<String, Map<String, ColumnStatisticValues>>> columnStatistics) {
+        List<String> columnNames = getColumnNames(table);
+        int logicDatabaseNameIndex = columnNames.indexOf("logic_database_name");
+        int logicTableNameIndex = columnNames.indexOf("logic_table_name");
+        int columnNameIndex = columnNames.indexOf("column_name");
+        int distinctCountIndex = columnNames.indexOf("distinct_count");
+        int minValueIndex = columnNames.indexOf("min_value");
+        int maxValueIndex = columnNames.indexOf("max_value");
+        int partitionedIndex = columnNames.indexOf("partitioned");
+        if (logicDatabaseNameIndex < 0 || logicTableNameIndex < 0 || columnNameIndex < 0 || distinctCountIndex < 0 || minValueIndex < 0 || maxValueIndex < 0) {
+            return;
+        }
+        for (RowStatistics each : tableStatistics.getRows()) {
+            Object logicDatabaseName = getValue(each, logicDatabaseNameIndex);
+            Object logicTableName = getValue(each, logicTableNameIndex);
+            Object columnName = getValue(each, columnNameIndex);
+            if (null != logicDatabaseName && null != logicTableName && null != columnName) {
+                columnStatistics.computeIfAbsent(logicDatabaseName.toString(), key -> new CaseInsensitiveMap<>()).computeIfAbsent(logicTableName.toString(), key -> new CaseInsensitiveMap<>())
+                        .computeIfAbsent(columnName.toString(), key -> new ColumnStatisticValues())
+                        .merge(toDouble(getValue(each, distinctCountIndex)), toDouble(getValue(each, minValueIndex)), toDouble(getValue(each, maxValueIndex)),
+                                Boolean.parseBoolean(String.valueOf(getValue(each, partitionedIndex))));
+            }
+        }
+    }
+    
+    private List<String> getColumnNames(final ShardingSphereTable table) {
+        List<String> result = new ArrayList<>(table.getAllColumns().size());
+        table.getAllColumns().forEach(each -> result.add(each.getName().toLowerCase()));
+        return result;
+    }
+    
+    private Object getValue(final RowStatistics rowStatistics, final int index) {
+        return index >= 0 && index < rowStatistics.getRows().size() ? rowStatistics.getRows().get(index) : null;
+    }
+    
+    private Optional<Double> toDouble(final Object value) {
+        if (value instanceof Number) {
+            return Optional.of(((Number) value).doubleValue());
+        }
+        if (null == value) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Double.parseDouble(value.toString()));
+        } catch (final NumberFormatException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private void refreshRowCounts(final ShardingSphereDatabase database, final OptimizerMetaData optimizerMetaData, final Map<String, Double> rowCounts) {
+        for (Entry<String, Double> entry : rowCounts.entrySet()) {
+            findStatistic(database, optimizerMetaData, entry.getKey()).ifPresent(optional -> optional.setRowCount(entry.getValue()));
+        }
+    }
+    
+    private void refreshColumnStatistics(final ShardingSphereDatabase database, final OptimizerMetaData optimizerMetaData, final Map<String, Map<String, ColumnStatisticValues>> columnStatistics) {
+        for (Entry<String, Map<String, ColumnStatisticValues>> entry : columnStatistics.entrySet()) {
+            Optional<SQLFederationStatistic> statistic = findStatistic(database, optimizerMetaData, entry.getKey());
+            if (statistic.isPresent()) {
+                Map<String, SQLFederationColumnStatistic> columnStatisticMap = new CaseInsensitiveMap<>(entry.getValue().size(), 1F);
+                entry.getValue().entrySet().stream().filter(each -> !each.getValue().isEmpty()).forEach(each -> columnStatisticMap.put(each.getKey(), each.getValue().toColumnStatistic()));
+                statistic.get().setColumnStatistics(columnStatisticMap);
+            }
+        }
+    }
+    
+    private Optional<SQLFederationStatistic> findStatistic(final ShardingSphereDatabase database, final OptimizerMetaData optimizerMetaData, final String tableName) {
+        Optional<String> schemaName = findSchemaName(database, tableName);
+        if (!schemaName.isPresent()) {
+            return Optional.empty();
+        }
+        Schema schema = optimizerMetaData.getSchema(schemaName.get());
+        if (!(schema instanceof SQLFederationSchema)) {
+            return Optional.empty();
+        }
+        Table table = ((SQLFederationSchema) schema).getTableMap().get(tableName);
+        return null != table && table.getStatistic() instanceof SQLFederationStatistic ? Optional.of((SQLFederationStatistic) table.getStatistic()) : Optional.empty();
+    }
+    
+    private Optional<String> findSchemaName(final ShardingSphereDatabase database, final String tableName) {
+        String defaultSchemaName = new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName());
+        if (database.containsSchema(defaultSchemaName) && database.getSchema(defaultSchemaName).containsTable(tableName)) {
+            return Optional.of(defaultSchemaName);
+        }
+        return database.getAllSchemas().stream().filter(each -> each.containsTable(tableName)).map(ShardingSphereSchema::getName).findFirst();
+    }
+    
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RefreshState {
+        
+        private final OptimizerContext optimizerContext;
+        
+        private final long nextRefreshMillis;
+    }
+    
+    private static final class ColumnStatisticValues {
+        
+        private Double distinctRowCountSum;
+        
+        private Double distinctRowCountMax;
+        
+        private boolean partitioned = true;
+        
+        private Double minValue;
+        
+        private Double maxValue;
+        
+        void merge(final Optional<Double> distinctRowCount, final Optional<Double> minValue, final Optional<Double> maxValue, final boolean partitioned) {
+            distinctRowCount.ifPresent(optional -> {
+                distinctRowCountSum = null == distinctRowCountSum ? optional : distinctRowCountSum + optional;
+                distinctRowCountMax = null == distinctRowCountMax ? optional : Math.max(distinctRowCountMax, optional);
+            });
+            minValue.ifPresent(optional -> this.minValue = null == this.minValue ? optional : Math.min(this.minValue, optional));
+            maxValue.ifPresent(optional -> this.maxValue = null == this.maxValue ? optional : Math.max(this.maxValue, optional));
+            this.partitioned = this.partitioned && partitioned;
+        }
+        
+        boolean isEmpty() {
+            return null == distinctRowCountSum && null == minValue && null == maxValue;
+        }
+        
+        SQLFederationColumnStatistic toColumnStatistic() {
+            return new SQLFederationColumnStatistic(partitioned ? distinctRowCountSum : distinctRowCountMax, minValue, maxValue);
+        }
+    }
+}
@@ -22,22 +22,27 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.constant.SQLFederationOrder;
+import org.apache.shardingsphere.sqlfederation.engine.statistics.SQLFederationStatisticsRefresher;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.cache.ScanPlanCacheFactory;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContextFactory;
 
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 /**
  * SQL federation rule.
  */
 @Getter
-public final class SQLFederationRule implements GlobalRule {
+public final class SQLFederationRule implements GlobalRule, AutoCloseable {
     
     private final SQLFederationRuleConfiguration configuration;
     
     private final AtomicReference<OptimizerContext> optimizerContext;
     
+    private final SQLFederationStatisticsRefresher statisticsRefresher = new SQLFederationStatisticsRefresher();
+    
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases) {
         configuration = ruleConfig;
         optimizerContext = new AtomicReference<>(OptimizerContextFactory.create(databases));
@@ -46,6 +51,9 @@ public final class SQLFederationRule implements GlobalRule {
     @Override
     public void refresh(final Collection<ShardingSphereDatabase> databases, final GlobalRuleChangedType changedType) {
         optimizerContext.set(OptimizerContextFactory.create(databases));
+        if (GlobalRuleChangedType.DATABASE_CHANGED == changedType) {
+            ScanPlanCacheFactory.retain(databases.stream().map(ShardingSphereDatabase::getName).collect(Collectors.toList()));
+        }
     }
     
     /**
@@ -61,4 +69,9 @@ public final class SQLFederationRule implements GlobalRule {
     public int getOrder() {
         return SQLFederationOrder.ORDER;
     }
+    
+    @Override
+    public void close() {
+        statisticsRefresher.close();
+    }
 }
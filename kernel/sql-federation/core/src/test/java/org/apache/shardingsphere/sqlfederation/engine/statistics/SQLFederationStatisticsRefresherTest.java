@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.engine.statistics;
+
+import org.apache.calcite.schema.Table;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.DatabaseStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.RowStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.SchemaStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContextFactory;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationColumnStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class SQLFederationStatisticsRefresherTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertRefresh() {
+        Collection<ShardingSphereDatabase> databases = Arrays.asList(createLogicDatabase(), createStatisticsDatabase());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                databases, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        OptimizerContext optimizerContext = OptimizerContextFactory.create(databases);
+        new SQLFederationStatisticsRefresher().refresh(optimizerContext, metaData, createStatistics());
+        assertThat(getTable(optimizerContext, "foo_db", "t_order").getStatistic().getRowCount(), is(30D));
+        assertThat(getTable(optimizerContext, "foo_db", "t_user").getStatistic().getRowCount(), is(nullValue()));
+        SQLFederationColumnStatistic actualColumnStatistic = ((SQLFederationStatistic) getTable(optimizerContext, "foo_db", "t_order").getStatistic()).findColumnStatistic("order_id").orElse(null);
+        assertNotNull(actualColumnStatistic);
+        assertThat(actualColumnStatistic.getDistinctRowCount(), is(25D));
+        assertThat(actualColumnStatistic.getMinValue(), is(1D));
+        assertThat(actualColumnStatistic.getMaxValue(), is(200D));
+        assertFalse(((SQLFederationStatistic) getTable(optimizerContext, "foo_db", "t_user").getStatistic()).findColumnStatistic("user_id").isPresent());
+    }
+    
+    @Test
+    void assertRefreshWithNotPartitionedColumn() {
+        Collection<ShardingSphereDatabase> databases = Arrays.asList(createLogicDatabase(), createStatisticsDatabase());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                databases, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        OptimizerContext optimizerContext = OptimizerContextFactory.create(databases);
+        new SQLFederationStatisticsRefresher().refresh(optimizerContext, metaData, createStatistics(false));
+        SQLFederationColumnStatistic actualColumnStatistic = ((SQLFederationStatistic) getTable(optimizerContext, "foo_db", "t_order").getStatistic()).findColumnStatistic("order_id").orElse(null);
+        assertNotNull(actualColumnStatistic);
+        assertThat(actualColumnStatistic.getDistinctRowCount(), is(15D));
+    }
+    
+    @Test
+    void assertRefreshWithSameTableNameInMultipleSchemas() {
+        DatabaseType postgreSQLDatabaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
+        ShardingSphereDatabase logicDatabase = new ShardingSphereDatabase("foo_db", postgreSQLDatabaseType, new ResourceMetaData(Collections.emptyMap()),
+                new RuleMetaData(Collections.emptyList()), Arrays.asList(createSchema("bar_schema"), createSchema("public")));
+        Collection<ShardingSphereDatabase> databases = Arrays.asList(logicDatabase, createStatisticsDatabase());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                databases, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        OptimizerContext optimizerContext = OptimizerContextFactory.create(databases);
+        new SQLFederationStatisticsRefresher().refresh(optimizerContext, metaData, createStatistics());
+        assertThat(getTable(optimizerContext, "public", "t_order").getStatistic().getRowCount(), is(30D));
+        assertThat(getTable(optimizerContext, "bar_schema", "t_order").getStatistic().getRowCount(), is(nullValue()));
+    }
+    
+    @Test
+    void assertRefreshWithoutStatistics() {
+        Collection<ShardingSphereDatabase> databases = Collections.singleton(createLogicDatabase());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                databases, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        OptimizerContext optimizerContext = OptimizerContextFactory.create(databases);
+        new SQLFederationStatisticsRefresher().refresh(optimizerContext, metaData, new ShardingSphereStatistics());
+        assertThat(getTable(optimizerContext, "foo_db", "t_order").getStatistic().getRowCount(), is(nullValue()));
+    }
+    
+    @Test
+    void assertAsyncRefreshAfterClose() {
+        Collection<ShardingSphereDatabase> databases = Arrays.asList(createLogicDatabase(), createStatisticsDatabase());
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                databases, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        OptimizerContext optimizerContext = OptimizerContextFactory.create(databases);
+        SQLFederationStatisticsRefresher refresher = new SQLFederationStatisticsRefresher();
+        refresher.close();
+        refresher.asyncRefresh(optimizerContext, metaData, createStatistics());
+        assertThat(getTable(optimizerContext, "foo_db", "t_order").getStatistic().getRowCount(), is(nullValue()));
+    }
+    
+    private ShardingSphereDatabase createLogicDatabase() {
+        return new ShardingSphereDatabase("foo_db", databaseType, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()),
+                Collections.singleton(createSchema("foo_db")));
+    }
+    
+    private ShardingSphereSchema createSchema(final String schemaName) {
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false, false);
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, true, false, false, true, false, false);
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order", Collections.singleton(orderIdColumn), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable userTable = new ShardingSphereTable("t_user", Collections.singleton(userIdColumn), Collections.emptyList(), Collections.emptyList());
+        return new ShardingSphereSchema(schemaName, Arrays.asList(orderTable, userTable), Collections.emptyList());
+    }
+    
+    private ShardingSphereDatabase createStatisticsDatabase() {
+        Collection<ShardingSphereColumn> columns = Arrays.asList(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn("logic_database_name", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("logic_table_name", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("actual_database_name", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("actual_table_name", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("row_count", Types.DECIMAL, false, false, false, true, false, false),
+                new ShardingSphereColumn("size", Types.DECIMAL, false, false, false, true, false, false));
+        ShardingSphereTable table = new ShardingSphereTable("sharding_table_statistics", columns, Collections.emptyList(), Collections.emptyList());
+        Collection<ShardingSphereColumn> columnStatisticsColumns = Arrays.asList(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false),
+                new ShardingSphereColumn("logic_database_name", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("logic_table_name", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("column_name", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("actual_database_name", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("actual_table_name", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("partitioned", Types.BOOLEAN, false, false, false, true, false, false),
+                new ShardingSphereColumn("distinct_count", Types.DECIMAL, false, false, false, true, false, false),
+                new ShardingSphereColumn("min_value", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("max_value", Types.VARCHAR, false, false, false, true, false, false));
+        ShardingSphereTable columnStatisticsTable = new ShardingSphereTable("sharding_column_statistics", columnStatisticsColumns, Collections.emptyList(), Collections.emptyList());
+        ShardingSphereSchema schema = new ShardingSphereSchema("shardingsphere", Arrays.asList(table, columnStatisticsTable), Collections.emptyList());
+        return new ShardingSphereDatabase("shardingsphere", databaseType, new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), Collections.singleton(schema));
+    }
+    
+    private ShardingSphereStatistics createStatistics() {
+        return createStatistics(true);
+    }
+    
+    private ShardingSphereStatistics createStatistics(final boolean partitioned) {
+        TableStatistics tableStatistics = new TableStatistics("sharding_table_statistics");
+        tableStatistics.getRows().add(new RowStatistics(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("10"), BigDecimal.ZERO)));
+        tableStatistics.getRows().add(new RowStatistics(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal("20"), BigDecimal.ZERO)));
+        TableStatistics columnStatistics = new TableStatistics("sharding_column_statistics");
+        columnStatistics.getRows().add(new RowStatistics(Arrays.asList(1, "foo_db", "t_order", "order_id", "ds_0", "t_order_0", partitioned, new BigDecimal("10"), "1", "100")));
+        columnStatistics.getRows().add(new RowStatistics(Arrays.asList(2, "foo_db", "t_order", "order_id", "ds_1", "t_order_1", partitioned, new BigDecimal("15"), "101", "200")));
+        columnStatistics.getRows().add(new RowStatistics(Arrays.asList(3, "foo_db", "t_user", "user_id", "ds_0", "t_user_0", true, null, null, null)));
+        SchemaStatistics schemaStatistics = new SchemaStatistics();
+        schemaStatistics.putTableStatistics("sharding_table_statistics", tableStatistics);
+        schemaStatistics.putTableStatistics("sharding_column_statistics", columnStatistics);
+        DatabaseStatistics databaseStatistics = new DatabaseStatistics();
+        databaseStatistics.putSchemaStatistics("shardingsphere", schemaStatistics);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabaseStatistics("shardingsphere", databaseStatistics);
+        return result;
+    }
+    
+    private Table getTable(final OptimizerContext optimizerContext, final String schemaName, final String tableName) {
+        return ((SQLFederationSchema) optimizerContext.getMetaData("foo_db").getSchema(schemaName)).getTableMap().get(tableName);
+    }
+}
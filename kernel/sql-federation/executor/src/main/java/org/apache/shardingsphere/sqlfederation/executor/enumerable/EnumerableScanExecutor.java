@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.sqlfederation.executor.enumerable;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.metadata.database.system.SystemDatabase;
@@ -43,6 +45,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -52,12 +55,15 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
-import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.executor.constant.EnumerableConstants;
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationContext;
 import org.apache.shardingsphere.sqlfederation.executor.context.SQLFederationExecutorContext;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.cache.ScanPlan;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.cache.ScanPlanCacheFactory;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.cache.ScanPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.executor.enumerator.JDBCRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerator.MemoryRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.utils.StatisticsAssembleUtils;
@@ -65,6 +71,8 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContex
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction.SemiJoinKeys;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction.SemiJoinReduction;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -110,13 +118,44 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         if (new SystemDatabase(databaseType).getSystemSchemas().contains(schemaName)) {
             return createMemoryEnumerable(databaseName, schemaName, table, databaseType);
         }
-        QueryContext queryContext = createQueryContext(federationContext.getMetaData(), scanContext, databaseType, federationContext.getQueryContext().isUseCache());
+        if (null != scanContext.getSemiJoinReduction() && !federationContext.isPreview()) {
+            return createSemiJoinReductionEnumerable(scanContext, databaseType);
+        }
+        return createScanEnumerable(scanContext, databaseType, Collections.emptyList());
+    }
+    
+    private Enumerable<Object> createScanEnumerable(final ScanExecutorContext scanContext, final DatabaseType databaseType, final List<Object> semiJoinKeyParams) {
+        boolean useCache = federationContext.getQueryContext().isUseCache() && semiJoinKeyParams.isEmpty();
+        QueryContext queryContext = createQueryContext(federationContext.getMetaData(), scanContext, databaseType, useCache, semiJoinKeyParams);
         ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, executorContext.getProps());
         if (federationContext.isPreview()) {
             federationContext.getPreviewExecutionUnits().addAll(executionContext.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return createJDBCEnumerable(queryContext, federationContext.getMetaData().getDatabase(databaseName), executionContext);
+        return createJDBCEnumerable(queryContext, federationContext.getMetaData().getDatabase(executorContext.getCurrentDatabaseName()), executionContext);
+    }
+    
+    private Enumerable<Object> createSemiJoinReductionEnumerable(final ScanExecutorContext scanContext, final DatabaseType databaseType) {
+        SemiJoinReduction semiJoinReduction = scanContext.getSemiJoinReduction();
+        return new AbstractEnumerable<Object>() {
+            
+            @Override
+            public Enumerator<Object> enumerator() {
+                Optional<SemiJoinKeys> keys = semiJoinReduction.findCollectedKeys(scanContext.getRoot());
+                if (!keys.isPresent()) {
+                    return createScanEnumerable(scanContext, databaseType, Collections.emptyList()).enumerator();
+                }
+                if (keys.get().isEmpty()) {
+                    return new EmptyRowEnumerator();
+                }
+                if (keys.get().isPushDownAvailable()) {
+                    int paramOffset = federationContext.getQueryContext().getParameters().size();
+                    ScanExecutorContext pushDownScanContext = semiJoinReduction.createPushDownScanContext(scanContext.getRoot(), keys.get(), paramOffset);
+                    return createScanEnumerable(pushDownScanContext, databaseType, keys.get().getValues()).enumerator();
+                }
+                return createScanEnumerable(scanContext, databaseType, Collections.emptyList()).where(each -> semiJoinReduction.isMatched(keys.get(), each)).enumerator();
+            }
+        };
     }
     
     private AbstractEnumerable<Object> createJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
@@ -200,23 +239,49 @@ public final class EnumerableScanExecutor implements ScanExecutor {
         }
     }
     
-    private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final ScanExecutorContext sqlString, final DatabaseType databaseType, final boolean useCache) {
+    private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final ScanExecutorContext sqlString, final DatabaseType databaseType, final boolean useCache,
+                                            final List<Object> semiJoinKeyParams) {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
-        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType,
-                optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache()).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+        List<Object> params = getParameters(sqlString.getParamIndexes(), semiJoinKeyParams);
         HintValueContext hintValueContext = new HintValueContext();
-        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement, params);
+        SQLStatementContext sqlStatementContext = useCache
+                ? getSQLStatementContextWithCache(metaData, sql, params, databaseType, hintValueContext)
+                : bind(metaData, sql, params, databaseType, hintValueContext, false);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, federationContext.getQueryContext().getConnectionContext(), metaData, useCache);
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
+    private SQLStatementContext getSQLStatementContextWithCache(final ShardingSphereMetaData metaData, final String sql, final List<Object> params,
+                                                                final DatabaseType databaseType, final HintValueContext hintValueContext) {
+        ShardingSphereDatabase database = metaData.getDatabase(executorContext.getCurrentDatabaseName());
+        Cache<ScanPlanCacheKey, ScanPlan> scanPlanCache = ScanPlanCacheFactory.getScanPlanCache(database.getName(), optimizerContext.getSqlParserRule().getSqlStatementCache());
+        ScanPlanCacheKey cacheKey = new ScanPlanCacheKey(sql, params.size());
+        ScanPlan cachedScanPlan = scanPlanCache.getIfPresent(cacheKey);
+        if (null != cachedScanPlan && cachedScanPlan.isValid(database)) {
+            return SQLStatementContextFactory.newInstance(metaData, cachedScanPlan.getSqlStatement(), params, executorContext.getCurrentDatabaseName());
+        }
+        SQLStatementContext result = bind(metaData, sql, params, databaseType, hintValueContext, true);
+        if (!HintManager.getDataSourceName().isPresent()) {
+            scanPlanCache.put(cacheKey, new ScanPlan(result, database, executorContext.getSchemaName()));
+        }
+        return result;
+    }
+    
+    private SQLStatementContext bind(final ShardingSphereMetaData metaData, final String sql, final List<Object> params,
+                                     final DatabaseType databaseType, final HintValueContext hintValueContext, final boolean useCache) {
+        SQLStatement sqlStatement = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType,
+                optimizerContext.getSqlParserRule().getSqlStatementCache(), optimizerContext.getSqlParserRule().getParseTreeCache(),
+                optimizerContext.getSqlParserRule().isFastPathSQLParserEnabled()).parse(sql, useCache);
+        return new SQLBindEngine(metaData, executorContext.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement, params);
+    }
+    
+    private List<Object> getParameters(final int[] paramIndexes, final List<Object> semiJoinKeyParams) {
         if (null == paramIndexes) {
             return Collections.emptyList();
         }
+        List<Object> queryParams = federationContext.getQueryContext().getParameters();
         List<Object> result = new ArrayList<>(paramIndexes.length);
         for (int each : paramIndexes) {
-            result.add(federationContext.getQueryContext().getParameters().get(each));
+            result.add(each < queryParams.size() ? queryParams.get(each) : semiJoinKeyParams.get(each - queryParams.size()));
         }
         return result;
     }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.cache;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Scan plan.
+ *
+ * <p>Only the bound SQL statement is cached, SQL statement context is mutable during route, rewrite and merge, so it must be created for every execution.</p>
+ */
+public final class ScanPlan {
+    
+    @Getter
+    private final SQLStatement sqlStatement;
+    
+    private final String schemaName;
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    private final Map<String, ShardingSphereTable> tables;
+    
+    public ScanPlan(final SQLStatementContext sqlStatementContext, final ShardingSphereDatabase database, final String schemaName) {
+        sqlStatement = sqlStatementContext.getSqlStatement();
+        this.schemaName = schemaName;
+        rules = new ArrayList<>(database.getRuleMetaData().getRules());
+        tables = getTables(sqlStatementContext, database.getSchema(schemaName));
+    }
+    
+    private Map<String, ShardingSphereTable> getTables(final SQLStatementContext sqlStatementContext, final ShardingSphereSchema schema) {
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>();
+        if (null == schema || !(sqlStatementContext instanceof TableAvailable)) {
+            return result;
+        }
+        for (String each : ((TableAvailable) sqlStatementContext).getTablesContext().getTableNames()) {
+            result.put(each, schema.getTable(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether scan plan is still valid for database.
+     *
+     * <p>Rules and tables are rebuilt when metadata or rule configuration changes, so any replaced instance invalidates the scan plan.</p>
+     *
+     * @param database database
+     * @return is valid or not
+     */
+    public boolean isValid(final ShardingSphereDatabase database) {
+        return isSameRules(database.getRuleMetaData().getRules()) && isSameTables(database.getSchema(schemaName));
+    }
+    
+    private boolean isSameRules(final Collection<ShardingSphereRule> actualRules) {
+        if (rules.size() != actualRules.size()) {
+            return false;
+        }
+        Iterator<ShardingSphereRule> iterator = actualRules.iterator();
+        for (ShardingSphereRule each : rules) {
+            if (each != iterator.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameTables(final ShardingSphereSchema schema) {
+        if (null == schema) {
+            return tables.isEmpty();
+        }
+        for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
+            if (entry.getValue() != schema.getTable(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scan plan cache factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ScanPlanCacheFactory {
+    
+    private static final Map<String, Cache<ScanPlanCacheKey, ScanPlan>> CACHES = new ConcurrentHashMap<>(1, 1F);
+    
+    /**
+     * Get scan plan cache.
+     *
+     * @param databaseName database name
+     * @param cacheOption scan plan cache option
+     * @return scan plan cache
+     */
+    public static Cache<ScanPlanCacheKey, ScanPlan> getScanPlanCache(final String databaseName, final CacheOption cacheOption) {
+        Cache<ScanPlanCacheKey, ScanPlan> result = CACHES.get(databaseName);
+        if (null == result) {
+            result = CACHES.computeIfAbsent(databaseName, unused -> Caffeine.newBuilder().softValues()
+                    .initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).build());
+        }
+        return result;
+    }
+    
+    /**
+     * Remove scan plan caches of databases which do not exist anymore.
+     *
+     * @param databaseNames names of existing databases
+     */
+    public static void retain(final Collection<String> databaseNames) {
+        CACHES.keySet().retainAll(databaseNames);
+    }
+}
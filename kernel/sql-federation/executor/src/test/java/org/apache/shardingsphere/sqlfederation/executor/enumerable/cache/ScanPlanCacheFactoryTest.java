@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ScanPlanCacheFactoryTest {
+    
+    private final CacheOption cacheOption = new CacheOption(128, 1024L);
+    
+    @Test
+    void assertGetScanPlanCache() {
+        Cache<ScanPlanCacheKey, ScanPlan> actual = ScanPlanCacheFactory.getScanPlanCache("foo_db", cacheOption);
+        assertThat(ScanPlanCacheFactory.getScanPlanCache("foo_db", cacheOption), is(actual));
+        assertThat(ScanPlanCacheFactory.getScanPlanCache("bar_db", cacheOption), not(actual));
+    }
+    
+    @Test
+    void assertRetain() {
+        Cache<ScanPlanCacheKey, ScanPlan> fooCache = ScanPlanCacheFactory.getScanPlanCache("foo_db", cacheOption);
+        Cache<ScanPlanCacheKey, ScanPlan> barCache = ScanPlanCacheFactory.getScanPlanCache("bar_db", cacheOption);
+        ScanPlanCacheFactory.retain(Collections.singleton("foo_db"));
+        assertThat(ScanPlanCacheFactory.getScanPlanCache("foo_db", cacheOption), is(fooCache));
+        assertThat(ScanPlanCacheFactory.getScanPlanCache("bar_db", cacheOption), not(barCache));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.cache;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScanPlanTest {
+    
+    private final ShardingSphereRule rule = mock(ShardingSphereRule.class);
+    
+    private final ShardingSphereTable table = mock(ShardingSphereTable.class);
+    
+    private final SelectStatement sqlStatement = mock(SelectStatement.class);
+    
+    private ShardingSphereDatabase database;
+    
+    private ScanPlan scanPlan;
+    
+    @BeforeEach
+    void setUp() {
+        database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        Collection<ShardingSphereRule> rules = Collections.singleton(rule);
+        when(database.getRuleMetaData().getRules()).thenReturn(rules);
+        when(database.getSchema("foo_schema").getTable("t_order")).thenReturn(table);
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(sqlStatement);
+        when(sqlStatementContext.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t_order"));
+        scanPlan = new ScanPlan(sqlStatementContext, database, "foo_schema");
+    }
+    
+    @Test
+    void assertGetSqlStatement() {
+        assertThat(scanPlan.getSqlStatement(), is(sqlStatement));
+    }
+    
+    @Test
+    void assertIsValid() {
+        assertTrue(scanPlan.isValid(database));
+    }
+    
+    @Test
+    void assertIsNotValidWhenRuleChanged() {
+        Collection<ShardingSphereRule> rules = Collections.singleton(mock(ShardingSphereRule.class));
+        when(database.getRuleMetaData().getRules()).thenReturn(rules);
+        assertFalse(scanPlan.isValid(database));
+    }
+    
+    @Test
+    void assertIsNotValidWhenRuleAdded() {
+        Collection<ShardingSphereRule> rules = Arrays.asList(rule, mock(ShardingSphereRule.class));
+        when(database.getRuleMetaData().getRules()).thenReturn(rules);
+        assertFalse(scanPlan.isValid(database));
+    }
+    
+    @Test
+    void assertIsNotValidWhenTableChanged() {
+        when(database.getSchema("foo_schema").getTable("t_order")).thenReturn(mock(ShardingSphereTable.class));
+        assertFalse(scanPlan.isValid(database));
+    }
+}
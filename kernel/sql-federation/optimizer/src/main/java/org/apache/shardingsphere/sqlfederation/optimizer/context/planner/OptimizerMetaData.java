@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sqlfederation.optimizer.context.planner;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.schema.Schema;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -39,4 +40,13 @@ public final class OptimizerMetaData {
     public Schema getSchema(final String schemaName) {
         return schemas.get(schemaName);
     }
+    
+    /**
+     * Get all schemas.
+     *
+     * @return all schemas
+     */
+    public Collection<Schema> getAllSchemas() {
+        return schemas.values();
+    }
 }
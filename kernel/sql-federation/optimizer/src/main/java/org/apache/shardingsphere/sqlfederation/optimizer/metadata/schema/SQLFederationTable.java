@@ -35,6 +35,7 @@ import org.apache.calcite.rel.core.TableModify;
 import org.apache.calcite.rel.core.TableModify.Operation;
 import org.apache.calcite.rel.logical.LogicalTableModify;
 import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexNode;
@@ -51,6 +52,9 @@ import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.E
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.util.SQLFederationDataTypeUtils;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction.SemiJoinReduction;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationDistinctRowCountHandler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationSelectivityHandler;
 import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
 
 import java.lang.reflect.Type;
@@ -113,6 +117,22 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes));
     }
     
+    /**
+     * Execute with semi join reduction.
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes
+     * @param semiJoinReduction semi join reduction
+     * @return enumerable result
+     */
+    public Enumerable<Object> execute(final DataContext root, final String sql, final int[] paramIndexes, final SemiJoinReduction semiJoinReduction) {
+        if (null == scanExecutor) {
+            return createEmptyEnumerable();
+        }
+        return scanExecutor.execute(table, new ScanExecutorContext(root, sql, paramIndexes, semiJoinReduction));
+    }
+    
     private AbstractEnumerable<Object> createEmptyEnumerable() {
         return new AbstractEnumerable<Object>() {
             
@@ -133,6 +153,17 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return statistic;
     }
     
+    @Override
+    public <C> C unwrap(final Class<C> clazz) {
+        if (BuiltInMetadata.DistinctRowCount.Handler.class == clazz) {
+            return clazz.cast(new SQLFederationDistinctRowCountHandler(statistic));
+        }
+        if (BuiltInMetadata.Selectivity.Handler.class == clazz) {
+            return clazz.cast(new SQLFederationSelectivityHandler(statistic));
+        }
+        return super.unwrap(clazz);
+    }
+    
     @Override
     public Collection<Object[]> getModifiableCollection() {
         throw new UnsupportedOperationException();
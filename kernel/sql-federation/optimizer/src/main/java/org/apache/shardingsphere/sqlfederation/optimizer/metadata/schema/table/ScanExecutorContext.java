@@ -17,14 +17,15 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction.SemiJoinReduction;
 
 /**
  * Scan executor context.
  */
-@RequiredArgsConstructor
+@AllArgsConstructor
 @Getter
 public final class ScanExecutorContext {
     
@@ -33,4 +34,10 @@ public final class ScanExecutorContext {
     private final String sql;
     
     private final int[] paramIndexes;
+    
+    private final SemiJoinReduction semiJoinReduction;
+    
+    public ScanExecutorContext(final DataContext root, final String sql, final int[] paramIndexes) {
+        this(root, sql, paramIndexes, null);
+    }
 }
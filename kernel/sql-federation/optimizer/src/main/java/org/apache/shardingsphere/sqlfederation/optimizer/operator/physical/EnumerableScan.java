@@ -24,6 +24,7 @@ import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
 import org.apache.calcite.adapter.enumerable.PhysType;
 import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
 import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
 import org.apache.calcite.linq4j.tree.Expressions;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptTable;
@@ -36,6 +37,7 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlDialect;
 import org.apache.calcite.sql.util.SqlString;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction.SemiJoinReduction;
 import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
 
 import java.util.Collection;
@@ -49,25 +51,43 @@ import java.util.Objects;
 @Getter
 public final class EnumerableScan extends TableScan implements EnumerableRel {
     
+    private final RelNode pushDownRelNode;
+    
+    private final String databaseType;
+    
     private final SqlString sqlString;
     
     private final RelDataType pushDownRowType;
     
+    private final SemiJoinReduction semiJoinReduction;
+    
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
-        super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
-        sqlString = createSQLString(pushDownRelNode, databaseType);
-        pushDownRowType = pushDownRelNode.getRowType();
+        this(cluster, traitSet, table, pushDownRelNode, databaseType, createSQLString(pushDownRelNode, databaseType), pushDownRelNode.getRowType(), null);
     }
     
-    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
+    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType,
+                          final SqlString sqlString, final RelDataType pushDownRowType, final SemiJoinReduction semiJoinReduction) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
+        this.pushDownRelNode = pushDownRelNode;
+        this.databaseType = databaseType;
         this.sqlString = sqlString;
         this.pushDownRowType = pushDownRowType;
+        this.semiJoinReduction = semiJoinReduction;
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, databaseType, sqlString, pushDownRowType, semiJoinReduction);
+    }
+    
+    /**
+     * Create enumerable scan with semi join reduction.
+     *
+     * @param semiJoinReduction semi join reduction
+     * @return created enumerable scan
+     */
+    public EnumerableScan withSemiJoinReduction(final SemiJoinReduction semiJoinReduction) {
+        return new EnumerableScan(getCluster(), traitSet, table, pushDownRelNode, databaseType, sqlString, pushDownRowType, semiJoinReduction);
     }
     
     @Override
@@ -84,11 +104,16 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
         PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getPushDownRowType(), pref.preferArray());
         int[] paramIndexes = null == sqlString.getDynamicParameters() ? new int[]{} : getParamIndexes(sqlString.getDynamicParameters());
-        return implementor.result(physType, Blocks.toBlock(Expressions.call(Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), "execute", implementor.getRootExpression(),
-                Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u")), Expressions.constant(paramIndexes))));
+        Expression tableExpression = Objects.requireNonNull(table.getExpression(SQLFederationTable.class));
+        Expression sqlExpression = Expressions.constant(sqlString.getSql().replace("u&'\\", "'\\u"));
+        if (null == semiJoinReduction) {
+            return implementor.result(physType, Blocks.toBlock(Expressions.call(tableExpression, "execute", implementor.getRootExpression(), sqlExpression, Expressions.constant(paramIndexes))));
+        }
+        return implementor.result(physType, Blocks.toBlock(Expressions.call(tableExpression, "execute", implementor.getRootExpression(), sqlExpression, Expressions.constant(paramIndexes),
+                implementor.stash(semiJoinReduction, SemiJoinReduction.class))));
     }
     
-    private SqlString createSQLString(final RelNode scanContext, final String databaseType) {
+    private static SqlString createSQLString(final RelNode scanContext, final String databaseType) {
         SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
         return new RelToSqlConverter(sqlDialect).visitRoot(scanContext).asStatement().toSqlString(sqlDialect);
     }
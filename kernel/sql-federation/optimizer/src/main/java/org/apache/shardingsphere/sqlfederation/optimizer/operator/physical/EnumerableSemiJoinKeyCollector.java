@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.physical;
+
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction.SemiJoinReduction;
+
+import java.util.List;
+
+/**
+ * Enumerable semi join key collector.
+ */
+@Getter
+public final class EnumerableSemiJoinKeyCollector extends SingleRel implements EnumerableRel {
+    
+    private final SemiJoinReduction semiJoinReduction;
+    
+    public EnumerableSemiJoinKeyCollector(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final SemiJoinReduction semiJoinReduction) {
+        super(cluster, traitSet, input);
+        this.semiJoinReduction = semiJoinReduction;
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new EnumerableSemiJoinKeyCollector(getCluster(), traitSet, sole(inputs), semiJoinReduction);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter relWriter) {
+        return super.explainTerms(relWriter).item("buildKey", semiJoinReduction.getBuildKeyIndex()).item("probeKey", semiJoinReduction.getProbeKeyIndex());
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        Result inputResult = implementor.visitChild(this, 0, (EnumerableRel) getInput(), pref);
+        BlockBuilder builder = new BlockBuilder();
+        Expression inputExpression = builder.append("input", inputResult.block);
+        Expression semiJoinReductionExpression = implementor.stash(semiJoinReduction, SemiJoinReduction.class);
+        builder.add(Expressions.return_(null, Expressions.call(semiJoinReductionExpression, "collect", implementor.getRootExpression(), inputExpression)));
+        return implementor.result(inputResult.physType, builder.toBlock());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Semi join keys collected from build side of join.
+ */
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+public final class SemiJoinKeys {
+    
+    private static final int MAX_PUSH_DOWN_KEY_COUNT = 1000;
+    
+    private static final int MAX_COLLECT_KEY_COUNT = 1000000;
+    
+    private static final double BLOOM_FILTER_FPP = 0.01D;
+    
+    private final Map<Object, Object> values = new LinkedHashMap<>();
+    
+    private BloomFilter<CharSequence> bloomFilter;
+    
+    private boolean overflowed;
+    
+    private volatile boolean completed;
+    
+    void add(final Object value) {
+        if (null == value || overflowed) {
+            return;
+        }
+        if (values.size() >= MAX_COLLECT_KEY_COUNT) {
+            overflowed = true;
+            values.clear();
+            return;
+        }
+        values.putIfAbsent(normalize(value), value);
+    }
+    
+    void complete() {
+        if (!overflowed && values.size() > MAX_PUSH_DOWN_KEY_COUNT) {
+            bloomFilter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), values.size(), BLOOM_FILTER_FPP);
+            for (Object each : values.keySet()) {
+                bloomFilter.put(each.toString());
+            }
+            values.clear();
+        }
+        completed = true;
+    }
+    
+    /**
+     * Judge whether collected keys are available for reduction.
+     *
+     * @return available or not
+     */
+    public boolean isAvailable() {
+        return completed && !overflowed;
+    }
+    
+    /**
+     * Judge whether no key collected.
+     *
+     * @return empty or not
+     */
+    public boolean isEmpty() {
+        return null == bloomFilter && values.isEmpty();
+    }
+    
+    /**
+     * Judge whether keys can be pushed down as predicate of scan SQL.
+     *
+     * @return can be pushed down or not
+     */
+    public boolean isPushDownAvailable() {
+        return null == bloomFilter;
+    }
+    
+    /**
+     * Get distinct key values.
+     *
+     * @return distinct key values
+     */
+    public List<Object> getValues() {
+        return new ArrayList<>(values.values());
+    }
+    
+    /**
+     * Judge whether value might be one of the collected keys.
+     *
+     * @param value value
+     * @return might be contained or not
+     */
+    public boolean mightContain(final Object value) {
+        if (null == value) {
+            return false;
+        }
+        Object normalizedValue = normalize(value);
+        return null == bloomFilter ? values.containsKey(normalizedValue) : bloomFilter.mightContain(normalizedValue.toString());
+    }
+    
+    private Object normalize(final Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof BigInteger) {
+            return value.toString();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.util.SqlString;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
+import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Semi join reduction.
+ *
+ * <p>Keys of join build side are collected when build side is enumerated, and then used to reduce rows of probe side scan,
+ * either pushed down as predicate of scan SQL when keys are few, or checked with bloom filter on streamed rows.</p>
+ */
+@RequiredArgsConstructor
+public final class SemiJoinReduction {
+    
+    private final RelNode pushDownRelNode;
+    
+    private final String databaseType;
+    
+    @Getter
+    private final int probeKeyIndex;
+    
+    @Getter
+    private final int buildKeyIndex;
+    
+    private final Map<DataContext, SemiJoinKeys> collectedKeys = Collections.synchronizedMap(new WeakHashMap<>());
+    
+    /**
+     * Collect keys when enumerating build side.
+     *
+     * @param root data context
+     * @param input build side enumerable
+     * @param <T> type of row
+     * @return build side enumerable which collects keys
+     */
+    public <T> Enumerable<T> collect(final DataContext root, final Enumerable<T> input) {
+        return new AbstractEnumerable<T>() {
+            
+            @Override
+            public Enumerator<T> enumerator() {
+                SemiJoinKeys keys = new SemiJoinKeys();
+                collectedKeys.put(root, keys);
+                return new KeyCollectEnumerator<>(input.enumerator(), keys, buildKeyIndex);
+            }
+        };
+    }
+    
+    /**
+     * Find completely collected keys.
+     *
+     * @param root data context
+     * @return collected keys
+     */
+    public Optional<SemiJoinKeys> findCollectedKeys(final DataContext root) {
+        SemiJoinKeys result = collectedKeys.get(root);
+        return null != result && result.isAvailable() ? Optional.of(result) : Optional.empty();
+    }
+    
+    /**
+     * Create scan executor context with keys pushed down.
+     *
+     * @param root data context
+     * @param keys collected keys
+     * @param paramOffset parameter index offset of key values
+     * @return scan executor context
+     */
+    public ScanExecutorContext createPushDownScanContext(final DataContext root, final SemiJoinKeys keys, final int paramOffset) {
+        RexBuilder rexBuilder = pushDownRelNode.getCluster().getRexBuilder();
+        RelDataType keyType = pushDownRelNode.getRowType().getFieldList().get(probeKeyIndex).getType();
+        Collection<RexNode> conditions = new LinkedList<>();
+        int keyCount = keys.getValues().size();
+        for (int i = 0; i < keyCount; i++) {
+            conditions.add(rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(pushDownRelNode, probeKeyIndex), rexBuilder.makeDynamicParam(keyType, paramOffset + i)));
+        }
+        RelNode relNode = filter(pushDownRelNode, RexUtil.composeDisjunction(rexBuilder, conditions), rexBuilder);
+        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
+        SqlString sqlString = new RelToSqlConverter(sqlDialect).visitRoot(relNode).asStatement().toSqlString(sqlDialect);
+        return new ScanExecutorContext(root, sqlString.getSql().replace("u&'\\", "'\\u"), getParamIndexes(sqlString));
+    }
+    
+    private RelNode filter(final RelNode relNode, final RexNode condition, final RexBuilder rexBuilder) {
+        if (relNode instanceof Project) {
+            Project project = (Project) relNode;
+            return project.copy(project.getTraitSet(), filter(project.getInput(), RelOptUtil.pushPastProject(condition, project), rexBuilder), project.getProjects(), project.getRowType());
+        }
+        if (relNode instanceof Filter) {
+            Filter filter = (Filter) relNode;
+            return filter.copy(filter.getTraitSet(), filter.getInput(), RexUtil.composeConjunction(rexBuilder, Arrays.asList(filter.getCondition(), condition)));
+        }
+        return new LogicalFilter(relNode.getCluster(), relNode.getTraitSet(), relNode, condition);
+    }
+    
+    private int[] getParamIndexes(final SqlString sqlString) {
+        if (null == sqlString.getDynamicParameters()) {
+            return new int[]{};
+        }
+        return sqlString.getDynamicParameters().stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Judge whether probe side row might be matched by collected keys.
+     *
+     * @param keys collected keys
+     * @param row probe side row
+     * @return might be matched or not
+     */
+    public boolean isMatched(final SemiJoinKeys keys, final Object row) {
+        return keys.mightContain(getKey(row, probeKeyIndex));
+    }
+    
+    private static Object getKey(final Object row, final int keyIndex) {
+        return row instanceof Object[] ? ((Object[]) row)[keyIndex] : row;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class KeyCollectEnumerator<T> implements Enumerator<T> {
+        
+        private final Enumerator<T> delegate;
+        
+        private final SemiJoinKeys keys;
+        
+        private final int keyIndex;
+        
+        @Override
+        public T current() {
+            return delegate.current();
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (delegate.moveNext()) {
+                keys.add(getKey(delegate.current(), keyIndex));
+                return true;
+            }
+            keys.complete();
+            return false;
+        }
+        
+        @Override
+        public void reset() {
+            delegate.reset();
+        }
+        
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
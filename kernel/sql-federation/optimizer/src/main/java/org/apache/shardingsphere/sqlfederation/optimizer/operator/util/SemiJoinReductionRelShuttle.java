@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableCalc;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableSemiJoinKeyCollector;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction.SemiJoinReduction;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Semi join reduction rel shuttle.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SemiJoinReductionRelShuttle extends RelShuttleImpl {
+    
+    @Override
+    public RelNode visit(final RelNode other) {
+        RelNode result = super.visit(other);
+        return result instanceof EnumerableHashJoin ? reduce((EnumerableHashJoin) result) : result;
+    }
+    
+    private RelNode reduce(final EnumerableHashJoin join) {
+        JoinInfo joinInfo = join.analyzeCondition();
+        if (JoinRelType.INNER != join.getJoinType() || !joinInfo.isEqui() || 1 != joinInfo.leftKeys.size()) {
+            return join;
+        }
+        int leftKeyIndex = joinInfo.leftKeys.get(0);
+        int rightKeyIndex = joinInfo.rightKeys.get(0);
+        Optional<EnumerableScan> probeScan = findProbeScan(join.getLeft());
+        Optional<Integer> probeKeyIndex = findProbeKeyIndex(join.getLeft(), leftKeyIndex);
+        if (!probeScan.isPresent() || null != probeScan.get().getSemiJoinReduction() || !probeKeyIndex.isPresent()
+                || !isSupportedKeyType(join, leftKeyIndex, rightKeyIndex) || !isBuildSideSmaller(join)) {
+            return join;
+        }
+        SemiJoinReduction semiJoinReduction = new SemiJoinReduction(probeScan.get().getPushDownRelNode(), probeScan.get().getDatabaseType(), probeKeyIndex.get(), rightKeyIndex);
+        RelNode left = replaceProbeScan(join.getLeft(), probeScan.get().withSemiJoinReduction(semiJoinReduction));
+        RelNode right = new EnumerableSemiJoinKeyCollector(join.getCluster(), join.getRight().getTraitSet(), join.getRight(), semiJoinReduction);
+        return join.copy(join.getTraitSet(), join.getCondition(), left, right, join.getJoinType(), join.isSemiJoinDone());
+    }
+    
+    private Optional<EnumerableScan> findProbeScan(final RelNode probeSide) {
+        if (probeSide instanceof EnumerableScan) {
+            return Optional.of((EnumerableScan) probeSide);
+        }
+        if (probeSide instanceof EnumerableCalc && ((EnumerableCalc) probeSide).getInput() instanceof EnumerableScan) {
+            return Optional.of((EnumerableScan) ((EnumerableCalc) probeSide).getInput());
+        }
+        return Optional.empty();
+    }
+    
+    private Optional<Integer> findProbeKeyIndex(final RelNode probeSide, final int keyIndex) {
+        if (probeSide instanceof EnumerableScan) {
+            return Optional.of(keyIndex);
+        }
+        if (probeSide instanceof EnumerableCalc) {
+            EnumerableCalc calc = (EnumerableCalc) probeSide;
+            RexNode keyExpression = calc.getProgram().expandLocalRef(calc.getProgram().getProjectList().get(keyIndex));
+            return keyExpression instanceof RexInputRef ? Optional.of(((RexInputRef) keyExpression).getIndex()) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isSupportedKeyType(final EnumerableHashJoin join, final int leftKeyIndex, final int rightKeyIndex) {
+        SqlTypeName leftKeyType = join.getLeft().getRowType().getFieldList().get(leftKeyIndex).getType().getSqlTypeName();
+        SqlTypeName rightKeyType = join.getRight().getRowType().getFieldList().get(rightKeyIndex).getType().getSqlTypeName();
+        return leftKeyType == rightKeyType && (SqlTypeName.INT_TYPES.contains(leftKeyType) || SqlTypeName.CHAR_TYPES.contains(leftKeyType) || SqlTypeName.DECIMAL == leftKeyType);
+    }
+    
+    private boolean isBuildSideSmaller(final EnumerableHashJoin join) {
+        RelMetadataQuery metadataQuery = join.getCluster().getMetadataQuery();
+        Double probeRowCount = metadataQuery.getRowCount(join.getLeft());
+        Double buildRowCount = metadataQuery.getRowCount(join.getRight());
+        return null != probeRowCount && null != buildRowCount && buildRowCount < probeRowCount;
+    }
+    
+    private RelNode replaceProbeScan(final RelNode probeSide, final EnumerableScan probeScan) {
+        return probeSide instanceof EnumerableScan ? probeScan : probeSide.copy(probeSide.getTraitSet(), Collections.singletonList(probeScan));
+    }
+    
+    /**
+     * Reduce probe side scan of inner hash join with keys collected from build side.
+     *
+     * @param relNode rel node
+     * @return reduced rel node
+     */
+    public static RelNode replace(final RelNode relNode) {
+        return relNode.accept(new SemiJoinReductionRelShuttle());
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
 import org.apache.shardingsphere.sqlfederation.optimizer.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.optimizer.converter.SQLNodeConverterEngine;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanRelShuttle;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.SemiJoinReductionRelShuttle;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.builder.SQLFederationPlannerBuilder;
 
 import java.util.Objects;
@@ -58,7 +59,7 @@ public final class SQLStatementCompiler {
         RelDataType resultColumnType = Objects.requireNonNull(converter.validator).getValidatedNodeType(sqlNode);
         RelNode replacePlan = LogicalScanRelShuttle.replace(logicalPlan, databaseType);
         RelNode rewritePlan = rewrite(replacePlan, SQLFederationPlannerBuilder.buildHepPlanner());
-        RelNode physicalPlan = optimize(rewritePlan, converter);
+        RelNode physicalPlan = SemiJoinReductionRelShuttle.replace(optimize(rewritePlan, converter));
         RelMetadataQueryBase.THREAD_PROVIDERS.remove();
         return new SQLFederationExecutionPlan(physicalPlan, resultColumnType);
     }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.physical.EnumerableScan;
+
+import java.util.Optional;
+
+/**
+ * Push down rel node utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PushDownRelNodeUtils {
+    
+    /**
+     * Find push down rel node of scan.
+     *
+     * <p>Scans carry pushed down filters and projects, so their metadata is derived from the push down rel node, whose leaf is the plain table scan.</p>
+     *
+     * @param relNode rel node
+     * @return found push down rel node
+     */
+    public static Optional<RelNode> findPushDownRelNode(final RelNode relNode) {
+        if (relNode instanceof LogicalScan) {
+            return Optional.of(((LogicalScan) relNode).peek());
+        }
+        if (relNode instanceof EnumerableScan) {
+            return Optional.of(((EnumerableScan) relNode).getPushDownRelNode());
+        }
+        return Optional.empty();
+    }
+}
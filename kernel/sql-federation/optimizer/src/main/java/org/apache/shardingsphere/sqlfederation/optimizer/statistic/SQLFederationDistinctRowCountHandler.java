@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.NumberUtil;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL federation distinct row count handler.
+ */
+@RequiredArgsConstructor
+public final class SQLFederationDistinctRowCountHandler implements BuiltInMetadata.DistinctRowCount.Handler {
+    
+    private final SQLFederationStatistic statistic;
+    
+    @Override
+    public Double getDistinctRowCount(final RelNode rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Optional<RelNode> pushDownRelNode = PushDownRelNodeUtils.findPushDownRelNode(rel);
+        if (pushDownRelNode.isPresent()) {
+            return mq.getDistinctRowCount(pushDownRelNode.get(), groupKey, predicate);
+        }
+        Optional<Double> distinctRowCount = findDistinctRowCount(rel.getRowType().getFieldNames(), groupKey);
+        Double selectedRowCount = NumberUtil.multiply(mq.getRowCount(rel), mq.getSelectivity(rel, predicate));
+        if (distinctRowCount.isPresent()) {
+            return null == selectedRowCount ? distinctRowCount.get() : RelMdUtil.numDistinctVals(distinctRowCount.get(), selectedRowCount);
+        }
+        return RelMdUtil.areColumnsDefinitelyUnique(mq, rel, groupKey) ? selectedRowCount : null;
+    }
+    
+    private Optional<Double> findDistinctRowCount(final List<String> fieldNames, final ImmutableBitSet groupKey) {
+        if (groupKey.isEmpty()) {
+            return Optional.empty();
+        }
+        double result = 1D;
+        for (int each : groupKey) {
+            Optional<SQLFederationColumnStatistic> columnStatistic = statistic.findColumnStatistic(fieldNames.get(each));
+            if (!columnStatistic.isPresent() || null == columnStatistic.get().getDistinctRowCount()) {
+                return Optional.empty();
+            }
+            result *= columnStatistic.get().getDistinctRowCount();
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeName;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * SQL federation selectivity handler.
+ *
+ * <p>Equality predicates use the distinct row count, range predicates use the min and max values of the column.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLFederationSelectivityHandler implements BuiltInMetadata.Selectivity.Handler {
+    
+    private final SQLFederationStatistic statistic;
+    
+    @Override
+    public Double getSelectivity(final RelNode rel, final RelMetadataQuery mq, final RexNode predicate) {
+        Optional<RelNode> pushDownRelNode = PushDownRelNodeUtils.findPushDownRelNode(rel);
+        if (pushDownRelNode.isPresent()) {
+            return mq.getSelectivity(pushDownRelNode.get(), predicate);
+        }
+        if (null == predicate || predicate.isAlwaysTrue()) {
+            return 1D;
+        }
+        double result = 1D;
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            result *= getSelectivity(rel, each);
+        }
+        return result;
+    }
+    
+    private double getSelectivity(final RelNode rel, final RexNode predicate) {
+        if (predicate instanceof RexCall && 2 == ((RexCall) predicate).getOperands().size()) {
+            RexNode left = ((RexCall) predicate).getOperands().get(0);
+            RexNode right = ((RexCall) predicate).getOperands().get(1);
+            if (left instanceof RexInputRef && right instanceof RexLiteral) {
+                return getSelectivity(rel, predicate, predicate.getKind(), (RexInputRef) left, (RexLiteral) right);
+            }
+            if (right instanceof RexInputRef && left instanceof RexLiteral) {
+                return getSelectivity(rel, predicate, predicate.getKind().reverse(), (RexInputRef) right, (RexLiteral) left);
+            }
+        }
+        return RelMdUtil.guessSelectivity(predicate);
+    }
+    
+    private double getSelectivity(final RelNode rel, final RexNode predicate, final SqlKind kind, final RexInputRef inputRef, final RexLiteral literal) {
+        Optional<SQLFederationColumnStatistic> columnStatistic = statistic.findColumnStatistic(rel.getRowType().getFieldNames().get(inputRef.getIndex()));
+        if (!columnStatistic.isPresent()) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        Double distinctRowCount = columnStatistic.get().getDistinctRowCount();
+        if (SqlKind.EQUALS == kind && null != distinctRowCount && distinctRowCount >= 1D) {
+            return 1D / distinctRowCount;
+        }
+        if (SqlKind.NOT_EQUALS == kind && null != distinctRowCount && distinctRowCount >= 1D) {
+            return 1D - 1D / distinctRowCount;
+        }
+        if (!isRangeComparison(kind) || !SqlTypeName.NUMERIC_TYPES.contains(literal.getTypeName())) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        BigDecimal value = literal.getValueAs(BigDecimal.class);
+        Double minValue = columnStatistic.get().getMinValue();
+        Double maxValue = columnStatistic.get().getMaxValue();
+        if (null == value || null == minValue || null == maxValue || maxValue <= minValue) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        double lessFraction = (value.doubleValue() - minValue) / (maxValue - minValue);
+        double result = SqlKind.LESS_THAN == kind || SqlKind.LESS_THAN_OR_EQUAL == kind ? lessFraction : 1D - lessFraction;
+        return Math.min(1D, Math.max(0D, result));
+    }
+    
+    private boolean isRangeComparison(final SqlKind kind) {
+        return SqlKind.LESS_THAN == kind || SqlKind.LESS_THAN_OR_EQUAL == kind || SqlKind.GREATER_THAN == kind || SqlKind.GREATER_THAN_OR_EQUAL == kind;
+    }
+}
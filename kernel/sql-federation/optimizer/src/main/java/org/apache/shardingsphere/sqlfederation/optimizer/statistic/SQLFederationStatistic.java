@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import lombok.Setter;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
@@ -24,13 +25,37 @@ import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * SQL federation statistic.
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    @Setter
+    private volatile Double rowCount;
+    
+    @Setter
+    private volatile Map<String, SQLFederationColumnStatistic> columnStatistics = Collections.emptyMap();
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    /**
+     * Find column statistic.
+     *
+     * @param columnName column name
+     * @return found column statistic
+     */
+    public Optional<SQLFederationColumnStatistic> findColumnStatistic(final String columnName) {
+        return Optional.ofNullable(columnStatistics.get(columnName));
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
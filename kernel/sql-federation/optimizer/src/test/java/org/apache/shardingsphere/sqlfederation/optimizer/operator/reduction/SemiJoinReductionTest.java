@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.operator.reduction;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.Frameworks;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.table.ScanExecutorContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class SemiJoinReductionTest {
+    
+    @Test
+    void assertCollectAndMatch() {
+        SemiJoinReduction semiJoinReduction = new SemiJoinReduction(createPushDownRelNode(), "MySQL", 0, 1);
+        DataContext root = mock(DataContext.class);
+        enumerateAll(semiJoinReduction.collect(root, Linq4j.asEnumerable(Arrays.asList(new Object[]{"foo", 1}, new Object[]{"bar", 2}, new Object[]{"baz", null}))));
+        Optional<SemiJoinKeys> actual = semiJoinReduction.findCollectedKeys(root);
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get().isPushDownAvailable());
+        assertThat(actual.get().getValues(), is(Arrays.<Object>asList(1, 2)));
+        assertTrue(semiJoinReduction.isMatched(actual.get(), new Object[]{2L, "foo"}));
+        assertFalse(semiJoinReduction.isMatched(actual.get(), new Object[]{3, "foo"}));
+        assertFalse(semiJoinReduction.isMatched(actual.get(), new Object[]{null, "foo"}));
+    }
+    
+    @Test
+    void assertFindCollectedKeysWhenBuildSideNotCompleted() {
+        SemiJoinReduction semiJoinReduction = new SemiJoinReduction(createPushDownRelNode(), "MySQL", 0, 0);
+        DataContext root = mock(DataContext.class);
+        try (Enumerator<Object> enumerator = semiJoinReduction.collect(root, Linq4j.asEnumerable(Arrays.<Object>asList(1, 2))).enumerator()) {
+            enumerator.moveNext();
+            assertFalse(semiJoinReduction.findCollectedKeys(root).isPresent());
+        }
+        assertFalse(semiJoinReduction.findCollectedKeys(mock(DataContext.class)).isPresent());
+    }
+    
+    @Test
+    void assertMatchWithBloomFilter() {
+        SemiJoinReduction semiJoinReduction = new SemiJoinReduction(createPushDownRelNode(), "MySQL", 0, 0);
+        DataContext root = mock(DataContext.class);
+        Collection<Object> buildSideRows = new ArrayList<>(2000);
+        for (int i = 0; i < 2000; i++) {
+            buildSideRows.add(i * 2);
+        }
+        enumerateAll(semiJoinReduction.collect(root, Linq4j.asEnumerable(buildSideRows)));
+        SemiJoinKeys actual = semiJoinReduction.findCollectedKeys(root).orElseThrow(IllegalStateException::new);
+        assertFalse(actual.isEmpty());
+        assertFalse(actual.isPushDownAvailable());
+        for (int i = 0; i < 2000; i++) {
+            assertTrue(semiJoinReduction.isMatched(actual, new Object[]{i * 2, "foo"}));
+        }
+    }
+    
+    @Test
+    void assertCreatePushDownScanContext() {
+        SemiJoinReduction semiJoinReduction = new SemiJoinReduction(createPushDownRelNode(), "MySQL", 0, 0);
+        DataContext root = mock(DataContext.class);
+        enumerateAll(semiJoinReduction.collect(root, Linq4j.asEnumerable(Arrays.<Object>asList(1, 2))));
+        ScanExecutorContext actual = semiJoinReduction.createPushDownScanContext(root, semiJoinReduction.findCollectedKeys(root).orElseThrow(IllegalStateException::new), 1);
+        assertThat(actual.getSql().replace(System.lineSeparator(), " "), is("SELECT `order_id` FROM `t_order` WHERE `status` = 'OK' AND (`order_id` = ? OR `order_id` = ?)"));
+        assertThat(actual.getParamIndexes(), is(new int[]{1, 2}));
+    }
+    
+    private RelNode createPushDownRelNode() {
+        SchemaPlus rootSchema = Frameworks.createRootSchema(true);
+        rootSchema.add("t_order", new AbstractTable() {
+            
+            @Override
+            public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
+                return typeFactory.builder().add("order_id", SqlTypeName.INTEGER).add("status", SqlTypeName.VARCHAR).build();
+            }
+        });
+        RelBuilder relBuilder = RelBuilder.create(Frameworks.newConfigBuilder().defaultSchema(rootSchema).build());
+        relBuilder.scan("t_order");
+        relBuilder.filter(relBuilder.equals(relBuilder.field("status"), relBuilder.literal("OK")));
+        return relBuilder.project(relBuilder.field("order_id")).build();
+    }
+    
+    private void enumerateAll(final Enumerable<?> enumerable) {
+        enumerable.count();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationDistinctRowCountHandlerTest {
+    
+    private final RelNode relNode = mock(RelNode.class);
+    
+    private final RelMetadataQuery mq = mock(RelMetadataQuery.class);
+    
+    private SQLFederationDistinctRowCountHandler handler;
+    
+    @BeforeEach
+    void setUp() {
+        RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+        RelDataType rowType = typeFactory.builder().add("order_id", SqlTypeName.INTEGER).add("user_id", SqlTypeName.INTEGER).build();
+        when(relNode.getRowType()).thenReturn(rowType);
+        when(mq.getRowCount(relNode)).thenReturn(1000000D);
+        when(mq.getSelectivity(relNode, null)).thenReturn(1D);
+        Map<String, SQLFederationColumnStatistic> columnStatistics = new HashMap<>(2, 1F);
+        columnStatistics.put("order_id", new SQLFederationColumnStatistic(1000D, null, null));
+        columnStatistics.put("user_id", new SQLFederationColumnStatistic(10D, null, null));
+        SQLFederationStatistic statistic = new SQLFederationStatistic();
+        statistic.setColumnStatistics(columnStatistics);
+        handler = new SQLFederationDistinctRowCountHandler(statistic);
+    }
+    
+    @Test
+    void assertGetDistinctRowCountWithSingleColumn() {
+        assertThat(Math.round(handler.getDistinctRowCount(relNode, mq, ImmutableBitSet.of(0), null)), is(1000L));
+    }
+    
+    @Test
+    void assertGetDistinctRowCountWithMultipleColumns() {
+        assertThat(Math.round(handler.getDistinctRowCount(relNode, mq, ImmutableBitSet.of(0, 1), null)), is(10000L));
+    }
+}
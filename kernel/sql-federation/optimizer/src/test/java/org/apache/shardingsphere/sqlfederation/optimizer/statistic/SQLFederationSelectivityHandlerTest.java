@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.DateString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationSelectivityHandlerTest {
+    
+    private final RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+    
+    private final RexBuilder rexBuilder = new RexBuilder(typeFactory);
+    
+    private final RelNode relNode = mock(RelNode.class);
+    
+    private SQLFederationSelectivityHandler handler;
+    
+    @BeforeEach
+    void setUp() {
+        RelDataType rowType = typeFactory.builder().add("order_id", SqlTypeName.INTEGER).add("status", SqlTypeName.VARCHAR)
+                .add("user_name", SqlTypeName.VARCHAR).add("order_date", SqlTypeName.DATE).build();
+        when(relNode.getRowType()).thenReturn(rowType);
+        SQLFederationStatistic statistic = new SQLFederationStatistic();
+        Map<String, SQLFederationColumnStatistic> columnStatistics = new HashMap<>(3, 1F);
+        columnStatistics.put("order_id", new SQLFederationColumnStatistic(100D, 0D, 1000D));
+        columnStatistics.put("user_name", new SQLFederationColumnStatistic(null, 0D, 1000D));
+        columnStatistics.put("order_date", new SQLFederationColumnStatistic(100D, 0D, 1000D));
+        statistic.setColumnStatistics(columnStatistics);
+        handler = new SQLFederationSelectivityHandler(statistic);
+    }
+    
+    @Test
+    void assertGetSelectivityWithoutPredicate() {
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), null), is(1D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithEquals() {
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), createPredicate(SqlStdOperatorTable.EQUALS, 0, 10)), is(0.01D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithNotEquals() {
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), createPredicate(SqlStdOperatorTable.NOT_EQUALS, 0, 10)), is(0.99D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithRange() {
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), createPredicate(SqlStdOperatorTable.LESS_THAN, 0, 250)), is(0.25D));
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), createPredicate(SqlStdOperatorTable.GREATER_THAN, 0, 250)), is(0.75D));
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), createPredicate(SqlStdOperatorTable.GREATER_THAN, 0, 2000)), is(0D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithReversedOperands() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeExactLiteral(new BigDecimal(250)), rexBuilder.makeInputRef(relNode, 0));
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), predicate), is(0.25D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithConjunction() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.AND,
+                createPredicate(SqlStdOperatorTable.EQUALS, 0, 10), createPredicate(SqlStdOperatorTable.LESS_THAN, 0, 500));
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), predicate), is(0.005D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithoutColumnStatistic() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(relNode, 1), rexBuilder.makeLiteral("foo"));
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), predicate), is(0.15D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithCharacterLiteral() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.LESS_THAN, rexBuilder.makeInputRef(relNode, 2), rexBuilder.makeLiteral("foo"));
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), predicate), is(0.5D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithEqualsCharacterLiteralWithoutDistinctRowCount() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(relNode, 2), rexBuilder.makeLiteral("foo"));
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), predicate), is(0.15D));
+    }
+    
+    @Test
+    void assertGetSelectivityWithDateLiteral() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeInputRef(relNode, 3), rexBuilder.makeDateLiteral(new DateString("2024-01-01")));
+        assertThat(handler.getSelectivity(relNode, mock(RelMetadataQuery.class), predicate), is(0.5D));
+    }
+    
+    private RexNode createPredicate(final SqlOperator operator, final int index, final int value) {
+        return rexBuilder.makeCall(operator, rexBuilder.makeInputRef(relNode, index), rexBuilder.makeExactLiteral(new BigDecimal(value)));
+    }
+}
@@ -38,10 +38,17 @@ public final class SQLParserRule implements GlobalRule {
     
     private final CacheOption parseTreeCache;
     
+    private final boolean fastPathSQLParserEnabled;
+    
     public SQLParserRule(final SQLParserRuleConfiguration ruleConfig) {
+        this(ruleConfig, false);
+    }
+    
+    public SQLParserRule(final SQLParserRuleConfiguration ruleConfig, final boolean fastPathSQLParserEnabled) {
         configuration = ruleConfig;
         sqlStatementCache = ruleConfig.getSqlStatementCache();
         parseTreeCache = ruleConfig.getParseTreeCache();
+        this.fastPathSQLParserEnabled = fastPathSQLParserEnabled;
     }
     
     /**
@@ -51,7 +58,7 @@ public final class SQLParserRule implements GlobalRule {
      * @return SQL parser engine
      */
     public SQLParserEngine getSQLParserEngine(final DatabaseType databaseType) {
-        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache);
+        return new ShardingSphereSQLParserEngine(databaseType, sqlStatementCache, parseTreeCache, fastPathSQLParserEnabled);
     }
     
     @Override
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.parser.rule.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.rule.builder.global.GlobalRuleBuilder;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
@@ -33,7 +34,7 @@ public final class SQLParserRuleBuilder implements GlobalRuleBuilder<SQLParserRu
     
     @Override
     public SQLParserRule build(final SQLParserRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases, final ConfigurationProperties props) {
-        return new SQLParserRule(ruleConfig);
+        return new SQLParserRule(ruleConfig, props.getValue(ConfigurationPropertyKey.SQL_FAST_PATH_PARSER_ENABLED));
     }
     
     @Override
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.parser.rule.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.constant.SQLParserOrder;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -29,6 +30,8 @@ import java.util.Properties;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SQLParserRuleBuilderTest {
     
@@ -41,6 +44,15 @@ class SQLParserRuleBuilderTest {
         assertThat(actualResult.getSqlStatementCache().getMaximumSize(), is(7L));
         assertThat(actualResult.getParseTreeCache().getInitialCapacity(), is(2));
         assertThat(actualResult.getParseTreeCache().getMaximumSize(), is(5L));
+        assertFalse(actualResult.isFastPathSQLParserEnabled());
+    }
+    
+    @Test
+    void assertBuildWithFastPathSQLParserEnabled() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_FAST_PATH_PARSER_ENABLED.getKey(), Boolean.TRUE.toString());
+        SQLParserRuleConfiguration ruleConfig = new SQLParserRuleConfiguration(new CacheOption(2, 5L), new CacheOption(4, 7L));
+        assertTrue(new SQLParserRuleBuilder().build(ruleConfig, Collections.emptyList(), new ConfigurationProperties(props)).isFastPathSQLParserEnabled());
     }
     
     @Test
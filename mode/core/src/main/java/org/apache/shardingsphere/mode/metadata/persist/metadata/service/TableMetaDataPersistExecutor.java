@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Table meta data persist executor.
+ *
+ * <p>The executor service is shared by all context managers of the JVM and reference counted,
+ * it is shut down only when the last context manager and the last running task release it.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+public final class TableMetaDataPersistExecutor {
+    
+    private static final TableMetaDataPersistExecutor INSTANCE = new TableMetaDataPersistExecutor();
+    
+    private ExecutorService executorService;
+    
+    private int referenceCount;
+    
+    /**
+     * Get table meta data persist executor instance.
+     *
+     * @return table meta data persist executor instance
+     */
+    public static TableMetaDataPersistExecutor getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Acquire executor service, the executor service is created when it is not held by anyone.
+     *
+     * @return executor service
+     */
+    public synchronized ExecutorService acquire() {
+        if (null == executorService) {
+            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2, ExecutorThreadFactoryBuilder.build("TableMetaDataPersist-%d"));
+        }
+        referenceCount++;
+        return executorService;
+    }
+    
+    /**
+     * Release executor service, the executor service is shut down when it is released by the last holder.
+     */
+    public synchronized void release() {
+        if (0 == referenceCount || 0 != --referenceCount) {
+            return;
+        }
+        executorService.shutdown();
+        executorService = null;
+    }
+    
+    /**
+     * Invoke all tasks and wait for their results.
+     *
+     * @param tasks to be invoked tasks
+     * @param <T> type of task result
+     * @return task results in the order of tasks
+     */
+    public <T> List<T> invokeAll(final Collection<? extends Callable<T>> tasks) {
+        ExecutorService acquiredExecutorService = acquire();
+        try {
+            List<Future<T>> futures = acquiredExecutorService.invokeAll(tasks);
+            List<T> result = new ArrayList<>(futures.size());
+            for (Future<T> each : futures) {
+                result.add(each.get());
+            }
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new IllegalStateException(ex.getCause());
+        } finally {
+            release();
+        }
+    }
+    
+    /**
+     * Execute task in background.
+     *
+     * @param task to be executed task
+     */
+    public void execute(final Runnable task) {
+        ExecutorService acquiredExecutorService = acquire();
+        try {
+            acquiredExecutorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    release();
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            release();
+            throw ex;
+        }
+    }
+}
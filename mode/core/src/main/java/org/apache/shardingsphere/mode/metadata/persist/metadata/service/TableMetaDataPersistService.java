@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
@@ -29,30 +28,61 @@ import org.apache.shardingsphere.mode.node.path.version.VersionNodePath;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
  * Table meta data persist service.
  */
-@RequiredArgsConstructor
 public final class TableMetaDataPersistService {
     
+    private static final int SNAPSHOT_THRESHOLD = 32;
+    
     private final PersistRepository repository;
     
     private final VersionPersistService versionPersistService;
     
+    private final TableMetaDataSnapshotPersistService snapshotPersistService;
+    
     private final YamlTableSwapper swapper = new YamlTableSwapper();
     
+    public TableMetaDataPersistService(final PersistRepository repository, final VersionPersistService versionPersistService) {
+        this.repository = repository;
+        this.versionPersistService = versionPersistService;
+        snapshotPersistService = new TableMetaDataSnapshotPersistService(repository);
+    }
+    
     /**
      * Load tables.
      *
+     * <p>Schemas with many tables are loaded from the snapshot, which is rebuilt in background if it is stale.</p>
+     *
      * @param databaseName to be loaded database name
      * @param schemaName to be loaded schema name
      * @return loaded tables
      */
     public Collection<ShardingSphereTable> load(final String databaseName, final String schemaName) {
-        return repository.getChildrenKeys(NodePathGenerator.toPath(new TableMetaDataNodePath(databaseName, schemaName, null))).stream()
-                .map(each -> load(databaseName, schemaName, each)).collect(Collectors.toList());
+        List<String> tableNames = loadTableNames(databaseName, schemaName);
+        if (tableNames.size() < SNAPSHOT_THRESHOLD) {
+            return tableNames.stream().map(each -> load(databaseName, schemaName, each)).collect(Collectors.toList());
+        }
+        Optional<String> revision = snapshotPersistService.loadRevision(databaseName, schemaName);
+        Optional<Collection<ShardingSphereTable>> snapshot = revision.flatMap(optional -> snapshotPersistService.load(databaseName, schemaName, optional));
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+        // Load table names again after the revision, so that a table added in between is not missed by the snapshot of this revision.
+        List<Callable<ShardingSphereTable>> tasks = loadTableNames(databaseName, schemaName).stream()
+                .map(each -> (Callable<ShardingSphereTable>) () -> load(databaseName, schemaName, each)).collect(Collectors.toList());
+        Collection<ShardingSphereTable> result = TableMetaDataPersistExecutor.getInstance().invokeAll(tasks);
+        revision.ifPresent(optional -> snapshotPersistService.asyncPersist(databaseName, schemaName, optional, result));
+        return result;
+    }
+    
+    private List<String> loadTableNames(final String databaseName, final String schemaName) {
+        return repository.getChildrenKeys(NodePathGenerator.toPath(new TableMetaDataNodePath(databaseName, schemaName, null)));
     }
     
     /**
@@ -83,6 +113,9 @@ public final class TableMetaDataPersistService {
             VersionNodePath versionNodePath = new VersionNodePath(new TableMetaDataNodePath(databaseName, schemaName, tableName));
             versionPersistService.persist(versionNodePath, YamlEngine.marshal(swapper.swapToYamlConfiguration(each)));
         }
+        if (!tables.isEmpty()) {
+            snapshotPersistService.renewRevision(databaseName, schemaName);
+        }
     }
     
     /**
@@ -94,6 +127,7 @@ public final class TableMetaDataPersistService {
      */
     public void drop(final String databaseName, final String schemaName, final String tableName) {
         repository.delete(NodePathGenerator.toPath(new TableMetaDataNodePath(databaseName, schemaName, tableName.toLowerCase())));
+        snapshotPersistService.renewRevision(databaseName, schemaName);
     }
     
     /**
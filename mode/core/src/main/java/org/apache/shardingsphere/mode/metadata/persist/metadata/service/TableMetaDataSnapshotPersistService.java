@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.mode.node.path.type.database.metadata.schema.TableMetaDataSnapshotNodePath;
+import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Table meta data snapshot persist service.
+ *
+ * <p>The snapshot holds all tables of a schema in chunks and is tagged with the revision it was built from.
+ * Every table change renews the revision of its schema, so a snapshot of an older revision is never used.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class TableMetaDataSnapshotPersistService {
+    
+    private static final int CHUNK_SIZE = 512 * 1024;
+    
+    private static final String ACTIVE_SNAPSHOT_DELIMITER = ":";
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Load revision.
+     *
+     * <p>The revision is only created by table changes, so it is absent until the first table change of the schema.</p>
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return loaded revision
+     */
+    public Optional<String> loadRevision(final String databaseName, final String schemaName) {
+        String result = repository.query(new TableMetaDataSnapshotNodePath(databaseName, schemaName).getRevisionPath());
+        return Strings.isNullOrEmpty(result) ? Optional.empty() : Optional.of(result);
+    }
+    
+    /**
+     * Renew revision.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return renewed revision
+     */
+    public String renewRevision(final String databaseName, final String schemaName) {
+        String result = UUID.randomUUID().toString();
+        repository.persist(new TableMetaDataSnapshotNodePath(databaseName, schemaName).getRevisionPath(), result);
+        return result;
+    }
+    
+    /**
+     * Load tables from snapshot.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param revision expected revision
+     * @return loaded tables, empty if the snapshot is absent, built from another revision or broken
+     */
+    public Optional<Collection<ShardingSphereTable>> load(final String databaseName, final String schemaName, final String revision) {
+        TableMetaDataSnapshotNodePath nodePath = new TableMetaDataSnapshotNodePath(databaseName, schemaName);
+        Optional<List<String>> activeSnapshot = loadActiveSnapshot(nodePath);
+        if (!activeSnapshot.isPresent() || !revision.equals(activeSnapshot.get().get(0))) {
+            return Optional.empty();
+        }
+        String snapshotId = activeSnapshot.get().get(1);
+        int chunkCount = Integer.parseInt(activeSnapshot.get().get(2));
+        Collection<Callable<String>> tasks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            String chunkPath = nodePath.getChunkPath(snapshotId, i);
+            tasks.add(() -> repository.query(chunkPath));
+        }
+        StringBuilder content = new StringBuilder();
+        for (String each : TableMetaDataPersistExecutor.getInstance().invokeAll(tasks)) {
+            if (null == each) {
+                return Optional.empty();
+            }
+            content.append(each);
+        }
+        try {
+            return Optional.of(TableMetaDataSnapshotSerializer.deserialize(Base64.getDecoder().decode(content.toString())));
+        } catch (final IOException | IllegalArgumentException ex) {
+            log.warn("Can not load table meta data snapshot of `{}.{}`, fall back to load tables one by one.", databaseName, schemaName, ex);
+            return Optional.empty();
+        }
+    }
+    
+    private Optional<List<String>> loadActiveSnapshot(final TableMetaDataSnapshotNodePath nodePath) {
+        String activeSnapshot = repository.query(nodePath.getActivePath());
+        if (Strings.isNullOrEmpty(activeSnapshot)) {
+            return Optional.empty();
+        }
+        List<String> result = Splitter.on(ACTIVE_SNAPSHOT_DELIMITER).splitToList(activeSnapshot);
+        return 3 == result.size() ? Optional.of(result) : Optional.empty();
+    }
+    
+    /**
+     * Persist snapshot in background.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param revision revision which tables are loaded from
+     * @param tables to be persisted tables
+     */
+    public void asyncPersist(final String databaseName, final String schemaName, final String revision, final Collection<ShardingSphereTable> tables) {
+        TableMetaDataPersistExecutor.getInstance().execute(() -> {
+            try {
+                persist(databaseName, schemaName, revision, tables);
+                // CHECKSTYLE:OFF
+            } catch (final IOException | RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.warn("Persist table meta data snapshot of `{}.{}` failed.", databaseName, schemaName, ex);
+            }
+        });
+    }
+    
+    /**
+     * Persist snapshot.
+     *
+     * <p>Only chunks of the snapshot which was active before are deleted, so snapshots activated by other compute nodes rebuilding at the same time are kept.</p>
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param revision revision which tables are loaded from
+     * @param tables to be persisted tables
+     * @throws IOException IO exception
+     */
+    public void persist(final String databaseName, final String schemaName, final String revision, final Collection<ShardingSphereTable> tables) throws IOException {
+        TableMetaDataSnapshotNodePath nodePath = new TableMetaDataSnapshotNodePath(databaseName, schemaName);
+        String content = Base64.getEncoder().encodeToString(TableMetaDataSnapshotSerializer.serialize(tables));
+        String snapshotId = UUID.randomUUID().toString();
+        int chunkCount = Math.max(1, (content.length() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        for (int i = 0; i < chunkCount; i++) {
+            repository.persist(nodePath.getChunkPath(snapshotId, i), content.substring(i * CHUNK_SIZE, Math.min(content.length(), (i + 1) * CHUNK_SIZE)));
+        }
+        Optional<String> previousSnapshotId = loadActiveSnapshot(nodePath).map(optional -> optional.get(1));
+        repository.persist(nodePath.getActivePath(), String.join(ACTIVE_SNAPSHOT_DELIMITER, revision, snapshotId, String.valueOf(chunkCount)));
+        previousSnapshotId.ifPresent(optional -> repository.delete(String.join("/", nodePath.getChunksPath(), optional)));
+    }
+}
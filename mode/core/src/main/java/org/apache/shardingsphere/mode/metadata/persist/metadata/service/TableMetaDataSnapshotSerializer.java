@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Table meta data snapshot serializer.
+ *
+ * <p>Tables are written in a compact binary form and compressed with GZIP, so that a schema with many tables is loaded without parsing one YAML document per table.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataSnapshotSerializer {
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    private static final int PRIMARY_KEY = 1;
+    
+    private static final int GENERATED = 1 << 1;
+    
+    private static final int CASE_SENSITIVE = 1 << 2;
+    
+    private static final int VISIBLE = 1 << 3;
+    
+    private static final int UNSIGNED = 1 << 4;
+    
+    private static final int NULLABLE = 1 << 5;
+    
+    /**
+     * Serialize tables.
+     *
+     * @param tables to be serialized tables
+     * @return serialized bytes
+     * @throws IOException IO exception
+     */
+    public static byte[] serialize(final Collection<ShardingSphereTable> tables) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(result))) {
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(tables.size());
+            for (ShardingSphereTable each : tables) {
+                writeTable(output, each);
+            }
+        }
+        return result.toByteArray();
+    }
+    
+    private static void writeTable(final DataOutputStream output, final ShardingSphereTable table) throws IOException {
+        writeString(output, table.getName());
+        writeString(output, null == table.getType() ? null : table.getType().name());
+        output.writeInt(table.getAllColumns().size());
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            writeColumn(output, each);
+        }
+        output.writeInt(table.getAllIndexes().size());
+        for (ShardingSphereIndex each : table.getAllIndexes()) {
+            writeIndex(output, each);
+        }
+        output.writeInt(table.getAllConstraints().size());
+        for (ShardingSphereConstraint each : table.getAllConstraints()) {
+            writeString(output, each.getName());
+            writeString(output, each.getReferencedTableName());
+        }
+    }
+    
+    private static void writeColumn(final DataOutputStream output, final ShardingSphereColumn column) throws IOException {
+        writeString(output, column.getName());
+        output.writeInt(column.getDataType());
+        output.writeByte(getFlags(column));
+    }
+    
+    private static int getFlags(final ShardingSphereColumn column) {
+        int result = 0;
+        result |= column.isPrimaryKey() ? PRIMARY_KEY : 0;
+        result |= column.isGenerated() ? GENERATED : 0;
+        result |= column.isCaseSensitive() ? CASE_SENSITIVE : 0;
+        result |= column.isVisible() ? VISIBLE : 0;
+        result |= column.isUnsigned() ? UNSIGNED : 0;
+        result |= column.isNullable() ? NULLABLE : 0;
+        return result;
+    }
+    
+    private static void writeIndex(final DataOutputStream output, final ShardingSphereIndex index) throws IOException {
+        writeString(output, index.getName());
+        output.writeBoolean(index.isUnique());
+        output.writeInt(index.getColumns().size());
+        for (String each : index.getColumns()) {
+            writeString(output, each);
+        }
+    }
+    
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        output.writeBoolean(null != value);
+        if (null != value) {
+            output.writeUTF(value);
+        }
+    }
+    
+    /**
+     * Deserialize tables.
+     *
+     * @param bytes to be deserialized bytes
+     * @return deserialized tables
+     * @throws IOException IO exception
+     */
+    public static Collection<ShardingSphereTable> deserialize(final byte[] bytes) throws IOException {
+        try (DataInputStream input = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes)))) {
+            int formatVersion = input.readInt();
+            if (FORMAT_VERSION != formatVersion) {
+                throw new IOException(String.format("Unsupported table meta data snapshot format version `%s`.", formatVersion));
+            }
+            int tableCount = input.readInt();
+            List<ShardingSphereTable> result = new ArrayList<>(tableCount);
+            for (int i = 0; i < tableCount; i++) {
+                result.add(readTable(input));
+            }
+            return result;
+        }
+    }
+    
+    private static ShardingSphereTable readTable(final DataInputStream input) throws IOException {
+        String name = readString(input);
+        String typeName = readString(input);
+        TableType type = null == typeName ? null : TableType.valueOf(typeName);
+        int columnCount = input.readInt();
+        List<ShardingSphereColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(readColumn(input));
+        }
+        int indexCount = input.readInt();
+        List<ShardingSphereIndex> indexes = new ArrayList<>(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            indexes.add(readIndex(input));
+        }
+        int constraintCount = input.readInt();
+        List<ShardingSphereConstraint> constraints = new ArrayList<>(constraintCount);
+        for (int i = 0; i < constraintCount; i++) {
+            constraints.add(new ShardingSphereConstraint(readString(input), readString(input)));
+        }
+        return new ShardingSphereTable(name, columns, indexes, constraints, type);
+    }
+    
+    private static ShardingSphereColumn readColumn(final DataInputStream input) throws IOException {
+        String name = readString(input);
+        int dataType = input.readInt();
+        int flags = input.readByte();
+        return new ShardingSphereColumn(name, dataType, 0 != (flags & PRIMARY_KEY), 0 != (flags & GENERATED), 0 != (flags & CASE_SENSITIVE),
+                0 != (flags & VISIBLE), 0 != (flags & UNSIGNED), 0 != (flags & NULLABLE));
+    }
+    
+    private static ShardingSphereIndex readIndex(final DataInputStream input) throws IOException {
+        String name = readString(input);
+        boolean unique = input.readBoolean();
+        int columnCount = input.readInt();
+        List<String> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(readString(input));
+        }
+        return new ShardingSphereIndex(name, columns, unique);
+    }
+    
+    private static String readString(final DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
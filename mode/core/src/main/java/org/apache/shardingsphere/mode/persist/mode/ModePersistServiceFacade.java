@@ -20,6 +20,7 @@ package org.apache.shardingsphere.mode.persist.mode;
 import org.apache.shardingsphere.mode.persist.service.ComputeNodePersistService;
 import org.apache.shardingsphere.mode.persist.service.MetaDataManagerPersistService;
 import org.apache.shardingsphere.mode.persist.service.ProcessPersistService;
+import org.apache.shardingsphere.mode.persist.service.TableDataVersionPersistService;
 
 /**
  * Mode persist service facade.
@@ -47,6 +48,13 @@ public interface ModePersistServiceFacade extends AutoCloseable {
      */
     ProcessPersistService getProcessService();
     
+    /**
+     * Get table data version persist service.
+     *
+     * @return table data version persist service
+     */
+    TableDataVersionPersistService getTableDataVersionService();
+    
     @Override
     void close();
 }
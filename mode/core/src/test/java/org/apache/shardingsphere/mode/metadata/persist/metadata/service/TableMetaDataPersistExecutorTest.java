@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableMetaDataPersistExecutorTest {
+    
+    private final TableMetaDataPersistExecutor executor = new TableMetaDataPersistExecutor();
+    
+    @Test
+    void assertInvokeAll() {
+        assertThat(executor.invokeAll(Arrays.<Callable<String>>asList(() -> "foo", () -> "bar")), is(Arrays.asList("foo", "bar")));
+    }
+    
+    @Test
+    void assertInvokeAllWithException() {
+        assertThrows(UnsupportedOperationException.class, () -> executor.invokeAll(Arrays.<Callable<String>>asList(() -> {
+            throw new UnsupportedOperationException("");
+        })));
+    }
+    
+    @Test
+    void assertExecute() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(latch::countDown);
+        assertTrue(latch.await(10L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void assertReleaseWithOtherHolder() {
+        ExecutorService executorService = executor.acquire();
+        executor.acquire();
+        executor.release();
+        assertFalse(executorService.isShutdown());
+        assertThat(executor.invokeAll(Arrays.<Callable<String>>asList(() -> "foo")), is(Arrays.asList("foo")));
+        executor.release();
+        assertTrue(executorService.isShutdown());
+    }
+    
+    @Test
+    void assertReleaseByLastHolder() {
+        ExecutorService executorService = executor.acquire();
+        executor.release();
+        assertTrue(executorService.isShutdown());
+        ExecutorService actual = executor.acquire();
+        assertThat(actual, not(executorService));
+        executor.release();
+        executor.release();
+        assertTrue(actual.isShutdown());
+    }
+}
@@ -26,12 +26,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,6 +69,59 @@ class TableMetaDataPersistServiceTest {
         assertThat(actual.iterator().next().getName(), is("foo_tbl"));
     }
     
+    @Test
+    void assertLoadWithoutSnapshot() {
+        List<String> tableNames = createTableNames();
+        for (String each : tableNames) {
+            when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/" + each + "/active_version")).thenReturn("0");
+            when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/" + each + "/versions/0")).thenReturn("{name: " + each + "}");
+        }
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(tableNames);
+        when(repository.query("/metadata/foo_db/schemas/foo_schema/table_snapshot/revision")).thenReturn("foo_revision");
+        when(repository.query("/metadata/foo_db/schemas/foo_schema/table_snapshot/active")).thenReturn("bar_revision:bar_id:1");
+        Collection<ShardingSphereTable> actual = persistService.load("foo_db", "foo_schema");
+        assertThat(actual.stream().map(ShardingSphereTable::getName).collect(Collectors.toList()), is(tableNames));
+        verify(repository, timeout(1000L)).delete("/metadata/foo_db/schemas/foo_schema/table_snapshot/chunks/bar_id");
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/table_snapshot/active"), startsWith("foo_revision:"));
+    }
+    
+    @Test
+    void assertLoadWithoutRevision() {
+        List<String> tableNames = createTableNames();
+        for (String each : tableNames) {
+            when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/" + each + "/active_version")).thenReturn("0");
+            when(repository.query("/metadata/foo_db/schemas/foo_schema/tables/" + each + "/versions/0")).thenReturn("{name: " + each + "}");
+        }
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(tableNames);
+        when(repository.query("/metadata/foo_db/schemas/foo_schema/table_snapshot/revision")).thenReturn(null);
+        Collection<ShardingSphereTable> actual = persistService.load("foo_db", "foo_schema");
+        assertThat(actual.stream().map(ShardingSphereTable::getName).collect(Collectors.toList()), is(tableNames));
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    void assertLoadWithSnapshot() throws IOException {
+        List<String> tableNames = createTableNames();
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(tableNames);
+        when(repository.query("/metadata/foo_db/schemas/foo_schema/table_snapshot/revision")).thenReturn("foo_revision");
+        when(repository.query("/metadata/foo_db/schemas/foo_schema/table_snapshot/active")).thenReturn("foo_revision:foo_id:1");
+        Collection<ShardingSphereTable> tables = tableNames.stream()
+                .map(each -> new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList())).collect(Collectors.toList());
+        when(repository.query("/metadata/foo_db/schemas/foo_schema/table_snapshot/chunks/foo_id/0"))
+                .thenReturn(Base64.getEncoder().encodeToString(TableMetaDataSnapshotSerializer.serialize(tables)));
+        Collection<ShardingSphereTable> actual = persistService.load("foo_db", "foo_schema");
+        assertThat(actual.stream().map(ShardingSphereTable::getName).collect(Collectors.toList()), is(tableNames));
+        verify(repository, never()).query("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl_0/active_version");
+    }
+    
+    private List<String> createTableNames() {
+        List<String> result = new ArrayList<>(64);
+        for (int i = 0; i < 64; i++) {
+            result.add("foo_tbl_" + i);
+        }
+        return result;
+    }
+    
     @Test
     void assertPersistWithoutVersion() {
         ShardingSphereTable table = mock(ShardingSphereTable.class);
@@ -66,6 +129,7 @@ class TableMetaDataPersistServiceTest {
         persistService.persist("foo_db", "foo_schema", Collections.singleton(table));
         verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/versions/0", "name: foo_tbl" + System.lineSeparator());
         verify(repository).persist("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl/active_version", "0");
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/table_snapshot/revision"), anyString());
     }
     
     @Test
@@ -82,6 +146,7 @@ class TableMetaDataPersistServiceTest {
     void assertDropTable() {
         persistService.drop("foo_db", "foo_schema", "foo_tbl");
         verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables/foo_tbl");
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/table_snapshot/revision"), anyString());
     }
     
     @Test
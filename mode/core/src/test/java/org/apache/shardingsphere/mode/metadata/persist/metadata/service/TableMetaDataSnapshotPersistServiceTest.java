@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TableMetaDataSnapshotPersistServiceTest {
+    
+    private static final String SNAPSHOT_PATH = "/metadata/foo_db/schemas/foo_schema/table_snapshot";
+    
+    private TableMetaDataSnapshotPersistService persistService;
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        persistService = new TableMetaDataSnapshotPersistService(repository);
+    }
+    
+    @Test
+    void assertLoadExistedRevision() {
+        when(repository.query(SNAPSHOT_PATH + "/revision")).thenReturn("foo_revision");
+        assertThat(persistService.loadRevision("foo_db", "foo_schema"), is(Optional.of("foo_revision")));
+    }
+    
+    @Test
+    void assertLoadAbsentRevision() {
+        assertFalse(persistService.loadRevision("foo_db", "foo_schema").isPresent());
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    void assertLoadWithoutActiveSnapshot() {
+        assertFalse(persistService.load("foo_db", "foo_schema", "foo_revision").isPresent());
+    }
+    
+    @Test
+    void assertLoadWithStaleSnapshot() {
+        when(repository.query(SNAPSHOT_PATH + "/active")).thenReturn("bar_revision:foo_id:1");
+        assertFalse(persistService.load("foo_db", "foo_schema", "foo_revision").isPresent());
+    }
+    
+    @Test
+    void assertLoadWithMissedChunk() {
+        when(repository.query(SNAPSHOT_PATH + "/active")).thenReturn("foo_revision:foo_id:1");
+        assertFalse(persistService.load("foo_db", "foo_schema", "foo_revision").isPresent());
+    }
+    
+    @Test
+    void assertLoadWithBrokenChunk() {
+        when(repository.query(SNAPSHOT_PATH + "/active")).thenReturn("foo_revision:foo_id:1");
+        when(repository.query(SNAPSHOT_PATH + "/chunks/foo_id/0")).thenReturn("broken");
+        assertFalse(persistService.load("foo_db", "foo_schema", "foo_revision").isPresent());
+    }
+    
+    @Test
+    void assertPersistAndLoad() throws IOException {
+        Map<String, String> nodes = new HashMap<>();
+        doAnswer(invocation -> nodes.put(invocation.getArgument(0), invocation.getArgument(1))).when(repository).persist(anyString(), anyString());
+        when(repository.query(anyString())).thenAnswer(invocation -> nodes.get(invocation.<String>getArgument(0)));
+        nodes.put(SNAPSHOT_PATH + "/active", "stale_revision:stale_id:1");
+        persistService.persist("foo_db", "foo_schema", "foo_revision",
+                Collections.singleton(new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList())));
+        verify(repository).persist(eq(SNAPSHOT_PATH + "/active"), anyString());
+        verify(repository).delete(SNAPSHOT_PATH + "/chunks/stale_id");
+        verify(repository, never()).getChildrenKeys(anyString());
+        Optional<Collection<ShardingSphereTable>> actual = persistService.load("foo_db", "foo_schema", "foo_revision");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().iterator().next().getName(), is("foo_tbl"));
+        assertFalse(persistService.load("foo_db", "foo_schema", "bar_revision").isPresent());
+    }
+}
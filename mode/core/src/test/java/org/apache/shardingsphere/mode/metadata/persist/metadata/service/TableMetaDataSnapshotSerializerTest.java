@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.metadata.service;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.TableType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereConstraint;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereIndex;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableMetaDataSnapshotSerializerTest {
+    
+    @Test
+    void assertSerializeAndDeserialize() throws IOException {
+        ShardingSphereTable fooTable = new ShardingSphereTable("foo_tbl", Arrays.asList(
+                new ShardingSphereColumn("id", Types.BIGINT, true, true, false, true, true, false), new ShardingSphereColumn("name", Types.VARCHAR, false, false, true, false, false, true)),
+                Collections.singleton(new ShardingSphereIndex("foo_idx", Collections.singletonList("name"), true)),
+                Collections.singleton(new ShardingSphereConstraint("foo_fk", "bar_tbl")));
+        ShardingSphereTable barView = new ShardingSphereTable("bar_view", Collections.emptyList(), Collections.emptyList(),
+                Collections.singleton(new ShardingSphereConstraint("bar_constraint", null)), TableType.VIEW);
+        Collection<ShardingSphereTable> actual = TableMetaDataSnapshotSerializer.deserialize(TableMetaDataSnapshotSerializer.serialize(Arrays.asList(fooTable, barView)));
+        assertThat(actual.size(), is(2));
+        Iterator<ShardingSphereTable> iterator = actual.iterator();
+        ShardingSphereTable actualFooTable = iterator.next();
+        assertThat(actualFooTable.getName(), is("foo_tbl"));
+        assertThat(actualFooTable.getType(), is(TableType.TABLE));
+        assertThat(actualFooTable.getPrimaryKeyColumns(), is(Collections.singletonList("id")));
+        assertThat(actualFooTable.getVisibleColumns(), is(Collections.singletonList("id")));
+        ShardingSphereColumn actualIdColumn = actualFooTable.getColumn("id");
+        assertThat(actualIdColumn.getDataType(), is(Types.BIGINT));
+        assertTrue(actualIdColumn.isGenerated());
+        assertFalse(actualIdColumn.isCaseSensitive());
+        assertTrue(actualIdColumn.isUnsigned());
+        assertFalse(actualIdColumn.isNullable());
+        ShardingSphereColumn actualNameColumn = actualFooTable.getColumn("name");
+        assertTrue(actualNameColumn.isCaseSensitive());
+        assertTrue(actualNameColumn.isNullable());
+        ShardingSphereIndex actualIndex = actualFooTable.getAllIndexes().iterator().next();
+        assertThat(actualIndex.getName(), is("foo_idx"));
+        assertTrue(actualIndex.isUnique());
+        assertThat(actualIndex.getColumns(), is(Collections.singletonList("name")));
+        assertThat(actualFooTable.getAllConstraints().iterator().next().getReferencedTableName(), is("bar_tbl"));
+        ShardingSphereTable actualBarView = iterator.next();
+        assertThat(actualBarView.getName(), is("bar_view"));
+        assertThat(actualBarView.getType(), is(TableType.VIEW));
+        assertThat(actualBarView.getAllConstraints().iterator().next().getReferencedTableName(), nullValue());
+    }
+    
+    @Test
+    void assertDeserializeWithInvalidBytes() {
+        assertThrows(IOException.class, () -> TableMetaDataSnapshotSerializer.deserialize(new byte[]{1, 2, 3}));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.node.path.type.database.metadata.schema;
+
+import lombok.Getter;
+import org.apache.shardingsphere.mode.node.path.NodePath;
+import org.apache.shardingsphere.mode.node.path.NodePathEntity;
+import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
+
+/**
+ * Table meta data snapshot node path.
+ */
+@NodePathEntity("${schema}/table_snapshot")
+@Getter
+public final class TableMetaDataSnapshotNodePath implements NodePath {
+    
+    private static final String REVISION = "revision";
+    
+    private static final String ACTIVE = "active";
+    
+    private static final String CHUNKS = "chunks";
+    
+    private final SchemaMetaDataNodePath schema;
+    
+    public TableMetaDataSnapshotNodePath(final String databaseName, final String schemaName) {
+        schema = new SchemaMetaDataNodePath(databaseName, schemaName);
+    }
+    
+    /**
+     * Get revision path.
+     *
+     * @return revision path
+     */
+    public String getRevisionPath() {
+        return String.join("/", NodePathGenerator.toPath(this), REVISION);
+    }
+    
+    /**
+     * Get active snapshot path.
+     *
+     * @return active snapshot path
+     */
+    public String getActivePath() {
+        return String.join("/", NodePathGenerator.toPath(this), ACTIVE);
+    }
+    
+    /**
+     * Get chunks path.
+     *
+     * @return chunks path
+     */
+    public String getChunksPath() {
+        return String.join("/", NodePathGenerator.toPath(this), CHUNKS);
+    }
+    
+    /**
+     * Get chunk path.
+     *
+     * @param snapshotId snapshot ID
+     * @param chunkIndex chunk index
+     * @return chunk path
+     */
+    public String getChunkPath(final String snapshotId, final int chunkIndex) {
+        return String.join("/", getChunksPath(), snapshotId, String.valueOf(chunkIndex));
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.mode.node.path.type.global.node.compute.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.mode.node.path.NodePath;
+import org.apache.shardingsphere.mode.node.path.NodePathEntity;
+import org.apache.shardingsphere.mode.node.path.engine.searcher.NodePathPattern;
+import org.apache.shardingsphere.mode.node.path.engine.searcher.NodePathSearchCriteria;
+
+/**
+ * Table data changed trigger node path.
+ */
+@NodePathEntity("/nodes/compute_nodes/table_data_changed_trigger/${qualifiedTableName}")
+@RequiredArgsConstructor
+@Getter
+public final class TableDataChangedTriggerNodePath implements NodePath {
+    
+    private final String qualifiedTableName;
+    
+    /**
+     * Create qualified table name search criteria.
+     *
+     * @return created search criteria
+     */
+    public static NodePathSearchCriteria createQualifiedTableNameSearchCriteria() {
+        return new NodePathSearchCriteria(new TableDataChangedTriggerNodePath(NodePathPattern.QUALIFIED_IDENTIFIER), false, 1);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.node.path.type.database.metadata.database;
+
+import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
+import org.apache.shardingsphere.mode.node.path.type.database.metadata.schema.TableMetaDataSnapshotNodePath;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TableMetaDataSnapshotNodePathTest {
+    
+    @Test
+    void assertToPath() {
+        assertThat(NodePathGenerator.toPath(new TableMetaDataSnapshotNodePath("foo_db", "foo_schema")), is("/metadata/foo_db/schemas/foo_schema/table_snapshot"));
+    }
+    
+    @Test
+    void assertGetRevisionPath() {
+        assertThat(new TableMetaDataSnapshotNodePath("foo_db", "foo_schema").getRevisionPath(), is("/metadata/foo_db/schemas/foo_schema/table_snapshot/revision"));
+    }
+    
+    @Test
+    void assertGetActivePath() {
+        assertThat(new TableMetaDataSnapshotNodePath("foo_db", "foo_schema").getActivePath(), is("/metadata/foo_db/schemas/foo_schema/table_snapshot/active"));
+    }
+    
+    @Test
+    void assertGetChunkPath() {
+        TableMetaDataSnapshotNodePath nodePath = new TableMetaDataSnapshotNodePath("foo_db", "foo_schema");
+        assertThat(nodePath.getChunksPath(), is("/metadata/foo_db/schemas/foo_schema/table_snapshot/chunks"));
+        assertThat(nodePath.getChunkPath("foo_id", 1), is("/metadata/foo_db/schemas/foo_schema/table_snapshot/chunks/foo_id/1"));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.mode.node.path.type.global.node.compute.table;
+
+import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
+import org.apache.shardingsphere.mode.node.path.engine.searcher.NodePathSearcher;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TableDataChangedTriggerNodePathTest {
+    
+    @Test
+    void assertToPath() {
+        assertThat(NodePathGenerator.toPath(new TableDataChangedTriggerNodePath(null)), is("/nodes/compute_nodes/table_data_changed_trigger"));
+        assertThat(NodePathGenerator.toPath(new TableDataChangedTriggerNodePath("foo_db.foo_tbl")), is("/nodes/compute_nodes/table_data_changed_trigger/foo_db.foo_tbl"));
+    }
+    
+    @Test
+    void assertCreateQualifiedTableNameSearchCriteria() {
+        assertThat(NodePathSearcher.get("/nodes/compute_nodes/table_data_changed_trigger/foo_db.foo_tbl", TableDataChangedTriggerNodePath.createQualifiedTableNameSearchCriteria()),
+                is("foo_db.foo_tbl"));
+        assertFalse(NodePathSearcher.find("/nodes/xxx/", TableDataChangedTriggerNodePath.createQualifiedTableNameSearchCriteria()).isPresent());
+    }
+}
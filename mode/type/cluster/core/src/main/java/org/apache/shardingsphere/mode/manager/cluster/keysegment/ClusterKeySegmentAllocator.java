@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.keysegment;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocatedException;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
+import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
+import org.apache.shardingsphere.mode.node.path.type.global.reservation.KeySegmentReservationNodePath;
+import org.apache.shardingsphere.mode.node.path.type.lock.GlobalLockNodePath;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+
+/**
+ * Key segment allocator for cluster mode.
+ */
+@RequiredArgsConstructor
+public final class ClusterKeySegmentAllocator implements KeySegmentAllocator {
+    
+    private static final String LOCK_NAME_PREFIX = "key_segment_";
+    
+    private static final long LOCK_TIMEOUT_MILLIS = 3000L;
+    
+    private final ClusterPersistRepository repository;
+    
+    @Override
+    public long allocate(final String segmentName, final int segmentSize) {
+        DistributedLock lock = repository.getDistributedLockHolder().getDistributedLock(NodePathGenerator.toPath(new GlobalLockNodePath(LOCK_NAME_PREFIX + segmentName)));
+        ShardingSpherePreconditions.checkState(lock.tryLock(LOCK_TIMEOUT_MILLIS), () -> new KeySegmentAllocatedException(segmentName));
+        try {
+            String path = NodePathGenerator.toPath(new KeySegmentReservationNodePath(segmentName));
+            String allocatedMaxKey = repository.query(path);
+            long result = Strings.isNullOrEmpty(allocatedMaxKey) ? 1L : Long.parseLong(allocatedMaxKey) + 1L;
+            repository.persist(path, String.valueOf(result + segmentSize - 1L));
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public boolean isDurable() {
+        return true;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
 import org.apache.shardingsphere.mode.manager.cluster.persist.service.ClusterComputeNodePersistService;
 import org.apache.shardingsphere.mode.manager.cluster.persist.service.ClusterMetaDataManagerPersistService;
 import org.apache.shardingsphere.mode.manager.cluster.persist.service.ClusterProcessPersistService;
+import org.apache.shardingsphere.mode.manager.cluster.persist.service.ClusterTableDataVersionPersistService;
 import org.apache.shardingsphere.mode.metadata.manager.MetaDataContextManager;
 import org.apache.shardingsphere.mode.persist.mode.ModePersistServiceFacade;
 import org.apache.shardingsphere.mode.persist.service.MetaDataManagerPersistService;
@@ -40,6 +41,8 @@ public final class ClusterPersistServiceFacade implements ModePersistServiceFaca
     
     private final ClusterProcessPersistService processService;
     
+    private final ClusterTableDataVersionPersistService tableDataVersionService;
+    
     @Getter(AccessLevel.NONE)
     private final ComputeNodeInstance computeNodeInstance;
     
@@ -48,6 +51,7 @@ public final class ClusterPersistServiceFacade implements ModePersistServiceFaca
         computeNodeService = new ClusterComputeNodePersistService(repository);
         processService = new ClusterProcessPersistService(repository);
         computeNodeInstance = metaDataContextManager.getComputeNodeInstanceContext().getInstance();
+        tableDataVersionService = new ClusterTableDataVersionPersistService(repository, computeNodeInstance.getMetaData().getId());
     }
     
     @Override
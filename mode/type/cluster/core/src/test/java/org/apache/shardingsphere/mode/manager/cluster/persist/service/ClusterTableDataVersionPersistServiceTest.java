@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.mode.manager.cluster.persist.service;
+
+import org.apache.shardingsphere.infra.executor.sql.version.TableDataVersionRegistry;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(TableDataVersionRegistry.class)
+class ClusterTableDataVersionPersistServiceTest {
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    @Test
+    void assertIncrease() {
+        Collection<String> qualifiedTableNames = Collections.singleton("foo_db.foo_tbl");
+        new ClusterTableDataVersionPersistService(repository, "foo_instance_id").increase(qualifiedTableNames);
+        verify(TableDataVersionRegistry.getInstance()).increase(qualifiedTableNames);
+        verify(repository).persist("/nodes/compute_nodes/table_data_changed_trigger/foo_db.foo_tbl", "foo_instance_id");
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.standalone.keysegment;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.instance.keysegment.KeySegmentAllocator;
+import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
+import org.apache.shardingsphere.mode.node.path.type.global.reservation.KeySegmentReservationNodePath;
+import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRepository;
+
+/**
+ * Key segment allocator for standalone mode.
+ */
+@RequiredArgsConstructor
+public final class StandaloneKeySegmentAllocator implements KeySegmentAllocator {
+    
+    private final StandalonePersistRepository repository;
+    
+    @Override
+    public synchronized long allocate(final String segmentName, final int segmentSize) {
+        String path = NodePathGenerator.toPath(new KeySegmentReservationNodePath(segmentName));
+        String allocatedMaxKey = repository.query(path);
+        long result = Strings.isNullOrEmpty(allocatedMaxKey) ? 1L : Long.parseLong(allocatedMaxKey) + 1L;
+        repository.persist(path, String.valueOf(result + segmentSize - 1L));
+        return result;
+    }
+    
+    @Override
+    public boolean isDurable() {
+        return repository.isDurable();
+    }
+}
@@ -21,6 +21,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.mode.manager.standalone.persist.service.StandaloneComputeNodePersistService;
 import org.apache.shardingsphere.mode.manager.standalone.persist.service.StandaloneMetaDataManagerPersistService;
 import org.apache.shardingsphere.mode.manager.standalone.persist.service.StandaloneProcessPersistService;
+import org.apache.shardingsphere.mode.manager.standalone.persist.service.StandaloneTableDataVersionPersistService;
 import org.apache.shardingsphere.mode.metadata.manager.MetaDataContextManager;
 import org.apache.shardingsphere.mode.persist.mode.ModePersistServiceFacade;
 import org.apache.shardingsphere.mode.persist.service.MetaDataManagerPersistService;
@@ -37,10 +38,13 @@ public final class StandalonePersistServiceFacade implements ModePersistServiceF
     
     private final StandaloneProcessPersistService processService;
     
+    private final StandaloneTableDataVersionPersistService tableDataVersionService;
+    
     public StandalonePersistServiceFacade(final MetaDataContextManager metaDataContextManager) {
         metaDataManagerService = new StandaloneMetaDataManagerPersistService(metaDataContextManager);
         computeNodeService = new StandaloneComputeNodePersistService(metaDataContextManager.getComputeNodeInstanceContext().getInstance());
         processService = new StandaloneProcessPersistService();
+        tableDataVersionService = new StandaloneTableDataVersionPersistService();
     }
     
     @Override
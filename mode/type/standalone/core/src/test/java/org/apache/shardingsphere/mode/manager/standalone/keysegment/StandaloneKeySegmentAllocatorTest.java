@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.standalone.keysegment;
+
+import org.apache.shardingsphere.mode.repository.standalone.StandalonePersistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StandaloneKeySegmentAllocatorTest {
+    
+    @Mock
+    private StandalonePersistRepository repository;
+    
+    @Test
+    void assertAllocateFirstSegment() {
+        assertThat(new StandaloneKeySegmentAllocator(repository).allocate("foo_segment", 100), is(1L));
+        verify(repository).persist("/reservation/key_segment/foo_segment", "100");
+    }
+    
+    @Test
+    void assertAllocateNextSegment() {
+        when(repository.query("/reservation/key_segment/foo_segment")).thenReturn("100");
+        assertThat(new StandaloneKeySegmentAllocator(repository).allocate("foo_segment", 100), is(101L));
+        verify(repository).persist("/reservation/key_segment/foo_segment", "200");
+    }
+    
+    @Test
+    void assertIsDurable() {
+        when(repository.isDurable()).thenReturn(false);
+        assertFalse(new StandaloneKeySegmentAllocator(repository).isDurable());
+    }
+}
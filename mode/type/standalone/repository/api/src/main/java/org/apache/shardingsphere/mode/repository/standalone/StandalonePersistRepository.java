@@ -23,4 +23,13 @@ import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
  * Standalone persist repository.
  */
 public interface StandalonePersistRepository extends PersistRepository {
+    
+    /**
+     * Judge whether persisted data is kept after restart.
+     *
+     * @return is durable or not
+     */
+    default boolean isDurable() {
+        return true;
+    }
 }
@@ -55,18 +55,21 @@ public final class JDBCRepository implements StandalonePersistRepository {
     
     private HikariDataSource dataSource;
     
+    private boolean durable;
+    
     @SneakyThrows(SQLException.class)
     @Override
     public void init(final Properties props) {
         JDBCRepositoryProperties jdbcRepositoryProps = new JDBCRepositoryProperties(props);
         repositorySQL = JDBCRepositorySQLLoader.load(jdbcRepositoryProps.getValue(JDBCRepositoryPropertyKey.PROVIDER));
         dataSource = new HikariDataSource(createHikariConfig(props, jdbcRepositoryProps));
+        durable = !jdbcRepositoryProps.<String>getValue(JDBCRepositoryPropertyKey.JDBC_URL).contains("h2:mem:");
         try (
                 Connection connection = dataSource.getConnection();
                 Statement statement = connection.createStatement()) {
             statement.execute(repositorySQL.getCreateTableSQL());
             // TODO remove it later. Add for reset standalone test e2e's env. Need to close DataSource to release H2's memory data
-            if (jdbcRepositoryProps.<String>getValue(JDBCRepositoryPropertyKey.JDBC_URL).contains("h2:mem:")) {
+            if (!durable) {
                 try {
                     statement.execute("TRUNCATE TABLE `repository`");
                 } catch (final SQLException ignored) {
@@ -94,6 +97,11 @@ public final class JDBCRepository implements StandalonePersistRepository {
         return result;
     }
     
+    @Override
+    public boolean isDurable() {
+        return durable;
+    }
+    
     @Override
     public String query(final String key) {
         try (
@@ -97,6 +97,11 @@ class JDBCRepositoryTest {
         verify(mockStatement).execute(repositorySQL.getCreateTableSQL());
     }
     
+    @Test
+    void assertIsDurableWithInMemoryDatabase() {
+        assertFalse(repository.isDurable());
+    }
+    
     @Test
     void assertQuery() throws SQLException {
         String key = "key";
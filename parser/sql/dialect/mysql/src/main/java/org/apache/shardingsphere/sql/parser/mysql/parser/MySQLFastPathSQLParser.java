@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.SimpleDMLFastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLUpdateStatement;
+
+/**
+ * Fast path SQL parser for MySQL.
+ */
+public final class MySQLFastPathSQLParser extends SimpleDMLFastPathSQLParser {
+    
+    public MySQLFastPathSQLParser() {
+        super(MySQLLexer.class, QuoteCharacter.BACK_QUOTE, false);
+    }
+    
+    @Override
+    protected SelectStatement createSelectStatement() {
+        return new MySQLSelectStatement();
+    }
+    
+    @Override
+    protected InsertStatement createInsertStatement() {
+        return new MySQLInsertStatement();
+    }
+    
+    @Override
+    protected UpdateStatement createUpdateStatement() {
+        return new MySQLUpdateStatement();
+    }
+    
+    @Override
+    protected DeleteStatement createDeleteStatement() {
+        return new MySQLDeleteStatement();
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
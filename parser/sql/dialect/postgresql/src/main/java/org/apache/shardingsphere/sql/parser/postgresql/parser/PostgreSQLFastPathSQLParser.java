@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sql.parser.postgresql.parser;
+
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.SimpleDMLFastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.statement.postgresql.dml.PostgreSQLDeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.postgresql.dml.PostgreSQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.postgresql.dml.PostgreSQLUpdateStatement;
+
+/**
+ * Fast path SQL parser for PostgreSQL.
+ */
+public final class PostgreSQLFastPathSQLParser extends SimpleDMLFastPathSQLParser {
+    
+    public PostgreSQLFastPathSQLParser() {
+        super(PostgreSQLLexer.class, QuoteCharacter.QUOTE, true);
+    }
+    
+    @Override
+    protected SelectStatement createSelectStatement() {
+        return new PostgreSQLSelectStatement();
+    }
+    
+    @Override
+    protected InsertStatement createInsertStatement() {
+        return new PostgreSQLInsertStatement();
+    }
+    
+    @Override
+    protected UpdateStatement createUpdateStatement() {
+        return new PostgreSQLUpdateStatement();
+    }
+    
+    @Override
+    protected DeleteStatement createDeleteStatement() {
+        return new PostgreSQLDeleteStatement();
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Token;
@@ -30,6 +31,7 @@ import java.util.LinkedList;
  * Parse AST node.
  */
 @RequiredArgsConstructor
+@Getter
 public final class ParseASTNode implements ASTNode {
     
     private final ParseTree parseTree;
@@ -49,24 +49,42 @@ public final class SQLParserFactory {
      * @return created instance
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
+        return createSQLParser(newTokenStream(sql, lexerClass), parserClass);
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
-        SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
-        ((Parser) result).setErrorHandler(new BailErrorStrategy());
-        ((Parser) result).removeErrorListener(ConsoleErrorListener.INSTANCE);
-        return result;
+    /**
+     * Create new instance of SQL parser with tokens which are already lexed.
+     *
+     * @param tokenStream token stream
+     * @param parserClass parser class
+     * @return created instance
+     */
+    public static SQLParser newInstance(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
+        return createSQLParser(tokenStream, parserClass);
     }
     
+    /**
+     * Create new instance of token stream.
+     *
+     * @param sql SQL
+     * @param lexerClass lexer class
+     * @return created token stream
+     */
     @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
+    public static CommonTokenStream newTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
         Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
         lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
         return new CommonTokenStream(lexer);
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
+        SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
+        ((Parser) result).setErrorHandler(new BailErrorStrategy());
+        ((Parser) result).removeErrorListener(ConsoleErrorListener.INSTANCE);
+        return result;
+    }
+    
     private static CharStream getSQLCharStream(final String sql) {
         CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
         return CodePointCharStream.fromBuffer(buffer);
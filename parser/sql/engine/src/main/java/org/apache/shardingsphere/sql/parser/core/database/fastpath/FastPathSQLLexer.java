@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fast path SQL lexer.
+ *
+ * <p>Only recognizes identifiers, parameter markers and a few punctuations, any other character makes SQL unsupported.</p>
+ */
+@RequiredArgsConstructor
+public final class FastPathSQLLexer {
+    
+    private final QuoteCharacter identifierQuoteCharacter;
+    
+    private final boolean dollarParameterMarkerEnabled;
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @param sql SQL to be tokenized
+     * @return tokens, empty if SQL contains unsupported characters
+     */
+    public Optional<List<FastPathSQLToken>> tokenize(final String sql) {
+        List<FastPathSQLToken> result = new ArrayList<>(32);
+        int index = 0;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if (isWhitespace(current)) {
+                index++;
+                continue;
+            }
+            int stopIndex = findStopIndex(sql, index);
+            if (stopIndex < index) {
+                return Optional.empty();
+            }
+            result.add(new FastPathSQLToken(getTokenType(current), sql.substring(index, stopIndex + 1), index, stopIndex));
+            index = stopIndex + 1;
+        }
+        result.add(new FastPathSQLToken(FastPathSQLTokenType.EOF, "", sql.length(), sql.length()));
+        return Optional.of(result);
+    }
+    
+    private boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\n' == ch || '\r' == ch;
+    }
+    
+    private int findStopIndex(final String sql, final int startIndex) {
+        char current = sql.charAt(startIndex);
+        if (isWordStart(current)) {
+            int result = startIndex;
+            while (result + 1 < sql.length() && isWordPart(sql.charAt(result + 1))) {
+                result++;
+            }
+            return result;
+        }
+        if (QuoteCharacter.NONE != identifierQuoteCharacter && identifierQuoteCharacter.getStartDelimiter().charAt(0) == current) {
+            int result = sql.indexOf(identifierQuoteCharacter.getEndDelimiter().charAt(0), startIndex + 1);
+            return result > startIndex + 1 ? result : -1;
+        }
+        if (dollarParameterMarkerEnabled && '$' == current) {
+            int result = startIndex;
+            while (result + 1 < sql.length() && Character.isDigit(sql.charAt(result + 1))) {
+                result++;
+            }
+            return result > startIndex && '0' != sql.charAt(startIndex + 1) && !isWordPart(getNextChar(sql, result)) ? result : -1;
+        }
+        return null == getSymbolTokenType(current) ? -1 : startIndex;
+    }
+    
+    private char getNextChar(final String sql, final int index) {
+        return index + 1 < sql.length() ? sql.charAt(index + 1) : ' ';
+    }
+    
+    private boolean isWordStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z';
+    }
+    
+    private boolean isWordPart(final char ch) {
+        return isWordStart(ch) || ch >= '0' && ch <= '9' || '_' == ch;
+    }
+    
+    private FastPathSQLTokenType getTokenType(final char firstChar) {
+        if (isWordStart(firstChar)) {
+            return FastPathSQLTokenType.WORD;
+        }
+        if ('$' == firstChar) {
+            return FastPathSQLTokenType.PARAMETER_MARKER;
+        }
+        FastPathSQLTokenType result = getSymbolTokenType(firstChar);
+        return null == result ? FastPathSQLTokenType.QUOTED_IDENTIFIER : result;
+    }
+    
+    private FastPathSQLTokenType getSymbolTokenType(final char ch) {
+        switch (ch) {
+            case '?':
+                return FastPathSQLTokenType.PARAMETER_MARKER;
+            case ',':
+                return FastPathSQLTokenType.COMMA;
+            case '(':
+                return FastPathSQLTokenType.LEFT_PAREN;
+            case ')':
+                return FastPathSQLTokenType.RIGHT_PAREN;
+            case '=':
+                return FastPathSQLTokenType.EQ;
+            case '*':
+                return FastPathSQLTokenType.ASTERISK;
+            case ';':
+                return FastPathSQLTokenType.SEMI;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Simple DML fast path SQL parser.
+ *
+ * <p>Supported shapes are single table statements with plain column names and parameter markers only:</p>
+ * <ul>
+ *     <li>SELECT * | column [, column ...] FROM table [WHERE column = ? [AND column = ? ...]]</li>
+ *     <li>INSERT INTO table (column [, column ...]) VALUES (?, ...) [, (?, ...) ...]</li>
+ *     <li>UPDATE table SET column = ? [, column = ? ...] [WHERE column = ? [AND column = ? ...]]</li>
+ *     <li>DELETE FROM table [WHERE column = ? [AND column = ? ...]]</li>
+ * </ul>
+ * <p>Unquoted identifiers which are keywords of dialect lexer are not supported, since they may have special meanings in grammar.</p>
+ */
+public abstract class SimpleDMLFastPathSQLParser implements DialectFastPathSQLParser {
+    
+    private final FastPathSQLLexer lexer;
+    
+    private final Collection<String> keywords;
+    
+    protected SimpleDMLFastPathSQLParser(final Class<? extends SQLLexer> lexerClass, final QuoteCharacter identifierQuoteCharacter, final boolean dollarParameterMarkerEnabled) {
+        lexer = new FastPathSQLLexer(identifierQuoteCharacter, dollarParameterMarkerEnabled);
+        keywords = getKeywords(((Lexer) SQLParserFactory.newTokenStream("", lexerClass).getTokenSource()).getVocabulary());
+    }
+    
+    private Collection<String> getKeywords(final Vocabulary vocabulary) {
+        Collection<String> result = new HashSet<>(vocabulary.getMaxTokenType(), 1F);
+        for (int i = 0; i <= vocabulary.getMaxTokenType(); i++) {
+            String symbolicName = vocabulary.getSymbolicName(i);
+            if (null != symbolicName) {
+                result.add(symbolicName);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public final Optional<SQLStatement> parse(final String sql) {
+        Optional<List<FastPathSQLToken>> tokens = lexer.tokenize(sql);
+        return tokens.isPresent() ? new SimpleDMLStatementParser(sql, tokens.get(), keywords, this).parse() : Optional.empty();
+    }
+    
+    /**
+     * Create select statement.
+     *
+     * @return created select statement
+     */
+    protected abstract SelectStatement createSelectStatement();
+    
+    /**
+     * Create insert statement.
+     *
+     * @return created insert statement
+     */
+    protected abstract InsertStatement createInsertStatement();
+    
+    /**
+     * Create update statement.
+     *
+     * @return created update statement
+     */
+    protected abstract UpdateStatement createUpdateStatement();
+    
+    /**
+     * Create delete statement.
+     *
+     * @return created delete statement
+     */
+    protected abstract DeleteStatement createDeleteStatement();
+}
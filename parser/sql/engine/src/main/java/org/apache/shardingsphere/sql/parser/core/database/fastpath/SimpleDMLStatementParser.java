@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import org.apache.shardingsphere.sql.parser.statement.core.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Simple DML statement parser, it is not thread safe and parses one SQL only.
+ *
+ * <p>All parse methods return null if tokens do not match supported shapes.</p>
+ */
+final class SimpleDMLStatementParser {
+    
+    private static final int MAX_DOLLAR_PARAMETER_MARKER_LENGTH = 6;
+    
+    private final String sql;
+    
+    private final List<FastPathSQLToken> tokens;
+    
+    private final Collection<String> keywords;
+    
+    private final SimpleDMLFastPathSQLParser statementFactory;
+    
+    private final Collection<ParameterMarkerSegment> parameterMarkerSegments = new LinkedList<>();
+    
+    private ParameterMarkerType parameterMarkerType;
+    
+    private int index;
+    
+    SimpleDMLStatementParser(final String sql, final List<FastPathSQLToken> tokens, final Collection<String> keywords, final SimpleDMLFastPathSQLParser statementFactory) {
+        this.sql = sql;
+        this.tokens = tokens;
+        this.keywords = keywords;
+        this.statementFactory = statementFactory;
+    }
+    
+    /**
+     * Parse SQL statement.
+     *
+     * @return parsed SQL statement, empty if SQL is not supported
+     */
+    Optional<SQLStatement> parse() {
+        AbstractSQLStatement result = parseStatement();
+        if (null == result || !isEnd()) {
+            return Optional.empty();
+        }
+        result.addParameterMarkerSegments(parameterMarkerSegments);
+        return Optional.of(result);
+    }
+    
+    private AbstractSQLStatement parseStatement() {
+        if (acceptKeyword("SELECT")) {
+            return parseSelect();
+        }
+        if (acceptKeyword("INSERT")) {
+            return parseInsert();
+        }
+        if (acceptKeyword("UPDATE")) {
+            return parseUpdate();
+        }
+        if (acceptKeyword("DELETE")) {
+            return parseDelete();
+        }
+        return null;
+    }
+    
+    private SelectStatement parseSelect() {
+        ProjectionsSegment projections = parseProjections();
+        if (null == projections || !acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        SelectStatement result = statementFactory.createSelectStatement();
+        result.setProjections(projections);
+        result.setFrom(table);
+        if (isKeyword(current(), "WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections() {
+        FastPathSQLToken first = current();
+        if (FastPathSQLTokenType.ASTERISK == first.getType()) {
+            index++;
+            ProjectionsSegment result = new ProjectionsSegment(first.getStartIndex(), first.getStopIndex());
+            result.getProjections().add(new ShorthandProjectionSegment(first.getStartIndex(), first.getStopIndex()));
+            return result;
+        }
+        Collection<ColumnSegment> columns = parseColumns();
+        if (null == columns) {
+            return null;
+        }
+        ProjectionsSegment result = new ProjectionsSegment(first.getStartIndex(), previous().getStopIndex());
+        for (ColumnSegment each : columns) {
+            result.getProjections().add(new ColumnProjectionSegment(each));
+        }
+        return result;
+    }
+    
+    private InsertStatement parseInsert() {
+        if (!acceptKeyword("INTO")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        FastPathSQLToken leftParen = current();
+        if (!accept(FastPathSQLTokenType.LEFT_PAREN)) {
+            return null;
+        }
+        Collection<ColumnSegment> columns = parseColumns();
+        if (null == columns || !accept(FastPathSQLTokenType.RIGHT_PAREN) || !acceptKeyword("VALUES")) {
+            return null;
+        }
+        InsertStatement result = statementFactory.createInsertStatement();
+        result.setTable(table);
+        result.setInsertColumns(new InsertColumnsSegment(leftParen.getStartIndex(), previous(2).getStopIndex(), columns));
+        do {
+            InsertValuesSegment values = parseInsertValues();
+            if (null == values) {
+                return null;
+            }
+            result.getValues().add(values);
+        } while (accept(FastPathSQLTokenType.COMMA));
+        return result;
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        FastPathSQLToken leftParen = current();
+        if (!accept(FastPathSQLTokenType.LEFT_PAREN)) {
+            return null;
+        }
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            ParameterMarkerExpressionSegment value = parseParameterMarker();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (accept(FastPathSQLTokenType.COMMA));
+        return accept(FastPathSQLTokenType.RIGHT_PAREN) ? new InsertValuesSegment(leftParen.getStartIndex(), previous().getStopIndex(), values) : null;
+    }
+    
+    private UpdateStatement parseUpdate() {
+        SimpleTableSegment table = parseTable();
+        FastPathSQLToken set = current();
+        if (null == table || !acceptKeyword("SET")) {
+            return null;
+        }
+        Collection<ColumnAssignmentSegment> assignments = new LinkedList<>();
+        do {
+            ColumnAssignmentSegment assignment = parseAssignment();
+            if (null == assignment) {
+                return null;
+            }
+            assignments.add(assignment);
+        } while (accept(FastPathSQLTokenType.COMMA));
+        UpdateStatement result = statementFactory.createUpdateStatement();
+        result.setTable(table);
+        result.setSetAssignment(new SetAssignmentSegment(set.getStartIndex(), previous().getStopIndex(), assignments));
+        if (isKeyword(current(), "WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private ColumnAssignmentSegment parseAssignment() {
+        ColumnSegment column = parseColumn();
+        if (null == column || !accept(FastPathSQLTokenType.EQ)) {
+            return null;
+        }
+        ParameterMarkerExpressionSegment value = parseParameterMarker();
+        if (null == value) {
+            return null;
+        }
+        List<ColumnSegment> columns = new LinkedList<>();
+        columns.add(column);
+        return new ColumnAssignmentSegment(column.getStartIndex(), value.getStopIndex(), columns, value);
+    }
+    
+    private DeleteStatement parseDelete() {
+        if (!acceptKeyword("FROM")) {
+            return null;
+        }
+        SimpleTableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        DeleteStatement result = statementFactory.createDeleteStatement();
+        result.setTable(table);
+        if (isKeyword(current(), "WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        return result;
+    }
+    
+    private WhereSegment parseWhere() {
+        FastPathSQLToken where = current();
+        index++;
+        ExpressionSegment expr = parseEqualCondition();
+        if (null == expr) {
+            return null;
+        }
+        while (isKeyword(current(), "AND")) {
+            FastPathSQLToken and = current();
+            index++;
+            ExpressionSegment right = parseEqualCondition();
+            if (null == right) {
+                return null;
+            }
+            expr = createBinaryOperationExpression(expr, right, and.getText());
+        }
+        return new WhereSegment(where.getStartIndex(), expr.getStopIndex(), expr);
+    }
+    
+    private ExpressionSegment parseEqualCondition() {
+        ColumnSegment column = parseColumn();
+        FastPathSQLToken operator = current();
+        if (null == column || !accept(FastPathSQLTokenType.EQ)) {
+            return null;
+        }
+        ParameterMarkerExpressionSegment value = parseParameterMarker();
+        return null == value ? null : createBinaryOperationExpression(column, value, operator.getText());
+    }
+    
+    private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
+        return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, operator, sql.substring(left.getStartIndex(), right.getStopIndex() + 1));
+    }
+    
+    private ParameterMarkerExpressionSegment parseParameterMarker() {
+        FastPathSQLToken token = current();
+        if (FastPathSQLTokenType.PARAMETER_MARKER != token.getType()) {
+            return null;
+        }
+        ParameterMarkerType type = '?' == token.getText().charAt(0) ? ParameterMarkerType.QUESTION : ParameterMarkerType.DOLLAR;
+        if (null != parameterMarkerType && parameterMarkerType != type || ParameterMarkerType.DOLLAR == type && token.getText().length() > MAX_DOLLAR_PARAMETER_MARKER_LENGTH) {
+            return null;
+        }
+        parameterMarkerType = type;
+        index++;
+        int parameterMarkerIndex = ParameterMarkerType.QUESTION == type ? parameterMarkerSegments.size() : Integer.parseInt(token.getText().substring(1)) - 1;
+        ParameterMarkerExpressionSegment result = new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterMarkerIndex, type);
+        parameterMarkerSegments.add(result);
+        return result;
+    }
+    
+    private Collection<ColumnSegment> parseColumns() {
+        Collection<ColumnSegment> result = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return null;
+            }
+            result.add(column);
+        } while (accept(FastPathSQLTokenType.COMMA));
+        return result;
+    }
+    
+    private ColumnSegment parseColumn() {
+        FastPathSQLToken token = current();
+        return isIdentifier(token) ? new ColumnSegment(token.getStartIndex(), next().getStopIndex(), new IdentifierValue(token.getText())) : null;
+    }
+    
+    private SimpleTableSegment parseTable() {
+        FastPathSQLToken token = current();
+        return isIdentifier(token) ? new SimpleTableSegment(new TableNameSegment(token.getStartIndex(), next().getStopIndex(), new IdentifierValue(token.getText()))) : null;
+    }
+    
+    private boolean isIdentifier(final FastPathSQLToken token) {
+        return FastPathSQLTokenType.QUOTED_IDENTIFIER == token.getType() || FastPathSQLTokenType.WORD == token.getType() && !keywords.contains(token.getText().toUpperCase(Locale.ENGLISH));
+    }
+    
+    private boolean isKeyword(final FastPathSQLToken token, final String keyword) {
+        return FastPathSQLTokenType.WORD == token.getType() && keyword.equalsIgnoreCase(token.getText());
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        if (isKeyword(current(), keyword)) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean accept(final FastPathSQLTokenType type) {
+        if (type == current().getType()) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean isEnd() {
+        accept(FastPathSQLTokenType.SEMI);
+        return FastPathSQLTokenType.EOF == current().getType();
+    }
+    
+    private FastPathSQLToken current() {
+        return tokens.get(index);
+    }
+    
+    private FastPathSQLToken next() {
+        return tokens.get(index++);
+    }
+    
+    private FastPathSQLToken previous() {
+        return previous(1);
+    }
+    
+    private FastPathSQLToken previous(final int offset) {
+        return tokens.get(index - offset);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sql.parser.core.database.parser;
 
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -46,16 +47,32 @@ public final class SQLParserExecutor {
      * @throws SQLParsingException SQL parsing exception
      */
     public ParseASTNode parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
+        return parse(sql, SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass()));
+    }
+    
+    /**
+     * Parse SQL with tokens which are already lexed.
+     *
+     * @param sql SQL to be parsed
+     * @param tokenStream token stream of SQL
+     * @return parse AST node
+     * @throws SQLParsingException SQL parsing exception
+     */
+    public ParseASTNode parse(final String sql, final TokenStream tokenStream) {
+        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
+        return parse(sql, SQLParserFactory.newInstance(tokenStream, sqlParserFacade.getParserClass()));
+    }
+    
+    private ParseASTNode parse(final String sql, final SQLParser sqlParser) {
+        ParseASTNode result = twoPhaseParse(sql, sqlParser);
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException(sql);
         }
         return result;
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
-        DialectSQLParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+    private ParseASTNode twoPhaseParse(final String sql, final SQLParser sqlParser) {
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
             return (ParseASTNode) sqlParser.parse();
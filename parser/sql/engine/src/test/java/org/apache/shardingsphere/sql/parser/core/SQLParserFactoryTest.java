@@ -33,4 +33,9 @@ class SQLParserFactoryTest {
     void assertNewInstance() {
         assertThat(SQLParserFactory.newInstance(SQL, mock(LexerFixture.class).getClass(), mock(ParserFixture.class).getClass()), instanceOf(ParserFixture.class));
     }
+    
+    @Test
+    void assertNewInstanceWithTokenStream() {
+        assertThat(SQLParserFactory.newInstance(SQLParserFactory.newTokenStream(SQL, mock(LexerFixture.class).getClass()), mock(ParserFixture.class).getClass()), instanceOf(ParserFixture.class));
+    }
 }
@@ -56,6 +56,10 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.refresher.federation.FederationMetaDataRefreshEngine;
 import org.apache.shardingsphere.mode.metadata.refresher.pushdown.PushDownMetaDataRefreshEngine;
+import org.apache.shardingsphere.proxy.backend.connector.cache.CachedQueryResult;
+import org.apache.shardingsphere.proxy.backend.connector.cache.DeterministicSQLJudgeEngine;
+import org.apache.shardingsphere.proxy.backend.connector.cache.QueryResultCache;
+import org.apache.shardingsphere.proxy.backend.connector.cache.QueryResultCacheKey;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
@@ -83,11 +87,15 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -123,6 +131,14 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     private MergedResult mergedResult;
     
+    private QueryResultCacheKey queryResultCacheKey;
+    
+    private Map<String, Long> queryResultCacheTableVersions;
+    
+    private Iterator<QueryResponseRow> bufferedRows;
+    
+    private QueryResponseRow currentBufferedRow;
+    
     public StandardDatabaseConnector(final String driverType, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         this.driverType = driverType;
         this.queryContext = queryContext;
@@ -184,6 +200,14 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     @Override
     public ResponseHeader execute() throws SQLException {
+        if (isQueryResultCacheable()) {
+            Optional<CachedQueryResult> cachedQueryResult = findCachedQueryResult();
+            if (cachedQueryResult.isPresent()) {
+                queryHeaders = cachedQueryResult.get().getQueryHeaders();
+                bufferedRows = cachedQueryResult.get().getRows().iterator();
+                return new QueryResponseHeader(queryHeaders);
+            }
+        }
         if (proxySQLExecutor.getSqlFederationEngine().decide(queryContext, contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData())) {
             return processExecuteFederation(doExecuteFederation());
         }
@@ -197,6 +221,32 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
                 : doExecute(executionContext);
     }
     
+    private boolean isQueryResultCacheable() {
+        SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
+        if (!(sqlStatementContext instanceof SelectStatementContext) || sqlStatementContext instanceof CursorAvailable
+                || databaseConnectionManager.getConnectionSession().getTransactionStatus().isInTransaction()
+                || !contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_ENABLED)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return !selectStatementContext.getSqlStatement().getLock().isPresent() && !selectStatementContext.getTablesContext().getTableNames().isEmpty()
+                && !SystemSchemaUtils.containsSystemSchema(sqlStatementContext.getDatabaseType(), selectStatementContext.getTablesContext().getSchemaNames(), database)
+                && DeterministicSQLJudgeEngine.isDeterministic(queryContext.getSql());
+    }
+    
+    private Optional<CachedQueryResult> findCachedQueryResult() {
+        QueryResultCache queryResultCache = QueryResultCache.getInstance();
+        QueryResultCacheKey cacheKey = new QueryResultCacheKey(database.getName(), queryContext.getSql(), queryContext.getParameters(),
+                databaseConnectionManager.getConnectionSession().getRequiredSessionVariableRecorder().getVariablesSnapshot());
+        Optional<CachedQueryResult> result = queryResultCache.get(cacheKey);
+        if (!result.isPresent()) {
+            queryResultCacheKey = cacheKey;
+            queryResultCacheTableVersions = queryResultCache.getTableVersions(
+                    QueryResultCache.getQualifiedTableNames(database.getName(), ((TableAvailable) queryContext.getSqlStatementContext()).getTablesContext().getTableNames()));
+        }
+        return result;
+    }
+    
     private ExecutionContext generateExecutionContext() {
         ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
         return new KernelProcessor().generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), metaData.getProps());
@@ -241,12 +291,28 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
                 ? proxySQLExecutor.execute(executionContext)
                 : advancedExecutors.iterator().next().execute(executionContext, contextManager, database, this);
         pushDownMetaDataRefreshEngine.refresh(queryContext.getSqlStatementContext(), executionContext.getRouteContext().getRouteUnits());
+        invalidateQueryResultCacheIfNecessary();
         Object executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
                 ? processExecuteQuery(queryContext.getSqlStatementContext(), executeResults.stream().map(QueryResult.class::cast).collect(Collectors.toList()), (QueryResult) executeResultSample)
                 : processExecuteUpdate(executeResults.stream().map(UpdateResult.class::cast).collect(Collectors.toList()));
     }
     
+    private void invalidateQueryResultCacheIfNecessary() {
+        SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
+        if (sqlStatementContext instanceof SelectStatementContext || !(sqlStatementContext instanceof TableAvailable)
+                || !contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_ENABLED)) {
+            return;
+        }
+        Collection<String> qualifiedTableNames = QueryResultCache.getQualifiedTableNames(database.getName(), ((TableAvailable) sqlStatementContext).getTablesContext().getTableNames());
+        TransactionStatus transactionStatus = databaseConnectionManager.getConnectionSession().getTransactionStatus();
+        if (transactionStatus.isInTransaction()) {
+            transactionStatus.getModifiedTableNames().addAll(qualifiedTableNames);
+        } else {
+            contextManager.getPersistServiceFacade().getModeFacade().getTableDataVersionService().increase(qualifiedTableNames);
+        }
+    }
+    
     private ResultSet doExecuteFederation() {
         boolean isReturnGeneratedKeys = queryContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         DatabaseType protocolType = database.getProtocolType();
@@ -273,15 +339,49 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
             queryHeaders.add(queryHeaderBuilderEngine.build(new JDBCQueryResultMetaData(resultSet.getMetaData()), database, columnIndex));
         }
         mergedResult = new IteratorStreamMergedResult(Collections.singletonList(new JDBCStreamQueryResult(resultSet)));
+        cacheQueryResultIfNecessary();
         return new QueryResponseHeader(queryHeaders);
     }
     
     private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
         mergedResult = mergeQuery(sqlStatementContext, queryResults);
+        cacheQueryResultIfNecessary();
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private void cacheQueryResultIfNecessary() throws SQLException {
+        if (null == queryResultCacheKey) {
+            return;
+        }
+        QueryResultCache queryResultCache = QueryResultCache.getInstance();
+        List<QueryResponseRow> rows = new ArrayList<>();
+        boolean isCacheable = true;
+        while (mergedResult.next()) {
+            QueryResponseRow row = getMergedRowData();
+            rows.add(row);
+            if (rows.size() > queryResultCache.getMaxEntryRows() || !isCacheable(row)) {
+                isCacheable = false;
+                break;
+            }
+        }
+        if (isCacheable) {
+            queryResultCache.put(queryResultCacheKey, new CachedQueryResult(queryResultCacheTableVersions, queryHeaders, rows));
+            mergedResult = null;
+        }
+        bufferedRows = rows.iterator();
+    }
+    
+    private boolean isCacheable(final QueryResponseRow row) {
+        for (Object each : row.getData()) {
+            if (null != each && !(each instanceof Number || each instanceof String || each instanceof Boolean || each instanceof byte[]
+                    || each instanceof Date || each instanceof Temporal || each instanceof Character)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private List<QueryHeader> createQueryHeaders(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(sqlStatementContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -338,11 +438,23 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     @Override
     public boolean next() throws SQLException {
+        if (null != bufferedRows) {
+            if (bufferedRows.hasNext()) {
+                currentBufferedRow = bufferedRows.next();
+                return true;
+            }
+            bufferedRows = null;
+            currentBufferedRow = null;
+        }
         return null != mergedResult && mergedResult.next();
     }
     
     @Override
     public QueryResponseRow getRowData() throws SQLException {
+        return null == currentBufferedRow ? getMergedRowData() : currentBufferedRow;
+    }
+    
+    private QueryResponseRow getMergedRowData() throws SQLException {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
             Object data = mergedResult.getValue(columnIndex, Object.class);
@@ -354,6 +466,7 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -365,6 +478,19 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            } finally {
+                mergedResult = null;
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Deterministic SQL judge engine.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeterministicSQLJudgeEngine {
+    
+    private static final Collection<String> NONDETERMINISTIC_FUNCTIONS = new HashSet<>(Arrays.asList(
+            "NOW", "SYSDATE", "SYSTIMESTAMP", "CURDATE", "CURTIME", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "LOCALTIME", "LOCALTIMESTAMP",
+            "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP", "UNIX_TIMESTAMP", "CLOCK_TIMESTAMP", "STATEMENT_TIMESTAMP", "TRANSACTION_TIMESTAMP", "TIMEOFDAY", "GETDATE",
+            "RAND", "RANDOM", "UUID", "UUID_SHORT", "NEWID", "GEN_RANDOM_UUID", "SYS_GUID", "NEXTVAL", "CURRVAL", "LASTVAL", "SETVAL",
+            "CONNECTION_ID", "LAST_INSERT_ID", "FOUND_ROWS", "ROW_COUNT", "USER", "CURRENT_USER", "SESSION_USER", "SYSTEM_USER", "DATABASE", "SCHEMA",
+            "CURRENT_SCHEMA", "CURRENT_DATABASE", "VERSION", "SLEEP", "PG_SLEEP", "GET_LOCK", "RELEASE_LOCK", "IS_FREE_LOCK", "IS_USED_LOCK", "BENCHMARK"));
+    
+    /**
+     * Judge whether SQL is deterministic.
+     *
+     * <p>
+     * SQL is regarded as nondeterministic if it contains any identifier which is name of nondeterministic function, or contains variables.
+     * </p>
+     *
+     * @param sql SQL
+     * @return is deterministic or not
+     */
+    public static boolean isDeterministic(final String sql) {
+        StringBuilder identifier = new StringBuilder();
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if ('@' == each) {
+                return false;
+            }
+            if (Character.isLetterOrDigit(each) || '_' == each) {
+                identifier.append(Character.toUpperCase(each));
+                continue;
+            }
+            if (NONDETERMINISTIC_FUNCTIONS.contains(identifier.toString())) {
+                return false;
+            }
+            identifier.setLength(0);
+        }
+        return !NONDETERMINISTIC_FUNCTIONS.contains(identifier.toString());
+    }
+}
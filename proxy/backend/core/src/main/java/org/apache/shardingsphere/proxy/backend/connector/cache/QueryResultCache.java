@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.version.TableDataVersionRegistry;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query result cache.
+ *
+ * <p>
+ * Every cached result records versions of tables it reads, and modifications of tables on any compute node increase their versions,
+ * so results read before modifications are regarded as expired without scanning the cache.
+ * The cache is rebuilt with empty entries once its TTL or max rows property is changed.
+ * </p>
+ */
+public final class QueryResultCache {
+    
+    private static final int MAX_ENTRY_ROWS_RATIO = 100;
+    
+    private static volatile QueryResultCache instance;
+    
+    private final long maxRows;
+    
+    private final long ttlMilliseconds;
+    
+    private final Cache<QueryResultCacheKey, CachedQueryResult> cache;
+    
+    @Getter
+    private final long maxEntryRows;
+    
+    public QueryResultCache(final ConfigurationProperties props) {
+        maxRows = props.<Long>getValue(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_MAX_ROWS);
+        ttlMilliseconds = props.<Long>getValue(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_TTL_MILLISECONDS);
+        cache = Caffeine.newBuilder().maximumWeight(maxRows).weigher((QueryResultCacheKey key, CachedQueryResult value) -> value.getRows().size() + 1)
+                .expireAfterWrite(ttlMilliseconds, TimeUnit.MILLISECONDS).build();
+        maxEntryRows = Math.max(1L, maxRows / MAX_ENTRY_ROWS_RATIO);
+    }
+    
+    /**
+     * Get query result cache instance.
+     *
+     * @return query result cache instance
+     */
+    public static QueryResultCache getInstance() {
+        return getInstance(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+    }
+    
+    static QueryResultCache getInstance(final ConfigurationProperties props) {
+        QueryResultCache result = instance;
+        if (null != result && result.isBuiltWith(props)) {
+            return result;
+        }
+        synchronized (QueryResultCache.class) {
+            if (null == instance || !instance.isBuiltWith(props)) {
+                instance = new QueryResultCache(props);
+            }
+            return instance;
+        }
+    }
+    
+    private boolean isBuiltWith(final ConfigurationProperties props) {
+        return maxRows == props.<Long>getValue(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_MAX_ROWS)
+                && ttlMilliseconds == props.<Long>getValue(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_TTL_MILLISECONDS);
+    }
+    
+    /**
+     * Get qualified table names.
+     *
+     * @param databaseName database name
+     * @param tableNames table names
+     * @return qualified table names
+     */
+    public static Collection<String> getQualifiedTableNames(final String databaseName, final Collection<String> tableNames) {
+        Collection<String> result = new LinkedList<>();
+        for (String each : tableNames) {
+            result.add(String.join(".", databaseName, each).toLowerCase());
+        }
+        return result;
+    }
+    
+    /**
+     * Get current versions of tables.
+     *
+     * @param qualifiedTableNames qualified table names
+     * @return table versions
+     */
+    public Map<String, Long> getTableVersions(final Collection<String> qualifiedTableNames) {
+        return TableDataVersionRegistry.getInstance().getVersions(qualifiedTableNames);
+    }
+    
+    /**
+     * Get cached query result.
+     *
+     * @param key query result cache key
+     * @return cached query result
+     */
+    public Optional<CachedQueryResult> get(final QueryResultCacheKey key) {
+        CachedQueryResult result = cache.getIfPresent(key);
+        if (null == result) {
+            return Optional.empty();
+        }
+        if (!result.getTableVersions().equals(getTableVersions(result.getTableVersions().keySet()))) {
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Put query result into cache.
+     *
+     * @param key query result cache key
+     * @param queryResult query result
+     */
+    public void put(final QueryResultCacheKey key, final CachedQueryResult queryResult) {
+        if (queryResult.getTableVersions().equals(getTableVersions(queryResult.getTableVersions().keySet()))) {
+            cache.put(key, queryResult);
+        }
+    }
+}
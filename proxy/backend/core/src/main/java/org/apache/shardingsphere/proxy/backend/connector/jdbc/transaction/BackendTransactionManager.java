@@ -128,11 +128,20 @@ public final class BackendTransactionManager implements TransactionManager {
             for (Connection each : connection.getCachedConnections().values()) {
                 ConnectionSavepointManager.getInstance().transactionFinished(each);
             }
+            invalidateQueryResultCache();
             connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
             connection.getConnectionSession().getConnectionContext().close();
         }
     }
     
+    private void invalidateQueryResultCache() {
+        Collection<String> modifiedTableNames = connection.getConnectionSession().getTransactionStatus().getModifiedTableNames();
+        if (!modifiedTableNames.isEmpty()) {
+            ProxyContext.getInstance().getContextManager().getPersistServiceFacade().getModeFacade().getTableDataVersionService().increase(modifiedTableNames);
+            modifiedTableNames.clear();
+        }
+    }
+    
     @Override
     public void rollback() throws SQLException {
         DatabaseType databaseType = ProxyContext.getInstance().getDatabaseType();
@@ -153,6 +162,7 @@ public final class BackendTransactionManager implements TransactionManager {
                 for (Connection each : connection.getCachedConnections().values()) {
                     ConnectionSavepointManager.getInstance().transactionFinished(each);
                 }
+                connection.getConnectionSession().getTransactionStatus().getModifiedTableNames().clear();
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getConnectionContext().close();
             }
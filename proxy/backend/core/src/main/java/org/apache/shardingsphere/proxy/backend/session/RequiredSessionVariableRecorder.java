@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.session;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -125,6 +126,21 @@ public final class RequiredSessionVariableRecorder {
         return result.toString();
     }
     
+    /**
+     * Get snapshot of variables which take effect on connections, variables with default value are excluded.
+     *
+     * @return variables snapshot
+     */
+    public Map<String, String> getVariablesSnapshot() {
+        Map<String, String> result = new HashMap<>(sessionVariables.size(), 1F);
+        for (Entry<String, String> entry : sessionVariables.entrySet()) {
+            if (!DEFAULT.equalsIgnoreCase(entry.getValue())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
     /**
      * Remove variables with default value.
      */
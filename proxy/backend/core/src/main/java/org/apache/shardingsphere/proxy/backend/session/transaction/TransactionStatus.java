@@ -21,6 +21,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 
+import java.util.Collection;
+import java.util.HashSet;
+
 /**
  * Transaction status.
  */
@@ -30,6 +33,8 @@ public final class TransactionStatus {
     
     private volatile boolean inTransaction;
     
+    private final Collection<String> modifiedTableNames = new HashSet<>();
+    
     /**
      * Judge whether in connection held transaction.
      *
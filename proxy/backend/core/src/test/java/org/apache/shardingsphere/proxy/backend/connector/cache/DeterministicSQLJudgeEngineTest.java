@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeterministicSQLJudgeEngineTest {
+    
+    @Test
+    void assertIsDeterministic() {
+        assertTrue(DeterministicSQLJudgeEngine.isDeterministic("SELECT user_id, COUNT(*) FROM t_order WHERE created_at > ? GROUP BY user_id ORDER BY user_id LIMIT 10"));
+    }
+    
+    @Test
+    void assertIsNotDeterministicWithFunction() {
+        assertFalse(DeterministicSQLJudgeEngine.isDeterministic("SELECT * FROM t_order WHERE created_at > now() - INTERVAL 1 DAY"));
+    }
+    
+    @Test
+    void assertIsNotDeterministicWithFunctionAtEnd() {
+        assertFalse(DeterministicSQLJudgeEngine.isDeterministic("SELECT * FROM t_order ORDER BY RAND"));
+    }
+    
+    @Test
+    void assertIsNotDeterministicWithVariable() {
+        assertFalse(DeterministicSQLJudgeEngine.isDeterministic("SELECT * FROM t_order WHERE order_id = @order_id"));
+    }
+}
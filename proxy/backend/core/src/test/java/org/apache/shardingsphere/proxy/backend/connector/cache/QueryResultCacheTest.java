@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.proxy.backend.connector.cache;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.version.TableDataVersionRegistry;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryResultCacheTest {
+    
+    private final QueryResultCache queryResultCache = new QueryResultCache(new ConfigurationProperties(
+            PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_MAX_ROWS.getKey(), "1000"))));
+    
+    @Test
+    void assertGetQualifiedTableNames() {
+        assertThat(QueryResultCache.getQualifiedTableNames("Foo_DB", Arrays.asList("T_Order", "t_order_item")), is(Arrays.asList("foo_db.t_order", "foo_db.t_order_item")));
+    }
+    
+    @Test
+    void assertGetInstance() {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_MAX_ROWS.getKey(), "1000")));
+        QueryResultCache actual = QueryResultCache.getInstance(props);
+        assertThat(QueryResultCache.getInstance(new ConfigurationProperties(
+                PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_MAX_ROWS.getKey(), "1000")))), is(actual));
+        assertThat(QueryResultCache.getInstance(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_MAX_ROWS.getKey(), "1000"),
+                new Property(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_TTL_MILLISECONDS.getKey(), "1")))), not(actual));
+        assertThat(QueryResultCache.getInstance(new ConfigurationProperties(
+                PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_QUERY_RESULT_CACHE_MAX_ROWS.getKey(), "2000")))).getMaxEntryRows(), is(20L));
+    }
+    
+    @Test
+    void assertGetMaxEntryRows() {
+        assertThat(queryResultCache.getMaxEntryRows(), is(10L));
+    }
+    
+    @Test
+    void assertGetCachedQueryResult() {
+        QueryResultCacheKey key = new QueryResultCacheKey("foo_db", "SELECT * FROM t_order WHERE order_id = ? ", Collections.singletonList(1), Collections.emptyMap());
+        CachedQueryResult queryResult = createCachedQueryResult(Collections.singleton("foo_db.t_order"));
+        queryResultCache.put(key, queryResult);
+        assertThat(queryResultCache.get(new QueryResultCacheKey("foo_db", "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1),
+                Collections.emptyMap())).orElse(null), is(queryResult));
+        assertFalse(queryResultCache.get(new QueryResultCacheKey("foo_db", "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(2), Collections.emptyMap())).isPresent());
+    }
+    
+    @Test
+    void assertGetCachedQueryResultWithDifferentSessionVariables() {
+        QueryResultCacheKey key = new QueryResultCacheKey("foo_db", "SELECT * FROM t_order", Collections.emptyList(), Collections.singletonMap("time_zone", "'+08:00'"));
+        CachedQueryResult queryResult = createCachedQueryResult(Collections.singleton("foo_db.t_order"));
+        queryResultCache.put(key, queryResult);
+        assertThat(queryResultCache.get(new QueryResultCacheKey("foo_db", "SELECT * FROM t_order", Collections.emptyList(),
+                Collections.singletonMap("time_zone", "'+08:00'"))).orElse(null), is(queryResult));
+        assertFalse(queryResultCache.get(new QueryResultCacheKey("foo_db", "SELECT * FROM t_order", Collections.emptyList(), Collections.emptyMap())).isPresent());
+    }
+    
+    @Test
+    void assertGetCachedQueryResultAfterInvalidated() {
+        QueryResultCacheKey key = new QueryResultCacheKey("foo_db", "SELECT * FROM t_order", Collections.emptyList(), Collections.emptyMap());
+        queryResultCache.put(key, createCachedQueryResult(Collections.singleton("foo_db.t_order")));
+        TableDataVersionRegistry.getInstance().increase(Collections.singleton("foo_db.t_order_item"));
+        assertTrue(queryResultCache.get(key).isPresent());
+        TableDataVersionRegistry.getInstance().increase(Collections.singleton("foo_db.t_order"));
+        assertFalse(queryResultCache.get(key).isPresent());
+    }
+    
+    @Test
+    void assertPutQueryResultReadBeforeInvalidated() {
+        QueryResultCacheKey key = new QueryResultCacheKey("foo_db", "SELECT * FROM t_order", Collections.emptyList(), Collections.emptyMap());
+        CachedQueryResult queryResult = createCachedQueryResult(Collections.singleton("foo_db.t_order"));
+        TableDataVersionRegistry.getInstance().increase(Collections.singleton("foo_db.t_order"));
+        queryResultCache.put(key, queryResult);
+        assertFalse(queryResultCache.get(key).isPresent());
+    }
+    
+    private CachedQueryResult createCachedQueryResult(final Collection<String> qualifiedTableNames) {
+        Map<String, Long> tableVersions = queryResultCache.getTableVersions(qualifiedTableNames);
+        return new CachedQueryResult(tableVersions, Collections.emptyList(), Collections.singletonList(new QueryResponseRow(Collections.emptyList())));
+    }
+}
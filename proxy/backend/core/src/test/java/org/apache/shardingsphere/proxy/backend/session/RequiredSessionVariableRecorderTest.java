@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -67,6 +68,17 @@ class RequiredSessionVariableRecorderTest {
         assertThat(recorder.toResetSQLs(databaseType), is(Collections.singletonList("RESET ALL")));
     }
     
+    @Test
+    void assertGetVariablesSnapshot() {
+        RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
+        assertTrue(recorder.getVariablesSnapshot().isEmpty());
+        recorder.setVariable("sql_mode", "default");
+        recorder.setVariable("time_zone", "'+08:00'");
+        Map<String, String> actual = recorder.getVariablesSnapshot();
+        recorder.setVariable("max_sort_length", "1024");
+        assertThat(actual, is(Collections.singletonMap("time_zone", "'+08:00'")));
+    }
+    
     @Test
     void assertRecordUnsupportedDatabaseType() {
         RequiredSessionVariableRecorder recorder = new RequiredSessionVariableRecorder();
@@ -58,7 +58,7 @@ public final class PostgreSQLAdminExecutorCreator implements DatabaseAdminExecut
     private static final Map<String, Collection<String>> SCHEMA_TABLES = new CaseInsensitiveMap<>();
     
     static {
-        SCHEMA_TABLES.put("shardingsphere", new CaseInsensitiveSet<>(Arrays.asList("cluster_information", "sharding_table_statistics")));
+        SCHEMA_TABLES.put("shardingsphere", new CaseInsensitiveSet<>(Arrays.asList("cluster_information", "sharding_table_statistics", "sharding_column_statistics")));
     }
     
     @Override
@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowBatchPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
@@ -44,6 +46,8 @@ import java.sql.SQLException;
  */
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
+    private static final int ROW_BATCH_SIZE = 64 * 1024;
+    
     @Override
     public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
         return MySQLCommandPacketType.valueOf(((MySQLPacketPayload) payload).readInt1());
@@ -72,16 +76,46 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         }
         int count = 0;
         int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            count++;
-            databaseConnectionManager.getConnectionResourceLock().doAwait(context);
-            DatabasePacket dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
+        MySQLResultSetRowBatchPacket rowBatch = null;
+        try {
+            while (queryCommandExecutor.next()) {
+                count++;
+                databaseConnectionManager.getConnectionResourceLock().doAwait(context);
+                DatabasePacket dataValue = queryCommandExecutor.getQueryRowPacket();
+                if (null == rowBatch) {
+                    rowBatch = new MySQLResultSetRowBatchPacket(context.alloc().ioBuffer(), context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+                }
+                if (!(dataValue instanceof MySQLPacket) || !rowBatch.append((MySQLPacket) dataValue)) {
+                    rowBatch = writeRowBatch(context, rowBatch);
+                    context.write(dataValue);
+                } else if (rowBatch.getSize() >= ROW_BATCH_SIZE) {
+                    rowBatch = writeRowBatch(context, rowBatch);
+                }
+                if (flushThreshold == count) {
+                    rowBatch = writeRowBatch(context, rowBatch);
+                    context.flush();
+                    count = 0;
+                }
+            }
+            writeRowBatch(context, rowBatch);
+            rowBatch = null;
+        } finally {
+            if (null != rowBatch) {
+                rowBatch.release();
             }
         }
         context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession(), true)));
     }
+    
+    private MySQLResultSetRowBatchPacket writeRowBatch(final ChannelHandlerContext context, final MySQLResultSetRowBatchPacket rowBatch) {
+        if (null == rowBatch) {
+            return null;
+        }
+        if (0 == rowBatch.getPacketCount()) {
+            rowBatch.release();
+        } else {
+            context.write(rowBatch);
+        }
+        return null;
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.MySQLResultSetRowBatchPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MySQLCommandExecuteEngineTest {
+    
+    @Test
+    void assertWriteQueryDataWithUpdate() throws SQLException {
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
+        QueryCommandExecutor queryCommandExecutor = mock(QueryCommandExecutor.class);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.UPDATE);
+        new MySQLCommandExecuteEngine().writeQueryData(context, mock(ProxyDatabaseConnectionManager.class), queryCommandExecutor, 0);
+        verify(context, never()).write(any());
+    }
+    
+    @Test
+    void assertWriteQueryDataInRowBatches() throws SQLException {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property("proxy-frontend-flush-threshold", "2"))));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
+        when(context.channel().isActive()).thenReturn(true);
+        when(context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        when(context.alloc().ioBuffer()).thenReturn(Unpooled.buffer(), Unpooled.buffer());
+        QueryCommandExecutor queryCommandExecutor = mock(QueryCommandExecutor.class);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(queryCommandExecutor.next()).thenReturn(true, true, true, false);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(new MySQLTextResultSetRowPacket(Collections.singletonList("foo")));
+        new MySQLCommandExecuteEngine().writeQueryData(context, mock(ProxyDatabaseConnectionManager.class, RETURNS_DEEP_STUBS), queryCommandExecutor, 0);
+        ArgumentCaptor<Object> packetCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(3)).write(packetCaptor.capture());
+        verify(context).flush();
+        List<Object> actual = packetCaptor.getAllValues();
+        assertThat(((MySQLResultSetRowBatchPacket) actual.get(0)).getPacketCount(), is(2));
+        assertThat(((MySQLResultSetRowBatchPacket) actual.get(1)).getPacketCount(), is(1));
+        assertThat(actual.get(2), instanceOf(MySQLEofPacket.class));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.executor;
+
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngineMode;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Executor engine benchmark.
+ *
+ * <p>
+ * Fans out every execution across simulated data sources, and each execution group blocks for a while as if waiting for JDBC results.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(32)
+@Fork(1)
+public class ExecutorEngineBenchmark {
+    
+    @Param({"BLOCKING", "COMPLETION", "VIRTUAL_THREAD"})
+    private String mode;
+    
+    @Param({"64", "128"})
+    private int dataSourceCount;
+    
+    @Param("64")
+    private int executorSize;
+    
+    @Param("500")
+    private long executionMicros;
+    
+    private ExecutorEngine executorEngine;
+    
+    private ExecutionGroupContext<Integer> executionGroupContext;
+    
+    private ExecutorCallback<Integer, Integer> callback;
+    
+    @Setup
+    public void setup() {
+        executorEngine = ExecutorEngine.createExecutorEngine(executorSize, ExecutorEngineMode.valueFrom(mode));
+        Collection<ExecutionGroup<Integer>> executionGroups = new LinkedList<>();
+        for (int i = 0; i < dataSourceCount; i++) {
+            executionGroups.add(new ExecutionGroup<>(Collections.singletonList(i)));
+        }
+        executionGroupContext = new ExecutionGroupContext<>(executionGroups, new ExecutionGroupReportContext("foo_process", "foo_db"));
+        callback = this::simulateExecute;
+    }
+    
+    private Collection<Integer> simulateExecute(final Collection<Integer> inputs, final boolean isTrunkThread, final String processId) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(executionMicros));
+        return inputs;
+    }
+    
+    @TearDown
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    /**
+     * Execute across all simulated data sources.
+     *
+     * @return execute results
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public List<Integer> execute() throws SQLException {
+        return executorEngine.execute(executionGroupContext, null, callback, false);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.expr;
+
+import groovy.lang.Closure;
+import groovy.lang.GroovyShell;
+import groovy.lang.Script;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inline expression benchmark.
+ *
+ * <p>
+ * Compares evaluating sharding expressions through a Groovy closure for every sharding value
+ * with evaluating through an inline expression parser which is created once and evaluates compiled expressions.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Threads(4)
+@Fork(1)
+public class InlineExpressionBenchmark {
+    
+    private static final GroovyShell SHELL = new GroovyShell();
+    
+    @Param({"t_order_${order_id % 16}", "t_order_${Math.abs(order_id.hashCode() % 16)}", "t_order_${order_id.substring(0, 2)}"})
+    private String algorithmExpression;
+    
+    private InlineExpressionParser inlineExpressionParser;
+    
+    private Script closureScript;
+    
+    @Setup
+    public void setup() {
+        inlineExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
+        closureScript = SHELL.parse("{it -> \"" + algorithmExpression + "\"}");
+    }
+    
+    /**
+     * Evaluate with Groovy closure, which is rehydrated for every sharding value.
+     *
+     * @return sharding target name
+     */
+    @Benchmark
+    public String evaluateWithGroovyClosure() {
+        Closure<?> closure = ((Closure<?>) closureScript.run()).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        createArguments().forEach(closure::setProperty);
+        return closure.call().toString();
+    }
+    
+    /**
+     * Evaluate with factory, which creates inline expression parser for every sharding value.
+     *
+     * @return sharding target name
+     */
+    @Benchmark
+    public String evaluateWithNewParser() {
+        return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(createArguments());
+    }
+    
+    /**
+     * Evaluate with inline expression parser created when initializing.
+     *
+     * @return sharding target name
+     */
+    @Benchmark
+    public String evaluateWithCompiledExpression() {
+        return inlineExpressionParser.evaluateWithArgs(createArguments());
+    }
+    
+    private Map<String, Comparable<?>> createArguments() {
+        long orderId = ThreadLocalRandom.current().nextLong(1L, Long.MAX_VALUE);
+        return Collections.singletonMap("order_id", algorithmExpression.contains("substring") ? String.valueOf(orderId) : orderId);
+    }
+}
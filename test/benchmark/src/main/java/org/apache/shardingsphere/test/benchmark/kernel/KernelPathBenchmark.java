@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.metadata.jdbc.JDBCInstanceMetaData;
+import org.apache.shardingsphere.infra.merge.MergeEngine;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableReferenceRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.timeservice.config.TimestampServiceRuleConfiguration;
+import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kernel path benchmark.
+ *
+ * <p>
+ * Measures parse, bind, route, rewrite and merge of sharding statements stage by stage and as a whole kernel path.
+ * Storage units are never connected, and every route unit is answered by an in-memory query result, so no database is needed.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class KernelPathBenchmark {
+    
+    private static final String DATABASE_NAME = "sharding_db";
+    
+    @Param({"POINT_SELECT", "IN_LIST", "RANGE", "MULTI_ROW_INSERT", "JOIN"})
+    private StatementShape statementShape;
+    
+    @Param({"2", "256"})
+    private int ruleSize;
+    
+    @Param({"4", "64"})
+    private int shardCount;
+    
+    @Param("100")
+    private int rowsPerShard;
+    
+    private List<Object> params;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private ShardingSphereDatabase database;
+    
+    private ConfigurationProperties props;
+    
+    private ConnectionContext connectionContext;
+    
+    private SQLStatementParserEngine sqlStatementParserEngine;
+    
+    private SQLRouteEngine sqlRouteEngine;
+    
+    private SQLRewriteEntry sqlRewriteEntry;
+    
+    private MergeEngine mergeEngine;
+    
+    private SQLStatement sqlStatement;
+    
+    private QueryContext queryContext;
+    
+    private RouteContext routeContext;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    @Setup
+    public void setup() {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        Map<String, DataSource> dataSources = createDataSources();
+        ShardingRule shardingRule = new ShardingRule(createShardingRuleConfiguration(), dataSources, createComputeNodeInstanceContext(), Collections.emptyList());
+        database = new ShardingSphereDatabase(DATABASE_NAME, databaseType, new ResourceMetaData(dataSources), new RuleMetaData(Collections.singleton(shardingRule)),
+                Collections.singleton(createSchema()));
+        props = new ConfigurationProperties(new Properties());
+        RuleMetaData globalRuleMetaData = new RuleMetaData(Arrays.asList(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()),
+                new TimestampServiceRule(new TimestampServiceRuleConfiguration("System", new Properties()))));
+        metaData = new ShardingSphereMetaData(Collections.singleton(database), new ResourceMetaData(Collections.emptyMap()), globalRuleMetaData, props);
+        connectionContext = new ConnectionContext(Collections::emptyList);
+        connectionContext.setCurrentDatabaseName(DATABASE_NAME);
+        sqlStatementParserEngine = new SQLStatementParserEngine(
+                databaseType, DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION, DefaultSQLParserRuleConfigurationBuilder.PARSE_TREE_CACHE_OPTION);
+        sqlRouteEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), props);
+        sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
+        mergeEngine = new MergeEngine(metaData, database, props, connectionContext);
+        params = statementShape.createParameters();
+        sqlStatement = parse();
+        queryContext = createQueryContext(bind());
+        routeContext = route();
+        queryResultMetaData = createQueryResultMetaData();
+        shardRows = createShardRows();
+    }
+    
+    private Map<String, DataSource> createDataSources() {
+        Map<String, DataSource> result = new LinkedHashMap<>(shardCount, 1F);
+        for (int i = 0; i < shardCount; i++) {
+            MockedDataSource dataSource = new MockedDataSource();
+            dataSource.setUrl("jdbc:mysql://127.0.0.1:3306/ds_" + i);
+            result.put("ds_" + i, dataSource);
+        }
+        return result;
+    }
+    
+    private ComputeNodeInstanceContext createComputeNodeInstanceContext() {
+        ComputeNodeInstanceContext result = new ComputeNodeInstanceContext(
+                new ComputeNodeInstance(new JDBCInstanceMetaData("foo_instance", DATABASE_NAME), Collections.emptyList()), new ModeConfiguration("Standalone", null), new EventBusContext());
+        result.init(props -> 0);
+        return result;
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        String actualDataNodesSuffix = "_${0.." + (shardCount - 1) + "}.";
+        result.getTables().add(new ShardingTableRuleConfiguration("t_order", "ds" + actualDataNodesSuffix + "t_order"));
+        result.getTables().add(new ShardingTableRuleConfiguration("t_order_item", "ds" + actualDataNodesSuffix + "t_order_item"));
+        for (int i = 0; i < ruleSize - 2; i++) {
+            result.getTables().add(new ShardingTableRuleConfiguration("t_filler_" + i, "ds" + actualDataNodesSuffix + "t_filler_" + i));
+        }
+        result.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("order_reference", "t_order,t_order_item"));
+        result.setDefaultDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        Properties algorithmProps = new Properties();
+        algorithmProps.setProperty("algorithm-expression", "ds_${user_id % " + shardCount + "}");
+        algorithmProps.setProperty("allow-range-query-with-inline-sharding", Boolean.TRUE.toString());
+        result.getShardingAlgorithms().put("database_inline", new AlgorithmConfiguration("INLINE", algorithmProps));
+        return result;
+    }
+    
+    private ShardingSphereSchema createSchema() {
+        Collection<ShardingSphereTable> tables = new LinkedList<>();
+        tables.add(createTable("t_order", "order_id", "user_id", "status"));
+        tables.add(createTable("t_order_item", "item_id", "order_id", "user_id", "status"));
+        for (int i = 0; i < ruleSize - 2; i++) {
+            tables.add(createTable("t_filler_" + i, "filler_id", "user_id", "status"));
+        }
+        return new ShardingSphereSchema(DATABASE_NAME, tables, Collections.emptyList());
+    }
+    
+    private ShardingSphereTable createTable(final String tableName, final String primaryKeyColumnName, final String... columnNames) {
+        Collection<ShardingSphereColumn> columns = new LinkedList<>();
+        columns.add(new ShardingSphereColumn(primaryKeyColumnName, Types.BIGINT, true, false, false, true, false, false));
+        for (String each : columnNames) {
+            columns.add(new ShardingSphereColumn(each, "status".equals(each) ? Types.VARCHAR : Types.BIGINT, false, false, false, true, false, true));
+        }
+        return new ShardingSphereTable(tableName, columns, Collections.emptyList(), Collections.emptyList());
+    }
+    
+    private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext) {
+        return new QueryContext(sqlStatementContext, statementShape.getSql(), params, new HintValueContext(), connectionContext, metaData);
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData() {
+        List<RawQueryResultColumnMetaData> result = new ArrayList<>(statementShape.getResultColumnLabels().size());
+        for (String each : statementShape.getResultColumnLabels()) {
+            result.add("status".equals(each)
+                    ? new RawQueryResultColumnMetaData("", each, each, Types.VARCHAR, "VARCHAR", 50, 0)
+                    : new RawQueryResultColumnMetaData("", each, each, Types.BIGINT, "BIGINT", 20, 0));
+        }
+        return new RawQueryResultMetaData(result);
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createShardRows() {
+        int routeUnitCount = Math.max(1, routeContext.getRouteUnits().size());
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(routeUnitCount);
+        for (int shardIndex = 0; shardIndex < routeUnitCount; shardIndex++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(rowsPerShard);
+            for (int rowIndex = 0; rowIndex < rowsPerShard; rowIndex++) {
+                long orderId = (long) rowIndex * routeUnitCount + shardIndex;
+                rows.add(new MemoryQueryResultDataRow(StatementShape.JOIN == statementShape
+                        ? Arrays.asList(orderId, (long) shardIndex, orderId * 10L)
+                        : Arrays.asList(orderId, (long) shardIndex, "OK")));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    private List<QueryResult> createQueryResults() {
+        List<QueryResult> result = new ArrayList<>(shardRows.size());
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            result.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        return result;
+    }
+    
+    /**
+     * Parse SQL without cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        return sqlStatementParserEngine.parse(statementShape.getSql(), false);
+    }
+    
+    /**
+     * Bind parsed SQL statement.
+     *
+     * @return SQL statement context
+     */
+    @Benchmark
+    public SQLStatementContext bind() {
+        return new SQLBindEngine(metaData, DATABASE_NAME, new HintValueContext()).bind(sqlStatement, params);
+    }
+    
+    /**
+     * Route bound SQL statement.
+     *
+     * @return route context
+     */
+    @Benchmark
+    public RouteContext route() {
+        return sqlRouteEngine.route(queryContext, metaData.getGlobalRuleMetaData(), database);
+    }
+    
+    /**
+     * Rewrite routed SQL statement.
+     *
+     * @return SQL rewrite result
+     */
+    @Benchmark
+    public SQLRewriteResult rewrite() {
+        return sqlRewriteEntry.rewrite(queryContext, routeContext);
+    }
+    
+    /**
+     * Merge in-memory query results of all route units and iterate the merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        consume(mergeEngine.merge(createQueryResults(), queryContext.getSqlStatementContext()), blackhole);
+    }
+    
+    /**
+     * Go through parse, bind, route, rewrite and merge.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void kernelPath(final Blackhole blackhole) throws SQLException {
+        SQLStatement sqlStatement = sqlStatementParserEngine.parse(statementShape.getSql(), false);
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, DATABASE_NAME, new HintValueContext()).bind(sqlStatement, params);
+        QueryContext queryContext = createQueryContext(sqlStatementContext);
+        RouteContext routeContext = sqlRouteEngine.route(queryContext, metaData.getGlobalRuleMetaData(), database);
+        blackhole.consume(sqlRewriteEntry.rewrite(queryContext, routeContext));
+        consume(mergeEngine.merge(createQueryResults(), sqlStatementContext), blackhole);
+    }
+    
+    private void consume(final MergedResult mergedResult, final Blackhole blackhole) throws SQLException {
+        int columnCount = statementShape.getResultColumnLabels().size();
+        while (mergedResult.next()) {
+            for (int i = 1; i <= columnCount; i++) {
+                blackhole.consume(mergedResult.getValue(i, Object.class));
+            }
+        }
+    }
+}
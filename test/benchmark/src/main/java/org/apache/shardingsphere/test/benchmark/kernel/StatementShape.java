@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.kernel;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Statement shape of kernel path benchmark.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum StatementShape {
+    
+    POINT_SELECT("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.asList("order_id", "user_id", "status")),
+    
+    IN_LIST("SELECT order_id, user_id, status FROM t_order WHERE user_id IN (?, ?, ?, ?, ?, ?, ?, ?) ORDER BY order_id", Arrays.asList("order_id", "user_id", "status")),
+    
+    RANGE("SELECT order_id, user_id, status FROM t_order WHERE user_id BETWEEN ? AND ? ORDER BY order_id", Arrays.asList("order_id", "user_id", "status")),
+    
+    MULTI_ROW_INSERT("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?), (?, ?, ?)",
+            Collections.emptyList()),
+    
+    JOIN("SELECT o.order_id, o.user_id, i.item_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id AND o.user_id = i.user_id WHERE o.user_id IN (?, ?) ORDER BY o.order_id",
+            Arrays.asList("order_id", "user_id", "item_id"));
+    
+    private final String sql;
+    
+    private final List<String> resultColumnLabels;
+    
+    /**
+     * Create parameters.
+     *
+     * @return parameters
+     */
+    public List<Object> createParameters() {
+        switch (this) {
+            case POINT_SELECT:
+                return Arrays.asList(7, 1007L);
+            case IN_LIST:
+                return Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8);
+            case RANGE:
+                return Arrays.asList(0, 1000);
+            case MULTI_ROW_INSERT:
+                List<Object> result = new ArrayList<>(24);
+                for (int i = 0; i < 8; i++) {
+                    result.add(1000L + i);
+                    result.add(i);
+                    result.add("INIT");
+                }
+                return result;
+            case JOIN:
+                return Arrays.asList(3, 4);
+            default:
+                throw new UnsupportedOperationException(name());
+        }
+    }
+}
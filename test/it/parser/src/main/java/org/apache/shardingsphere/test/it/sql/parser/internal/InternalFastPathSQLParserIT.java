@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.test.it.sql.parser.internal;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.DialectFastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.SQLParserTestCases;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.registry.SQLParserTestCasesRegistry;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.sql.SQLCases;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.sql.registry.SQLCasesRegistry;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.sql.type.SQLCaseType;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public abstract class InternalFastPathSQLParserIT {
+    
+    private static final SQLCases SQL_CASES = SQLCasesRegistry.getInstance().getCases();
+    
+    private static final SQLParserTestCases SQL_PARSER_TEST_CASES = SQLParserTestCasesRegistry.getInstance().getCases();
+    
+    private static final Collection<String> SUPPORTED_SQLS = Arrays.asList(
+            "SELECT * FROM t_order", "SELECT * FROM t_order WHERE order_id = ?", "select order_id, user_id from t_order where order_id = ? and user_id = ?;",
+            "SELECT\n\torder_id\nFROM\n\tt_order\nWHERE\n\torder_id=?", "INSERT INTO t_order (order_id, user_id) VALUES (?, ?)", "insert into t_order(order_id) values(?), (?)",
+            "UPDATE t_order SET user_id = ? WHERE order_id = ?", "UPDATE t_order SET user_id = ?, remark = ?", "DELETE FROM t_order WHERE order_id = ? AND user_id = ?", "delete from t_order");
+    
+    private static final Collection<String> UNSUPPORTED_SQLS = Arrays.asList(
+            "SELECT * FROM t_order WHERE order_id = ? OR user_id = ?", "SELECT * FROM t_order WHERE order_id = 1", "SELECT user FROM t_order", "SELECT * FROM t_order WHERE order_id = ? FOR UPDATE",
+            "SELECT * FROM db.t_order", "SELECT * FROM t_order o", "SELECT * FROM t_order /* comment */ WHERE order_id = ?", "INSERT INTO t_order VALUES (?, ?)", "SELECT _id FROM t_order");
+    
+    @ParameterizedTest(name = "{0} ({1}) -> {2}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertSameAsANTLR(final String sqlCaseId, final SQLCaseType sqlCaseType, final String databaseType, final String sql, final Boolean expectedSupported) {
+        String actualDatabaseType = "H2".equals(databaseType) ? "MySQL" : databaseType;
+        Optional<SQLStatement> actual = DatabaseTypedSPILoader.getService(DialectFastPathSQLParser.class, TypedSPILoader.getService(DatabaseType.class, actualDatabaseType)).parse(sql);
+        if (null != expectedSupported) {
+            assertThat(sql, actual.isPresent(), is(expectedSupported));
+        }
+        if (actual.isPresent()) {
+            SQLStatement expected = new SQLStatementVisitorEngine(actualDatabaseType).visit(new SQLParserEngine(actualDatabaseType, new CacheOption(128, 1024L)).parse(sql, false));
+            assertSameObject(sqlCaseId + ": " + sql, "statement", actual.get(), expected, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+    
+    private void assertSameObject(final String message, final String path, final Object actual, final Object expected, final Set<Object> visited) {
+        if (null == actual || null == expected || isValueObject(actual)) {
+            assertEquals(expected, actual, message + ", path: " + path);
+            return;
+        }
+        assertSame(expected.getClass(), actual.getClass(), message + ", path: " + path);
+        if (!visited.add(actual)) {
+            return;
+        }
+        if (actual instanceof Optional) {
+            assertSameObject(message, path + ".get()", ((Optional<?>) actual).orElse(null), ((Optional<?>) expected).orElse(null), visited);
+        } else if (actual instanceof Collection) {
+            assertSameCollection(message, path, (Collection<?>) actual, (Collection<?>) expected, visited);
+        } else if (actual instanceof Map) {
+            assertSameCollection(message, path, ((Map<?, ?>) actual).entrySet(), ((Map<?, ?>) expected).entrySet(), visited);
+        } else if (actual instanceof Entry) {
+            assertSameObject(message, path + ".key", ((Entry<?, ?>) actual).getKey(), ((Entry<?, ?>) expected).getKey(), visited);
+            assertSameObject(message, path + ".value", ((Entry<?, ?>) actual).getValue(), ((Entry<?, ?>) expected).getValue(), visited);
+        } else {
+            assertSameFields(message, path, actual, expected, visited);
+        }
+    }
+    
+    private boolean isValueObject(final Object object) {
+        return object instanceof CharSequence || object instanceof Number || object instanceof Boolean || object instanceof Character || object instanceof Enum;
+    }
+    
+    private void assertSameCollection(final String message, final String path, final Collection<?> actual, final Collection<?> expected, final Set<Object> visited) {
+        assertEquals(expected.size(), actual.size(), message + ", path: " + path + ".size()");
+        Iterator<?> expectedIterator = expected.iterator();
+        int index = 0;
+        for (Object each : actual) {
+            assertSameObject(message, path + "[" + index++ + "]", each, expectedIterator.next(), visited);
+        }
+    }
+    
+    private void assertSameFields(final String message, final String path, final Object actual, final Object expected, final Set<Object> visited) {
+        for (Class<?> clazz = actual.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers())) {
+                    each.setAccessible(true);
+                    try {
+                        assertSameObject(message, path + "." + each.getName(), each.get(actual), each.get(expected), visited);
+                    } catch (final IllegalAccessException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+            }
+        }
+    }
+    
+    private static class TestCaseArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            InternalSQLParserITSettings settings = extensionContext.getRequiredTestClass().getAnnotation(InternalSQLParserITSettings.class);
+            Preconditions.checkNotNull(settings, "Annotation InternalSQLParserITSettings is required.");
+            return getTestParameters(settings.value()).stream();
+        }
+        
+        private Collection<Arguments> getTestParameters(final String... databaseTypes) {
+            Collection<Arguments> result = new LinkedList<>();
+            for (InternalSQLParserTestParameter each : SQL_CASES.generateTestParameters(Arrays.stream(databaseTypes).collect(Collectors.toSet()))) {
+                if (SQLCaseType.PLACEHOLDER != each.getSqlCaseType() || !SQL_PARSER_TEST_CASES.get(each.getSqlCaseId()).getParameters().isEmpty()) {
+                    String sql = SQL_CASES.getSQL(each.getSqlCaseId(), each.getSqlCaseType(), SQL_PARSER_TEST_CASES.get(each.getSqlCaseId()).getParameters());
+                    result.add(Arguments.arguments(each.getSqlCaseId(), each.getSqlCaseType(), each.getDatabaseType(), sql, null));
+                }
+            }
+            for (String each : databaseTypes) {
+                SUPPORTED_SQLS.forEach(sql -> result.add(Arguments.arguments("supported", SQLCaseType.PLACEHOLDER, each, sql, true)));
+                UNSUPPORTED_SQLS.forEach(sql -> result.add(Arguments.arguments("unsupported", SQLCaseType.PLACEHOLDER, each, sql, false)));
+            }
+            return result;
+        }
+    }
+}
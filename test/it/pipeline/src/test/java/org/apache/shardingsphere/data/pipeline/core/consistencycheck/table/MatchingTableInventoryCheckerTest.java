@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchingTableInventoryCheckerTest {
+    
+    private static final int RECORDS_COUNT = 1000;
+    
+    private PipelineDataSource sourceDataSource;
+    
+    private PipelineDataSource targetDataSource;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        sourceDataSource = createDataSource();
+        targetDataSource = createDataSource();
+    }
+    
+    @AfterEach
+    void tearDown() throws SQLException {
+        sourceDataSource.close();
+        targetDataSource.close();
+    }
+    
+    private PipelineDataSource createDataSource() throws SQLException {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(String.format("jdbc:h2:mem:check_%s;DATABASE_TO_UPPER=false;MODE=MySQL", RandomStringUtils.randomAlphanumeric(9)));
+        dataSource.setUsername("root");
+        dataSource.setPassword("root");
+        dataSource.setMaximumPoolSize(16);
+        PipelineDataSource result = new PipelineDataSource(dataSource, TypedSPILoader.getService(DatabaseType.class, "H2"));
+        try (Connection connection = result.getConnection()) {
+            connection.createStatement().execute("CREATE TABLE t_order (order_id INT NOT NULL, status VARCHAR(12), PRIMARY KEY (order_id))");
+            PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, status) VALUES (?, ?)");
+            for (int i = 1; i <= RECORDS_COUNT; i++) {
+                preparedStatement.setInt(1, i);
+                preparedStatement.setString(2, "OK");
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+        return result;
+    }
+    
+    @Test
+    void assertCheckByRangesMatched() {
+        ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+        assertTrue(buildChecker(progressContext).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is((long) RECORDS_COUNT));
+        assertTrue(progressContext.getSourceTableCheckPositions().containsKey("t_order#ranges"));
+        assertTrue(progressContext.getSourceTableCheckPositions().containsKey("t_order#0"));
+    }
+    
+    @Test
+    void assertCheckByRangesNotMatched() throws SQLException {
+        try (
+                Connection connection = targetDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE t_order SET status='FAIL' WHERE order_id=567");
+        }
+        assertFalse(buildChecker(new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2")).checkSingleTableInventoryData().isMatched());
+    }
+    
+    @Test
+    void assertCheckByRangesWithExtraTargetRecord() throws SQLException {
+        try (
+                Connection connection = targetDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO t_order (order_id, status) VALUES (" + (RECORDS_COUNT + 1) + ", 'OK')");
+        }
+        assertFalse(buildChecker(new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2")).checkSingleTableInventoryData().isMatched());
+    }
+    
+    private TableInventoryChecker buildChecker(final ConsistencyCheckJobItemProgressContext progressContext) {
+        TableDataConsistencyChecker checker = TypedSPILoader.getService(TableDataConsistencyChecker.class, "DATA_MATCH",
+                PropertiesBuilder.build(new Property("chunk-size", "50"), new Property("parallelism", "4"), new Property("sharding-size", "100")));
+        QualifiedTable table = new QualifiedTable(null, "t_order");
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true);
+        return checker.buildTableInventoryChecker(new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, table, table,
+                Collections.emptyList(), Collections.singletonList(uniqueKey), null, progressContext));
+    }
+}
@@ -44,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -57,6 +58,8 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -152,6 +155,46 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertBatchUpdateDataRecords() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(getUpdateDataRecord(1), getUpdateDataRecord(2)));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 0});
+        importer.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    @Test
+    void assertRetryInsertDataRecordsWithBisectBatch() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(getInsertDataRecord(1), getInsertDataRecord(2)));
+        when(preparedStatement.executeBatch()).thenThrow(new SQLException("foo")).thenThrow(new SQLException("bar")).thenReturn(new int[]{1});
+        importer.run();
+        verify(preparedStatement, times(4)).executeBatch();
+        verify(preparedStatement).clearBatch();
+        verify(preparedStatement, never()).executeUpdate();
+    }
+    
+    private DataRecord getUpdateDataRecord(final int id) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        result.addColumn(new NormalColumn("id", id, id, false, true));
+        result.addColumn(new NormalColumn("user", 10, 10, false, false));
+        result.addColumn(new NormalColumn("status", "foo", "bar", true, false));
+        return result;
+    }
+    
+    private DataRecord getInsertDataRecord(final int id) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        result.addColumn(new NormalColumn("id", null, id, false, true));
+        result.addColumn(new NormalColumn("user", null, 10, false, false));
+        result.addColumn(new NormalColumn("status", null, "foo", false, false));
+        return result;
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
         result.addColumn(new NormalColumn("id", 1, 2, true, true));
@@ -160,9 +203,8 @@ class PipelineDataSourceSinkTest {
         return result;
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new IngestFinishedPosition()));
         return result;
     }
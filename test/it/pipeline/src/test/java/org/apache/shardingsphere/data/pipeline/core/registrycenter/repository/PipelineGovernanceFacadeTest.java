@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.registrycenter.repository;
 
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContextManager;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
@@ -208,6 +209,6 @@ class PipelineGovernanceFacadeTest {
         dumperContext.setUniqueKeyColumns(Collections.singletonList(PipelineContextUtils.mockOrderIdColumnMetaData()));
         dumperContext.setShardingItem(0);
         return new InventoryTask(PipelineTaskUtils.generateInventoryTaskId(dumperContext), PipelineContextUtils.getExecuteEngine(), PipelineContextUtils.getExecuteEngine(),
-                mock(Dumper.class), mock(Importer.class), new AtomicReference<>(new IngestPlaceholderPosition()));
+                mock(Dumper.class), mock(PipelineChannel.class), mock(Importer.class), new AtomicReference<>(new IngestPlaceholderPosition()));
     }
 }
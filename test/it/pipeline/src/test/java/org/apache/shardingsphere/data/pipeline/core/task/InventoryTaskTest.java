@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.task;
 
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
@@ -76,7 +77,7 @@ class InventoryTaskTest {
         InventoryDumperContext inventoryDumperContext = createInventoryDumperContext("t_order", "t_order");
         AtomicReference<IngestPosition> position = new AtomicReference<>(inventoryDumperContext.getCommonContext().getPosition());
         InventoryTask inventoryTask = new InventoryTask(PipelineTaskUtils.generateInventoryTaskId(inventoryDumperContext),
-                PipelineContextUtils.getExecuteEngine(), PipelineContextUtils.getExecuteEngine(), mock(Dumper.class), mock(Importer.class), position);
+                PipelineContextUtils.getExecuteEngine(), PipelineContextUtils.getExecuteEngine(), mock(Dumper.class), mock(PipelineChannel.class), mock(Importer.class), position);
         CompletableFuture.allOf(inventoryTask.start().toArray(new CompletableFuture[0])).get(10L, TimeUnit.SECONDS);
         assertThat(inventoryTask.getTaskProgress().getPosition(), instanceOf(IntegerPrimaryKeyIngestPosition.class));
     }
@@ -112,7 +113,7 @@ class InventoryTaskTest {
         InventoryDumperContext inventoryDumperContext = createInventoryDumperContext("t_order", "t_order");
         AtomicReference<IngestPosition> position = new AtomicReference<>(inventoryDumperContext.getCommonContext().getPosition());
         InventoryTask inventoryTask = new InventoryTask(PipelineTaskUtils.generateInventoryTaskId(inventoryDumperContext),
-                PipelineContextUtils.getExecuteEngine(), PipelineContextUtils.getExecuteEngine(), dumper, importer, position);
+                PipelineContextUtils.getExecuteEngine(), PipelineContextUtils.getExecuteEngine(), dumper, mock(PipelineChannel.class), importer, position);
         inventoryTask.stop();
         verify(dumper).stop();
         verify(importer).stop();